@@ -114,6 +114,7 @@ public class AsyncApiCancelRunnable implements Runnable {
                             .dataStoreTransaction(runningTransaction).requestId(uuid)
                             .elideSettings(elide.getElideSettings()).jsonApiDocument(jsonApiDoc).build();
                     runningTransaction.cancel(scope);
+                    transactionRegistry.getForkedTransactions(uuid).forEach(forked -> forked.cancel(scope));
                 }
             });
 
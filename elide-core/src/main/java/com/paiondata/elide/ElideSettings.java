@@ -13,6 +13,7 @@ import com.paiondata.elide.core.audit.Slf4jLogger;
 import com.paiondata.elide.core.datastore.DataStore;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
 import com.paiondata.elide.core.exceptions.ExceptionMappers;
+import com.paiondata.elide.core.instrumentation.Instrumentation;
 import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.core.security.PermissionExecutor;
 import com.paiondata.elide.core.security.executors.ActivePermissionExecutor;
@@ -47,11 +48,21 @@ public class ElideSettings {
     private final String baseUrl;
     private final boolean verboseErrors;
     private final Map<Class<? extends Settings>, Settings> settings;
+    private final Instrumentation instrumentation;
 
     public ElideSettings(AuditLogger auditLogger, DataStore dataStore, EntityDictionary entityDictionary,
             ObjectMapper objectMapper, Function<RequestScope, PermissionExecutor> permissionExecutor,
             HeaderProcessor headerProcessor, int maxPageSize, int defaultPageSize, Serdes serdes, String baseUrl,
             boolean verboseErrors, Map<Class<? extends Settings>, Settings> settings) {
+        this(auditLogger, dataStore, entityDictionary, objectMapper, permissionExecutor, headerProcessor, maxPageSize,
+                defaultPageSize, serdes, baseUrl, verboseErrors, settings, Instrumentation.NONE);
+    }
+
+    public ElideSettings(AuditLogger auditLogger, DataStore dataStore, EntityDictionary entityDictionary,
+            ObjectMapper objectMapper, Function<RequestScope, PermissionExecutor> permissionExecutor,
+            HeaderProcessor headerProcessor, int maxPageSize, int defaultPageSize, Serdes serdes, String baseUrl,
+            boolean verboseErrors, Map<Class<? extends Settings>, Settings> settings,
+            Instrumentation instrumentation) {
         super();
         this.auditLogger = auditLogger;
         this.dataStore = dataStore;
@@ -65,6 +76,7 @@ public class ElideSettings {
         this.baseUrl = baseUrl;
         this.verboseErrors = verboseErrors;
         this.settings = settings;
+        this.instrumentation = instrumentation;
     }
 
     /**
@@ -83,7 +95,8 @@ public class ElideSettings {
                 .maxPageSize(this.maxPageSize)
                 .defaultPageSize(this.defaultPageSize)
                 .baseUrl(this.baseUrl)
-                .verboseErrors(this.verboseErrors);
+                .verboseErrors(this.verboseErrors)
+                .instrumentation(this.instrumentation);
 
         builder.serdes(newSerdes -> newSerdes.entries(entries -> {
             entries.clear(); // Clear the defaults when copying
@@ -132,7 +145,8 @@ public class ElideSettings {
             });
             return new ElideSettings(this.auditLogger, this.dataStore, this.entityDictionary, this.objectMapper,
                     this.permissionExecutor, this.headerProcessor, this.maxPageSize,
-                    this.defaultPageSize, this.serdes.build(), this.baseUrl, this.verboseErrors, settings);
+                    this.defaultPageSize, this.serdes.build(), this.baseUrl, this.verboseErrors, settings,
+                    this.instrumentation);
         }
     }
 
@@ -150,6 +164,7 @@ public class ElideSettings {
         protected EntityDictionary entityDictionary;
         protected ExceptionMappers exceptionMappers;
         protected boolean verboseErrors = false;
+        protected Instrumentation instrumentation = Instrumentation.NONE;
 
         protected ElideSettingsBuilderSupport() {
             // By default, Elide supports epoch based dates.
@@ -304,6 +319,17 @@ public class ElideSettings {
             return self();
         }
 
+        /**
+         * Sets the {@link Instrumentation} receiving the time spent in the phases of requests.
+         *
+         * @param instrumentation the instrumentation
+         * @return the builder
+         */
+        public S instrumentation(Instrumentation instrumentation) {
+            this.instrumentation = instrumentation;
+            return self();
+        }
+
         public abstract S self();
     }
 }
@@ -5,25 +5,51 @@
  */
 package com.paiondata.elide.core;
 
+import com.paiondata.elide.core.type.Type;
+import com.google.common.collect.Maps;
+
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Cache to store object entity.
+ * <p>
+ * Entities are stored by type and then by id, so looking an entity up builds no keys. An entity of a subclass is
+ * also stored under each of its entity superclasses so that it can be found by the id of the superclass.
  */
 public class ObjectEntityCache {
-    private final Map<String, Object> resourceCache;
-    private final Map<Object, String> uuidReverseMap;
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private final Map<Type<?>, Entries> resourceCache;
+    private Map<Object, String> uuidReverseMap;
+    private int expectedSize = DEFAULT_EXPECTED_SIZE;
+    private long hits;
+    private long misses;
 
     /**
      * Constructor.
      */
     public ObjectEntityCache() {
-        resourceCache = new LinkedHashMap<>();
+        resourceCache = new HashMap<>();
         uuidReverseMap = new IdentityHashMap<>();
     }
 
+    /**
+     * Hints at the number of entities the request is going to store, such as the number of operations in a batch.
+     * Storage that has not been allocated yet is sized for the hint.
+     *
+     * @param entities the expected number of entities
+     */
+    public void expect(int entities) {
+        expectedSize = Math.max(expectedSize, entities);
+        if (uuidReverseMap.isEmpty()) {
+            uuidReverseMap = new IdentityHashMap<>(expectedSize);
+        }
+    }
+
     /**
      * Add a resource to cache.
      *
@@ -32,9 +58,27 @@ public class ObjectEntityCache {
      * @param entity the entity
      * @return the object
      */
-    public Object put(String type, String id, Object entity) {
+    public Object put(Type<?> type, String id, Object entity) {
+        return put(type, id, entity, Collections.emptyList());
+    }
+
+    /**
+     * Add a resource to cache.
+     *
+     * @param type the type
+     * @param id the id
+     * @param entity the entity
+     * @param superClasses the entity superclasses the resource can also be found by
+     * @return the object previously stored for the type and id
+     */
+    public Object put(Type<?> type, String id, Object entity, List<Type<?>> superClasses) {
         uuidReverseMap.put(entity, id);
-        return resourceCache.put(getCacheKey(type, id), entity);
+
+        Entries entries = entries(type);
+        for (Type<?> superClass : superClasses) {
+            entries.inherited.computeIfAbsent(superClass, key -> newMap()).put(id, entity);
+        }
+        return entries.byId.put(id, entity);
     }
 
     /**
@@ -44,8 +88,34 @@ public class ObjectEntityCache {
      * @param id the id
      * @return object
      */
-    public Object get(String type, String id) {
-        return resourceCache.get(getCacheKey(type, id));
+    public Object get(Type<?> type, String id) {
+        return get(type, id, Collections.emptyList());
+    }
+
+    /**
+     * Retrieve object entity from cache, including the entities of subclasses stored under the type.
+     *
+     * @param type the type
+     * @param id the id
+     * @param subClasses the entity subclasses to look at in order if the type has no entity with the id
+     * @return object
+     */
+    public Object get(Type<?> type, String id, List<Type<?>> subClasses) {
+        Entries entries = resourceCache.get(type);
+        Object result = entries == null ? null : entries.byId.get(id);
+
+        for (int i = 0; result == null && i < subClasses.size(); i++) {
+            Entries subClassEntries = resourceCache.get(subClasses.get(i));
+            Map<String, Object> inherited = subClassEntries == null ? null : subClassEntries.inherited.get(type);
+            result = inherited == null ? null : inherited.get(id);
+        }
+
+        if (result == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return result;
     }
 
     /**
@@ -59,13 +129,54 @@ public class ObjectEntityCache {
     }
 
     /**
-     * Get key for resource cache.
+     * Returns the number of distinct entities stored.
      *
-     * @param type the type
-     * @param id the id
-     * @return key
+     * @return the number of entities
+     */
+    public int size() {
+        return uuidReverseMap.size();
+    }
+
+    /**
+     * Returns the number of lookups that found an entity.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that found no entity.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    private Entries entries(Type<?> type) {
+        Entries entries = resourceCache.get(type);
+        if (entries == null) {
+            entries = new Entries(newMap());
+            resourceCache.put(type, entries);
+        }
+        return entries;
+    }
+
+    private Map<String, Object> newMap() {
+        return Maps.newHashMapWithExpectedSize(expectedSize);
+    }
+
+    /**
+     * The entities of one type by id.
      */
-    private static String getCacheKey(String type, String id) {
-        return type + "_" + id;
+    private static final class Entries {
+        private final Map<String, Object> byId;
+        private final Map<Type<?>, Map<String, Object>> inherited = new HashMap<>();
+
+        Entries(Map<String, Object> byId) {
+            this.byId = byId;
+        }
     }
 }
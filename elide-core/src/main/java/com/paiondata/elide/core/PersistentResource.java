@@ -1204,6 +1204,78 @@ public class PersistentResource<T> implements com.paiondata.elide.core.security.
                 getRelation(relationship, true));
     }
 
+    /**
+     * Get observables of resources from the same relation field of several resources.  To-many relations of
+     * resources of the same type are fetched from the transaction in a single batch.
+     *
+     * @param resources the resources that own the relationship
+     * @param relationship relationship
+     * @return collection relation of each resource
+     */
+    public static Map<PersistentResource, Flux<PersistentResource>> getRelationsCheckedFiltered(
+            Collection<PersistentResource> resources,
+            com.paiondata.elide.core.request.Relationship relationship) {
+        Map<PersistentResource, Flux<PersistentResource>> relations = new LinkedHashMap<>();
+
+        Map<Type<?>, List<PersistentResource>> resourcesByType = resources.stream()
+                .collect(Collectors.groupingBy(PersistentResource::getResourceType, LinkedHashMap::new,
+                        Collectors.toList()));
+
+        resourcesByType.values().forEach(sameTypeResources -> {
+            PersistentResource<?> first = sameTypeResources.get(0);
+            Pagination pagination = relationship.getProjection().getPagination();
+
+            // Page totals are reported through the shared pagination so each relation has to be fetched in turn
+            // when it is consumed.
+            if (sameTypeResources.size() == 1
+                    || !first.getRelationshipType(relationship.getName()).isToMany()
+                    || (pagination != null && pagination.returnPageTotals())) {
+                sameTypeResources.forEach(resource -> relations.put(resource,
+                        Flux.defer(() -> resource.getRelationCheckedFiltered(relationship))));
+                return;
+            }
+
+            List<PersistentResource> readable = new ArrayList<>();
+            for (PersistentResource resource : sameTypeResources) {
+                try {
+                    if (resource.checkRelation(relationship)) {
+                        readable.add(resource);
+                    } else {
+                        relations.put(resource, Flux.empty());
+                    }
+                } catch (RuntimeException e) {
+                    relations.put(resource, Flux.error(e));
+                }
+            }
+
+            if (readable.isEmpty()) {
+                return;
+            }
+
+            Map<Object, DataStoreIterable<Object>> loaded;
+            try {
+                loaded = first.getRelationsUnchecked(readable, relationship);
+            } catch (RuntimeException e) {
+                readable.forEach(resource -> relations.put(resource, Flux.error(e)));
+                return;
+            }
+
+            readable.forEach(resource -> {
+                DataStoreIterable val = loaded.get(resource.getObject());
+                Flux<PersistentResource> related = val == null
+                        ? Flux.empty()
+                        : Flux.fromIterable(new PersistentResourceSet(resource, relationship.getName(), val,
+                                resource.getRequestScope()));
+                relations.put(resource, filter(ReadPermission.class,
+                        Optional.ofNullable(relationship.getProjection().getFilterExpression()),
+                        relationship.getProjection().getRequestedFields(),
+                        related));
+            });
+        });
+
+        return relations;
+    }
+
     private Flux<PersistentResource> getRelationUncheckedUnfiltered(String relationName) {
         assertPropertyExists(relationName);
         return getRelation(com.paiondata.elide.core.request.Relationship.builder()
@@ -1228,6 +1300,12 @@ public class PersistentResource<T> implements com.paiondata.elide.core.security.
             return Flux.empty();
         }
 
+        assertCanPaginate(relationship);
+
+        return getRelationUnchecked(relationship);
+    }
+
+    private void assertCanPaginate(com.paiondata.elide.core.request.Relationship relationship) {
         Type<?> relationClass = dictionary.getParameterizedType(obj, relationship.getName());
 
         Optional<Pagination> pagination = Optional.ofNullable(relationship.getProjection().getPagination());
@@ -1242,8 +1320,6 @@ public class PersistentResource<T> implements com.paiondata.elide.core.security.
             throw new BadRequestException(String.format("Cannot paginate %s",
                     dictionary.getJsonAliasFor(relationClass)));
         }
-
-        return getRelationUnchecked(relationship);
     }
 
     /**
@@ -1289,11 +1365,57 @@ public class PersistentResource<T> implements com.paiondata.elide.core.security.
     private Flux<PersistentResource> getRelationUnchecked(
             com.paiondata.elide.core.request.Relationship relationship) {
         String relationName = relationship.getName();
+        RelationshipType type = getRelationshipType(relationName);
+
+        com.paiondata.elide.core.request.Relationship modifiedRelationship = withPermissionFilter(relationship);
+
+        Flux<PersistentResource> resources;
+
+        if (type.isToMany()) {
+            DataStoreIterable val = transaction.getToManyRelation(transaction, obj, modifiedRelationship, requestScope);
+
+            if (val == null) {
+                return Flux.empty();
+            }
+            resources = Flux.fromIterable(
+                    new PersistentResourceSet(this, relationName, val, requestScope));
+        } else {
+            Object val = transaction.getToOneRelation(transaction, obj, modifiedRelationship, requestScope);
+            if (val == null) {
+                return Flux.empty();
+            }
+            resources = Flux.just(new PersistentResource(val, this, relationName,
+                    requestScope.getUUIDFor(val), requestScope));
+        }
+
+        return resources;
+    }
+
+    /**
+     * Retrieve unchecked sets of to-many relations for several resources of this resource's type in one batch.
+     */
+    private Map<Object, DataStoreIterable<Object>> getRelationsUnchecked(
+            List<PersistentResource> resources,
+            com.paiondata.elide.core.request.Relationship relationship) {
+        assertCanPaginate(relationship);
+
+        com.paiondata.elide.core.request.Relationship modifiedRelationship = withPermissionFilter(relationship);
+
+        List<Object> entities = resources.stream().map(PersistentResource::getObject).collect(Collectors.toList());
+
+        return transaction.getToManyRelations(transaction, entities, modifiedRelationship, requestScope);
+    }
+
+    /**
+     * Merge the read permission filter of the relationship type with the filter of the relationship.
+     */
+    private com.paiondata.elide.core.request.Relationship withPermissionFilter(
+            com.paiondata.elide.core.request.Relationship relationship) {
+        String relationName = relationship.getName();
         FilterExpression filterExpression = relationship.getProjection().getFilterExpression();
         Pagination pagination = relationship.getProjection().getPagination();
         Sorting sorting = relationship.getProjection().getSorting();
 
-        RelationshipType type = getRelationshipType(relationName);
         final Type<?> relationClass = dictionary.getParameterizedType(obj, relationName);
         if (relationClass == null) {
             throw new InvalidAttributeException(relationName, this.getTypeName());
@@ -1312,34 +1434,13 @@ public class PersistentResource<T> implements com.paiondata.elide.core.security.
             computedFilters = permissionFilter;
         }
 
-        com.paiondata.elide.core.request.Relationship modifiedRelationship = relationship.copyOf()
+        return relationship.copyOf()
                 .projection(relationship.getProjection().copyOf()
                         .filterExpression(computedFilters.orElse(null))
                         .sorting(sorting)
                         .pagination(pagination)
                         .build()
                 ).build();
-
-        Flux<PersistentResource> resources;
-
-        if (type.isToMany()) {
-            DataStoreIterable val = transaction.getToManyRelation(transaction, obj, modifiedRelationship, requestScope);
-
-            if (val == null) {
-                return Flux.empty();
-            }
-            resources = Flux.fromIterable(
-                    new PersistentResourceSet(this, relationName, val, requestScope));
-        } else {
-            Object val = transaction.getToOneRelation(transaction, obj, modifiedRelationship, requestScope);
-            if (val == null) {
-                return Flux.empty();
-            }
-            resources = Flux.just(new PersistentResource(val, this, relationName,
-                    requestScope.getUUIDFor(val), requestScope));
-        }
-
-        return resources;
     }
 
     /**
@@ -14,6 +14,8 @@ import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
 import com.paiondata.elide.core.exceptions.InvalidAttributeException;
 import com.paiondata.elide.core.filter.expression.FilterExpression;
+import com.paiondata.elide.core.instrumentation.Phase;
+import com.paiondata.elide.core.instrumentation.RequestInstrumentation;
 import com.paiondata.elide.core.lifecycle.CRUDEvent;
 import com.paiondata.elide.core.lifecycle.LifecycleHookInvoker;
 import com.paiondata.elide.core.request.EntityProjection;
@@ -28,8 +30,9 @@ import com.paiondata.elide.core.type.Type;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -37,6 +40,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -59,6 +63,7 @@ public class RequestScope implements com.paiondata.elide.core.security.RequestSc
     @Getter @Setter private EntityProjection entityProjection;
     protected Function<RequestScope, EntityProjection> entityProjectionResolver;
     @Getter private final UUID requestId;
+    @Getter private final RequestInstrumentation instrumentation;
 
     protected Map<String, FilterExpression> expressionsByType;
 
@@ -85,6 +90,27 @@ public class RequestScope implements com.paiondata.elide.core.security.RequestSc
                         ElideSettings elideSettings,
                         Function<RequestScope, EntityProjection> entityProjection
                         ) {
+        this(route, transaction, user, requestId, elideSettings, entityProjection, null);
+    }
+
+    /**
+     * Create a new RequestScope for a request that is already being instrumented.
+     *
+     * @param route         the route
+     * @param transaction   current transaction
+     * @param user          request user
+     * @param requestId     request ID
+     * @param entityProjection entity projection
+     * @param instrumentation the instrumentation of the request or null to begin instrumenting the request
+     */
+    protected RequestScope(Route route,
+                           DataStoreTransaction transaction,
+                           User user,
+                           UUID requestId,
+                           ElideSettings elideSettings,
+                           Function<RequestScope, EntityProjection> entityProjection,
+                           RequestInstrumentation instrumentation
+                           ) {
         this.route = route;
         this.eventQueue = new LinkedHashSet<>();
 
@@ -103,6 +129,14 @@ public class RequestScope implements com.paiondata.elide.core.security.RequestSc
         this.requestId = requestId;
         this.metadata = new LinkedHashMap<>();
 
+        if (instrumentation != null) {
+            this.instrumentation = instrumentation;
+        } else if (elideSettings.getInstrumentation() != null) {
+            this.instrumentation = elideSettings.getInstrumentation().beginRequest();
+        } else {
+            this.instrumentation = RequestInstrumentation.NONE;
+        }
+
         this.sparseFields = parseSparseFields(getRoute().getParameters());
 
         this.entityProjectionResolver = entityProjection;
@@ -133,6 +167,7 @@ public class RequestScope implements com.paiondata.elide.core.security.RequestSc
         this.elideSettings = copy.elideSettings;
         this.sparseFields = copy.sparseFields;
         this.requestId = copy.requestId;
+        this.instrumentation = copy.instrumentation;
         this.expressionsByType = copy.expressionsByType;
         this.metadata = copy.metadata;
         this.eventQueue = copy.eventQueue;
@@ -263,7 +298,8 @@ public class RequestScope implements com.paiondata.elide.core.security.RequestSc
      * Run queued pre-security lifecycle triggers.
      */
     public void runQueuedPreSecurityTriggers() {
-        notifySubscribers(LifeCycleHookBinding.Operation.CREATE, LifeCycleHookBinding.TransactionPhase.PRESECURITY);
+        instrumentation.time(Phase.LIFECYCLE, () -> notifySubscribers(LifeCycleHookBinding.Operation.CREATE,
+                LifeCycleHookBinding.TransactionPhase.PRESECURITY));
     }
 
     /**
@@ -278,27 +314,33 @@ public class RequestScope implements com.paiondata.elide.core.security.RequestSc
      * @param operations List of operations to run pre-flush triggers for.
      */
     public void runQueuedPreFlushTriggers(LifeCycleHookBinding.Operation[] operations) {
-        for (LifeCycleHookBinding.Operation op : operations) {
-            notifySubscribers(op, LifeCycleHookBinding.TransactionPhase.PREFLUSH);
-        }
+        instrumentation.time(Phase.LIFECYCLE, () -> {
+            for (LifeCycleHookBinding.Operation op : operations) {
+                notifySubscribers(op, LifeCycleHookBinding.TransactionPhase.PREFLUSH);
+            }
+        });
     }
 
     /**
      * Run queued pre-commit lifecycle triggers.
      */
     public void runQueuedPreCommitTriggers() {
-        for (LifeCycleHookBinding.Operation op : ALL_OPERATIONS) {
-            notifySubscribers(op, LifeCycleHookBinding.TransactionPhase.PRECOMMIT);
-        }
+        instrumentation.time(Phase.LIFECYCLE, () -> {
+            for (LifeCycleHookBinding.Operation op : ALL_OPERATIONS) {
+                notifySubscribers(op, LifeCycleHookBinding.TransactionPhase.PRECOMMIT);
+            }
+        });
     }
 
     /**
      * Run queued post-commit lifecycle triggers.
      */
     public void runQueuedPostCommitTriggers() {
-        for (LifeCycleHookBinding.Operation op : ALL_OPERATIONS) {
-            notifySubscribers(op, LifeCycleHookBinding.TransactionPhase.POSTCOMMIT);
-        }
+        instrumentation.time(Phase.LIFECYCLE, () -> {
+            for (LifeCycleHookBinding.Operation op : ALL_OPERATIONS) {
+                notifySubscribers(op, LifeCycleHookBinding.TransactionPhase.POSTCOMMIT);
+            }
+        });
     }
 
     /**
@@ -346,11 +388,41 @@ public class RequestScope implements com.paiondata.elide.core.security.RequestSc
         dirtyResources.removeAll(newPersistentResources);
         // Delete has already been called on these objects
         dirtyResources.removeAll(deletedResources);
-        newPersistentResources
-                .stream()
-                .map(PersistentResource::getObject)
-                .forEach(s -> transaction.createObject(s, this));
-        dirtyResources.stream().map(PersistentResource::getObject).forEach(obj -> transaction.save(obj, this));
+        if (!transaction.supportsBatchWrites()) {
+            newPersistentResources
+                    .stream()
+                    .map(PersistentResource::getObject)
+                    .forEach(s -> transaction.createObject(s, this));
+            dirtyResources.stream().map(PersistentResource::getObject).forEach(obj -> transaction.save(obj, this));
+            return;
+        }
+        forEachRunOfType(newPersistentResources, run -> transaction.createObjects(run, this));
+        forEachRunOfType(dirtyResources, run -> transaction.saveObjects(run, this));
+    }
+
+    /**
+     * Hands each run of consecutive resources of the same type to the consumer. Only consecutive resources are
+     * grouped so that the objects are still written in the order they were touched.
+     *
+     * @param resources the resources
+     * @param consumer receives the objects of each run
+     */
+    private static void forEachRunOfType(Collection<PersistentResource> resources,
+            Consumer<List<Object>> consumer) {
+        List<Object> run = new ArrayList<>();
+        Type<?> runType = null;
+        for (PersistentResource<?> resource : resources) {
+            Type<?> type = resource.getResourceType();
+            if (!run.isEmpty() && !type.equals(runType)) {
+                consumer.accept(run);
+                run = new ArrayList<>();
+            }
+            runType = type;
+            run.add(resource.getObject());
+        }
+        if (!run.isEmpty()) {
+            consumer.accept(run);
+        }
     }
 
     public String getUUIDFor(Object o) {
@@ -360,31 +432,15 @@ public class RequestScope implements com.paiondata.elide.core.security.RequestSc
     public Object getObjectById(Type<?> type, String id) {
         Type<?> boundType = dictionary.lookupBoundClass(type);
 
-        Object result = objectEntityCache.get(boundType.getName(), id);
-
         // Check inheritance too
-        Iterator<Type<?>> it = dictionary.getSubclassingEntities(boundType).iterator();
-        while (result == null && it.hasNext()) {
-            String newType = getInheritanceKey(it.next().getName(), boundType.getName());
-            result = objectEntityCache.get(newType, id);
-        }
-
-        return result;
+        return objectEntityCache.get(boundType, id, dictionary.getSubclassingEntities(boundType));
     }
 
     public void setUUIDForObject(Type<?> type, String id, Object object) {
         Type<?> boundType = dictionary.lookupBoundClass(type);
 
-        objectEntityCache.put(boundType.getName(), id, object);
-
         // Insert for all inherited entities as well
-        dictionary.getSuperClassEntities(type).stream()
-                .map(i -> getInheritanceKey(boundType.getName(), i.getName()))
-                .forEach(newType -> objectEntityCache.put(newType, id, object));
-    }
-
-    private String getInheritanceKey(String subClass, String superClass) {
-        return subClass + "!" + superClass;
+        objectEntityCache.put(boundType, id, object, dictionary.getSuperClassEntities(type));
     }
 
     @Override
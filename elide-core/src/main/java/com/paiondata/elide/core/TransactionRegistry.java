@@ -9,7 +9,9 @@ import com.paiondata.elide.core.datastore.DataStoreTransaction;
 
 import lombok.Getter;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -19,6 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @Getter
 public class TransactionRegistry {
     private Map<UUID, DataStoreTransaction> transactionMap = new ConcurrentHashMap<>();
+    private Map<UUID, Set<DataStoreTransaction>> forkedTransactionMap = new ConcurrentHashMap<>();
 
     public Map<UUID, DataStoreTransaction> getRunningTransactions() {
         return transactionMap;
@@ -35,4 +38,26 @@ public class TransactionRegistry {
     public void removeRunningTransaction(UUID requestId) {
         transactionMap.remove(requestId);
     }
+
+    /**
+     * Returns the transactions a request has forked in addition to its running transaction, such as the
+     * transactions of GraphQL root fields executed concurrently.
+     *
+     * @param requestId the request ID
+     * @return the forked transactions
+     */
+    public Set<DataStoreTransaction> getForkedTransactions(UUID requestId) {
+        return forkedTransactionMap.getOrDefault(requestId, Collections.emptySet());
+    }
+
+    public void addForkedTransaction(UUID requestId, DataStoreTransaction tx) {
+        forkedTransactionMap.computeIfAbsent(requestId, key -> ConcurrentHashMap.newKeySet()).add(tx);
+    }
+
+    public void removeForkedTransaction(UUID requestId, DataStoreTransaction tx) {
+        forkedTransactionMap.computeIfPresent(requestId, (key, transactions) -> {
+            transactions.remove(tx);
+            return transactions.isEmpty() ? null : transactions;
+        });
+    }
 }
@@ -22,7 +22,10 @@ import com.paiondata.elide.core.type.Type;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 /**
  * Wraps the Database Transaction type.
@@ -83,6 +86,48 @@ public interface DataStoreTransaction extends Closeable {
      */
     <T> void createObject(T entity, RequestScope scope);
 
+    /**
+     * Create several objects of the same type at once.
+     * <p>
+     * Elide calls this instead of {@link #createObject} for consecutive new objects of the same type when
+     * {@link #supportsBatchWrites} is true. The default implementation creates each object in turn.
+     *
+     * @param entities - the objects to create in the data store in order.
+     * @param scope - contains request level metadata.
+     * @param <T> The model type being created.
+     */
+    default <T> void createObjects(Collection<T> entities, RequestScope scope) {
+        for (T entity : entities) {
+            createObject(entity, scope);
+        }
+    }
+
+    /**
+     * Save several objects of the same type at once.
+     * <p>
+     * Elide calls this instead of {@link #save} for consecutive modified objects of the same type when
+     * {@link #supportsBatchWrites} is true. The default implementation saves each object in turn.
+     *
+     * @param entities - the objects to save in order.
+     * @param scope - contains request level metadata.
+     * @param <T> The model type being saved.
+     */
+    default <T> void saveObjects(Collection<T> entities, RequestScope scope) {
+        for (T entity : entities) {
+            save(entity, scope);
+        }
+    }
+
+    /**
+     * Whether Elide should hand consecutive new or modified objects of the same type to {@link #createObjects} and
+     * {@link #saveObjects} rather than one at a time.
+     *
+     * @return true if the data store writes objects in batches
+     */
+    default boolean supportsBatchWrites() {
+        return false;
+    }
+
     /**
      * Create a new instance of an object.
      *
@@ -185,6 +230,34 @@ public interface DataStoreTransaction extends Closeable {
                 (Iterable) PersistentResource.getValue(entity, relationship.getName(), scope)).allInMemory().build();
     }
 
+    /**
+     * Retrieve the same to-many relation from several objects of the same type at once.
+     * <p>
+     * Data stores can override this to fetch the relation of every owner in a single round trip instead of
+     * issuing one {@link #getToManyRelation} per owner. The default implementation fetches each owner in turn.
+     * Any pagination in the relationship projection applies to each owner's collection separately.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationship - the relationship to fetch.
+     * @param scope - contains request level metadata.
+     * @param <T> - The model type which owns the relationship.
+     * @param <R> - The model type of the relationship.
+     * @return the objects in the relation keyed by the identity of their owner
+     */
+    default <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(
+            DataStoreTransaction relationTx,
+            Collection<T> entities,
+            Relationship relationship,
+            RequestScope scope) {
+
+        Map<T, DataStoreIterable<R>> relations = new IdentityHashMap<>();
+        for (T entity : entities) {
+            relations.put(entity, getToManyRelation(relationTx, entity, relationship, scope));
+        }
+        return relations;
+    }
+
     /**
      * Retrieve a to-one relation from an object.
      *
@@ -38,8 +38,8 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
     protected final Map<Type<?>, Map<String, Object>> dataStore = Collections.synchronizedMap(new HashMap<>());
     @Getter protected EntityDictionary dictionary;
     @Getter private final ConcurrentHashMap<Type<?>, AtomicLong> typeIds = new ConcurrentHashMap<>();
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-    private final ObjectCloner objectCloner;
+    protected final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    protected final ObjectCloner objectCloner;
 
     public HashMapDataStore(ClassScanner scanner, Package beanPackage) {
         this(scanner, beanPackage, ObjectCloners::clone);
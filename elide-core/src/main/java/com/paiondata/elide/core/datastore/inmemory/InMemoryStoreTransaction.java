@@ -15,26 +15,36 @@ import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.filter.expression.FilterExpression;
 import com.paiondata.elide.core.filter.expression.FilterPredicatePushdownExtractor;
 import com.paiondata.elide.core.filter.expression.InMemoryExecutionVerifier;
+import com.paiondata.elide.core.filter.expression.InMemoryFilterExecutor;
+import com.paiondata.elide.core.pagination.Keyset;
 import com.paiondata.elide.core.request.Attribute;
 import com.paiondata.elide.core.request.EntityProjection;
 import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.core.request.Relationship;
 import com.paiondata.elide.core.request.Sorting;
 import com.paiondata.elide.core.type.Type;
+import com.google.common.collect.Lists;
 import org.apache.commons.lang3.tuple.Pair;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 
 /**
@@ -71,6 +81,17 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                                         RequestScope scope);
     }
 
+    /**
+     * Fetches data for several owners from the store.
+     */
+    @FunctionalInterface
+    private interface BatchDataFetcher {
+        Map<Object, DataStoreIterable<Object>> fetch(Optional<FilterExpression> filterExpression,
+                                                     Optional<Sorting> sorting,
+                                                     Optional<Pagination> pagination,
+                                                     RequestScope scope);
+    }
+
     public InMemoryStoreTransaction(DataStoreTransaction tx) {
         this.tx = tx;
     }
@@ -98,6 +119,24 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return fetchData(fetcher, relationship.getProjection(), filterInMemory, scope);
     }
 
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(DataStoreTransaction relationTx,
+                                                                  Collection<T> entities,
+                                                                  Relationship relationship,
+                                                                  RequestScope scope) {
+        BatchDataFetcher fetcher = (filterExpression, sorting, pagination, requestScope) ->
+                (Map) tx.getToManyRelations(relationTx, entities, relationship.copyOf()
+                        .projection(relationship.getProjection().copyOf()
+                                .filterExpression(filterExpression.orElse(null))
+                                .sorting(sorting.orElse(null))
+                                .pagination(pagination.orElse(null))
+                                .build()
+                        ).build(), requestScope);
+
+        boolean filterInMemory = scope.getNewPersistentResources().size() > 0;
+        return (Map) fetchData(fetcher, relationship.getProjection(), filterInMemory, scope);
+    }
+
     @Override
     public Object loadObject(EntityProjection projection,
                       Serializable id,
@@ -201,6 +240,21 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         tx.createObject(entity, scope);
     }
 
+    @Override
+    public <T> void createObjects(Collection<T> entities, RequestScope scope) {
+        tx.createObjects(entities, scope);
+    }
+
+    @Override
+    public <T> void saveObjects(Collection<T> entities, RequestScope scope) {
+        tx.saveObjects(entities, scope);
+    }
+
+    @Override
+    public boolean supportsBatchWrites() {
+        return tx.supportsBatchWrites();
+    }
+
     private DataStoreIterable<Object> filterLoadedData(DataStoreIterable<Object> loadedRecords,
                                                 Optional<FilterExpression> filterExpression,
                                                 RequestScope scope) {
@@ -242,6 +296,19 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
             EntityProjection projection,
             boolean filterInMemory,
             RequestScope scope
+    ) {
+        BatchDataFetcher batchFetcher = (filterExpression, sorting, pagination, requestScope) ->
+                Collections.singletonMap(projection, fetcher.fetch(filterExpression, sorting, pagination,
+                        requestScope));
+
+        return fetchData(batchFetcher, projection, filterInMemory, scope).get(projection);
+    }
+
+    private Map<Object, DataStoreIterable<Object>> fetchData(
+            BatchDataFetcher fetcher,
+            EntityProjection projection,
+            boolean filterInMemory,
+            RequestScope scope
     ) {
         Optional<FilterExpression> filterExpression = Optional.ofNullable(projection.getFilterExpression());
 
@@ -258,29 +325,38 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         Optional<Pagination> dataStorePagination = inMemoryFilter.isPresent() || sortingInMemory
                 ? Optional.empty() : Optional.ofNullable(projection.getPagination());
 
-        DataStoreIterable<Object> loadedRecords =
+        Map<Object, DataStoreIterable<Object>> loaded =
                 fetcher.fetch(dataStoreFilter, dataStoreSorting, dataStorePagination, scope);
 
-        if (loadedRecords == null) {
-            return new DataStoreIterableBuilder().build();
-        }
+        Map<Object, DataStoreIterable<Object>> results = new IdentityHashMap<>();
+        loaded.forEach((owner, records) -> {
+            DataStoreIterable<Object> loadedRecords = records;
 
-        if (inMemoryFilter.isPresent() || (loadedRecords.needsInMemoryFilter()
-                && projection.getFilterExpression() != null)) {
-            loadedRecords = filterLoadedData(loadedRecords, filterExpression, scope);
-        }
+            if (loadedRecords == null) {
+                results.put(owner, new DataStoreIterableBuilder().build());
+                return;
+            }
 
-        return sortAndPaginateLoadedData(
-                    loadedRecords,
-                    sortingInMemory,
-                    projection.getSorting(),
-                    projection.getPagination(),
-                    scope);
+            if (inMemoryFilter.isPresent() || (loadedRecords.needsInMemoryFilter()
+                    && projection.getFilterExpression() != null)) {
+                loadedRecords = filterLoadedData(loadedRecords, filterExpression, scope);
+            }
+
+            results.put(owner, sortAndPaginateLoadedData(
+                        loadedRecords,
+                        sortingInMemory,
+                        projection.getType(),
+                        projection.getSorting(),
+                        projection.getPagination(),
+                        scope));
+        });
+        return results;
     }
 
     private DataStoreIterable<Object> sortAndPaginateLoadedData(
             DataStoreIterable<Object> loadedRecords,
             boolean sortingInMemory,
+            Type<?> type,
             Sorting sorting,
             Pagination pagination,
             RequestScope scope
@@ -291,6 +367,19 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         boolean mustSortInMemory = ! sortRules.isEmpty()
                 && (sortingInMemory || loadedRecords.needsInMemorySort());
 
+        // A keyset page is always sorted, at least by id, so it is sought in memory whenever it is not paginated
+        // by the data store.
+        if (pagination != null && pagination.isKeyset()
+                && (mustSortInMemory || loadedRecords.needsInMemoryPagination())) {
+            Keyset keyset = new Keyset(type, sorting, pagination, scope.getDictionary());
+            Predicate<Object> seek = keyset.getFilterExpression() == null
+                    ? record -> true
+                    : keyset.getFilterExpression().accept(new InMemoryFilterExecutor(scope));
+            List<Object> page = sortAndPaginateInMemory(loadedRecords, seek,
+                    new SortKeys(keyset.getSorting().getSortingPaths(), scope), pagination);
+            return new DataStoreIterableBuilder(keyset.isBackward() ? Lists.reverse(page) : page).build();
+        }
+
         boolean mustPaginateInMemory = pagination != null
                 && (mustSortInMemory || loadedRecords.needsInMemoryPagination());
 
@@ -299,76 +388,163 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
             return loadedRecords;
         }
 
-        //We need an in memory copy to sort or paginate.
-        List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false).collect(Collectors.toList());
-
-        if (! sortRules.isEmpty()) {
-            results = sortInMemory(results, sortRules, scope);
-        }
-
-        if (pagination != null) {
-            results = paginateInMemory(results, pagination);
+        List<Object> results;
+        if (sortRules.isEmpty()) {
+            results = paginateInMemory(loadedRecords, pagination);
+        } else if (pagination == null) {
+            results = sortInMemory(loadedRecords, new SortKeys(sortRules, scope));
+        } else {
+            results = sortAndPaginateInMemory(loadedRecords, record -> true, new SortKeys(sortRules, scope),
+                    pagination);
         }
 
         return new DataStoreIterableBuilder(results).build();
     }
 
-    private List<Object> paginateInMemory(List<Object> records, Pagination pagination) {
-        int offset = pagination.getOffset();
-        int limit = pagination.getLimit();
-        if (pagination.returnPageTotals()) {
-            pagination.setPageTotals((long) records.size());
+    /**
+     * Returns one page of the records in their loaded order. Only the records on the page are kept while the
+     * records are counted.
+     */
+    private List<Object> paginateInMemory(Iterable<Object> records, Pagination pagination) {
+        long offset = pagination.getOffset();
+        long end = offset + pagination.getLimit();
+        boolean returnPageTotals = pagination.returnPageTotals();
+
+        List<Object> page = new ArrayList<>();
+        long total = 0;
+        for (Object record : records) {
+            if (offset >= 0 && total >= offset && total < end) {
+                page.add(record);
+            }
+            total++;
+            if (! returnPageTotals && total >= end) {
+                break;
+            }
         }
 
-        if (offset < 0 || offset >= records.size()) {
-            return Collections.emptyList();
+        if (returnPageTotals) {
+            pagination.setPageTotals(total);
         }
+        return page;
+    }
 
-        int endIdx = offset + limit;
-        if (endIdx > records.size()) {
-            endIdx = records.size();
+    /**
+     * Sorts every record.  The sort keys of each record are read once rather than on every comparison.
+     */
+    private List<Object> sortInMemory(Iterable<Object> records, SortKeys sortKeys) {
+        List<SortEntry> entries = new ArrayList<>();
+        for (Object record : records) {
+            entries.add(sortKeys.entry(record, entries.size()));
         }
-        return records.subList(offset, endIdx);
+
+        entries.sort(sortKeys);
+        return entries.stream().map(SortEntry::getRecord).collect(Collectors.toList());
     }
 
-    private List<Object> sortInMemory(List<Object> records,
-                                        Map<Path, Sorting.SortOrder> sortRules,
-                                        RequestScope scope) {
-        //Build a comparator that handles multiple comparison rules.
-        Comparator<Object> noSort = (left, right) -> 0;
-
-        Comparator<Object> comp = sortRules.entrySet().stream()
-            .map(entry -> getComparator(entry.getKey(), entry.getValue(), scope))
-            .reduce(noSort, (comparator1, comparator2) -> (left, right) -> {
-                int comparison = comparator1.compare(left, right);
-                if (comparison == 0) {
-                    return comparator2.compare(left, right);
+    /**
+     * Sorts one page of records by selecting the first offset + limit records with a bounded heap instead of
+     * sorting every record.  Ties keep the loaded order just as a full stable sort would.  Records that are not
+     * candidates for the page are still counted.
+     */
+    private List<Object> sortAndPaginateInMemory(Iterable<Object> records, Predicate<Object> candidate,
+            SortKeys sortKeys, Pagination pagination) {
+        int offset = pagination.getOffset();
+        long bound = offset < 0 ? 0 : Math.max(0, (long) offset + pagination.getLimit());
+
+        PriorityQueue<SortEntry> heap = new PriorityQueue<>(sortKeys.reversed());
+        long total = 0;
+        for (Object record : records) {
+            if (! candidate.test(record)) {
+                total++;
+                continue;
+            }
+            if (heap.size() < bound) {
+                heap.add(sortKeys.entry(record, total));
+            } else if (bound > 0) {
+                SortEntry entry = sortKeys.entry(record, total);
+                if (sortKeys.compare(entry, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(entry);
                 }
-                return comparison;
-            });
+            }
+            total++;
+        }
+
+        if (pagination.returnPageTotals()) {
+            pagination.setPageTotals(total);
+        }
+
+        if (offset < 0 || offset >= heap.size()) {
+            return Collections.emptyList();
+        }
 
-        records.sort(comp);
-        return records;
+        List<SortEntry> entries = new ArrayList<>(heap);
+        entries.sort(sortKeys);
+        return entries.subList(offset, entries.size()).stream()
+                .map(SortEntry::getRecord)
+                .collect(Collectors.toList());
     }
 
-    private Comparator<Object> getComparator(Path path, Sorting.SortOrder order, RequestScope requestScope) {
-        return (left, right) -> {
-            Object leftCompare = left;
-            Object rightCompare = right;
+    /**
+     * The sort rules of a request resolved once, so that records can be compared by the values they hold
+     * without walking each sorting path on every comparison.
+     */
+    private static final class SortKeys implements Comparator<SortEntry> {
+        private final String[][] paths;
+        private final boolean[] ascending;
+        private final RequestScope scope;
+
+        SortKeys(Map<Path, Sorting.SortOrder> sortRules, RequestScope scope) {
+            this.paths = new String[sortRules.size()][];
+            this.ascending = new boolean[sortRules.size()];
+            this.scope = scope;
+
+            int rule = 0;
+            for (Map.Entry<Path, Sorting.SortOrder> entry : sortRules.entrySet()) {
+                paths[rule] = entry.getKey().getPathElements().stream()
+                        .map(Path.PathElement::getFieldName)
+                        .toArray(String[]::new);
+                ascending[rule] = entry.getValue() == Sorting.SortOrder.asc;
+                rule++;
+            }
+        }
 
-            // Drill down into path to find value for comparison
-            for (Path.PathElement pathElement : path.getPathElements()) {
-                leftCompare = (leftCompare == null ? null
-                        : PersistentResource.getValue(leftCompare, pathElement.getFieldName(), requestScope));
-                rightCompare = (rightCompare == null ? null
-                        : PersistentResource.getValue(rightCompare, pathElement.getFieldName(), requestScope));
+        SortEntry entry(Object record, long sequence) {
+            Object[] keys = new Object[paths.length];
+            for (int rule = 0; rule < paths.length; rule++) {
+                // Drill down into path to find value for comparison
+                Object value = record;
+                for (String fieldName : paths[rule]) {
+                    value = (value == null ? null : PersistentResource.getValue(value, fieldName, scope));
+                }
+                keys[rule] = value;
             }
+            return new SortEntry(keys, sequence, record);
+        }
 
-            if (order == Sorting.SortOrder.asc) {
-                return NULL_SAFE_COMPARE.compare(leftCompare, rightCompare);
+        @Override
+        public int compare(SortEntry left, SortEntry right) {
+            for (int rule = 0; rule < paths.length; rule++) {
+                int comparison = ascending[rule]
+                        ? NULL_SAFE_COMPARE.compare(left.keys[rule], right.keys[rule])
+                        : NULL_SAFE_COMPARE.compare(right.keys[rule], left.keys[rule]);
+                if (comparison != 0) {
+                    return comparison;
+                }
             }
-            return NULL_SAFE_COMPARE.compare(rightCompare, leftCompare);
-        };
+            return Long.compare(left.sequence, right.sequence);
+        }
+    }
+
+    /**
+     * A record together with its sort keys and its position in the loaded records.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class SortEntry {
+        private final Object[] keys;
+        private final long sequence;
+        private final Object record;
     }
 
     /**
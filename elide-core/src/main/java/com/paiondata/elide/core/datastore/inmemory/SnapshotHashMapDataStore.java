@@ -0,0 +1,240 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.datastore.inmemory;
+
+import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.datastore.DataStoreTransaction;
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.type.ClassType;
+import com.paiondata.elide.core.type.Type;
+import com.paiondata.elide.core.utils.ClassScanner;
+import com.paiondata.elide.core.utils.ObjectCloner;
+import com.paiondata.elide.core.utils.ObjectCloners;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * In-memory database for read-mostly workloads where readers never take locks.
+ * <p>
+ * Writes go through the same transactions as the {@link HashMapDataStore}. Committing a write publishes a new
+ * immutable snapshot of every type it modified, holding copies of the modified objects and sharing the unmodified
+ * ones with the previous snapshot. Read transactions use the snapshots published when they began and are never
+ * blocked by writers. Relationships are resolved by id against those snapshots.
+ * <p>
+ * Attributes can be indexed to avoid scanning every object of a type when filtering on them. Hash indexes serve
+ * equality filters while sorted indexes also serve range filters.
+ */
+public class SnapshotHashMapDataStore extends HashMapDataStore {
+
+    /**
+     * The kind of an attribute index.
+     */
+    public enum IndexType {
+        /**
+         * Serves the in and isnull operators.
+         */
+        HASH,
+
+        /**
+         * Serves the in, isnull, lt, le, gt, ge and between operators.
+         */
+        SORTED
+    }
+
+    private final Map<Type<?>, Map<String, IndexType>> indexTypes = new ConcurrentHashMap<>();
+    private volatile Map<Type<?>, TypeSnapshot> snapshots = Collections.emptyMap();
+
+    public SnapshotHashMapDataStore(ClassScanner scanner, Package beanPackage) {
+        this(scanner, Collections.singleton(beanPackage), ObjectCloners::clone);
+    }
+
+    public SnapshotHashMapDataStore(ClassScanner scanner, Set<Package> beanPackages, ObjectCloner objectCloner) {
+        super(scanner, beanPackages, objectCloner);
+    }
+
+    public SnapshotHashMapDataStore(Collection<Class<?>> beanClasses) {
+        this(beanClasses, ObjectCloners::clone);
+    }
+
+    public SnapshotHashMapDataStore(Collection<Class<?>> beanClasses, ObjectCloner objectCloner) {
+        super(beanClasses, objectCloner);
+    }
+
+    /**
+     * Indexes an attribute of a model.
+     *
+     * @param cls the model
+     * @param attribute the attribute
+     * @param indexType the kind of index
+     * @return this store
+     */
+    public SnapshotHashMapDataStore index(Class<?> cls, String attribute, IndexType indexType) {
+        Type<?> type = ClassType.of(cls);
+        if (!dataStore.containsKey(type)) {
+            throw new IllegalArgumentException("Unknown model " + cls.getName());
+        }
+        indexTypes.computeIfAbsent(type, key -> new ConcurrentHashMap<>()).put(attribute, indexType);
+
+        if (dictionary != null) {
+            Lock lock = readWriteLock.writeLock();
+            lock.lock();
+            try {
+                publish(Collections.singletonMap(type, null));
+            } finally {
+                lock.unlock();
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void populateEntityDictionary(EntityDictionary dictionary) {
+        super.populateEntityDictionary(dictionary);
+        indexTypes.forEach((type, attributes) -> attributes.forEach((attribute, indexType) -> {
+            Type<?> attributeType = dictionary.getType(type, attribute);
+            if (!(attributeType instanceof ClassType)) {
+                throw new IllegalArgumentException("Unknown attribute " + attribute + " of " + type.getName());
+            }
+            Class<?> attributeClass = ((ClassType<?>) attributeType).getCls();
+            if (indexType == IndexType.SORTED
+                    && !Comparable.class.isAssignableFrom(ClassUtils.primitiveToWrapper(attributeClass))) {
+                throw new IllegalArgumentException("Attribute " + attribute + " of " + type.getName()
+                        + " is not comparable");
+            }
+        }));
+        publishAll();
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new PublishingTransaction();
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return new SnapshotStoreTransaction(snapshots, dictionary);
+    }
+
+    @Override
+    public void cleanseTestData() {
+        super.cleanseTestData();
+        publishAll();
+    }
+
+    private void publishAll() {
+        Map<Type<?>, Set<String>> all = new HashMap<>();
+        dataStore.keySet().forEach(type -> all.put(type, null));
+        publish(all);
+    }
+
+    /**
+     * Publishes new snapshots of the given types.
+     *
+     * @param modified the modified ids by type or null to copy every object of the type
+     */
+    private synchronized void publish(Map<Type<?>, Set<String>> modified) {
+        Map<Type<?>, TypeSnapshot> published = new HashMap<>(snapshots);
+        modified.forEach((type, ids) -> {
+            Map<String, Object> objects = dataStore.get(type);
+            if (objects == null) {
+                return;
+            }
+
+            TypeSnapshot previous = published.getOrDefault(type, TypeSnapshot.EMPTY);
+            Map<String, Object> copies = new LinkedHashMap<>();
+            synchronized (objects) {
+                objects.forEach((id, object) -> {
+                    Object copy = ids == null || ids.contains(id) ? null : previous.get(id);
+                    copies.put(id, copy == null ? copy(type, object) : copy);
+                });
+            }
+
+            published.put(type, TypeSnapshot.of(type, copies,
+                    indexTypes.getOrDefault(type, Collections.emptyMap()), dictionary));
+        });
+        snapshots = Collections.unmodifiableMap(published);
+    }
+
+    /**
+     * Copies an object so that writers never modify published objects. Collections of related objects are copied as
+     * well since writers modify them in place.
+     */
+    private Object copy(Type<?> type, Object object) {
+        Object copy = objectCloner.clone(object, type);
+        for (String relationship : dictionary.getRelationships(type)) {
+            if (!dictionary.getRelationshipType(type, relationship).isToMany()) {
+                continue;
+            }
+            Object related = dictionary.getValue(copy, relationship, null);
+            if (related instanceof Set<?> set) {
+                dictionary.setValue(copy, relationship, Collections.unmodifiableSet(new LinkedHashSet<>(set)));
+            } else if (related instanceof Collection<?> collection) {
+                dictionary.setValue(copy, relationship, Collections.unmodifiableList(new ArrayList<>(collection)));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Write transaction that publishes the types it modified when it commits.
+     */
+    private class PublishingTransaction extends HashMapStoreTransaction {
+        private final List<Object> modified = new ArrayList<>();
+
+        PublishingTransaction() {
+            super(readWriteLock, dataStore, dictionary, getTypeIds(), objectCloner, false);
+        }
+
+        @Override
+        public void save(Object object, RequestScope requestScope) {
+            super.save(object, requestScope);
+            modified.add(object);
+        }
+
+        @Override
+        public void delete(Object object, RequestScope requestScope) {
+            super.delete(object, requestScope);
+            modified.add(object);
+        }
+
+        @Override
+        public void createObject(Object entity, RequestScope scope) {
+            super.createObject(entity, scope);
+            modified.add(entity);
+        }
+
+        @Override
+        public void commit(RequestScope scope) {
+            Map<Type<?>, Set<String>> ids = new HashMap<>();
+            for (Object object : modified) {
+                if (object == null) {
+                    continue;
+                }
+                String id = dictionary.getId(object);
+                Type<?> type = EntityDictionary.getType(object);
+                ids.computeIfAbsent(type, key -> new HashSet<>()).add(id);
+                dictionary.getSuperClassEntities(type)
+                        .forEach(superClass -> ids.computeIfAbsent(superClass, key -> new HashSet<>()).add(id));
+            }
+
+            super.commit(scope);
+            modified.clear();
+            publish(ids);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.datastore.inmemory;
+
+import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.datastore.DataStoreIterable;
+import com.paiondata.elide.core.datastore.DataStoreIterableBuilder;
+import com.paiondata.elide.core.datastore.DataStoreTransaction;
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.request.EntityProjection;
+import com.paiondata.elide.core.request.Relationship;
+import com.paiondata.elide.core.type.Type;
+import com.paiondata.elide.core.utils.coerce.converters.Serde;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read only transaction over the snapshots a {@link SnapshotHashMapDataStore} published when it began.
+ * <p>
+ * The transaction takes no locks. Related objects are looked up by id in the same snapshots, so a reader never
+ * observes the objects being modified by a writer.
+ */
+public class SnapshotStoreTransaction implements DataStoreTransaction {
+    private final Map<Type<?>, TypeSnapshot> snapshots;
+    private final EntityDictionary dictionary;
+
+    SnapshotStoreTransaction(Map<Type<?>, TypeSnapshot> snapshots, EntityDictionary dictionary) {
+        this.snapshots = snapshots;
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public DataStoreIterable<Object> loadObjects(EntityProjection projection, RequestScope scope) {
+        TypeSnapshot snapshot = snapshots.get(projection.getType());
+        if (snapshot == null) {
+            return new DataStoreIterableBuilder<>(Collections.emptyList()).build();
+        }
+        return new DataStoreIterableBuilder<>(snapshot.find(projection.getType(), projection.getFilterExpression()))
+                .allInMemory()
+                .build();
+    }
+
+    @Override
+    public <T> T loadObject(EntityProjection projection, Serializable id, RequestScope scope) {
+        TypeSnapshot snapshot = snapshots.get(projection.getType());
+        if (snapshot == null) {
+            return null;
+        }
+        Serde serde = dictionary.getSerdeLookup().apply(id.getClass());
+
+        String idString = (serde == null) ? id.toString() : (String) serde.serialize(id);
+        return (T) snapshot.get(idString);
+    }
+
+    @Override
+    public <T, R> DataStoreIterable<R> getToManyRelation(DataStoreTransaction relationTx, T entity,
+            Relationship relationship, RequestScope scope) {
+        Iterable<?> related = (Iterable<?>) dictionary.getValue(entity, relationship.getName(), scope);
+        List<Object> resolved = new ArrayList<>();
+        if (related != null) {
+            for (Object object : related) {
+                Object current = resolve(object);
+                if (current != null) {
+                    resolved.add(current);
+                }
+            }
+        }
+        return new DataStoreIterableBuilder(resolved).allInMemory().build();
+    }
+
+    @Override
+    public <T, R> R getToOneRelation(DataStoreTransaction relationTx, T entity, Relationship relationship,
+            RequestScope scope) {
+        return (R) resolve(dictionary.getValue(entity, relationship.getName(), scope));
+    }
+
+    /**
+     * Returns the version of a related object in the snapshots. Objects of types the store does not hold are
+     * returned as is.
+     */
+    private Object resolve(Object related) {
+        if (related == null) {
+            return null;
+        }
+        TypeSnapshot snapshot = snapshots.get(EntityDictionary.getType(related));
+        return snapshot == null ? related : snapshot.get(dictionary.getId(related));
+    }
+
+    @Override
+    public void save(Object entity, RequestScope scope) {
+        throw new UnsupportedOperationException("Read only transaction");
+    }
+
+    @Override
+    public void delete(Object entity, RequestScope scope) {
+        throw new UnsupportedOperationException("Read only transaction");
+    }
+
+    @Override
+    public void createObject(Object entity, RequestScope scope) {
+        throw new UnsupportedOperationException("Read only transaction");
+    }
+
+    @Override
+    public void flush(RequestScope scope) {
+        // Do nothing
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        // Do nothing
+    }
+
+    @Override
+    public void cancel(RequestScope scope) {
+        // Do nothing
+    }
+
+    @Override
+    public void close() {
+        // Do nothing
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.datastore.inmemory;
+
+import com.paiondata.elide.core.Path;
+import com.paiondata.elide.core.datastore.inmemory.SnapshotHashMapDataStore.IndexType;
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.filter.Operator;
+import com.paiondata.elide.core.filter.expression.AndFilterExpression;
+import com.paiondata.elide.core.filter.expression.FilterExpression;
+import com.paiondata.elide.core.filter.expression.OrFilterExpression;
+import com.paiondata.elide.core.filter.predicates.FilterPredicate;
+import com.paiondata.elide.core.type.ClassType;
+import com.paiondata.elide.core.type.Type;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An immutable snapshot of the objects of one type in a {@link SnapshotHashMapDataStore}.
+ * <p>
+ * Objects keep the order in which they were stored. Declared attribute indexes map attribute values to the positions
+ * of the objects holding them.
+ */
+final class TypeSnapshot {
+    static final TypeSnapshot EMPTY = new TypeSnapshot(new Object[0], Collections.emptyMap(), Collections.emptyMap());
+
+    private final Object[] values;
+    private final Map<String, Object> byId;
+    private final Map<String, AttributeIndex> indexes;
+
+    private TypeSnapshot(Object[] values, Map<String, Object> byId, Map<String, AttributeIndex> indexes) {
+        this.values = values;
+        this.byId = byId;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Builds a snapshot and its indexes.
+     *
+     * @param type the type of the objects
+     * @param objects the objects by id in storage order
+     * @param indexTypes the indexes to build by attribute
+     * @param dictionary the dictionary used to read attributes
+     * @return the snapshot
+     */
+    static TypeSnapshot of(Type<?> type, Map<String, Object> objects, Map<String, IndexType> indexTypes,
+            EntityDictionary dictionary) {
+        Object[] values = objects.values().toArray();
+        Map<String, AttributeIndex> indexes = new HashMap<>();
+        indexTypes.forEach((attribute, indexType) -> {
+            Class<?> attributeClass = ClassUtils.primitiveToWrapper(
+                    ((ClassType<?>) dictionary.getType(type, attribute)).getCls());
+            indexes.put(attribute, new AttributeIndex(indexType, attributeClass, values, attribute, dictionary));
+        });
+        return new TypeSnapshot(values, Collections.unmodifiableMap(new HashMap<>(objects)), indexes);
+    }
+
+    /**
+     * Returns the object with the given id.
+     *
+     * @param id the id
+     * @return the object or null if it is not stored
+     */
+    Object get(String id) {
+        return byId.get(id);
+    }
+
+    /**
+     * Returns the objects that may match a filter in storage order.
+     * <p>
+     * Indexes are used to narrow down the objects when the filter constrains indexed attributes of the type. The
+     * result is not filtered further, so callers must still apply the filter to it.
+     *
+     * @param type the type of the objects
+     * @param filterExpression the filter or null
+     * @return the candidate objects
+     */
+    List<Object> find(Type<?> type, FilterExpression filterExpression) {
+        BitSet matches = filterExpression == null || indexes.isEmpty() ? null : match(type, filterExpression);
+        if (matches == null) {
+            return Collections.unmodifiableList(Arrays.asList(values));
+        }
+
+        List<Object> candidates = new ArrayList<>(matches.cardinality());
+        for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)) {
+            candidates.add(values[position]);
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of objects.
+     *
+     * @return the number of objects
+     */
+    int size() {
+        return values.length;
+    }
+
+    private BitSet match(Type<?> type, FilterExpression expression) {
+        if (expression instanceof FilterPredicate predicate) {
+            List<Path.PathElement> elements = predicate.getPath().getPathElements();
+            if (elements.size() != 1 || !type.equals(elements.get(0).getType())) {
+                return null;
+            }
+            AttributeIndex index = indexes.get(elements.get(0).getFieldName());
+            return index == null ? null : index.match(predicate);
+        }
+        if (expression instanceof AndFilterExpression and) {
+            BitSet left = match(type, and.getLeft());
+            BitSet right = match(type, and.getRight());
+            if (left == null) {
+                return right;
+            }
+            if (right != null) {
+                left.and(right);
+            }
+            return left;
+        }
+        if (expression instanceof OrFilterExpression or) {
+            BitSet left = match(type, or.getLeft());
+            BitSet right = match(type, or.getRight());
+            if (left == null || right == null) {
+                return null;
+            }
+            left.or(right);
+            return left;
+        }
+        return null;
+    }
+
+    /**
+     * Maps the values of one attribute to the positions of the objects holding them.
+     */
+    private static final class AttributeIndex {
+        private static final int[] NONE = new int[0];
+
+        private final IndexType indexType;
+        private final Class<?> attributeClass;
+        private final Map<Object, int[]> positions;
+        private final int[] nulls;
+
+        AttributeIndex(IndexType indexType, Class<?> attributeClass, Object[] values, String attribute,
+                EntityDictionary dictionary) {
+            this.indexType = indexType;
+            this.attributeClass = attributeClass;
+
+            Map<Object, List<Integer>> grouped = indexType == IndexType.SORTED ? new TreeMap<>() : new HashMap<>();
+            List<Integer> nullPositions = new ArrayList<>();
+            for (int position = 0; position < values.length; position++) {
+                Object value = dictionary.getValue(values[position], attribute, null);
+                if (value == null) {
+                    nullPositions.add(position);
+                } else {
+                    grouped.computeIfAbsent(value, key -> new ArrayList<>()).add(position);
+                }
+            }
+
+            this.positions = indexType == IndexType.SORTED ? new TreeMap<>() : new HashMap<>(grouped.size() * 2);
+            grouped.forEach((value, list) -> positions.put(value, toArray(list)));
+            this.nulls = toArray(nullPositions);
+        }
+
+        BitSet match(FilterPredicate predicate) {
+            List<Object> values = predicate.getValues();
+            if (!values.stream().allMatch(attributeClass::isInstance)) {
+                return null;
+            }
+
+            switch (predicate.getOperator()) {
+                case IN:
+                    BitSet in = new BitSet();
+                    values.forEach(value -> set(in, positions.getOrDefault(value, NONE)));
+                    return in;
+                case ISNULL:
+                    BitSet isNull = new BitSet();
+                    set(isNull, nulls);
+                    return isNull;
+                case LT:
+                case LE:
+                case GT:
+                case GE:
+                case BETWEEN:
+                    return indexType == IndexType.SORTED ? range(predicate) : null;
+                default:
+                    return null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private BitSet range(FilterPredicate predicate) {
+            NavigableMap<Object, int[]> sorted = (NavigableMap<Object, int[]>) positions;
+            List<Object> values = predicate.getValues();
+            if (values.isEmpty() || (predicate.getOperator() == Operator.BETWEEN
+                    && values.size() != 2)) {
+                return null;
+            }
+
+            Object value = values.get(0);
+            Collection<int[]> matches;
+            switch (predicate.getOperator()) {
+                case LT:
+                    matches = sorted.headMap(value, false).values();
+                    break;
+                case LE:
+                    matches = sorted.headMap(value, true).values();
+                    break;
+                case GT:
+                    matches = sorted.tailMap(value, false).values();
+                    break;
+                case GE:
+                    matches = sorted.tailMap(value, true).values();
+                    break;
+                default:
+                    if (((Comparable<Object>) value).compareTo(values.get(1)) > 0) {
+                        return new BitSet();
+                    }
+                    matches = sorted.subMap(value, true, values.get(1), true).values();
+                    break;
+            }
+
+            BitSet range = new BitSet();
+            matches.forEach(match -> set(range, match));
+            return range;
+        }
+
+        private static void set(BitSet bits, int[] positions) {
+            for (int position : positions) {
+                bits.set(position);
+            }
+        }
+
+        private static int[] toArray(List<Integer> list) {
+            return list.isEmpty() ? NONE : list.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
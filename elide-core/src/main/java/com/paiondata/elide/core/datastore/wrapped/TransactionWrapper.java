@@ -18,6 +18,8 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -45,6 +47,13 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.getToManyRelation(relationTx, entity, relationship, scope);
     }
 
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(DataStoreTransaction relationTx,
+                                                                  Collection<T> entities,
+                                                                  Relationship relationship, RequestScope scope) {
+        return tx.getToManyRelations(relationTx, entities, relationship, scope);
+    }
+
     @Override
     public <T, R> R getToOneRelation(DataStoreTransaction relationTx, T entity,
                                      Relationship relationship, RequestScope scope) {
@@ -100,6 +109,21 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         tx.createObject(o, requestScope);
     }
 
+    @Override
+    public <T> void createObjects(Collection<T> entities, RequestScope requestScope) {
+        tx.createObjects(entities, requestScope);
+    }
+
+    @Override
+    public <T> void saveObjects(Collection<T> entities, RequestScope requestScope) {
+        tx.saveObjects(entities, requestScope);
+    }
+
+    @Override
+    public boolean supportsBatchWrites() {
+        return tx.supportsBatchWrites();
+    }
+
     @Override
     public <T> DataStoreIterable<T> loadObjects(EntityProjection projection, RequestScope scope) {
         return tx.loadObjects(projection, scope);
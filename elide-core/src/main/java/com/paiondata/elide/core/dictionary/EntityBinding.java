@@ -121,6 +121,7 @@ public class EntityBinding {
     public final ConcurrentHashMap<AccessibleObject, Set<ArgumentType>> attributeArguments = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, ArgumentType> entityArguments = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<Object, Annotation> annotations = new ConcurrentHashMap<>();
+    final ConcurrentHashMap<String, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
 
     public static final EntityBinding EMPTY_BINDING = new EntityBinding();
     public static final Set<ArgumentType> EMPTY_ATTRIBUTES_ARGS = Collections.unmodifiableSet(new HashSet<>());
@@ -227,6 +228,7 @@ public class EntityBinding {
         }
 
         bindEntityFields(cls, type, fieldOrMethodList, isFieldHidden);
+        bindFieldAccessors();
         bindTriggerIfPresent();
 
         apiAttributes = dequeToList(attributesDeque);
@@ -354,6 +356,21 @@ public class EntityBinding {
         }
     }
 
+    /**
+     * Resolve the accessors used to read and write the bound fields of a Java entity.
+     */
+    private void bindFieldAccessors() {
+        fieldsToValues.forEach((fieldName, fieldOrMethod) -> {
+            boolean requestScopeable = fieldOrMethod instanceof Method method
+                    && requestScopeableMethods.getOrDefault(method, false);
+            FieldAccessor accessor = FieldAccessor.bind(entityClass, fieldName, fieldOrMethod,
+                    fieldsToTypes.get(fieldName), requestScopeable);
+            if (accessor != null) {
+                fieldAccessors.put(fieldName, accessor);
+            }
+        });
+    }
+
     /**
      * Convert a deque to a list.
      *
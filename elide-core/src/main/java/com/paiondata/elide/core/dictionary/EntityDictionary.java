@@ -42,6 +42,7 @@ import com.paiondata.elide.core.security.checks.UserCheck;
 import com.paiondata.elide.core.security.checks.prefab.Collections.AppendOnly;
 import com.paiondata.elide.core.security.checks.prefab.Collections.RemoveOnly;
 import com.paiondata.elide.core.security.checks.prefab.Role;
+import com.paiondata.elide.core.security.permissions.CompiledPermission;
 import com.paiondata.elide.core.type.AccessibleObject;
 import com.paiondata.elide.core.type.ClassType;
 import com.paiondata.elide.core.type.Dynamic;
@@ -127,6 +128,7 @@ public class EntityDictionary {
     protected final BiMap<String, Class<? extends Check>> checkNames;
     protected final Map<Class<? extends Check>, Check> checkInstances;
     protected final Map<String, UserCheck> roleChecks;
+    protected final Map<ParseTree, CompiledPermission> compiledPermissions = new ConcurrentHashMap<>();
 
     @Getter
     protected final Set<String> apiVersions;
@@ -203,6 +205,7 @@ public class EntityDictionary {
      */
     public void addRoleCheck(String role, UserCheck check) {
         roleChecks.put(role, check);
+        compiledPermissions.clear();
     }
 
     /**
@@ -371,6 +374,27 @@ public class EntityDictionary {
         return binding.entityPermissions.getFieldChecksForPermission(field, annotationClass);
     }
 
+    /**
+     * Gets the compiled form of a permission definition.
+     * <p>
+     * Permissions are compiled the first time they are requested and reused until checks are added.
+     *
+     * @param permissions the permission definition from {@link #getPermissionsForClass} or
+     *        {@link #getPermissionsForField}
+     * @return the compiled permission or {@code null} if there is no permission definition
+     */
+    public CompiledPermission getCompiledPermission(ParseTree permissions) {
+        if (permissions == null) {
+            return null;
+        }
+        CompiledPermission compiled = compiledPermissions.get(permissions);
+        if (compiled == null) {
+            compiled = CompiledPermission.compile(permissions, this);
+            compiledPermissions.put(permissions, compiled);
+        }
+        return compiled;
+    }
+
     /**
      * Returns the check class mapped to a particular identifier.
      *
@@ -1550,6 +1574,7 @@ public class EntityDictionary {
             log.debug("Register Elide Check [{}] with expression [{}]",
                     cls.getCanonicalName(), securityCheckMeta.value());
             checkNames.put(securityCheckMeta.value(), cls.asSubclass(Check.class));
+            compiledPermissions.clear();
 
             //Populate check instance.
             getCheckInstance(securityCheckMeta.value());
@@ -1710,7 +1735,17 @@ public class EntityDictionary {
      * @return the value
      */
     public Object getValue(Object target, String fieldName, RequestScope scope) {
-        AccessibleObject accessor = getAccessibleObject(target, fieldName);
+        EntityBinding binding = getEntityBinding(getType(target));
+        FieldAccessor fieldAccessor = binding.fieldAccessors.get(fieldName);
+        if (fieldAccessor != null && fieldAccessor.canGet()) {
+            try {
+                return fieldAccessor.get(target, scope);
+            } catch (Throwable e) {
+                throw handleInvocationTargetException(new InvocationTargetException(e));
+            }
+        }
+
+        AccessibleObject accessor = binding.fieldsToValues.get(fieldName);
         try {
             if (accessor instanceof Method) {
                 // Pass RequestScope into @Computed fields if requested
@@ -1747,6 +1782,21 @@ public class EntityDictionary {
      */
     public void setValue(Object target, String fieldName, Object value) {
         Type<?> targetClass = getType(target);
+        EntityBinding binding = getEntityBinding(targetClass);
+        FieldAccessor fieldAccessor = binding.fieldAccessors.get(fieldName);
+        if (fieldAccessor != null && fieldAccessor.getSetterType() != null
+                && !binding.aliasesToFields.containsKey(fieldName)) {
+            Object coerced = coerce(target, value, fieldName, fieldAccessor.getSetterType());
+            if (fieldAccessor.canSet(coerced)) {
+                try {
+                    fieldAccessor.set(target, coerced);
+                } catch (Throwable e) {
+                    throw handleInvocationTargetException(new InvocationTargetException(e));
+                }
+                return;
+            }
+        }
+
         String targetType = getJsonAliasFor(targetClass);
 
         String fieldAlias = fieldName;
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.dictionary;
+
+import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.type.AccessibleObject;
+import com.paiondata.elide.core.type.ClassType;
+import com.paiondata.elide.core.type.FieldType;
+import com.paiondata.elide.core.type.Type;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Reads and writes a field of a Java entity through method handles that are resolved when the entity is bound.
+ * <p>
+ * The getter, setter or field backing a field is otherwise looked up and invoked reflectively on every access. A
+ * field without a usable getter or setter has no handle for it and must be accessed reflectively.
+ */
+@Slf4j
+final class FieldAccessor {
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SCOPED_GETTER = MethodType.methodType(Object.class, Object.class,
+            RequestScope.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandle getter;
+    private final boolean requestScopeable;
+    private final MethodHandle setter;
+    private final Class<?> setterClass;
+
+    /**
+     * The type values are coerced to before they are set.
+     */
+    @Getter
+    private final Type<?> setterType;
+
+    private FieldAccessor(MethodHandle getter, boolean requestScopeable, MethodHandle setter, Type<?> setterType) {
+        this.getter = getter;
+        this.requestScopeable = requestScopeable;
+        this.setter = setter;
+        this.setterType = setterType;
+        this.setterClass = setterType == null
+                ? null
+                : ClassUtils.primitiveToWrapper(((ClassType<?>) setterType).getCls());
+    }
+
+    /**
+     * Resolves the accessor of a bound field.
+     *
+     * @param entityClass the bound entity class
+     * @param fieldName the field name
+     * @param fieldOrMethod the bound field or getter
+     * @param fieldType the bound type of the field
+     * @param requestScopeable whether the getter takes the request scope
+     * @return the accessor or null if the field has neither a usable getter nor setter
+     */
+    static FieldAccessor bind(Type<?> entityClass, String fieldName, AccessibleObject fieldOrMethod,
+            Type<?> fieldType, boolean requestScopeable) {
+        if (!(entityClass instanceof ClassType) || !(fieldType instanceof ClassType)) {
+            return null;
+        }
+
+        MethodHandle getter = resolveGetter(fieldOrMethod, requestScopeable);
+
+        MethodHandle setter = null;
+        Type<?> setterType = null;
+        try {
+            if (EntityDictionary.findMethod(entityClass, "set" + StringUtils.capitalize(fieldName), fieldType)
+                    instanceof com.paiondata.elide.core.type.MethodType method
+                    && method.unwrap() instanceof Method javaMethod) {
+                setter = unreflect(javaMethod, SETTER);
+                setterType = setter == null ? null : fieldType;
+            }
+        } catch (NoSuchMethodException e) {
+            // Fields without a setter are set directly.
+        }
+        if (setter == null && fieldOrMethod instanceof FieldType field
+                && field.getType() instanceof ClassType) {
+            setter = unreflectSetter(field.unwrap());
+            setterType = setter == null ? null : field.getType();
+        }
+
+        if (getter == null && setter == null) {
+            return null;
+        }
+        return new FieldAccessor(getter, requestScopeable, setter, setterType);
+    }
+
+    /**
+     * Returns true if the field is read through a handle.
+     *
+     * @return true if the field can be read
+     */
+    boolean canGet() {
+        return getter != null;
+    }
+
+    /**
+     * Returns true if the coerced value can be set through a handle.
+     *
+     * @param value the coerced value
+     * @return true if the value can be set
+     */
+    boolean canSet(Object value) {
+        if (setter == null) {
+            return false;
+        }
+        return value == null ? !((ClassType<?>) setterType).getCls().isPrimitive() : setterClass.isInstance(value);
+    }
+
+    /**
+     * Reads the field.
+     *
+     * @param target the entity
+     * @param scope the request scope passed to request scopeable getters
+     * @return the value
+     * @throws Throwable the exception thrown by the getter
+     */
+    Object get(Object target, RequestScope scope) throws Throwable {
+        return requestScopeable ? getter.invokeExact(target, scope) : getter.invokeExact(target);
+    }
+
+    /**
+     * Writes the field.
+     *
+     * @param target the entity
+     * @param value the coerced value
+     * @throws Throwable the exception thrown by the setter
+     */
+    void set(Object target, Object value) throws Throwable {
+        setter.invokeExact(target, value);
+    }
+
+    private static MethodHandle resolveGetter(AccessibleObject fieldOrMethod, boolean requestScopeable) {
+        if (fieldOrMethod instanceof FieldType field) {
+            try {
+                Field javaField = field.unwrap();
+                javaField.setAccessible(true);
+                return MethodHandles.lookup().unreflectGetter(javaField).asType(GETTER);
+            } catch (IllegalAccessException | RuntimeException e) {
+                log.debug("Field {} is read reflectively: {}", field.getName(), e.getMessage());
+                return null;
+            }
+        }
+        if (fieldOrMethod instanceof com.paiondata.elide.core.type.MethodType method
+                && method.unwrap() instanceof Method javaMethod
+                && javaMethod.getParameterCount() == (requestScopeable ? 1 : 0)) {
+            return unreflect(javaMethod, requestScopeable ? SCOPED_GETTER : GETTER);
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflect(Method method, MethodType type) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("Method {} is invoked reflectively: {}", method.getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectSetter(Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER);
+        } catch (IllegalAccessException | RuntimeException e) {
+            log.debug("Field {} is set reflectively: {}", field.getName(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -37,6 +37,8 @@ import com.paiondata.elide.core.request.Attribute;
 import com.paiondata.elide.core.type.Type;
 import com.paiondata.elide.core.utils.coerce.CoerceUtil;
 import com.paiondata.elide.jsonapi.parser.JsonApiParser;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import org.apache.commons.collections4.CollectionUtils;
 
@@ -51,6 +53,7 @@ import cz.jirutka.rsql.parser.ast.RSQLOperators;
 import cz.jirutka.rsql.parser.ast.RSQLVisitor;
 import lombok.Builder;
 import lombok.NonNull;
+import lombok.Value;
 
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
@@ -107,17 +110,30 @@ public class RSQLFilterDialect implements FilterDialect, SubqueryFilterDialect,
                     .build();
 
 
+    /* Number of parsed filter expressions kept by dialects that are shared across requests */
+    public static final long DEFAULT_PARSE_CACHE_SIZE = 1000L;
+
     private final RSQLParser parser;
 
     @NonNull
     private final EntityDictionary dictionary;
     private final CaseSensitivityStrategy caseSensitivityStrategy;
     private final Boolean addDefaultArguments;
+    private final Cache<ParseKey, FilterExpression> parseCache;
 
+    /**
+     * Constructor.
+     *
+     * @param dictionary the entity dictionary
+     * @param caseSensitivityStrategy the case sensitivity strategy or null for the column collation
+     * @param addDefaultArguments whether to add the default arguments of attributes, true if null
+     * @param parseCacheSize the number of parsed filter expressions to reuse across requests, none if null or 0
+     */
     @Builder
     public RSQLFilterDialect(EntityDictionary dictionary,
                              CaseSensitivityStrategy caseSensitivityStrategy,
-                             Boolean addDefaultArguments) {
+                             Boolean addDefaultArguments,
+                             Long parseCacheSize) {
         parser = new RSQLParser(getDefaultOperatorsWithIsnull());
         this.dictionary = dictionary;
         if (caseSensitivityStrategy == null) {
@@ -131,6 +147,12 @@ public class RSQLFilterDialect implements FilterDialect, SubqueryFilterDialect,
         } else {
             this.addDefaultArguments = addDefaultArguments;
         }
+
+        if (parseCacheSize == null || parseCacheSize <= 0) {
+            this.parseCache = null;
+        } else {
+            this.parseCache = CacheBuilder.newBuilder().maximumSize(parseCacheSize).build();
+        }
     }
 
     //add rsql isnull op to the default ops
@@ -284,11 +306,26 @@ public class RSQLFilterDialect implements FilterDialect, SubqueryFilterDialect,
                                                   boolean coerceValues,
                                                   boolean allowNestedToManyAssociations,
                                                   Set<Attribute> attributes) throws ParseException {
+        // Attributes of the request can supply path arguments, so those expressions are specific to the request.
+        ParseKey key = parseCache == null || !attributes.isEmpty()
+                ? null
+                : new ParseKey(entityType, expressionText, coerceValues, allowNestedToManyAssociations);
+        if (key != null) {
+            FilterExpression cached = parseCache.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         try {
             Node ast = parser.parse(expressionText);
             RSQL2FilterExpressionVisitor visitor = new RSQL2FilterExpressionVisitor(allowNestedToManyAssociations,
                     coerceValues, attributes);
-            return ast.accept(visitor, entityType);
+            FilterExpression filterExpression = ast.accept(visitor, entityType);
+            if (key != null && isShareable(filterExpression)) {
+                parseCache.put(key, filterExpression);
+            }
+            return filterExpression;
         } catch (RSQLParseException e) {
             throw new ParseException(e.getMessage(), e);
         } catch (RSQLParserException e) {
@@ -297,6 +334,38 @@ public class RSQLFilterDialect implements FilterDialect, SubqueryFilterDialect,
         }
     }
 
+    /**
+     * Returns true if a parsed filter expression can be reused by other requests. Predicates are immutable, but the
+     * arguments of their paths are not.
+     */
+    private static boolean isShareable(FilterExpression expression) {
+        if (expression instanceof FilterPredicate predicate) {
+            return predicate.getPath().getPathElements().stream()
+                    .allMatch(element -> CollectionUtils.isEmpty(element.getArguments()));
+        }
+        if (expression instanceof AndFilterExpression and) {
+            return isShareable(and.getLeft()) && isShareable(and.getRight());
+        }
+        if (expression instanceof OrFilterExpression or) {
+            return isShareable(or.getLeft()) && isShareable(or.getRight());
+        }
+        if (expression instanceof NotFilterExpression not) {
+            return isShareable(not.getNegated());
+        }
+        return false;
+    }
+
+    /**
+     * Identifies a parsed filter expression. The entity type is resolved for the requested API version.
+     */
+    @Value
+    private static class ParseKey {
+        Type<?> entityType;
+        String expressionText;
+        boolean coerceValues;
+        boolean allowNestedToManyAssociations;
+    }
+
     /**
      * Allows base RSQLParseException to carry a parameterized message.
      */
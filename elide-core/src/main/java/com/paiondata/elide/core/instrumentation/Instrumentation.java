@@ -0,0 +1,39 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.instrumentation;
+
+/**
+ * Receives the time spent in the phases of requests.
+ * <p>
+ * Each {@link com.paiondata.elide.core.RequestScope} begins a {@link RequestInstrumentation} which records the
+ * phases run within the request. Phases that run before a request scope exists, such as route resolution, are
+ * recorded here directly.
+ */
+public interface Instrumentation {
+    /**
+     * Instrumentation that records nothing.
+     */
+    Instrumentation NONE = new Instrumentation() {
+    };
+
+    /**
+     * Records the time spent in a phase.
+     *
+     * @param phase the phase
+     * @param nanos the elapsed time in nanoseconds
+     */
+    default void record(Phase phase, long nanos) {
+    }
+
+    /**
+     * Begins instrumenting a request.
+     *
+     * @return the instrumentation of the request
+     */
+    default RequestInstrumentation beginRequest() {
+        return RequestInstrumentation.NONE;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.instrumentation;
+
+import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.datastore.DataStoreIterable;
+import com.paiondata.elide.core.datastore.DataStoreTransaction;
+import com.paiondata.elide.core.datastore.wrapped.TransactionWrapper;
+import com.paiondata.elide.core.request.EntityProjection;
+import com.paiondata.elide.core.request.Relationship;
+import com.paiondata.elide.core.type.Type;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Records the calls to a transaction against the {@link Phase#DATASTORE} phase of the
+ * {@link RequestInstrumentation} of the request scope.
+ * <p>
+ * Attribute reads and writes are not recorded as most stores serve them from the loaded entity. Flushes and commits
+ * are recorded by the request handlers against {@link Phase#COMMIT}.
+ */
+public class InstrumentedTransaction extends TransactionWrapper {
+
+    public InstrumentedTransaction(DataStoreTransaction tx) {
+        super(tx);
+    }
+
+    @Override
+    public <T> T loadObject(EntityProjection projection, Serializable id, RequestScope scope) {
+        return scope.getInstrumentation().time(Phase.DATASTORE, () -> tx.loadObject(projection, id, scope));
+    }
+
+    @Override
+    public <T> DataStoreIterable<T> loadObjects(EntityProjection projection, RequestScope scope) {
+        return scope.getInstrumentation().time(Phase.DATASTORE, () -> tx.loadObjects(projection, scope));
+    }
+
+    @Override
+    public <T, R> DataStoreIterable<R> getToManyRelation(DataStoreTransaction relationTx, T entity,
+            Relationship relationship, RequestScope scope) {
+        return scope.getInstrumentation().time(Phase.DATASTORE,
+                () -> tx.getToManyRelation(relationTx, entity, relationship, scope));
+    }
+
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(DataStoreTransaction relationTx,
+            Collection<T> entities, Relationship relationship, RequestScope scope) {
+        return scope.getInstrumentation().time(Phase.DATASTORE,
+                () -> tx.getToManyRelations(relationTx, entities, relationship, scope));
+    }
+
+    @Override
+    public <T, R> R getToOneRelation(DataStoreTransaction relationTx, T entity, Relationship relationship,
+            RequestScope scope) {
+        return scope.getInstrumentation().time(Phase.DATASTORE,
+                () -> tx.getToOneRelation(relationTx, entity, relationship, scope));
+    }
+
+    @Override
+    public <T, R> void updateToManyRelation(DataStoreTransaction relationTx, T entity, String relationName,
+            Set<R> newRelationships, Set<R> deletedRelationships, RequestScope scope) {
+        scope.getInstrumentation().time(Phase.DATASTORE, () -> tx.updateToManyRelation(relationTx, entity,
+                relationName, newRelationships, deletedRelationships, scope));
+    }
+
+    @Override
+    public <T, R> void updateToOneRelation(DataStoreTransaction relationTx, T entity, String relationName,
+            R relationshipValue, RequestScope scope) {
+        scope.getInstrumentation().time(Phase.DATASTORE,
+                () -> tx.updateToOneRelation(relationTx, entity, relationName, relationshipValue, scope));
+    }
+
+    @Override
+    public <T> T createNewObject(Type<T> entityClass, RequestScope scope) {
+        return tx.createNewObject(entityClass, scope);
+    }
+
+    @Override
+    public void createObject(Object o, RequestScope requestScope) {
+        requestScope.getInstrumentation().time(Phase.DATASTORE, () -> tx.createObject(o, requestScope));
+    }
+
+    @Override
+    public <T> void createObjects(Collection<T> entities, RequestScope requestScope) {
+        requestScope.getInstrumentation().time(Phase.DATASTORE, () -> tx.createObjects(entities, requestScope));
+    }
+
+    @Override
+    public <T> void saveObjects(Collection<T> entities, RequestScope requestScope) {
+        requestScope.getInstrumentation().time(Phase.DATASTORE, () -> tx.saveObjects(entities, requestScope));
+    }
+
+    @Override
+    public <T> void save(T o, RequestScope requestScope) {
+        requestScope.getInstrumentation().time(Phase.DATASTORE, () -> tx.save(o, requestScope));
+    }
+
+    @Override
+    public <T> void delete(T o, RequestScope requestScope) {
+        requestScope.getInstrumentation().time(Phase.DATASTORE, () -> tx.delete(o, requestScope));
+    }
+}
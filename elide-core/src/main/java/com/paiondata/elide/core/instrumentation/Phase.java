@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.instrumentation;
+
+/**
+ * The instrumented phases of a request.
+ */
+public enum Phase {
+    /**
+     * Resolving the route and API version of the request.
+     */
+    ROUTE,
+
+    /**
+     * Parsing the JSON:API path or the GraphQL document.
+     */
+    PARSE,
+
+    /**
+     * Building the entity projection of the request.
+     */
+    PROJECTION,
+
+    /**
+     * Evaluating permissions.
+     */
+    PERMISSION,
+
+    /**
+     * A call to the data store transaction.
+     */
+    DATASTORE,
+
+    /**
+     * Running queued lifecycle hooks.
+     */
+    LIFECYCLE,
+
+    /**
+     * Building and serializing the response document.
+     */
+    SERIALIZATION,
+
+    /**
+     * Flushing and committing the data store transaction.
+     */
+    COMMIT
+}
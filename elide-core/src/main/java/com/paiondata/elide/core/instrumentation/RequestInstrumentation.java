@@ -0,0 +1,94 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.instrumentation;
+
+import java.util.function.Supplier;
+
+/**
+ * Records the time spent in the phases of a single request.
+ * <p>
+ * Implementations must be thread safe as the root fields of a GraphQL query may be executed concurrently.
+ */
+public interface RequestInstrumentation {
+    /**
+     * Request instrumentation that records nothing.
+     */
+    RequestInstrumentation NONE = new RequestInstrumentation() {
+    };
+
+    /**
+     * Records the time spent in a phase of the request.
+     *
+     * @param phase the phase
+     * @param nanos the elapsed time in nanoseconds
+     */
+    default void record(Phase phase, long nanos) {
+    }
+
+    /**
+     * Records how the entity cache of the request was used, called once before the request completes.
+     *
+     * @param size the number of entities stored
+     * @param hits the number of lookups that found an entity
+     * @param misses the number of lookups that found no entity
+     */
+    default void recordEntityCache(int size, long hits, long misses) {
+    }
+
+    /**
+     * Called once the request has completed.
+     */
+    default void end() {
+    }
+
+    /**
+     * Returns true if phases are recorded, used to skip instrumenting when nothing would be recorded.
+     *
+     * @return true if enabled
+     */
+    default boolean isEnabled() {
+        return this != NONE;
+    }
+
+    /**
+     * Runs the supplier and records its time against the phase.
+     *
+     * @param <T> the result type
+     * @param phase the phase
+     * @param supplier the work to time
+     * @return the result of the supplier
+     */
+    default <T> T time(Phase phase, Supplier<T> supplier) {
+        if (!isEnabled()) {
+            return supplier.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs the runnable and records its time against the phase.
+     *
+     * @param phase the phase
+     * @param runnable the work to time
+     */
+    default void time(Phase phase, Runnable runnable) {
+        if (!isEnabled()) {
+            runnable.run();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            runnable.run();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+}
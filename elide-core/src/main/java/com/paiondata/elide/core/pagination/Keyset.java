@@ -0,0 +1,225 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.pagination;
+
+import com.paiondata.elide.core.Path;
+import com.paiondata.elide.core.PersistentResource;
+import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.exceptions.InvalidValueException;
+import com.paiondata.elide.core.filter.expression.AndFilterExpression;
+import com.paiondata.elide.core.filter.expression.FilterExpression;
+import com.paiondata.elide.core.filter.expression.OrFilterExpression;
+import com.paiondata.elide.core.filter.predicates.GEPredicate;
+import com.paiondata.elide.core.filter.predicates.GTPredicate;
+import com.paiondata.elide.core.filter.predicates.InPredicate;
+import com.paiondata.elide.core.filter.predicates.LEPredicate;
+import com.paiondata.elide.core.filter.predicates.LTPredicate;
+import com.paiondata.elide.core.request.Pagination;
+import com.paiondata.elide.core.request.Sorting;
+import com.paiondata.elide.core.type.Type;
+import com.paiondata.elide.core.utils.coerce.CoerceUtil;
+import com.paiondata.elide.core.utils.coerce.converters.Serde;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keyset (seek) pagination of a sorted collection.
+ * <p>
+ * A keyset page is addressed by a cursor rather than an offset. The cursor holds the sort values of the record the
+ * page starts after (or ends before) so that a data store can seek straight to the page with a predicate on the
+ * sort keys instead of reading and discarding every record ahead of it. The id is always the last sort key so the
+ * order is total. Records with a null sort value cannot be paged past.
+ */
+public class Keyset {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Type<?> type;
+    private final Map<Path, Sorting.SortOrder> sortRules = new LinkedHashMap<>();
+
+    /**
+     * Whether the page ends before the cursor, in which case the data store reads in the reverse order and the
+     * records it returns must be reversed.
+     */
+    @Getter
+    private final boolean backward;
+
+    /**
+     * The order in which the data store must read the collection.
+     */
+    @Getter
+    private final Sorting sorting;
+
+    /**
+     * The predicate that seeks past the cursor or null for the first (or last) page.
+     */
+    @Getter
+    private final FilterExpression filterExpression;
+
+    /**
+     * Constructor.
+     *
+     * @param type the type of the collection
+     * @param sorting the requested sorting or null
+     * @param pagination the keyset pagination
+     * @param dictionary the entity dictionary
+     */
+    public Keyset(Type<?> type, Sorting sorting, Pagination pagination, EntityDictionary dictionary) {
+        this.type = type;
+        this.backward = pagination.getBefore() != null;
+
+        if (sorting != null && !sorting.isDefaultInstance()) {
+            sortRules.putAll(sorting.getSortingPaths());
+        }
+        String idField = dictionary.getIdFieldName(type);
+        boolean sortedById = sortRules.keySet().stream().anyMatch(path -> path.getPathElements().size() == 1
+                && path.getPathElements().get(0).getFieldName().equals(idField));
+        if (!sortedById) {
+            sortRules.put(new Path(type, dictionary, idField), Sorting.SortOrder.asc);
+        }
+
+        Map<Path, Sorting.SortOrder> readRules = new LinkedHashMap<>();
+        sortRules.forEach((path, order) -> readRules.put(path, backward ? reverse(order) : order));
+        this.sorting = new KeysetSorting(type, readRules);
+
+        String cursor = backward ? pagination.getBefore() : pagination.getAfter();
+        this.filterExpression = cursor.isEmpty() ? null : seek(readRules, decode(cursor));
+    }
+
+    /**
+     * Returns the cursor of a record, which is null if the record has a null sort value.
+     *
+     * @param entity the record
+     * @param scope the request scope
+     * @return the cursor
+     */
+    public String getCursor(Object entity, RequestScope scope) {
+        List<String> values = new ArrayList<>();
+        for (Path path : sortRules.keySet()) {
+            Object value = entity;
+            for (Path.PathElement pathElement : path.getPathElements()) {
+                value = value == null ? null : PersistentResource.getValue(value, pathElement.getFieldName(), scope);
+            }
+            if (value == null) {
+                return null;
+            }
+            values.add(serialize(value));
+        }
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(values));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Builds k1 > v1 OR (k1 = v1 AND (k2 > v2 OR (k2 = v2 AND ...))) with the comparisons flipped for descending
+     * keys.  The leading range on the first key lets the data store scan an index from the cursor.
+     */
+    private FilterExpression seek(Map<Path, Sorting.SortOrder> readRules, List<String> cursor) {
+        List<Path> paths = new ArrayList<>(readRules.keySet());
+        if (cursor.size() != paths.size()) {
+            throw new InvalidValueException("Pagination cursor does not match the sort order of " + type.getName());
+        }
+
+        List<Object> values = new ArrayList<>();
+        for (int idx = 0; idx < paths.size(); idx++) {
+            Type<?> fieldType = paths.get(idx).lastElement().get().getFieldType();
+            values.add(CoerceUtil.coerce(cursor.get(idx), fieldType));
+        }
+
+        int last = paths.size() - 1;
+        FilterExpression expression = isAscending(readRules, paths.get(last))
+                ? new GTPredicate(paths.get(last), values.get(last))
+                : new LTPredicate(paths.get(last), values.get(last));
+
+        for (int idx = last - 1; idx >= 0; idx--) {
+            Path path = paths.get(idx);
+            FilterExpression past = isAscending(readRules, path)
+                    ? new GTPredicate(path, values.get(idx))
+                    : new LTPredicate(path, values.get(idx));
+            expression = new OrFilterExpression(past,
+                    new AndFilterExpression(new InPredicate(path, values.get(idx)), expression));
+        }
+
+        if (last == 0) {
+            return expression;
+        }
+        FilterExpression range = isAscending(readRules, paths.get(0))
+                ? new GEPredicate(paths.get(0), values.get(0))
+                : new LEPredicate(paths.get(0), values.get(0));
+        return new AndFilterExpression(range, expression);
+    }
+
+    private static boolean isAscending(Map<Path, Sorting.SortOrder> rules, Path path) {
+        return rules.get(path) == Sorting.SortOrder.asc;
+    }
+
+    private static Sorting.SortOrder reverse(Sorting.SortOrder order) {
+        return order == Sorting.SortOrder.asc ? Sorting.SortOrder.desc : Sorting.SortOrder.asc;
+    }
+
+    private static String serialize(Object value) {
+        Serde serde = CoerceUtil.lookup(value.getClass());
+        if (serde != null) {
+            return String.valueOf(serde.serialize(value));
+        }
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name();
+        }
+        return String.valueOf(value);
+    }
+
+    private static List<String> decode(String cursor) {
+        String[] values;
+        try {
+            values = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), String[].class);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidValueException("Invalid pagination cursor", e);
+        }
+        if (values == null || Arrays.asList(values).contains(null)) {
+            throw new InvalidValueException(cursor, "Invalid pagination cursor");
+        }
+        return Arrays.asList(values);
+    }
+
+    /**
+     * The sort order the data store reads in.
+     */
+    private static final class KeysetSorting implements Sorting {
+        private final Type<?> type;
+        private final Map<Path, SortOrder> sortingPaths;
+
+        KeysetSorting(Type<?> type, Map<Path, SortOrder> sortingPaths) {
+            this.type = type;
+            this.sortingPaths = sortingPaths;
+        }
+
+        @Override
+        public <T> Map<Path, SortOrder> getSortingPaths() {
+            return sortingPaths;
+        }
+
+        @Override
+        public Type<?> getType() {
+            return type;
+        }
+
+        @Override
+        public boolean isDefaultInstance() {
+            return false;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.paiondata.elide.ElideSettings;
 import com.paiondata.elide.annotation.Paginate;
 import com.paiondata.elide.core.exceptions.InvalidValueException;
 import com.paiondata.elide.core.request.Pagination;
+import com.paiondata.elide.core.request.Pagination.TotalsMode;
 import com.paiondata.elide.core.type.ClassType;
 import com.paiondata.elide.core.type.Type;
 import com.google.common.collect.ImmutableMap;
@@ -18,6 +19,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +34,7 @@ public class PaginationImpl implements Pagination {
     /**
      * Denotes the internal field names for paging.
      */
-    public enum PaginationKey { offset, number, size, limit, totals }
+    public enum PaginationKey { offset, number, size, limit, totals, after, before }
 
     // For specifying which page of records is to be returned in the response
     public static final String PAGE_NUMBER_KEY = "page[number]";
@@ -46,15 +48,24 @@ public class PaginationImpl implements Pagination {
     // For limiting the number of records returned
     public static final String PAGE_LIMIT_KEY = "page[limit]";
 
-    // For requesting total pages/records be included in the response page meta data
+    // For requesting total pages/records be included in the response page meta data, optionally with a TotalsMode
     public static final String PAGE_TOTALS_KEY = "page[totals]";
 
-    public static final Map<String, PaginationKey> PAGE_KEYS = ImmutableMap.of(
-            PAGE_NUMBER_KEY, PaginationKey.number,
-            PAGE_SIZE_KEY, PaginationKey.size,
-            PAGE_OFFSET_KEY, PaginationKey.offset,
-            PAGE_LIMIT_KEY, PaginationKey.limit,
-            PAGE_TOTALS_KEY, PaginationKey.totals);
+    // For specifying the cursor the page of records starts after
+    public static final String PAGE_AFTER_KEY = "page[after]";
+
+    // For specifying the cursor the page of records ends before
+    public static final String PAGE_BEFORE_KEY = "page[before]";
+
+    public static final Map<String, PaginationKey> PAGE_KEYS = ImmutableMap.<String, PaginationKey>builder()
+            .put(PAGE_NUMBER_KEY, PaginationKey.number)
+            .put(PAGE_SIZE_KEY, PaginationKey.size)
+            .put(PAGE_OFFSET_KEY, PaginationKey.offset)
+            .put(PAGE_LIMIT_KEY, PaginationKey.limit)
+            .put(PAGE_TOTALS_KEY, PaginationKey.totals)
+            .put(PAGE_AFTER_KEY, PaginationKey.after)
+            .put(PAGE_BEFORE_KEY, PaginationKey.before)
+            .build();
 
     @Getter
     @Setter
@@ -62,6 +73,10 @@ public class PaginationImpl implements Pagination {
 
     private static final String PAGE_KEYS_CSV = PAGE_KEYS.keySet().stream().collect(Collectors.joining(", "));
 
+    private static final String TOTALS_MODES_CSV = Arrays.stream(TotalsMode.values())
+            .map(TotalsMode::name)
+            .collect(Collectors.joining(", "));
+
     @Getter
     private final int offset;
 
@@ -76,6 +91,15 @@ public class PaginationImpl implements Pagination {
     @Getter
     private final Type<?> entityClass;
 
+    @Getter
+    private final String after;
+
+    @Getter
+    private final String before;
+
+    @Getter
+    private final TotalsMode totalsMode;
+
     /**
      * Constructor.
      * @param entityClass The type of collection we are paginating.
@@ -114,9 +138,73 @@ public class PaginationImpl implements Pagination {
                            int systemMaxLimit,
                            Boolean generateTotals,
                            Boolean pageByPages) {
+        this(entityClass, clientOffset, clientLimit, systemDefaultLimit, systemMaxLimit, generateTotals,
+                pageByPages, null, null);
+    }
+
+    /**
+     * Constructor.
+     * @param entityClass The type of collection we are paginating.
+     * @param clientOffset The client requested offset or null if not provided.
+     * @param clientLimit The client requested limit or null if not provided.
+     * @param systemDefaultLimit The system default limit (in terms of records).
+     * @param systemMaxLimit The system max limit (in terms of records).
+     * @param generateTotals Whether to return the total number of records.
+     * @param pageByPages Whether to page by pages or records.
+     * @param after The cursor the page starts after or null if not provided.
+     * @param before The cursor the page ends before or null if not provided.
+     */
+    public PaginationImpl(Type<?> entityClass,
+                           Integer clientOffset,
+                           Integer clientLimit,
+                           int systemDefaultLimit,
+                           int systemMaxLimit,
+                           Boolean generateTotals,
+                           Boolean pageByPages,
+                           String after,
+                           String before) {
+        this(entityClass, clientOffset, clientLimit, systemDefaultLimit, systemMaxLimit, generateTotals,
+                pageByPages, after, before, TotalsMode.exact);
+    }
+
+    /**
+     * Constructor.
+     * @param entityClass The type of collection we are paginating.
+     * @param clientOffset The client requested offset or null if not provided.
+     * @param clientLimit The client requested limit or null if not provided.
+     * @param systemDefaultLimit The system default limit (in terms of records).
+     * @param systemMaxLimit The system max limit (in terms of records).
+     * @param generateTotals Whether to return the total number of records.
+     * @param pageByPages Whether to page by pages or records.
+     * @param after The cursor the page starts after or null if not provided.
+     * @param before The cursor the page ends before or null if not provided.
+     * @param totalsMode How the total number of records is computed.
+     */
+    public PaginationImpl(Type<?> entityClass,
+                           Integer clientOffset,
+                           Integer clientLimit,
+                           int systemDefaultLimit,
+                           int systemMaxLimit,
+                           Boolean generateTotals,
+                           Boolean pageByPages,
+                           String after,
+                           String before,
+                           TotalsMode totalsMode) {
 
         this.entityClass = entityClass;
-        this.defaultInstance = (clientOffset == null && clientLimit == null && generateTotals == null);
+        this.after = after;
+        this.before = before;
+        this.totalsMode = totalsMode;
+        this.defaultInstance = (clientOffset == null && clientLimit == null && generateTotals == null
+                && after == null && before == null);
+
+        if (after != null && before != null) {
+            throw new InvalidValueException("Pagination after and before cannot be used together.");
+        }
+        if (clientOffset != null && isKeyset()) {
+            throw new InvalidValueException("Pagination " + (pageByPages ? "number" : "offset")
+                    + " cannot be used with a cursor.");
+        }
 
         Paginate paginate = entityClass != null ? (Paginate) entityClass.getAnnotation(Paginate.class) : null;
 
@@ -182,14 +270,19 @@ public class PaginationImpl implements Pagination {
         }
 
         final Map<PaginationKey, Integer> pageData = new HashMap<>();
+        final Map<PaginationKey, String> cursors = new HashMap<>();
         queryParams.entrySet()
                 .forEach(paramEntry -> {
                     final String queryParamKey = paramEntry.getKey();
                     if (PAGE_KEYS.containsKey(queryParamKey)) {
                         PaginationKey paginationKey = PAGE_KEYS.get(queryParamKey);
-                        if (paginationKey.equals(PaginationKey.totals)) {
-                            // page[totals] is a valueless parameter, use value of 0 just so that its presence can
-                            // be recorded in the map
+                        if (paginationKey.equals(PaginationKey.after) || paginationKey.equals(PaginationKey.before)) {
+                            // An empty cursor requests the first (or last) page
+                            final String value = paramEntry.getValue().get(0);
+                            cursors.put(paginationKey, value == null ? "" : value);
+                        } else if (paginationKey.equals(PaginationKey.totals)) {
+                            // page[totals] is a valueless parameter unless it names a TotalsMode, use value of 0
+                            // just so that its presence can be recorded in the map
                             pageData.put(paginationKey, 0);
                         } else {
                             final String value = paramEntry.getValue().get(0);
@@ -205,7 +298,22 @@ public class PaginationImpl implements Pagination {
                                 + PAGE_KEYS_CSV);
                     }
                 });
-        return getPagination(entityClass, pageData, elideSettings);
+        List<String> totals = queryParams.get(PAGE_TOTALS_KEY);
+        TotalsMode totalsMode = totals == null || totals.isEmpty()
+                ? TotalsMode.exact
+                : parseTotalsMode(totals.get(0));
+        return getPagination(entityClass, pageData, cursors, totalsMode, elideSettings);
+    }
+
+    private static TotalsMode parseTotalsMode(String value) {
+        if (value == null || value.isEmpty()) {
+            return TotalsMode.exact;
+        }
+        try {
+            return TotalsMode.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueException("Invalid page totals mode. Accepted values are " + TOTALS_MODES_CSV);
+        }
     }
 
 
@@ -214,10 +322,13 @@ public class PaginationImpl implements Pagination {
      *
      * @param entityClass The collection type.
      * @param pageData Map containing pagination information
+     * @param cursors Map containing the keyset cursors
+     * @param totalsMode How page totals are computed
      * @param elideSettings Settings containing pagination defaults
      * @return Pagination object
      */
     private static PaginationImpl getPagination(Type<?> entityClass, Map<PaginationKey, Integer> pageData,
+                                                Map<PaginationKey, String> cursors, TotalsMode totalsMode,
                                                 ElideSettings elideSettings) {
         if (hasInvalidCombination(pageData)) {
             throw new InvalidValueException("Invalid usage of pagination parameters.");
@@ -239,7 +350,10 @@ public class PaginationImpl implements Pagination {
                 elideSettings.getDefaultPageSize(),
                 elideSettings.getMaxPageSize(),
                 pageData.containsKey(PaginationKey.totals) ? true : null,
-                pageByPages);
+                pageByPages,
+                cursors.get(PaginationKey.after),
+                cursors.get(PaginationKey.before),
+                totalsMode);
     }
 
     private static boolean hasInvalidCombination(Map<PaginationKey, Integer> pageData) {
@@ -11,6 +11,31 @@ package com.paiondata.elide.core.request;
  */
 public interface Pagination {
 
+    /**
+     * How the total size of the collection is computed when page totals are requested.
+     */
+    enum TotalsMode {
+        /**
+         * Count every record.
+         */
+        exact,
+
+        /**
+         * Reuse a recent count of the same collection.
+         */
+        cached,
+
+        /**
+         * Use an estimate of the data store, falling back to counting every record.
+         */
+        estimated,
+
+        /**
+         * Only find out whether there are more records, reporting one past the page as the total.
+         */
+        more
+    }
+
     /**
      * Default offset (in records) it client does not provide one.
      */
@@ -56,9 +81,42 @@ public interface Pagination {
      */
     void setPageTotals(Long pageTotals);
 
+    /**
+     * Get how the total size of the collection is computed.  Data stores that do not support a mode count every
+     * record.
+     * @return the page totals mode.
+     */
+    default TotalsMode getTotalsMode() {
+        return TotalsMode.exact;
+    }
+
     /**
      * Is this the default instance (not present).
      * @return true if pagination wasn't requested.  False otherwise.
      */
     boolean isDefaultInstance();
+
+    /**
+     * Get the cursor the page starts after when paging by keyset.  An empty cursor requests the first page.
+     * @return the cursor or null.
+     */
+    default String getAfter() {
+        return null;
+    }
+
+    /**
+     * Get the cursor the page ends before when paging by keyset.  An empty cursor requests the last page.
+     * @return the cursor or null.
+     */
+    default String getBefore() {
+        return null;
+    }
+
+    /**
+     * Whether the page is addressed by a cursor rather than an offset.
+     * @return true if paging by keyset.
+     */
+    default boolean isKeyset() {
+        return getAfter() != null || getBefore() != null;
+    }
 }
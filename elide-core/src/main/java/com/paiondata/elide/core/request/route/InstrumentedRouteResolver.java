@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.request.route;
+
+import com.paiondata.elide.core.instrumentation.Instrumentation;
+import com.paiondata.elide.core.instrumentation.Phase;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A route resolver that records the time spent resolving routes against {@link Phase#ROUTE}.
+ */
+public class InstrumentedRouteResolver implements RouteResolver {
+
+    private final RouteResolver routeResolver;
+    private final Instrumentation instrumentation;
+
+    public InstrumentedRouteResolver(RouteResolver routeResolver, Instrumentation instrumentation) {
+        this.routeResolver = routeResolver;
+        this.instrumentation = instrumentation;
+    }
+
+    @Override
+    public Route resolve(String mediaType, String baseUrl, String path,
+            Map<String, List<String>> headers, Map<String, List<String>> parameters) {
+        long start = System.nanoTime();
+        try {
+            return routeResolver.resolve(mediaType, baseUrl, path, headers, parameters);
+        } finally {
+            instrumentation.record(Phase.ROUTE, System.nanoTime() - start);
+        }
+    }
+}
@@ -18,11 +18,14 @@ import com.paiondata.elide.core.PersistentResource;
 import com.paiondata.elide.core.RequestScope;
 import com.paiondata.elide.core.exceptions.ForbiddenAccessException;
 import com.paiondata.elide.core.filter.expression.FilterExpression;
+import com.paiondata.elide.core.instrumentation.Phase;
+import com.paiondata.elide.core.instrumentation.RequestInstrumentation;
 import com.paiondata.elide.core.security.ChangeSpec;
 import com.paiondata.elide.core.security.PermissionExecutor;
 import com.paiondata.elide.core.security.permissions.ExpressionResult;
 import com.paiondata.elide.core.security.permissions.ExpressionResultCache;
 import com.paiondata.elide.core.security.permissions.PermissionExpressionBuilder;
+import com.paiondata.elide.core.security.permissions.UserCheckResultCache;
 import com.paiondata.elide.core.security.permissions.expressions.Expression;
 import com.paiondata.elide.core.type.Type;
 import com.google.common.collect.ImmutableSet;
@@ -52,9 +55,11 @@ public class ActivePermissionExecutor implements PermissionExecutor {
     private final Queue<QueuedCheck> commitCheckQueue = new LinkedBlockingQueue<>();
 
     private final RequestScope requestScope;
+    private final RequestInstrumentation instrumentation;
     private final PermissionExpressionBuilder expressionBuilder;
     private final Map<Triple<Class<? extends Annotation>, Type, ImmutableSet<String>>, ExpressionResult>
             userPermissionCheckCache;
+    private final UserCheckResultCache sharedUserCheckCache;
     private final Map<String, Long> checkStats;
 
     /**
@@ -63,9 +68,23 @@ public class ActivePermissionExecutor implements PermissionExecutor {
      * @param requestScope Request scope
      */
     public ActivePermissionExecutor(final RequestScope requestScope) {
+        this(requestScope, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param requestScope Request scope
+     * @param sharedUserCheckCache Shares user check results across requests or null to only cache them per request
+     */
+    public ActivePermissionExecutor(final RequestScope requestScope, final UserCheckResultCache sharedUserCheckCache) {
         ExpressionResultCache cache = new ExpressionResultCache();
 
         this.requestScope = requestScope;
+        this.sharedUserCheckCache = sharedUserCheckCache;
+        this.instrumentation = requestScope.getInstrumentation() == null
+                ? RequestInstrumentation.NONE
+                : requestScope.getInstrumentation();
         this.expressionBuilder = new PermissionExpressionBuilder(cache, requestScope.getDictionary());
         userPermissionCheckCache = new HashMap<>();
         checkStats = new HashMap<>();
@@ -233,12 +252,31 @@ public class ActivePermissionExecutor implements PermissionExecutor {
             Set<String> fields,
             Supplier<Expression> expressionSupplier,
             Optional<Function<Expression, ExpressionResult>> expressionExecutor) {
+        return instrumentation.time(Phase.PERMISSION, () -> evaluatePermissions(resourceClass, annotationClass, fields,
+                expressionSupplier, expressionExecutor));
+    }
+
+    private <A extends Annotation> ExpressionResult evaluatePermissions(
+            Type<?> resourceClass,
+            Class<A> annotationClass,
+            Set<String> fields,
+            Supplier<Expression> expressionSupplier,
+            Optional<Function<Expression, ExpressionResult>> expressionExecutor) {
 
         // If the user check has already been evaluated before, return the result directly and save the building cost
         ImmutableSet<String> immutableFields = fields == null ? null : ImmutableSet.copyOf(fields);
         ExpressionResult expressionResult
                 = userPermissionCheckCache.get(Triple.of(annotationClass, resourceClass, immutableFields));
 
+        if (expressionResult == null && sharedUserCheckCache != null) {
+            expressionResult = sharedUserCheckCache.get(requestScope.getUser(), annotationClass, resourceClass,
+                    immutableFields);
+            if (expressionResult != null) {
+                userPermissionCheckCache.put(
+                        Triple.of(annotationClass, resourceClass, immutableFields), expressionResult);
+            }
+        }
+
         if (expressionResult == PASS) {
             return expressionResult;
         }
@@ -253,6 +291,10 @@ public class ActivePermissionExecutor implements PermissionExecutor {
 
             userPermissionCheckCache.put(
                     Triple.of(annotationClass, resourceClass, immutableFields), expressionResult);
+            if (sharedUserCheckCache != null) {
+                sharedUserCheckCache.put(requestScope.getUser(), annotationClass, resourceClass, immutableFields,
+                        expressionResult);
+            }
 
             if (expressionResult == PASS) {
                 return expressionResult;
@@ -325,8 +367,8 @@ public class ActivePermissionExecutor implements PermissionExecutor {
      */
     @Override
     public Optional<FilterExpression> getReadPermissionFilter(Type<?> resourceClass, Set<String> requestedFields) {
-        FilterExpression filterExpression =
-                expressionBuilder.buildAnyFieldFilterExpression(resourceClass, requestScope, requestedFields);
+        FilterExpression filterExpression = instrumentation.time(Phase.PERMISSION,
+                () -> expressionBuilder.buildAnyFieldFilterExpression(resourceClass, requestScope, requestedFields));
 
         return Optional.ofNullable(filterExpression);
     }
@@ -336,6 +378,10 @@ public class ActivePermissionExecutor implements PermissionExecutor {
      */
     @Override
     public void executeCommitChecks() {
+        instrumentation.time(Phase.PERMISSION, this::evaluateCommitChecks);
+    }
+
+    private void evaluateCommitChecks() {
         commitCheckQueue.forEach((expr) -> {
             Expression expression = expr.getExpression();
             ExpressionResult result = expression.evaluate(Expression.EvaluationMode.ALL_CHECKS);
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.security.permissions;
+
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.security.checks.Check;
+import com.paiondata.elide.core.security.permissions.expressions.AndExpression;
+import com.paiondata.elide.core.security.permissions.expressions.CheckExpression;
+import com.paiondata.elide.core.security.permissions.expressions.Expression;
+import com.paiondata.elide.core.security.permissions.expressions.NotExpression;
+import com.paiondata.elide.core.security.permissions.expressions.OrExpression;
+import com.paiondata.elide.core.security.visitors.PermissionExpressionNormalizationVisitor;
+import com.paiondata.elide.core.security.visitors.PermissionExpressionVisitor;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A permission expression compiled into a flat, immutable plan.
+ * <p>
+ * The plan holds the normalized expression in postfix order with its checks already resolved, so building the
+ * {@link Expression} for a resource neither walks the parse tree nor looks up checks in the dictionary.
+ */
+public final class CompiledPermission {
+    private static final int AND = -1;
+    private static final int OR = -2;
+    private static final int NOT = -3;
+
+    private final int[] program;
+    private final Check[] checks;
+    private final int depth;
+
+    private CompiledPermission(int[] program, Check[] checks, int depth) {
+        this.program = program;
+        this.checks = checks;
+        this.depth = depth;
+    }
+
+    /**
+     * Compiles a permission expression.
+     *
+     * @param permissions the parsed permission expression
+     * @param dictionary the dictionary resolving the checks
+     * @return the compiled permission
+     */
+    public static CompiledPermission compile(ParseTree permissions, EntityDictionary dictionary) {
+        Expression normalized = permissions
+                .accept(new PermissionExpressionVisitor(dictionary,
+                        check -> new CheckExpression(check, null, null, null, null)))
+                .accept(new PermissionExpressionNormalizationVisitor());
+
+        List<Integer> program = new ArrayList<>();
+        List<Check> checks = new ArrayList<>();
+        int depth = flatten(normalized, program, checks);
+
+        return new CompiledPermission(program.stream().mapToInt(Integer::intValue).toArray(),
+                checks.toArray(new Check[0]), depth);
+    }
+
+    /**
+     * Builds the expression of the permission.
+     *
+     * @param checkFn builds the expression evaluating a check
+     * @return the normalized expression
+     */
+    public Expression instantiate(Function<Check, Expression> checkFn) {
+        if (program.length == 1) {
+            return checkFn.apply(checks[program[0]]);
+        }
+
+        Expression[] stack = new Expression[depth];
+        int top = 0;
+        for (int op : program) {
+            switch (op) {
+                case AND:
+                    top--;
+                    stack[top - 1] = new AndExpression(stack[top - 1], stack[top]);
+                    break;
+                case OR:
+                    top--;
+                    stack[top - 1] = new OrExpression(stack[top - 1], stack[top]);
+                    break;
+                case NOT:
+                    stack[top - 1] = new NotExpression(stack[top - 1]);
+                    break;
+                default:
+                    stack[top++] = checkFn.apply(checks[op]);
+                    break;
+            }
+        }
+        return stack[0];
+    }
+
+    private static int flatten(Expression expression, List<Integer> program, List<Check> checks) {
+        if (expression instanceof CheckExpression checkExpression) {
+            program.add(checks.size());
+            checks.add(checkExpression.getCheck());
+            return 1;
+        }
+        if (expression instanceof AndExpression and) {
+            int left = flatten(and.getLeft(), program, checks);
+            int right = flatten(and.getRight(), program, checks);
+            int depth = Math.max(left, 1 + right);
+            program.add(AND);
+            return depth;
+        }
+        if (expression instanceof OrExpression or) {
+            int left = flatten(or.getLeft(), program, checks);
+            int right = flatten(or.getRight(), program, checks);
+            int depth = Math.max(left, 1 + right);
+            program.add(OR);
+            return depth;
+        }
+        if (expression instanceof NotExpression not) {
+            int depth = flatten(not.getLogical(), program, checks);
+            program.add(NOT);
+            return depth;
+        }
+        throw new IllegalStateException("Unexpected permission expression " + expression.getClass().getName());
+    }
+}
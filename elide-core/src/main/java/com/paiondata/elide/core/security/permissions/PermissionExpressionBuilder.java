@@ -24,8 +24,6 @@ import com.paiondata.elide.core.security.permissions.expressions.CheckExpression
 import com.paiondata.elide.core.security.permissions.expressions.Expression;
 import com.paiondata.elide.core.security.permissions.expressions.OrExpression;
 import com.paiondata.elide.core.security.permissions.expressions.SpecificFieldExpression;
-import com.paiondata.elide.core.security.visitors.PermissionExpressionNormalizationVisitor;
-import com.paiondata.elide.core.security.visitors.PermissionExpressionVisitor;
 import com.paiondata.elide.core.security.visitors.PermissionToFilterExpressionVisitor;
 import com.paiondata.elide.core.type.Type;
 import org.antlr.v4.runtime.tree.ParseTree;
@@ -477,9 +475,7 @@ public class PermissionExpressionBuilder {
             return null;
         }
 
-        return permissions
-                .accept(new PermissionExpressionVisitor(entityDictionary, checkFn))
-                .accept(new PermissionExpressionNormalizationVisitor());
+        return entityDictionary.getCompiledPermission(permissions).instantiate(checkFn);
     }
 
     private FilterExpression filterExpressionFromParseTree(ParseTree permissions, Type type, RequestScope scope) {
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.security.permissions;
+
+import com.paiondata.elide.core.security.User;
+import com.paiondata.elide.core.type.Type;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+
+import lombok.Value;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Shares the results of user checks across requests.
+ * <p>
+ * User checks only depend on the user, so the result of evaluating the user checks of a permission for one request
+ * holds for every other request by the same user. Results are keyed by an identity derived from the user, which must
+ * cover everything the user checks look at such as the name and the roles of the user. Users without an identity
+ * are never cached.
+ * <p>
+ * Only the outcome of evaluating user checks is stored. Operation checks are always evaluated by the request.
+ */
+public class UserCheckResultCache {
+    private final Cache<Key, ExpressionResult> cache;
+    private final Function<User, Object> identity;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of results to keep
+     * @param expiration how long a result is kept after it is stored
+     * @param identity derives the cache identity of a user or null if the user must not be cached
+     */
+    public UserCheckResultCache(long maximumSize, Duration expiration, Function<User, Object> identity) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expiration)
+                .recordStats()
+                .build();
+        this.identity = identity;
+    }
+
+    /**
+     * Returns the stored user check result of a permission.
+     *
+     * @param user the user
+     * @param annotationClass the permission annotation
+     * @param type the entity type
+     * @param fields the fields being accessed
+     * @return the result or null if none is stored
+     */
+    public ExpressionResult get(User user, Class<? extends Annotation> annotationClass, Type<?> type,
+            ImmutableSet<String> fields) {
+        Key key = key(user, annotationClass, type, fields);
+        return key == null ? null : cache.getIfPresent(key);
+    }
+
+    /**
+     * Stores the user check result of a permission.
+     *
+     * @param user the user
+     * @param annotationClass the permission annotation
+     * @param type the entity type
+     * @param fields the fields being accessed
+     * @param result the result of evaluating the user checks
+     */
+    public void put(User user, Class<? extends Annotation> annotationClass, Type<?> type,
+            ImmutableSet<String> fields, ExpressionResult result) {
+        Key key = key(user, annotationClass, type, fields);
+        if (key != null) {
+            cache.put(key, result);
+        }
+    }
+
+    /**
+     * Discards all stored results.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of lookups that found a stored result.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * Returns the number of lookups that found no stored result.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Returns the number of stored results.
+     *
+     * @return the number of results
+     */
+    public long size() {
+        return cache.size();
+    }
+
+    private Key key(User user, Class<? extends Annotation> annotationClass, Type<?> type,
+            ImmutableSet<String> fields) {
+        Object userIdentity = user == null ? null : identity.apply(user);
+        return userIdentity == null ? null : new Key(userIdentity, annotationClass, type, fields);
+    }
+
+    @Value
+    private static class Key {
+        Object identity;
+        Class<? extends Annotation> annotationClass;
+        Type<?> type;
+        ImmutableSet<String> fields;
+    }
+}
@@ -24,6 +24,14 @@ public class FieldType implements Field {
 
     private java.lang.reflect.Field field;
 
+    /**
+     * Returns the wrapped Java field.
+     * @return The wrapped field.
+     */
+    public java.lang.reflect.Field unwrap() {
+        return field;
+    }
+
     @Override
     public void setAccessible(boolean flag) {
         field.setAccessible(flag);
@@ -24,6 +24,14 @@ public class MethodType implements Method {
 
     private java.lang.reflect.Executable method;
 
+    /**
+     * Returns the wrapped Java method or constructor.
+     * @return The wrapped executable.
+     */
+    public java.lang.reflect.Executable unwrap() {
+        return method;
+    }
+
     @Override
     public int getModifiers() {
         return method.getModifiers();
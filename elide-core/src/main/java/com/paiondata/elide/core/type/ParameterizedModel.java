@@ -15,11 +15,14 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 /**
  * Base class that contains one or more parameterized attributes.
+ * <p>
+ * Attributes are looked up by alias through an index so that reading a row is linear in the number of attributes
+ * read rather than quadratic. The index is never changed once it is built, so a model may be read by several
+ * threads once all of its attributes have been added.
  */
 public abstract class ParameterizedModel implements Serializable {
     private static final long serialVersionUID = -519263564697315522L;
@@ -27,6 +30,13 @@ public abstract class ParameterizedModel implements Serializable {
     @Exclude
     protected Map<Attribute, ParameterizedAttribute> parameterizedAttributes;
 
+    /**
+     * The parameterized attributes by alias, dropped when an attribute is added and rebuilt when attributes are
+     * added to the map directly.
+     */
+    @Exclude
+    private transient volatile AliasIndex attributesByAlias;
+
     public ParameterizedModel() {
         this(new HashMap<>());
     }
@@ -36,13 +46,17 @@ public abstract class ParameterizedModel implements Serializable {
     }
 
     public <T> void addAttributeValue(Attribute attribute, T value) {
-        parameterizedAttributes.put(attribute,
-            new ParameterizedAttribute() {
-                @Override
-                public <T> T invoke(Set<Argument> arguments) {
-                    return (T) value;
-                }
-            });
+        parameterizedAttributes.put(attribute, new AttributeValue(value));
+        //Never change a published index, as it may be read by another thread.
+        attributesByAlias = null;
+    }
+
+    /**
+     * Returns the attributes which have a value.
+     * @return The attributes.
+     */
+    public Set<Attribute> attributes() {
+        return parameterizedAttributes.keySet();
     }
 
     /**
@@ -52,14 +66,13 @@ public abstract class ParameterizedModel implements Serializable {
      * @return The attribute value.
      */
     public <T> T invoke(Attribute attribute) {
-        return parameterizedAttributes.entrySet().stream()
-
-                //Only filter by alias required.  (Filtering by type may not work with inheritance).
-                .filter(entry -> attribute.getAlias().equals(entry.getKey().getAlias()))
-                .findFirst()
-                .map(Map.Entry::getValue)
-                .orElseThrow(() -> new InvalidParameterizedAttributeException(attribute))
-                .invoke(attribute.getArguments());
+        ParameterizedAttribute match = lookup(attribute.getAlias());
+
+        if (match == null) {
+            throw new InvalidParameterizedAttributeException(attribute);
+        }
+
+        return invoke(match, attribute.getArguments());
     }
 
     /**
@@ -70,17 +83,59 @@ public abstract class ParameterizedModel implements Serializable {
      * @return The attribute value or the provided default value.
      */
     public <T> T fetch(String alias, T defaultValue) {
-        Optional<ParameterizedAttribute> match = parameterizedAttributes.entrySet().stream()
-
-                //Only filter by alias required.  (Filtering by type may not work with inheritance).
-                .filter(entry -> alias.equals(entry.getKey().getAlias()))
-                .findFirst()
-                .map(Map.Entry::getValue);
+        ParameterizedAttribute match = lookup(alias);
 
-        if (! match.isPresent()) {
+        if (match == null) {
             return defaultValue;
         }
 
-        return match.get().invoke(new HashSet<>());
+        return invoke(match, new HashSet<>());
+    }
+
+    private ParameterizedAttribute lookup(String alias) {
+        //Only lookup by alias required.  (Matching by type may not work with inheritance).
+        AliasIndex index = attributesByAlias;
+        if (index == null || index.size() != parameterizedAttributes.size()) {
+            //Publish the index only once it is complete, as a model may be read by several threads.
+            Map<String, ParameterizedAttribute> attributes = new HashMap<>();
+            for (Map.Entry<Attribute, ParameterizedAttribute> entry : parameterizedAttributes.entrySet()) {
+                attributes.put(entry.getKey().getAlias(), entry.getValue());
+            }
+            index = new AliasIndex(attributes, parameterizedAttributes.size());
+            attributesByAlias = index;
+        }
+        return index.attributes().get(alias);
+    }
+
+    private static <T> T invoke(ParameterizedAttribute match, Set<Argument> arguments) {
+        //Stored values do not depend on the arguments.
+        if (match instanceof AttributeValue attributeValue) {
+            return (T) attributeValue.value;
+        }
+        return match.invoke(arguments);
+    }
+
+    /**
+     * The attributes by alias together with the number of attributes they were built from.
+     */
+    private record AliasIndex(Map<String, ParameterizedAttribute> attributes, int size) {
+    }
+
+    /**
+     * A value that was added to the model, which is the same whatever the arguments.
+     */
+    private static final class AttributeValue implements ParameterizedAttribute {
+        private static final long serialVersionUID = 4128850286540517651L;
+
+        private final Object value;
+
+        AttributeValue(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public <T> T invoke(Set<Argument> arguments) {
+            return (T) value;
+        }
     }
 }
@@ -9,12 +9,18 @@ import com.paiondata.elide.Elide;
 import com.paiondata.elide.ElideResponse;
 import com.paiondata.elide.ElideSettings;
 import com.paiondata.elide.RefreshableElide;
+import com.paiondata.elide.core.ObjectEntityCache;
 import com.paiondata.elide.core.TransactionRegistry;
 import com.paiondata.elide.core.audit.AuditLogger;
 import com.paiondata.elide.core.datastore.DataStore;
 import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.exceptions.BadRequestException;
 import com.paiondata.elide.core.exceptions.HttpStatus;
+import com.paiondata.elide.core.instrumentation.Instrumentation;
+import com.paiondata.elide.core.instrumentation.InstrumentedTransaction;
+import com.paiondata.elide.core.instrumentation.Phase;
+import com.paiondata.elide.core.instrumentation.RequestInstrumentation;
+import com.paiondata.elide.core.request.EntityProjection;
 import com.paiondata.elide.core.request.route.Route;
 import com.paiondata.elide.core.security.User;
 import com.paiondata.elide.jsonapi.extensions.JsonApiAtomicOperations;
@@ -30,8 +36,10 @@ import com.paiondata.elide.jsonapi.parser.PatchVisitor;
 import com.paiondata.elide.jsonapi.parser.PostVisitor;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -39,6 +47,8 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -89,6 +99,27 @@ public class JsonApi {
      */
     public ElideResponse<String> get(Route route, User opaqueUser,
                              UUID requestId) {
+        return get(route, opaqueUser, requestId, false, this::toResponse);
+    }
+
+    /**
+     * Handle GET returning a body that writes the response document directly to the output as it is serialized.
+     * <p>
+     * This returns once the request transaction has been committed, so a failed commit still produces an error
+     * response. The transaction is only closed once the body has been written, so that resources are only converted
+     * when they are written and the response is never held as a string.
+     *
+     * @param route the route
+     * @param opaqueUser the opaque user
+     * @param requestId the request ID
+     * @return Elide response object with the final status and the body to write
+     */
+    public ElideResponse<JsonApiStreamingBody> getStreaming(Route route, User opaqueUser, UUID requestId) {
+        return get(route, opaqueUser, requestId, true, new StreamingResponseWriter());
+    }
+
+    protected <R> ElideResponse<R> get(Route route, User opaqueUser, UUID requestId, boolean streaming,
+            ResponseWriter<R> responseWriter) {
         UUID requestUuid = requestId != null ? requestId : UUID.randomUUID();
 
         if (strictQueryParameters) {
@@ -98,7 +129,7 @@ public class JsonApi {
                 JsonApiErrorContext errorContext = JsonApiErrorContext.builder().mapper(this.mapper).verbose(false)
                         .build();
                 ElideResponse<?> errorResponse = jsonApiExceptionHandler.handleException(e, errorContext);
-                return toResponse(errorResponse.getStatus(), errorResponse.getBody());
+                return writeErrorResponse(errorResponse, responseWriter);
             }
         }
         return handleRequest(true, opaqueUser, dataStore::beginReadTransaction, requestUuid, (tx, user) -> {
@@ -106,11 +137,11 @@ public class JsonApi {
             JsonApiRequestScope requestScope = JsonApiRequestScope.builder().route(route).dataStoreTransaction(tx)
                     .user(user).requestId(requestUuid).elideSettings(elideSettings).jsonApiDocument(jsonApiDoc)
                     .build();
-            requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getEntityDictionary(),
-                    requestScope).parsePath(route.getPath()));
+            requestScope.setStreaming(streaming);
+            requestScope.setEntityProjection(makeEntityProjection(route, requestScope));
             BaseVisitor visitor = new GetVisitor(requestScope);
             return visit(route.getPath(), requestScope, visitor);
-        });
+        }, responseWriter);
     }
 
     /**
@@ -131,8 +162,7 @@ public class JsonApi {
             JsonApiRequestScope requestScope = JsonApiRequestScope.builder().route(route).dataStoreTransaction(tx)
                     .user(user).requestId(requestUuid).elideSettings(elideSettings).jsonApiDocument(jsonApiDoc)
                     .build();
-            requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getEntityDictionary(),
-                    requestScope).parsePath(route.getPath()));
+            requestScope.setEntityProjection(makeEntityProjection(route, requestScope));
             BaseVisitor visitor = new PostVisitor(requestScope);
             return visit(route.getPath(), requestScope, visitor);
         });
@@ -172,8 +202,7 @@ public class JsonApi {
                 JsonApiRequestScope requestScope = JsonApiRequestScope.builder().route(route).dataStoreTransaction(tx)
                         .user(user).requestId(requestUuid).elideSettings(elideSettings).jsonApiDocument(jsonApiDoc)
                         .build();
-                requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getEntityDictionary(),
-                        requestScope).parsePath(route.getPath()));
+                requestScope.setEntityProjection(makeEntityProjection(route, requestScope));
                 BaseVisitor visitor = new PatchVisitor(requestScope);
                 return visit(route.getPath(), requestScope, visitor);
             };
@@ -201,8 +230,7 @@ public class JsonApi {
                     : mapper.readJsonApiDocument(jsonApiDocument);
             JsonApiRequestScope requestScope = JsonApiRequestScope.builder().route(route).dataStoreTransaction(tx)
                     .user(user).requestId(requestUuid).elideSettings(elideSettings).jsonApiDocument(jsonApiDoc).build();
-            requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getEntityDictionary(),
-                    requestScope).parsePath(route.getPath()));
+            requestScope.setEntityProjection(makeEntityProjection(route, requestScope));
             BaseVisitor visitor = new DeleteVisitor(requestScope);
             return visit(route.getPath(), requestScope, visitor);
         });
@@ -248,13 +276,20 @@ public class JsonApi {
 
     public HandlerResult visit(String path, JsonApiRequestScope requestScope, BaseVisitor visitor) {
         try {
-            Supplier<Pair<Integer, JsonApiDocument>> responder = visitor.visit(JsonApiParser.parse(path));
+            ParseTree parseTree = requestScope.getInstrumentation().time(Phase.PARSE, () -> JsonApiParser.parse(path));
+            Supplier<Pair<Integer, JsonApiDocument>> responder = visitor.visit(parseTree);
             return new HandlerResult(requestScope, responder);
         } catch (RuntimeException e) {
             return new HandlerResult(requestScope, e);
         }
     }
 
+    private EntityProjection makeEntityProjection(Route route, JsonApiRequestScope requestScope) {
+        return requestScope.getInstrumentation().time(Phase.PROJECTION,
+                () -> new EntityProjectionMaker(elideSettings.getEntityDictionary(), requestScope)
+                        .parsePath(route.getPath()));
+    }
+
     /**
      * Handle JSON API requests.
      *
@@ -269,42 +304,110 @@ public class JsonApi {
     protected <T> ElideResponse<String> handleRequest(boolean isReadOnly, User user,
                                           Supplier<DataStoreTransaction> transaction, UUID requestId,
                                           Handler<DataStoreTransaction, User, HandlerResult> handler) {
+        return handleRequest(isReadOnly, user, transaction, requestId, handler, this::toResponse);
+    }
+
+    /**
+     * Handle JSON API requests.
+     *
+     * @param isReadOnly if the transaction is read only
+     * @param user the user object from the container
+     * @param transaction a transaction supplier
+     * @param requestId the Request ID
+     * @param handler a function that creates the request scope and request handler
+     * @param responseWriter writes the response status and document
+     * @param <T> The response type (JsonNode or JsonApiDocument)
+     * @param <R> The response body type
+     * @return the response
+     */
+    protected <T, R> ElideResponse<R> handleRequest(boolean isReadOnly, User user,
+                                          Supplier<DataStoreTransaction> transaction, UUID requestId,
+                                          Handler<DataStoreTransaction, User, HandlerResult> handler,
+                                          ResponseWriter<R> responseWriter) {
         JsonApiErrorContext errorContext = JsonApiErrorContext.builder().mapper(this.mapper)
                 .verbose(elideSettings.isVerboseErrors()).build();
-        try (DataStoreTransaction tx = transaction.get()) {
-            transactionRegistry.addRunningTransaction(requestId, tx);
-            HandlerResult result = handler.handle(tx, user);
-            JsonApiRequestScope requestScope = result.getRequestScope();
-            Supplier<Pair<Integer, T>> responder = result.getResponder();
-            tx.preCommit(requestScope);
-            requestScope.runQueuedPreSecurityTriggers();
-            requestScope.getPermissionExecutor().executeCommitChecks();
-            requestScope.runQueuedPreFlushTriggers();
-            if (!isReadOnly) {
-                requestScope.saveOrCreateObjects();
-            }
-            tx.flush(requestScope);
+        RequestInstrumentation instrumentation = RequestInstrumentation.NONE;
+        ObjectEntityCache objectEntityCache = null;
+        boolean streamed = false;
+        try {
+            DataStoreTransaction tx = beginTransaction(transaction);
+            try {
+                transactionRegistry.addRunningTransaction(requestId, tx);
+                HandlerResult result = handler.handle(tx, user);
+                JsonApiRequestScope requestScope = result.getRequestScope();
+                instrumentation = requestScope.getInstrumentation();
+                objectEntityCache = requestScope.getObjectEntityCache();
+                Supplier<Pair<Integer, T>> responder = result.getResponder();
+                tx.preCommit(requestScope);
+                requestScope.runQueuedPreSecurityTriggers();
+                requestScope.getPermissionExecutor().executeCommitChecks();
+                requestScope.runQueuedPreFlushTriggers();
+                if (!isReadOnly) {
+                    requestScope.saveOrCreateObjects();
+                }
+                instrumentation.time(Phase.COMMIT, () -> tx.flush(requestScope));
 
-            requestScope.runQueuedPreCommitTriggers();
+                requestScope.runQueuedPreCommitTriggers();
 
-            ElideResponse<String> response = buildResponse(responder.get());
+                ElideResponse<R> elideResponse = null;
+                Pair<Integer, T> response;
+                long serializationStart = System.nanoTime();
+                try {
+                    response = responder.get();
+                    if (!responseWriter.isStreaming()) {
+                        elideResponse = responseWriter.write(response.getLeft(), response.getRight());
+                    }
+                } finally {
+                    instrumentation.record(Phase.SERIALIZATION, System.nanoTime() - serializationStart);
+                }
 
-            auditLogger.commit();
-            tx.commit(requestScope);
-            requestScope.runQueuedPostCommitTriggers();
+                auditLogger.commit();
+                instrumentation.time(Phase.COMMIT, () -> tx.commit(requestScope));
+                requestScope.runQueuedPostCommitTriggers();
 
-            if (log.isTraceEnabled()) {
-                requestScope.getPermissionExecutor().logCheckStats();
-            }
+                if (log.isTraceEnabled()) {
+                    requestScope.getPermissionExecutor().logCheckStats();
+                }
+
+                if (responseWriter.isStreaming()) {
+                    // The status is final once the commit has succeeded, and the body ends the request
+                    elideResponse = responseWriter.stream(response.getLeft(),
+                            new StreamedDocument(response.getRight(), tx, requestId, requestScope));
+                    streamed = true;
+                }
 
-            return response;
+                return elideResponse;
+            } finally {
+                if (!streamed) {
+                    tx.close();
+                }
+            }
         } catch (Throwable e) {
             ElideResponse<?> errorResponse = jsonApiExceptionHandler.handleException(e, errorContext);
-            return toResponse(errorResponse.getStatus(), errorResponse.getBody());
+            return writeErrorResponse(errorResponse, responseWriter);
         } finally {
-            transactionRegistry.removeRunningTransaction(requestId);
             auditLogger.clear();
+            if (!streamed) {
+                endRequest(requestId, instrumentation, objectEntityCache);
+            }
+        }
+    }
+
+    private void endRequest(UUID requestId, RequestInstrumentation instrumentation,
+            ObjectEntityCache objectEntityCache) {
+        transactionRegistry.removeRunningTransaction(requestId);
+        if (objectEntityCache != null) {
+            instrumentation.recordEntityCache(objectEntityCache.size(), objectEntityCache.getHits(),
+                    objectEntityCache.getMisses());
+        }
+        instrumentation.end();
+    }
+
+    private DataStoreTransaction beginTransaction(Supplier<DataStoreTransaction> transaction) {
+        if (elideSettings.getInstrumentation() == null || elideSettings.getInstrumentation() == Instrumentation.NONE) {
+            return transaction.get();
         }
+        return new InstrumentedTransaction(transaction.get());
     }
 
     protected ElideResponse<String> toResponse(int status, Object body) {
@@ -321,6 +424,16 @@ public class JsonApi {
         return ElideResponse.status(status).body(result);
     }
 
+    protected <R> ElideResponse<R> writeErrorResponse(ElideResponse<?> errorResponse,
+            ResponseWriter<R> responseWriter) {
+        try {
+            return responseWriter.write(errorResponse.getStatus(), errorResponse.getBody());
+        } catch (IOException e) {
+            log.debug("Unable to write error response", e);
+            return ElideResponse.status(errorResponse.getStatus()).build();
+        }
+    }
+
     protected <T> ElideResponse<String> buildResponse(Pair<Integer, T> response) {
         T responseNode = response.getRight();
         Integer responseCode = response.getLeft();
@@ -363,6 +476,125 @@ public class JsonApi {
         HandlerResult handle(DataStoreTransaction a, User b) throws IOException;
     }
 
+    /**
+     * Writes the response status and body.
+     *
+     * @param <R> the response body type
+     */
+    @FunctionalInterface
+    protected interface ResponseWriter<R> {
+        ElideResponse<R> write(int status, Object body) throws IOException;
+
+        /**
+         * Whether the response is written to the client as it is serialized, in which case it is only serialized
+         * once the transaction has been committed and the response is built with {@link #stream}.
+         *
+         * @return true if the response is streamed
+         */
+        default boolean isStreaming() {
+            return false;
+        }
+
+        /**
+         * Builds a streamed response.
+         *
+         * @param status the response status
+         * @param body serializes the response document and ends the request once it is written
+         * @return the response
+         */
+        default ElideResponse<R> stream(int status, JsonApiStreamingBody body) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Builds responses whose body is written by the container once it has sent the status.
+     */
+    protected class StreamingResponseWriter implements ResponseWriter<JsonApiStreamingBody> {
+        @Override
+        public boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        public ElideResponse<JsonApiStreamingBody> write(int status, Object body) {
+            JsonApiStreamingBody streamingBody = outputStream -> writeDocument(body, outputStream);
+            return ElideResponse.status(status).body(streamingBody);
+        }
+
+        @Override
+        public ElideResponse<JsonApiStreamingBody> stream(int status, JsonApiStreamingBody body) {
+            return ElideResponse.status(status).body(body);
+        }
+    }
+
+    /**
+     * Serializes a committed response document as it is written, and then ends its request.
+     */
+    private class StreamedDocument implements JsonApiStreamingBody {
+        private final Object document;
+        private final DataStoreTransaction tx;
+        private final UUID requestId;
+        private final JsonApiRequestScope requestScope;
+        private boolean ended = false;
+
+        StreamedDocument(Object document, DataStoreTransaction tx, UUID requestId,
+                JsonApiRequestScope requestScope) {
+            this.document = document;
+            this.tx = tx;
+            this.requestId = requestId;
+            this.requestScope = requestScope;
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+            long serializationStart = System.nanoTime();
+            try {
+                writeDocument(document, outputStream);
+            } catch (IOException | RuntimeException e) {
+                // The status has already been sent so the client only gets a truncated document
+                log.error("Unable to stream response for request {}", requestId, e);
+                throw e;
+            } finally {
+                requestScope.getInstrumentation().record(Phase.SERIALIZATION,
+                        System.nanoTime() - serializationStart);
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            try {
+                tx.close();
+            } catch (IOException | RuntimeException e) {
+                log.error("Unable to close transaction for request {}", requestId, e);
+            } finally {
+                endRequest(requestId, requestScope.getInstrumentation(), requestScope.getObjectEntityCache());
+            }
+        }
+    }
+
+    private void writeDocument(Object body, OutputStream outputStream) throws IOException {
+        if (body instanceof String data) {
+            outputStream.write(data.getBytes(StandardCharsets.UTF_8));
+        } else if (body != null) {
+            try {
+                mapper.writeJsonApiDocument(body, outputStream);
+            } catch (JsonMappingException e) {
+                // Resources are built during serialization so surface the original failure
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        outputStream.flush();
+    }
+
     /**
      * A wrapper to return multiple values, less verbose than Pair.
      * @param <T> Response type.
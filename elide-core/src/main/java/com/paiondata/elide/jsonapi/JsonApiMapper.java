@@ -9,11 +9,13 @@ import com.paiondata.elide.jsonapi.extensions.JsonApiAtomicOperationsMapper;
 import com.paiondata.elide.jsonapi.extensions.JsonApiJsonPatchMapper;
 import com.paiondata.elide.jsonapi.models.JsonApiDocument;
 import com.paiondata.elide.jsonapi.serialization.JsonApiModule;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Serializer/Deserializer for JSON API.
@@ -76,6 +78,20 @@ public class JsonApiMapper {
         return mapper.writeValueAsString(doc);
     }
 
+    /**
+     * Write json api document directly to an output stream without buffering it as a string.
+     * <p>
+     * The output stream is flushed but not closed.
+     *
+     * @param doc the document
+     * @param outputStream the output stream to write to
+     * @param <T> The type of document object so serialize
+     * @throws IOException the io exception
+     */
+    public <T> void writeJsonApiDocument(T doc, OutputStream outputStream) throws IOException {
+        mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, doc);
+    }
+
     /**
      * Read json api document.
      *
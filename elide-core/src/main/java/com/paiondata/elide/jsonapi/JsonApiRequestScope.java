@@ -22,6 +22,7 @@ import com.paiondata.elide.core.security.User;
 import com.paiondata.elide.jsonapi.models.JsonApiDocument;
 
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -39,6 +40,11 @@ public class JsonApiRequestScope extends RequestScope {
     @Getter private final int updateStatusCode;
     @Getter private final MultipleFilterDialect filterDialect;
 
+    /**
+     * Whether the response document is streamed to the client as it is serialized.
+     */
+    @Getter @Setter private boolean streaming = false;
+
     /**
      * Create a new RequestScope.
      *
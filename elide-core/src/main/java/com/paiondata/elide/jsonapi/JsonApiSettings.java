@@ -72,11 +72,12 @@ public class JsonApiSettings implements Settings {
     private final List<JoinFilterDialect> joinFilterDialects;
     private final List<SubqueryFilterDialect> subqueryFilterDialects;
     private final JsonApiExceptionHandler jsonApiExceptionHandler;
+    private final boolean streaming;
 
     public JsonApiSettings(boolean enabled, String path, JsonApiMapper jsonApiMapper, Links links, int updateStatusCode,
             boolean strictQueryParameters, List<JoinFilterDialect> joinFilterDialects,
             List<SubqueryFilterDialect> subqueryFilterDialects,
-            JsonApiExceptionHandler jsonApiExceptionHandler) {
+            JsonApiExceptionHandler jsonApiExceptionHandler, boolean streaming) {
         this.enabled = enabled;
         this.path = path;
         this.jsonApiMapper = jsonApiMapper;
@@ -86,6 +87,7 @@ public class JsonApiSettings implements Settings {
         this.joinFilterDialects = joinFilterDialects;
         this.subqueryFilterDialects = subqueryFilterDialects;
         this.jsonApiExceptionHandler = jsonApiExceptionHandler;
+        this.streaming = streaming;
     }
 
     /**
@@ -101,7 +103,8 @@ public class JsonApiSettings implements Settings {
                 .links(newLinks -> newLinks.enabled(this.getLinks().isEnabled())
                         .jsonApiLinks(this.getLinks().getJsonApiLinks()))
                 .strictQueryParameters(this.isStrictQueryParameters())
-                .jsonApiExceptionHandler(this.jsonApiExceptionHandler);
+                .jsonApiExceptionHandler(this.jsonApiExceptionHandler)
+                .streaming(this.streaming);
 
         builder.updateStatusCode = this.updateStatusCode;
         builder.joinFilterDialects.addAll(this.joinFilterDialects);
@@ -137,7 +140,7 @@ public class JsonApiSettings implements Settings {
             }
             return new JsonApiSettings(this.enabled, this.path, this.jsonApiMapper, this.links.build(),
                     this.updateStatusCode, this.strictQueryParameters, this.joinFilterDialects,
-                    this.subqueryFilterDialects, this.jsonApiExceptionHandler);
+                    this.subqueryFilterDialects, this.jsonApiExceptionHandler, this.streaming);
         }
 
         @Override
@@ -153,14 +156,16 @@ public class JsonApiSettings implements Settings {
          */
         public static JsonApiSettingsBuilder withDefaults(EntityDictionary entityDictionary) {
             return new JsonApiSettingsBuilder().processor(builder -> {
+                RSQLFilterDialect rsqlFilterDialect = RSQLFilterDialect.builder().dictionary(entityDictionary)
+                        .parseCacheSize(RSQLFilterDialect.DEFAULT_PARSE_CACHE_SIZE).build();
                 if (builder.joinFilterDialects.isEmpty()) {
                     builder.joinFilterDialect(new DefaultFilterDialect(entityDictionary))
-                            .joinFilterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary).build());
+                            .joinFilterDialect(rsqlFilterDialect);
                 }
                 if (builder.subqueryFilterDialects.isEmpty()) {
                     builder
                     .subqueryFilterDialect(new DefaultFilterDialect(entityDictionary))
-                    .subqueryFilterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary).build());
+                    .subqueryFilterDialect(rsqlFilterDialect);
                 }
             });
         }
@@ -177,6 +182,7 @@ public class JsonApiSettings implements Settings {
         protected List<SubqueryFilterDialect> subqueryFilterDialects = new ArrayList<>();
         protected JsonApiExceptionHandler jsonApiExceptionHandler = new DefaultJsonApiExceptionHandler(
                 new Slf4jExceptionLogger(), BasicExceptionMappers.builder().build(), new DefaultJsonApiErrorMapper());
+        protected boolean streaming = false;
 
         protected abstract S self();
 
@@ -331,5 +337,17 @@ public class JsonApiSettings implements Settings {
             this.jsonApiExceptionHandler = jsonApiExceptionHandler;
             return self();
         }
+
+        /**
+         * Stream GET responses directly to the response output instead of building the
+         * complete response body as a string first.
+         *
+         * @param streaming true to stream responses
+         * @return the builder
+         */
+        public S streaming(boolean streaming) {
+            this.streaming = streaming;
+            return self();
+        }
     }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.jsonapi;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Body of a streamed JSON:API response.
+ * <p>
+ * The status of the response is final by the time the body is returned, so the container can send the status and
+ * headers itself before it writes the body. The document is serialized as it is written, and the request it belongs
+ * to only ends once it has been written, so the body must be written, or closed if it will not be written.
+ */
+@FunctionalInterface
+public interface JsonApiStreamingBody extends Closeable {
+    /**
+     * Writes the response body and ends the request.
+     *
+     * @param outputStream the output stream to write the response body to
+     * @throws IOException if the body cannot be written
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+
+    /**
+     * Ends the request without writing the body. Does nothing once the body has been written.
+     */
+    @Override
+    default void close() {
+    }
+}
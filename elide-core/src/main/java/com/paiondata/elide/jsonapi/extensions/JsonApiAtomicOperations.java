@@ -130,6 +130,7 @@ public class JsonApiAtomicOperations {
         } catch (IOException e) {
             throw new InvalidEntityBodyException(operationsDoc);
         }
+        requestScope.getObjectEntityCache().expect(actions.size());
         JsonApiAtomicOperations processor = new JsonApiAtomicOperations(dataStore, actions, uri, requestScope);
         return processor.processActions(requestScope);
     }
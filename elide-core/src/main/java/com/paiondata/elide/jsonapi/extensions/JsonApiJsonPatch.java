@@ -113,6 +113,7 @@ public class JsonApiJsonPatch {
         } catch (IOException e) {
             throw new InvalidEntityBodyException(patchDoc);
         }
+        requestScope.getObjectEntityCache().expect(actions.size());
         JsonApiJsonPatch processor = new JsonApiJsonPatch(dataStore, actions, uri, requestScope);
         return processor.processActions(requestScope);
     }
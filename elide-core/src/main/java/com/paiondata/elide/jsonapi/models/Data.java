@@ -101,6 +101,15 @@ public class Data<T> {
         return values.collectList().block();
     }
 
+    /**
+     * Iterates over the resources without collecting them first.
+     *
+     * @return the resources
+     */
+    public Iterable<T> toIterable() {
+        return values.toIterable();
+    }
+
     /**
      * Determine whether or not the contained type is toOne.
      *
@@ -16,6 +16,7 @@ import com.paiondata.elide.core.exceptions.InvalidEntityBodyException;
 import com.paiondata.elide.core.exceptions.InvalidObjectIdentifierException;
 import com.paiondata.elide.core.exceptions.InvalidValueException;
 import com.paiondata.elide.core.exceptions.UnknownEntityException;
+import com.paiondata.elide.core.pagination.Keyset;
 import com.paiondata.elide.core.request.EntityProjection;
 import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.core.type.Type;
@@ -31,6 +32,7 @@ import com.paiondata.elide.jsonapi.models.Relationship;
 import com.paiondata.elide.jsonapi.models.Resource;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterables;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -69,30 +71,35 @@ public class CollectionTerminalState extends BaseState {
     @Override
     public Supplier<Pair<Integer, JsonApiDocument>> handleGet(StateContext state) {
         JsonApiDocument jsonApiDocument = new JsonApiDocument();
-        RequestScope requestScope = state.getRequestScope();
+        JsonApiRequestScope requestScope = state.getRequestScope();
         Map<String, List<String>> queryParams = requestScope.getRoute().getParameters();
 
         LinkedHashSet<PersistentResource> collection =
                 getResourceCollection(requestScope).collect(Collectors.toCollection(LinkedHashSet::new)).block();
 
         // Set data
-        jsonApiDocument.setData(getData(collection, requestScope.getDictionary()));
+        jsonApiDocument.setData(getData(collection, requestScope.getDictionary(), requestScope.isStreaming()));
 
         // Run include processor
         DocumentProcessor includedProcessor = new IncludedProcessor();
         includedProcessor.execute(jsonApiDocument, requestScope, collection, queryParams);
 
-        Pagination pagination = parentProjection.getPagination();
+        EntityProjection projection = parentProjection;
         if (parent.isPresent()) {
-            pagination = parentProjection.getRelationship(relationName.orElseThrow(IllegalStateException::new))
-                    .get().getProjection().getPagination();
+            projection = parentProjection.getRelationship(relationName.orElseThrow(IllegalStateException::new))
+                    .get().getProjection();
         }
+        Pagination pagination = projection.getPagination();
 
         // Add pagination meta data
         if (!pagination.isDefaultInstance()) {
 
-            Map<String, Number> pageMetaData = new HashMap<>();
-            pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
+            Map<String, Object> pageMetaData = new HashMap<>();
+            if (pagination.isKeyset()) {
+                addCursors(pageMetaData, projection, collection, requestScope);
+            } else {
+                pageMetaData.put("number", (pagination.getOffset() / pagination.getLimit()) + 1);
+            }
             pageMetaData.put("limit", pagination.getLimit());
 
             // Get total records if it has been requested and add to the page meta data
@@ -116,6 +123,26 @@ public class CollectionTerminalState extends BaseState {
         return () -> Pair.of(HttpStatus.SC_OK, jsonApiDocument);
     }
 
+    /**
+     * Adds the cursors of the first and last records of a keyset page to the page meta data.
+     */
+    private static void addCursors(Map<String, Object> pageMetaData, EntityProjection projection,
+            LinkedHashSet<PersistentResource> collection, RequestScope requestScope) {
+        if (collection.isEmpty()) {
+            return;
+        }
+        Keyset keyset = new Keyset(projection.getType(), projection.getSorting(), projection.getPagination(),
+                requestScope.getDictionary());
+        String startCursor = keyset.getCursor(collection.iterator().next().getObject(), requestScope);
+        String endCursor = keyset.getCursor(Iterables.getLast(collection).getObject(), requestScope);
+        if (startCursor != null) {
+            pageMetaData.put("startCursor", startCursor);
+        }
+        if (endCursor != null) {
+            pageMetaData.put("endCursor", endCursor);
+        }
+    }
+
     @Override
     public Supplier<Pair<Integer, JsonApiDocument>> handlePost(StateContext state) {
         JsonApiRequestScope requestScope = state.getRequestScope();
@@ -152,9 +179,13 @@ public class CollectionTerminalState extends BaseState {
         return collection;
     }
 
-    private Data getData(Set<PersistentResource> collection, EntityDictionary dictionary) {
+    private Data getData(Set<PersistentResource> collection, EntityDictionary dictionary, boolean streaming) {
         Preconditions.checkNotNull(collection);
-        List<Resource> resources = collection.stream().map(PersistentResource::toResource).collect(Collectors.toList());
+
+        // When streaming, resources are built one at a time as the document is serialized
+        Flux<Resource> resources = streaming
+                ? Flux.fromIterable(collection).map(PersistentResource::toResource)
+                : Flux.fromIterable(collection.stream().map(PersistentResource::toResource).toList());
 
         if (parent.isPresent()) {
             Type<?> parentClass = parent.get().getResourceType();
@@ -15,7 +15,6 @@ import org.apache.commons.collections4.IterableUtils;
 
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Collections;
 
 /**
  * Custom serializer for top-level data.
@@ -25,8 +24,8 @@ public class DataSerializer extends JsonSerializer<Data<Resource>> {
     @Override
     public void serialize(Data<Resource> data, JsonGenerator jsonGenerator, SerializerProvider serializerProvider)
         throws IOException {
-        Collection<Resource> list = data.get();
         if (data.isToOne()) {
+            Collection<Resource> list = data.get();
             if (CollectionUtils.isEmpty(list)) {
                 jsonGenerator.writeObject(null);
                 return;
@@ -34,6 +33,12 @@ public class DataSerializer extends JsonSerializer<Data<Resource>> {
             jsonGenerator.writeObject(IterableUtils.first(list));
             return;
         }
-        jsonGenerator.writeObject((list == null) ? Collections.emptyList() : list);
+
+        // Write each resource as it is produced rather than collecting them first
+        jsonGenerator.writeStartArray();
+        for (Resource resource : data.toIterable()) {
+            jsonGenerator.writeObject(resource);
+        }
+        jsonGenerator.writeEndArray();
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.paiondata.elide.core.type.ClassType;
+import com.paiondata.elide.core.type.Type;
+import example.Book;
+import example.Publisher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class ObjectEntityCacheTest {
+    private static final Type<?> BOOK = ClassType.of(Book.class);
+    private static final Type<?> PUBLISHER = ClassType.of(Publisher.class);
+
+    @Test
+    public void testPutAndGet() {
+        ObjectEntityCache cache = new ObjectEntityCache();
+        cache.expect(5000);
+        Book book = new Book();
+
+        assertNull(cache.put(BOOK, "1", book));
+        assertSame(book, cache.get(BOOK, "1"));
+        assertNull(cache.get(BOOK, "2"));
+        assertNull(cache.get(PUBLISHER, "1"));
+        assertEquals("1", cache.getUUID(book));
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testInheritance() {
+        ObjectEntityCache cache = new ObjectEntityCache();
+        Book book = new Book();
+
+        // Stores the book as if it were an entity subclass of publisher.
+        cache.put(BOOK, "1", book, List.of(PUBLISHER));
+
+        assertNull(cache.get(PUBLISHER, "1"));
+        assertSame(book, cache.get(PUBLISHER, "1", List.of(BOOK)));
+        assertNull(cache.get(PUBLISHER, "2", List.of(BOOK)));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+}
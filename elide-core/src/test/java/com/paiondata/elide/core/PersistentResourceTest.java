@@ -28,6 +28,7 @@ import com.paiondata.elide.annotation.Audit;
 import com.paiondata.elide.annotation.ReadPermission;
 import com.paiondata.elide.core.audit.LogMessage;
 import com.paiondata.elide.core.audit.TestAuditLogger;
+import com.paiondata.elide.core.datastore.DataStoreIterable;
 import com.paiondata.elide.core.datastore.DataStoreIterableBuilder;
 import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.exceptions.ForbiddenAccessException;
@@ -100,6 +101,7 @@ import java.util.Collections;
 import java.util.Currency;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -1023,6 +1025,34 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         assertEquals(2, results.size(), "Only filtered relation elements should be returned.");
     }
 
+    @Test
+    public void testGetRelationsBatched() {
+        FunWithPermissions fun1 = new FunWithPermissions();
+        FunWithPermissions fun2 = new FunWithPermissions();
+        Child child1 = newChild(1);
+        Child child2 = newChild(-2);
+        Child child3 = newChild(3);
+
+        RequestScope scope = new TestRequestScope(tx, goodUser, dictionary);
+        PersistentResource<FunWithPermissions> funResource1 = new PersistentResource<>(fun1, "1", scope);
+        PersistentResource<FunWithPermissions> funResource2 = new PersistentResource<>(fun2, "2", scope);
+
+        Map<Object, DataStoreIterable<Object>> loaded = new IdentityHashMap<>();
+        loaded.put(fun1, new DataStoreIterableBuilder(Sets.newHashSet(child1, child2)).build());
+        loaded.put(fun2, new DataStoreIterableBuilder(Sets.newHashSet(child3)).build());
+        when(tx.getToManyRelations(any(), any(), any(), any())).thenReturn(loaded);
+
+        Map<PersistentResource, Flux<PersistentResource>> results = PersistentResource.getRelationsCheckedFiltered(
+                List.of(funResource1, funResource2),
+                getRelationship(ClassType.of(FunWithPermissions.class), "relation2"));
+
+        verify(tx, times(1)).getToManyRelations(any(), any(), any(), any());
+        verify(tx, never()).getToManyRelation(any(), any(), any(), any());
+        assertEquals(1, results.get(funResource1).collectList().block().size(),
+                "Only filtered relation elements should be returned.");
+        assertEquals(1, results.get(funResource2).collectList().block().size());
+    }
+
     @Test
     public void testGetRelationWithPredicateSuccess() {
         Parent parent = newParent(1);
@@ -10,7 +10,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.paiondata.elide.ElideSettings;
 import com.paiondata.elide.annotation.Include;
@@ -20,7 +25,10 @@ import com.paiondata.elide.core.request.EntityProjection;
 import com.paiondata.elide.core.request.route.Route;
 import com.paiondata.elide.core.security.User;
 import com.paiondata.elide.core.type.ClassType;
+import example.Author;
+import example.Book;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -85,6 +93,35 @@ class RequestScopeTest {
         assertNotNull(requestScope.getObjectById(ClassType.of(MyBaseClass.class), myId));
     }
 
+    @Test
+    void testSaveOrCreateObjectsInRunsOfType() {
+        EntityDictionary dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+
+        DataStoreTransaction tx = mock(DataStoreTransaction.class);
+        when(tx.supportsBatchWrites()).thenReturn(true);
+        RequestScope requestScope = new TestRequestScope(tx, null, dictionary);
+
+        Book book1 = new Book();
+        Book book2 = new Book();
+        Author author = new Author();
+        Book book3 = new Book();
+        requestScope.getNewPersistentResources().add(new PersistentResource<>(book1, "1", requestScope));
+        requestScope.getNewPersistentResources().add(new PersistentResource<>(book2, "2", requestScope));
+        requestScope.getNewPersistentResources().add(new PersistentResource<>(author, "3", requestScope));
+        requestScope.getNewPersistentResources().add(new PersistentResource<>(book3, "4", requestScope));
+
+        requestScope.saveOrCreateObjects();
+
+        InOrder inOrder = inOrder(tx);
+        inOrder.verify(tx).createObjects(List.of(book1, book2), requestScope);
+        inOrder.verify(tx).createObjects(List.of(author), requestScope);
+        inOrder.verify(tx).createObjects(List.of(book3), requestScope);
+        verify(tx, never()).createObject(any(), any());
+        verify(tx, never()).saveObjects(any(), any());
+    }
+
     @Test
     void builder() {
         DataStoreTransaction dataStoreTransaction = mock(DataStoreTransaction.class);
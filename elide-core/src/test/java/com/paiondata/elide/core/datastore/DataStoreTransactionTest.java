@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 public class DataStoreTransactionTest implements DataStoreTransaction {
     private static final String NAME = "name";
@@ -104,6 +105,18 @@ public class DataStoreTransactionTest implements DataStoreTransaction {
                 Lists.newArrayList(actual));
     }
 
+    @Test
+    public void testGetToManyRelations() {
+        Map<String, DataStoreIterable<Long>> actual = getToManyRelations(this, List.of(ENTITY), Relationship.builder()
+                .name(NAME2)
+                .projection(EntityProjection.builder()
+                        .type(String.class)
+                        .build())
+                .build(), scope);
+        assertEquals(1, actual.size());
+        assertEquals(List.of(1L, 2L, 3L), Lists.newArrayList(actual.get(ENTITY)));
+    }
+
     @Test
     public void testLoadObject() {
         String string = (String) loadObject(EntityProjection.builder().type(String.class).build(), 2L, scope);
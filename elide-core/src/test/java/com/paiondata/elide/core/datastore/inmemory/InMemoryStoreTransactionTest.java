@@ -26,6 +26,7 @@ import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
 import com.paiondata.elide.core.filter.expression.FilterExpression;
 import com.paiondata.elide.core.filter.predicates.InPredicate;
+import com.paiondata.elide.core.pagination.Keyset;
 import com.paiondata.elide.core.pagination.PaginationImpl;
 import com.paiondata.elide.core.request.EntityProjection;
 import com.paiondata.elide.core.request.Relationship;
@@ -50,6 +51,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -292,6 +294,50 @@ public class InMemoryStoreTransactionTest {
         assertTrue(loaded.contains(book3));
     }
 
+    @Test
+    public void testTransactionRequiresInMemoryFilterDuringGetRelations() {
+        FilterExpression expression =
+                new InPredicate(new Path(Book.class, dictionary, "genre"), "Literary Fiction");
+
+        Relationship relationship = Relationship.builder()
+                .projection(EntityProjection.builder()
+                    .type(Book.class)
+                    .filterExpression(expression)
+                    .build())
+                .name("books")
+                .alias("books")
+                .build();
+
+        ArgumentCaptor<Relationship> relationshipArgument = ArgumentCaptor.forClass(Relationship.class);
+
+        when(scope.getNewPersistentResources()).thenReturn(Sets.newHashSet(mock(PersistentResource.class)));
+
+        Map<Object, DataStoreIterable<Object>> relations = new IdentityHashMap<>();
+        relations.put(author1, new DataStoreIterableBuilder<>(books).build());
+        relations.put(author2, new DataStoreIterableBuilder<>().build());
+        when(wrappedTransaction.getToManyRelations(eq(inMemoryStoreTransaction), any(), any(), eq(scope)))
+                .thenReturn(relations);
+
+        Map<Object, DataStoreIterable<Object>> loaded = inMemoryStoreTransaction.getToManyRelations(
+                inMemoryStoreTransaction, List.of(author1, author2), relationship, scope);
+
+        verify(wrappedTransaction, times(1)).getToManyRelations(
+                eq(inMemoryStoreTransaction),
+                eq(List.of(author1, author2)),
+                relationshipArgument.capture(),
+                eq(scope));
+
+        assertNull(relationshipArgument.getValue().getProjection().getFilterExpression());
+        assertNull(relationshipArgument.getValue().getProjection().getSorting());
+        assertNull(relationshipArgument.getValue().getProjection().getPagination());
+
+        Collection<Object> author1Books = ImmutableList.copyOf(loaded.get(author1));
+        assertEquals(2, author1Books.size());
+        assertTrue(author1Books.contains(book1));
+        assertTrue(author1Books.contains(book3));
+        assertEquals(0, ImmutableList.copyOf(loaded.get(author2)).size());
+    }
+
     @Test
     public void testTransactionResetsPaginationWithZeroRecords() {
         PaginationImpl pagination = new PaginationImpl(ClassType.of(Author.class), 0, 4, 10, 10, true, false);
@@ -609,6 +655,75 @@ public class InMemoryStoreTransactionTest {
         assertEquals(3, pagination.getPageTotals());
     }
 
+    @Test
+    public void testSortingRequiresInMemoryPaginationWithOffset() {
+        PaginationImpl pagination = new PaginationImpl(ClassType.of(Book.class), 1, 1, 10, 10, true, false);
+
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("genre", Sorting.SortOrder.asc);
+
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(pagination)
+                .build();
+
+        DataStoreIterable sortInMemory = new DataStoreIterableBuilder(books).sortInMemory(true).build();
+
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(sortInMemory);
+
+        Collection<Object> loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(
+                projection,
+                scope));
+
+        // Book 1 and Book 3 share a genre, so the page keeps their loaded order.
+        List<String> bookTitles = loaded.stream().map((o) -> ((Book) o).getTitle()).collect(Collectors.toList());
+        assertEquals(Lists.newArrayList("Book 3"), bookTitles);
+        assertEquals(3, pagination.getPageTotals());
+    }
+
+    @Test
+    public void testKeysetPaginationInMemory() {
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("genre", Sorting.SortOrder.asc);
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+
+        when(wrappedTransaction.loadObjects(any(), eq(scope)))
+                .thenReturn(new DataStoreIterableBuilder(books).allInMemory().build());
+
+        // Sorted by genre and then id: Book 1, Book 3, Book 2
+        PaginationImpl first = new PaginationImpl(ClassType.of(Book.class), null, 2, 10, 10, true, false, "", null);
+        assertEquals(Lists.newArrayList("Book 1", "Book 3"), loadTitles(sorting, first));
+        assertEquals(3, first.getPageTotals());
+
+        Keyset keyset = new Keyset(ClassType.of(Book.class), sorting, first, dictionary);
+        PaginationImpl next = new PaginationImpl(ClassType.of(Book.class), null, 2, 10, 10, false, false,
+                keyset.getCursor(book3, scope), null);
+        assertEquals(Lists.newArrayList("Book 2"), loadTitles(sorting, next));
+
+        PaginationImpl previous = new PaginationImpl(ClassType.of(Book.class), null, 1, 10, 10, false, false,
+                null, keyset.getCursor(book2, scope));
+        assertEquals(Lists.newArrayList("Book 3"), loadTitles(sorting, previous));
+
+        PaginationImpl last = new PaginationImpl(ClassType.of(Book.class), null, 2, 10, 10, false, false,
+                null, "");
+        assertEquals(Lists.newArrayList("Book 3", "Book 2"), loadTitles(sorting, last));
+    }
+
+    private List<String> loadTitles(Sorting sorting, PaginationImpl pagination) {
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(pagination)
+                .build();
+
+        return Lists.newArrayList(inMemoryStoreTransaction.loadObjects(projection, scope)).stream()
+                .map((o) -> ((Book) o).getTitle())
+                .collect(Collectors.toList());
+    }
+
     @Test
     public void testGetProperty() {
         when(wrappedTransaction.getProperty(any())).thenReturn(1);
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.datastore.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import com.paiondata.elide.core.Path;
+import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.datastore.DataStoreTransaction;
+import com.paiondata.elide.core.datastore.inmemory.SnapshotHashMapDataStore.IndexType;
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.filter.expression.AndFilterExpression;
+import com.paiondata.elide.core.filter.expression.FilterExpression;
+import com.paiondata.elide.core.filter.predicates.GTPredicate;
+import com.paiondata.elide.core.filter.predicates.InPredicate;
+import com.paiondata.elide.core.request.EntityProjection;
+import com.paiondata.elide.core.request.Relationship;
+import com.paiondata.elide.core.type.ClassType;
+import example.Author;
+import example.Book;
+import example.Editor;
+import example.Publisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+public class SnapshotHashMapDataStoreTest {
+    private static final List<Class<?>> MODELS = Arrays.asList(Book.class, Author.class, Editor.class,
+            Publisher.class);
+
+    private final RequestScope scope = mock(RequestScope.class);
+    private EntityDictionary dictionary;
+    private SnapshotHashMapDataStore store;
+
+    @BeforeEach
+    public void setup() {
+        dictionary = EntityDictionary.builder().build();
+        store = new SnapshotHashMapDataStore(MODELS)
+                .index(Book.class, "genre", IndexType.HASH)
+                .index(Book.class, "publishDate", IndexType.SORTED);
+        store.populateEntityDictionary(dictionary);
+    }
+
+    @Test
+    public void testReadersSeeCommittedSnapshot() throws IOException {
+        Book book = book("Foo", "Fiction", 1);
+        DataStoreTransaction reader = store.beginReadTransaction();
+
+        try (DataStoreTransaction writer = store.beginTransaction()) {
+            writer.createObject(book, scope);
+            writer.commit(scope);
+        }
+
+        assertEquals(0, titles(reader, null).size());
+
+        DataStoreTransaction next = store.beginReadTransaction();
+        Book published = next.loadObject(EntityProjection.builder().type(Book.class).build(), book.getId(), scope);
+        assertEquals("Foo", published.getTitle());
+        assertNotSame(book, published);
+
+        try (DataStoreTransaction writer = store.beginTransaction()) {
+            Book stored = writer.loadObject(EntityProjection.builder().type(Book.class).build(), book.getId(), scope);
+            stored.setTitle("Bar");
+            writer.save(stored, scope);
+            writer.commit(scope);
+        }
+
+        assertEquals("Foo", published.getTitle());
+        assertEquals(List.of("Bar"), titles(store.beginReadTransaction(), null));
+        assertThrows(UnsupportedOperationException.class, () -> next.save(published, scope));
+    }
+
+    @Test
+    public void testRelationshipsResolvedInSnapshot() throws IOException {
+        Book book = book("Foo", "Fiction", 1);
+        Author author = new Author();
+        author.setName("Bob");
+        book.setAuthors(List.of(author));
+        author.setBooks(List.of(book));
+
+        try (DataStoreTransaction writer = store.beginTransaction()) {
+            writer.createObject(author, scope);
+            writer.createObject(book, scope);
+            writer.commit(scope);
+        }
+
+        DataStoreTransaction reader = store.beginReadTransaction();
+        Book published = reader.loadObject(EntityProjection.builder().type(Book.class).build(), book.getId(), scope);
+        Author publishedAuthor = reader.loadObject(EntityProjection.builder().type(Author.class).build(),
+                author.getId(), scope);
+        Relationship authors = Relationship.builder().name("authors")
+                .projection(EntityProjection.builder().type(Author.class).build()).build();
+
+        List<Object> related = StreamSupport.stream(
+                reader.getToManyRelation(reader, published, authors, scope).spliterator(), false).toList();
+        assertEquals(1, related.size());
+        assertSame(publishedAuthor, related.get(0));
+
+        try (DataStoreTransaction writer = store.beginTransaction()) {
+            Author stored = writer.loadObject(EntityProjection.builder().type(Author.class).build(),
+                    author.getId(), scope);
+            writer.delete(stored, scope);
+            writer.commit(scope);
+        }
+
+        DataStoreTransaction next = store.beginReadTransaction();
+        Book republished = next.loadObject(EntityProjection.builder().type(Book.class).build(), book.getId(), scope);
+        assertSame(published, republished);
+        assertEquals(0, StreamSupport.stream(
+                next.getToManyRelation(next, republished, authors, scope).spliterator(), false).count());
+        assertNull(next.loadObject(EntityProjection.builder().type(Author.class).build(), author.getId(), scope));
+    }
+
+    @Test
+    public void testIndexedFilters() throws IOException {
+        try (DataStoreTransaction writer = store.beginTransaction()) {
+            writer.createObject(book("A", "Fiction", 1), scope);
+            writer.createObject(book("B", "Poetry", 2), scope);
+            writer.createObject(book("C", "Fiction", 3), scope);
+            writer.createObject(book("D", null, 4), scope);
+            writer.commit(scope);
+        }
+
+        DataStoreTransaction reader = store.beginReadTransaction();
+        InPredicate fiction = new InPredicate(new Path(Book.class, dictionary, "genre"), "Fiction");
+        GTPredicate recent = new GTPredicate(new Path(Book.class, dictionary, "publishDate"), 1L);
+
+        assertEquals(List.of("A", "C"), titles(reader, fiction));
+        assertEquals(List.of("B", "C", "D"), titles(reader, recent));
+        assertEquals(List.of("C"), titles(reader, new AndFilterExpression(fiction, recent)));
+
+        InPredicate title = new InPredicate(new Path(Book.class, dictionary, "title"), "A");
+        assertEquals(List.of("A", "B", "C", "D"), titles(reader, title));
+    }
+
+    @Test
+    public void testInvalidIndex() {
+        SnapshotHashMapDataStore invalid = new SnapshotHashMapDataStore(MODELS)
+                .index(Book.class, "authors", IndexType.SORTED);
+        assertThrows(IllegalArgumentException.class,
+                () -> invalid.populateEntityDictionary(EntityDictionary.builder().build()));
+        assertThrows(IllegalArgumentException.class, () -> store.index(String.class, "length", IndexType.HASH));
+    }
+
+    private Book book(String title, String genre, long publishDate) {
+        Book book = new Book();
+        book.setTitle(title);
+        book.setGenre(genre);
+        book.setPublishDate(publishDate);
+        return book;
+    }
+
+    private List<String> titles(DataStoreTransaction tx, FilterExpression filterExpression) {
+        EntityProjection projection = EntityProjection.builder()
+                .type(ClassType.of(Book.class))
+                .filterExpression(filterExpression)
+                .build();
+        Iterable<Book> books = tx.loadObjects(projection, scope);
+        return StreamSupport.stream(books.spliterator(), false)
+                .map(Book::getTitle)
+                .collect(Collectors.toList());
+    }
+}
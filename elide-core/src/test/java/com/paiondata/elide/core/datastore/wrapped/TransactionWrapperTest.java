@@ -7,6 +7,7 @@
 package com.paiondata.elide.core.datastore.wrapped;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
@@ -19,6 +20,8 @@ import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.request.Attribute;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 public class TransactionWrapperTest {
 
     private static class TestTransactionWrapper extends TransactionWrapper {
@@ -70,6 +73,37 @@ public class TransactionWrapperTest {
         verify(wrapped, times(1)).createObject(any(), any());
     }
 
+    @Test
+    public void testCreateObjects() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        wrapper.createObjects(null, null);
+
+        verify(wrapped, times(1)).createObjects(any(), any());
+    }
+
+    @Test
+    public void testSaveObjects() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        wrapper.saveObjects(null, null);
+
+        verify(wrapped, times(1)).saveObjects(any(), any());
+    }
+
+    @Test
+    public void testSupportsBatchWrites() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        when(wrapped.supportsBatchWrites()).thenReturn(true);
+
+        assertTrue(wrapper.supportsBatchWrites());
+        verify(wrapped, times(1)).supportsBatchWrites();
+    }
+
     @Test
     public void testCommit() {
         DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
@@ -167,6 +201,20 @@ public class TransactionWrapperTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testGetToManyRelations() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        Map<Object, DataStoreIterable<Object>> expected = Map.of();
+        when(wrapped.getToManyRelations(any(), any(), any(), any())).thenReturn(expected);
+
+        Map<Object, DataStoreIterable<Object>> actual = wrapper.getToManyRelations(null, null, null, null);
+
+        verify(wrapped, times(1)).getToManyRelations(any(), any(), any(), any());
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testGetToOneRelation() {
         DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
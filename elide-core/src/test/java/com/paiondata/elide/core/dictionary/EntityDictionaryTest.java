@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.paiondata.elide.annotation.ComputedAttribute;
 import com.paiondata.elide.annotation.Exclude;
@@ -23,6 +24,8 @@ import com.paiondata.elide.annotation.LifeCycleHookBinding;
 import com.paiondata.elide.annotation.ReadPermission;
 import com.paiondata.elide.annotation.SecurityCheck;
 import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.exceptions.BadRequestException;
+import com.paiondata.elide.core.exceptions.InternalServerErrorException;
 import com.paiondata.elide.core.exceptions.InvalidAttributeException;
 import com.paiondata.elide.core.filter.expression.FilterExpression;
 import com.paiondata.elide.core.lifecycle.LifeCycleHook;
@@ -93,6 +96,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class EntityDictionaryTest extends EntityDictionary {
@@ -1067,6 +1071,61 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertEquals(ImmutableSet.of(3.0, 4.0), bean.set);
     }
 
+    @Test
+    public void testFieldAccessors() throws Exception {
+        @Include(rootLevel = false)
+        class AccessorModel {
+            @Id
+            private long id;
+
+            private int count;
+
+            private String name;
+
+            public String getName() {
+                return name;
+            }
+
+            public void setName(String name) {
+                if ("bad".equals(name)) {
+                    throw new BadRequestException("Bad name");
+                }
+                if ("broken".equals(name)) {
+                    throw new IllegalStateException("Broken name");
+                }
+                this.name = name;
+            }
+
+            @Transient
+            @ComputedAttribute
+            public String getGreeting(RequestScope scope) {
+                return "Hello " + scope.getRequestId();
+            }
+        }
+        bindEntity(AccessorModel.class);
+
+        AccessorModel model = new AccessorModel();
+        RequestScope scope = mock(RequestScope.class);
+        UUID requestId = UUID.randomUUID();
+        when(scope.getRequestId()).thenReturn(requestId);
+
+        setValue(model, "id", "7");
+        setValue(model, "count", 3L);
+        setValue(model, "name", "Elide");
+
+        assertEquals(7L, model.id);
+        assertEquals(3, model.count);
+        assertEquals("Elide", model.name);
+        assertEquals(7L, getValue(model, "id", scope));
+        assertEquals(3, getValue(model, "count", scope));
+        assertEquals("Elide", getValue(model, "name", scope));
+        assertEquals("Hello " + requestId, getValue(model, "greeting", scope));
+
+        assertThrows(BadRequestException.class, () -> setValue(model, "name", "bad"));
+        assertThrows(InternalServerErrorException.class, () -> setValue(model, "name", "broken"));
+        assertEquals("Elide", model.name);
+    }
+
     public static class TestCheck extends UserCheck {
 
         @Override
@@ -8,6 +8,8 @@ package com.paiondata.elide.core.filter.dialect;
 import static com.paiondata.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -654,4 +656,34 @@ public class RSQLFilterDialectTest {
         assertEquals("homeAddress", path.getPathElements().get(0).getFieldName());
         assertEquals("street1", path.getPathElements().get(1).getFieldName());
     }
+
+    @Test
+    public void testParseCache() throws Exception {
+        EntityDictionary dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        RSQLFilterDialect cachingDialect = RSQLFilterDialect.builder()
+                .dictionary(dictionary)
+                .parseCacheSize(10L)
+                .build();
+        Type<Book> bookType = ClassType.of(Book.class);
+
+        FilterExpression first = cachingDialect.parse(bookType, Collections.emptySet(),
+                "genre=in=(sci-fi,action);publishDate>123", NO_VERSION);
+        FilterExpression second = cachingDialect.parse(bookType, Collections.emptySet(),
+                "genre=in=(sci-fi,action);publishDate>123", NO_VERSION);
+        assertSame(first, second);
+        assertEquals("(book.genre IN [sci-fi, action] AND book.publishDate GT [123])", second.toString());
+
+        FilterExpression uncoerced = cachingDialect.parseFilterExpression(
+                "genre=in=(sci-fi,action);publishDate>123", bookType, false, true);
+        assertNotSame(first, uncoerced);
+
+        // Paths with arguments are never shared.
+        FilterExpression withArguments = cachingDialect.parse(bookType, Collections.emptySet(),
+                "title[foo:bar]==Hemingway", NO_VERSION);
+        assertNotSame(withArguments, cachingDialect.parse(bookType, Collections.emptySet(),
+                "title[foo:bar]==Hemingway", NO_VERSION));
+    }
 }
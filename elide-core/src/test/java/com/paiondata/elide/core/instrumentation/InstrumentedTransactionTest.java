@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.core.instrumentation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.datastore.DataStoreIterable;
+import com.paiondata.elide.core.datastore.DataStoreTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for InstrumentedTransaction.
+ */
+public class InstrumentedTransactionTest {
+
+    private static class RecordingInstrumentation implements RequestInstrumentation {
+        private final List<Phase> phases = new ArrayList<>();
+
+        @Override
+        public void record(Phase phase, long nanos) {
+            assertTrue(nanos >= 0);
+            phases.add(phase);
+        }
+    }
+
+    private final RecordingInstrumentation instrumentation = new RecordingInstrumentation();
+    private final DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+    private final RequestScope scope = mock(RequestScope.class);
+
+    public InstrumentedTransactionTest() {
+        when(scope.getInstrumentation()).thenReturn(instrumentation);
+    }
+
+    @Test
+    public void testLoadObjectsRecorded() {
+        DataStoreIterable<Object> expected = mock(DataStoreIterable.class);
+        when(wrapped.loadObjects(any(), any())).thenReturn(expected);
+
+        DataStoreTransaction tx = new InstrumentedTransaction(wrapped);
+
+        assertSame(expected, tx.loadObjects(null, scope));
+        assertEquals(List.of(Phase.DATASTORE), instrumentation.phases);
+    }
+
+    @Test
+    public void testFailedCallRecorded() {
+        doThrow(new IllegalStateException()).when(wrapped).save(any(), any());
+
+        DataStoreTransaction tx = new InstrumentedTransaction(wrapped);
+
+        assertThrows(IllegalStateException.class, () -> tx.save(new Object(), scope));
+        assertEquals(List.of(Phase.DATASTORE), instrumentation.phases);
+    }
+
+    @Test
+    public void testCommitNotRecorded() {
+        DataStoreTransaction tx = new InstrumentedTransaction(wrapped);
+
+        tx.flush(scope);
+        tx.commit(scope);
+
+        verify(wrapped).flush(scope);
+        verify(wrapped).commit(scope);
+        assertTrue(instrumentation.phases.isEmpty());
+    }
+
+    @Test
+    public void testTimeSkippedWhenDisabled() {
+        assertEquals("result", RequestInstrumentation.NONE.time(Phase.PARSE, () -> "result"));
+        assertEquals(RequestInstrumentation.NONE, Instrumentation.NONE.beginRequest());
+    }
+}
@@ -14,6 +14,7 @@ import com.paiondata.elide.ElideSettings;
 import com.paiondata.elide.annotation.Paginate;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
 import com.paiondata.elide.core.exceptions.InvalidValueException;
+import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.core.type.ClassType;
 import org.junit.jupiter.api.Test;
 
@@ -197,6 +198,26 @@ public class PaginationImplTest {
         PaginationImpl pageData = PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
                 queryParams, elideSettings);
         assertTrue(pageData.returnPageTotals());
+        assertEquals(Pagination.TotalsMode.exact, pageData.getTotalsMode());
+    }
+
+    @Test
+    public void shouldParseTotalsMode() {
+        Map<String, List<String>> queryParams = new LinkedHashMap<>();
+        add(queryParams, "page[totals]", "cached");
+        PaginationImpl pageData = PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                queryParams, elideSettings);
+        assertTrue(pageData.returnPageTotals());
+        assertEquals(Pagination.TotalsMode.cached, pageData.getTotalsMode());
+    }
+
+    @Test
+    public void shouldThrowExceptionForInvalidTotalsMode() {
+        Map<String, List<String>> queryParams = new LinkedHashMap<>();
+        add(queryParams, "page[totals]", "approximately");
+        assertThrows(InvalidValueException.class,
+        () -> PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                queryParams, elideSettings));
     }
 
     @Test
@@ -244,4 +265,44 @@ public class PaginationImplTest {
         assertEquals(0, pageData.getOffset());
         assertEquals(10, pageData.getLimit());
     }
+
+    @Test
+    public void shouldParseQueryParamsForKeysetCursors() {
+        Map<String, List<String>> queryParams = new LinkedHashMap<>();
+        add(queryParams, "page[size]", "10");
+        add(queryParams, "page[after]", "abc");
+
+        PaginationImpl pageData = PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                queryParams, elideSettings);
+        assertTrue(pageData.isKeyset());
+        assertFalse(pageData.isDefaultInstance());
+        assertEquals("abc", pageData.getAfter());
+        assertEquals(0, pageData.getOffset());
+        assertEquals(10, pageData.getLimit());
+
+        queryParams = new LinkedHashMap<>();
+        add(queryParams, "page[before]", "");
+
+        pageData = PaginationImpl.parseQueryParams(ClassType.of(PaginationImplTest.class),
+                queryParams, elideSettings);
+        assertTrue(pageData.isKeyset());
+        assertEquals("", pageData.getBefore());
+    }
+
+    @Test
+    public void shouldThrowExceptionForCursorWithOffset() {
+        Map<String, List<String>> offsetParams = new LinkedHashMap<>();
+        add(offsetParams, "page[offset]", "10");
+        add(offsetParams, "page[after]", "abc");
+
+        assertThrows(InvalidValueException.class, () -> PaginationImpl.parseQueryParams(
+                ClassType.of(PaginationImplTest.class), offsetParams, elideSettings));
+
+        Map<String, List<String>> bothParams = new LinkedHashMap<>();
+        add(bothParams, "page[after]", "abc");
+        add(bothParams, "page[before]", "def");
+
+        assertThrows(InvalidValueException.class, () -> PaginationImpl.parseQueryParams(
+                ClassType.of(PaginationImplTest.class), bothParams, elideSettings));
+    }
 }
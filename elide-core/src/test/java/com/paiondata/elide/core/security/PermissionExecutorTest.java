@@ -20,9 +20,12 @@ import com.paiondata.elide.core.RequestScope;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
 import com.paiondata.elide.core.exceptions.ForbiddenAccessException;
 import com.paiondata.elide.core.request.route.Route;
+import com.paiondata.elide.core.security.checks.Check;
 import com.paiondata.elide.core.security.checks.OperationCheck;
 import com.paiondata.elide.core.security.checks.UserCheck;
+import com.paiondata.elide.core.security.executors.ActivePermissionExecutor;
 import com.paiondata.elide.core.security.permissions.ExpressionResult;
+import com.paiondata.elide.core.security.permissions.UserCheckResultCache;
 import com.paiondata.elide.core.type.ClassType;
 import example.TestCheckMappings;
 import org.junit.jupiter.api.Test;
@@ -30,9 +33,13 @@ import org.junit.jupiter.api.Test;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class PermissionExecutorTest {
 
@@ -510,6 +517,50 @@ public class PermissionExecutorTest {
         assertEquals(ExpressionResult.DEFERRED, result);
     }
 
+    @Test
+    public void testSharedUserCheckCache() {
+        Map<String, Class<? extends Check>> checks = new HashMap<>(TestCheckMappings.MAPPINGS);
+        checks.put("countingUser", CountingUserCheck.class);
+        EntityDictionary dictionary = EntityDictionary.builder().checks(checks).build();
+        dictionary.bindEntity(CountedBean.class);
+        UserCheckResultCache cache = new UserCheckResultCache(10, Duration.ofMinutes(1), User::getName);
+        CountingUserCheck.COUNT.set(0);
+
+        for (int i = 0; i < 2; i++) {
+            PermissionExecutor executor = newSharedCacheExecutor(dictionary, cache, "alice");
+            assertEquals(ExpressionResult.PASS, executor.checkUserPermissions(ClassType.of(CountedBean.class),
+                    ReadPermission.class, ALL_FIELDS));
+        }
+        assertEquals(1, CountingUserCheck.COUNT.get());
+        assertEquals(1L, cache.getHits());
+
+        // A different user evaluates the check again.
+        newSharedCacheExecutor(dictionary, cache, "bob").checkUserPermissions(ClassType.of(CountedBean.class),
+                ReadPermission.class, ALL_FIELDS);
+        assertEquals(2, CountingUserCheck.COUNT.get());
+
+        // Users without an identity are never cached.
+        for (int i = 0; i < 2; i++) {
+            newSharedCacheExecutor(dictionary, cache, null).checkUserPermissions(ClassType.of(CountedBean.class),
+                    ReadPermission.class, ALL_FIELDS);
+        }
+        assertEquals(4, CountingUserCheck.COUNT.get());
+        assertEquals(2L, cache.size());
+    }
+
+    private PermissionExecutor newSharedCacheExecutor(EntityDictionary dictionary, UserCheckResultCache cache,
+            String name) {
+        ElideSettings elideSettings = ElideSettings.builder().dataStore(null)
+                .entityDictionary(dictionary)
+                .permissionExecutor(scope -> new ActivePermissionExecutor(scope, cache))
+                .build();
+        Route route = Route.builder().apiVersion(NO_VERSION).build();
+        RequestScope requestScope = RequestScope.builder().route(route).requestId(UUID.randomUUID())
+                .user(new User(name == null ? null : () -> name))
+                .elideSettings(elideSettings).build();
+        return requestScope.getPermissionExecutor();
+    }
+
     public <T> PersistentResource<T> newResource(T obj, Class<T> cls, boolean markNew) {
         EntityDictionary dictionary = EntityDictionary.builder().checks(TestCheckMappings.MAPPINGS).build();
         dictionary.bindEntity(cls);
@@ -629,6 +680,24 @@ public class PermissionExecutorTest {
         public String hello;
     }
 
+    @ReadPermission(expression = "countingUser")
+    @Include(rootLevel = false)
+    @Entity
+    public static final class CountedBean {
+        @Id
+        public Long id;
+    }
+
+    public static final class CountingUserCheck extends UserCheck {
+        private static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public boolean ok(User user) {
+            COUNT.incrementAndGet();
+            return true;
+        }
+    }
+
     /* Cache testing */
 
     public static class ShouldCache extends OperationCheck<Object> {
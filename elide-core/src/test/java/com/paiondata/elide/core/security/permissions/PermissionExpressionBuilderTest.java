@@ -7,6 +7,7 @@ package com.paiondata.elide.core.security.permissions;
 
 import static com.paiondata.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.paiondata.elide.ElideSettings;
 import com.paiondata.elide.annotation.Include;
@@ -20,7 +21,12 @@ import com.paiondata.elide.core.request.route.Route;
 import com.paiondata.elide.core.security.ChangeSpec;
 import com.paiondata.elide.core.security.checks.Check;
 import com.paiondata.elide.core.security.checks.prefab.Role;
+import com.paiondata.elide.core.security.permissions.expressions.CheckExpression;
 import com.paiondata.elide.core.security.permissions.expressions.Expression;
+import com.paiondata.elide.core.security.visitors.PermissionExpressionNormalizationVisitor;
+import com.paiondata.elide.core.security.visitors.PermissionExpressionVisitor;
+import com.paiondata.elide.core.type.ClassType;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -30,6 +36,7 @@ import jakarta.persistence.Id;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 public class PermissionExpressionBuilderTest {
 
@@ -125,6 +132,33 @@ public class PermissionExpressionBuilderTest {
 
      }
 
+    @Test
+    public void testCompiledPermission() {
+        @Entity
+        @Include(rootLevel = false)
+        @ReadPermission(expression = "NOT (user has all access OR user has no access) OR user has all access")
+        class Model { }
+        dictionary.bindEntity(Model.class);
+
+        RequestScope requestScope = newResource(new Model(), Model.class).getRequestScope();
+        Function<Check, Expression> checkFn = check ->
+                new CheckExpression(check, null, requestScope, null, new ExpressionResultCache());
+
+        ParseTree permissions = dictionary.getPermissionsForClass(ClassType.of(Model.class), ReadPermission.class);
+        CompiledPermission compiled = dictionary.getCompiledPermission(permissions);
+        assertSame(compiled, dictionary.getCompiledPermission(permissions));
+
+        Expression expected = permissions
+                .accept(new PermissionExpressionVisitor(dictionary, checkFn))
+                .accept(new PermissionExpressionNormalizationVisitor());
+        Expression actual = compiled.instantiate(checkFn);
+
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(ExpressionResult.PASS, expected.evaluate(Expression.EvaluationMode.ALL_CHECKS));
+        assertEquals(ExpressionResult.PASS, actual.evaluate(Expression.EvaluationMode.ALL_CHECKS));
+        assertEquals(expected.toString(), actual.toString());
+    }
+
     public <T> PersistentResource newResource(T obj, Class<T> cls) {
         Route route = Route.builder().apiVersion(NO_VERSION).build();
         RequestScope requestScope = RequestScope.builder().route(route).requestId(UUID.randomUUID())
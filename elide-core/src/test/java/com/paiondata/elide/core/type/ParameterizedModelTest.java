@@ -12,9 +12,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.spy;
 
 import com.paiondata.elide.core.exceptions.InvalidParameterizedAttributeException;
+import com.paiondata.elide.core.request.Argument;
 import com.paiondata.elide.core.request.Attribute;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 public class ParameterizedModelTest {
 
     @Test
@@ -51,6 +54,28 @@ public class ParameterizedModelTest {
         assertEquals(testValue, testModel.fetch(testAttribute.getAlias(), "blah"));
     }
 
+    @Test
+    public void testInvokeAttributeAddedToMap() {
+        ParameterizedModel testModel = spy(ParameterizedModel.class);
+        Attribute fooAttribute = Attribute.builder().type(STRING_TYPE).name("foo").build();
+        Attribute barAttribute = Attribute.builder().type(STRING_TYPE).name("bar").build();
+
+        testModel.addAttributeValue(fooAttribute, "foo");
+        assertEquals("foo", testModel.invoke(fooAttribute));
+
+        // Subclasses may add parameterized attributes that depend on the arguments directly.
+        testModel.parameterizedAttributes.put(barAttribute, new ParameterizedAttribute() {
+            @Override
+            public <T> T invoke(Set<Argument> arguments) {
+                return (T) String.valueOf(arguments.size());
+            }
+        });
+
+        assertEquals("0", testModel.invoke(barAttribute));
+        assertEquals("foo", testModel.fetch("foo", "blah"));
+        assertEquals(2, testModel.attributes().size());
+    }
+
     @Test
     public void testFetchDefault() {
         ParameterizedModel testModel = spy(ParameterizedModel.class);
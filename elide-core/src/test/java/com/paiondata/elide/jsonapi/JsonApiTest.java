@@ -11,8 +11,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,11 +27,14 @@ import com.paiondata.elide.core.RequestScope;
 import com.paiondata.elide.core.TestRequestScope;
 import com.paiondata.elide.core.TransactionRegistry;
 import com.paiondata.elide.core.datastore.DataStore;
+import com.paiondata.elide.core.datastore.DataStoreIterableBuilder;
 import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
 import com.paiondata.elide.core.dictionary.TestDictionary;
 import com.paiondata.elide.core.exceptions.ExceptionMappers;
+import com.paiondata.elide.core.exceptions.HttpStatus;
 import com.paiondata.elide.core.exceptions.Slf4jExceptionLogger;
+import com.paiondata.elide.core.exceptions.TransactionException;
 import com.paiondata.elide.core.lifecycle.FieldTestModel;
 import com.paiondata.elide.core.lifecycle.LegacyTestModel;
 import com.paiondata.elide.core.lifecycle.PropertyTestModel;
@@ -68,8 +74,10 @@ import jakarta.validation.ValidatorFactory;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -641,6 +649,92 @@ public class JsonApiTest {
         verify(tx).close();
     }
 
+    @Test
+    void streamingGet() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class, Answers.CALLS_REAL_METHODS);
+
+        Parent parent1 = new Parent();
+        parent1.setId(1L);
+        parent1.setFirstName("bob");
+        parent1.setChildren(new HashSet<>());
+        parent1.setSpouses(new HashSet<>());
+
+        Parent parent2 = new Parent();
+        parent2.setId(2L);
+        parent2.setFirstName("alice");
+        parent2.setChildren(new HashSet<>());
+        parent2.setSpouses(new HashSet<>());
+
+        when(store.beginReadTransaction()).thenReturn(tx);
+        doReturn(new DataStoreIterableBuilder<>(List.of(parent1, parent2)).build()).when(tx)
+                .loadObjects(any(), any());
+        doNothing().when(tx).flush(any());
+        doNothing().when(tx).commit(any());
+        doNothing().when(tx).close();
+
+        Elide elide = getElide(store, dictionary, null);
+        JsonApi jsonApi = new JsonApi(elide);
+        Route route = Route.builder().baseUrl(BASE_URL).path("/parent").build();
+
+        ElideResponse<String> expected = jsonApi.get(route, user, UUID.randomUUID());
+
+        ElideResponse<JsonApiStreamingBody> response = jsonApi.getStreaming(route, user, UUID.randomUUID());
+
+        assertEquals(HttpStatus.SC_OK, expected.getStatus());
+        assertEquals(HttpStatus.SC_OK, response.getStatus());
+
+        // The transaction stays open until the body has been written
+        verify(tx, times(1)).close();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        verify(tx, times(2)).close();
+        JSONAssert.assertEquals(expected.getBody(), outputStream.toString(StandardCharsets.UTF_8), true);
+    }
+
+    @Test
+    void streamingGetError() throws Exception {
+        DataStore store = mock(DataStore.class);
+        Elide elide = getElide(store, dictionary, null);
+        JsonApi jsonApi = new JsonApi(elide);
+        Route route = Route.builder().baseUrl(BASE_URL).path("/parent")
+                .parameters(Map.of("unknown", List.of("1"))).build();
+
+        ElideResponse<JsonApiStreamingBody> response = jsonApi.getStreaming(route, user, UUID.randomUUID());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+
+        assertEquals(HttpStatus.SC_BAD_REQUEST, response.getStatus());
+        JsonApiErrors errors = mapper.getObjectMapper().readValue(outputStream.toByteArray(), JsonApiErrors.class);
+        assertEquals(1, errors.getErrors().size());
+    }
+
+    @Test
+    void streamingGetCommitFailure() throws Exception {
+        DataStore store = mock(DataStore.class);
+        DataStoreTransaction tx = mock(DataStoreTransaction.class, Answers.CALLS_REAL_METHODS);
+
+        when(store.beginReadTransaction()).thenReturn(tx);
+        doReturn(new DataStoreIterableBuilder<>(List.of()).build()).when(tx).loadObjects(any(), any());
+        doNothing().when(tx).flush(any());
+        doThrow(new TransactionException(new IllegalStateException("commit"))).when(tx).commit(any());
+        doNothing().when(tx).close();
+
+        Elide elide = getElide(store, dictionary, null);
+        JsonApi jsonApi = new JsonApi(elide);
+        Route route = Route.builder().baseUrl(BASE_URL).path("/parent").build();
+
+        ElideResponse<JsonApiStreamingBody> response = jsonApi.getStreaming(route, user, UUID.randomUUID());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+
+        // Nothing is streamed before the commit so the client gets the error
+        assertEquals(HttpStatus.SC_LOCKED, response.getStatus());
+        verify(tx).close();
+        JsonApiErrors errors = mapper.getObjectMapper().readValue(outputStream.toByteArray(), JsonApiErrors.class);
+        assertEquals(1, errors.getErrors().size());
+    }
+
     private Elide getElide(DataStore dataStore, EntityDictionary dictionary, ExceptionMappers exceptionMappers) {
         ElideSettings settings = getElideSettings(dataStore, dictionary, exceptionMappers);
         return new Elide(settings, new TransactionRegistry(), settings.getEntityDictionary().getScanner(), false);
@@ -23,6 +23,8 @@ import com.paiondata.elide.datastores.aggregation.annotation.ColumnMeta;
 import com.paiondata.elide.datastores.aggregation.annotation.Join;
 import com.paiondata.elide.datastores.aggregation.annotation.TableMeta;
 import com.paiondata.elide.datastores.aggregation.cache.Cache;
+import com.paiondata.elide.datastores.aggregation.cache.QueryCoalescer;
+import com.paiondata.elide.datastores.aggregation.cache.TableVersionRegistry;
 import com.paiondata.elide.datastores.aggregation.core.QueryLogger;
 import com.paiondata.elide.datastores.aggregation.metadata.enums.ValueType;
 import com.paiondata.elide.datastores.aggregation.metadata.models.ArgumentDefinition;
@@ -56,6 +58,8 @@ public class AggregationDataStore implements DataStore {
     private final Cache cache;
     private final Set<Type<?>> dynamicCompiledClasses;
     private final QueryLogger queryLogger;
+    private final QueryCoalescer queryCoalescer;
+    private final TableVersionRegistry tableVersionRegistry;
 
     public static final Predicate<AccessibleObject> IS_FIELD_HIDDEN = (field -> {
         ColumnMeta meta = field.getAnnotation(ColumnMeta.class);
@@ -135,7 +139,8 @@ public class AggregationDataStore implements DataStore {
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new AggregationDataStoreTransaction(queryEngine, cache, queryLogger);
+        return new AggregationDataStoreTransaction(queryEngine, cache, queryLogger, queryCoalescer,
+                tableVersionRegistry);
     }
 
     /**
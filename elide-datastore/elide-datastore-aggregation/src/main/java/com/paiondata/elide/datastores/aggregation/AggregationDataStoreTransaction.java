@@ -19,7 +19,9 @@ import com.paiondata.elide.core.request.Argument;
 import com.paiondata.elide.core.request.EntityProjection;
 import com.paiondata.elide.core.type.Type;
 import com.paiondata.elide.datastores.aggregation.cache.Cache;
+import com.paiondata.elide.datastores.aggregation.cache.QueryCoalescer;
 import com.paiondata.elide.datastores.aggregation.cache.QueryKeyExtractor;
+import com.paiondata.elide.datastores.aggregation.cache.TableVersionRegistry;
 import com.paiondata.elide.datastores.aggregation.core.QueryLogger;
 import com.paiondata.elide.datastores.aggregation.core.QueryResponse;
 import com.paiondata.elide.datastores.aggregation.filter.visitor.MatchesTemplateVisitor;
@@ -51,11 +53,26 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
     private final QueryEngine.Transaction queryEngineTransaction;
     private final QueryLogger queryLogger;
     private final MetaDataStore metaDataStore;
+    private final QueryCoalescer queryCoalescer;
+    private final TableVersionRegistry tableVersionRegistry;
 
     public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
                                            QueryLogger queryLogger) {
+        this(queryEngine, cache, queryLogger, null);
+    }
+
+    public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
+                                           QueryLogger queryLogger, QueryCoalescer queryCoalescer) {
+        this(queryEngine, cache, queryLogger, queryCoalescer, null);
+    }
+
+    public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
+                                           QueryLogger queryLogger, QueryCoalescer queryCoalescer,
+                                           TableVersionRegistry tableVersionRegistry) {
         this.queryEngine = queryEngine;
         this.cache = cache;
+        this.queryCoalescer = queryCoalescer;
+        this.tableVersionRegistry = tableVersionRegistry;
         this.queryEngineTransaction = queryEngine.beginTransaction();
         this.queryLogger = queryLogger;
         this.metaDataStore = queryEngine.getMetaDataStore();
@@ -106,29 +123,28 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
             Query query = buildQuery(entityProjection, scope);
             Table table = (Table) query.getSource();
             if (cache != null && !query.isBypassingCache()) {
-                String tableVersion = queryEngine.getTableVersion(table, queryEngineTransaction);
-                tableVersion = tableVersion == null ? "" : tableVersion;
+                String tableVersion = getTableVersion(table);
 
-                cacheKey = tableVersion + ';' + QueryKeyExtractor.extractKey(query);
-                result = cache.get(cacheKey);
+                //Without a recent table version the query runs without the cache.
+                if (tableVersion != null) {
+                    cacheKey = tableVersion + ';' + QueryKeyExtractor.extractKey(query);
+                    result = cache.get(cacheKey);
+                }
             }
 
             boolean isCached = result != null;
             List<String> queryText = queryEngine.explain(query);
             queryLogger.processQuery(scope.getRequestId(), query, queryText, isCached);
             if (result == null) {
-                result = queryEngine.executeQuery(query, queryEngineTransaction);
-                if (cacheKey != null) {
-
-                    //The query result needs to be streamed into an in memory list before caching.
-                    //TODO - add a cap to how many records can be streamed back.  If this is exceeded, abort caching
-                    //and return the results.
-                    QueryResult cacheableResult = QueryResult.builder()
-                            .data(Lists.newArrayList(result.getData().iterator()))
-                            .pageTotals(result.getPageTotals())
-                            .build();
-                    cache.put(cacheKey, cacheableResult);
-                    result = cacheableResult;
+                if (cacheKey == null) {
+                    result = queryEngine.executeQuery(query, queryEngineTransaction);
+                } else if (queryCoalescer == null) {
+                    result = executeAndCache(query, cacheKey);
+                } else {
+                    //Concurrent misses on the same key share a single execution.
+                    String key = cacheKey;
+                    result = queryCoalescer.execute(key, queryEngineTransaction, () -> cache.get(key),
+                            () -> executeAndCache(query, key));
                 }
             }
             if (entityProjection.getPagination() != null && entityProjection.getPagination().returnPageTotals()) {
@@ -147,6 +163,33 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
         }
     }
 
+    /**
+     * Returns the version of the table or null if the registry has no recently polled version, in which case the
+     * registry polls it in the background rather than on the request thread.
+     */
+    private String getTableVersion(Table table) {
+        if (tableVersionRegistry != null) {
+            return tableVersionRegistry.getTableVersion(queryEngine, table);
+        }
+
+        String tableVersion = queryEngine.getTableVersion(table, queryEngineTransaction);
+        return tableVersion == null ? "" : tableVersion;
+    }
+
+    private QueryResult executeAndCache(Query query, String cacheKey) {
+        QueryResult result = queryEngine.executeQuery(query, queryEngineTransaction);
+
+        //The query result needs to be streamed into an in memory list before caching.
+        //TODO - add a cap to how many records can be streamed back.  If this is exceeded, abort caching
+        //and return the results.
+        QueryResult cacheableResult = QueryResult.builder()
+                .data(Lists.newArrayList(result.getData().iterator()))
+                .pageTotals(result.getPageTotals())
+                .build();
+        cache.put(cacheKey, cacheableResult);
+        return cacheableResult;
+    }
+
     @Override
     public void close() throws IOException {
         queryEngineTransaction.close();
@@ -253,6 +296,9 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
     @Override
     public void cancel(RequestScope scope) {
         queryLogger.cancelQuery(scope.getRequestId());
+        if (queryCoalescer != null) {
+            queryCoalescer.cancel(queryEngineTransaction);
+        }
         queryEngineTransaction.cancel();
     }
 
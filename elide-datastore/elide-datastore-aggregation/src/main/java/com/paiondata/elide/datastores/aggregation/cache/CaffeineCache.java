@@ -19,26 +19,61 @@ public class CaffeineCache implements Cache {
     public static final int DEFAULT_MAXIMUM_ENTRIES = 1024;
 
     private final com.github.benmanes.caffeine.cache.Cache<Object, QueryResult> cache;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, byte[]> encodedCache;
+    private final QueryResultCodec codec;
 
     public CaffeineCache(int maximumSize, Duration expireAfterWrite) {
-        cache = Caffeine.newBuilder()
+        this(maximumSize, expireAfterWrite, null);
+    }
+
+    /**
+     * Constructor.
+     * @param maximumSize The maximum number of entries.
+     * @param expireAfterWrite The expiration of entries after write.
+     * @param codec Encodes the stored results to reduce their footprint, or null to store the results as is.
+     */
+    public CaffeineCache(int maximumSize, Duration expireAfterWrite, QueryResultCodec codec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
                 .maximumSize(maximumSize)
                 .expireAfterWrite(expireAfterWrite.toMinutes(), TimeUnit.MINUTES)
-                .recordStats()
-                .build();
+                .recordStats();
+        this.cache = codec == null ? builder.build() : null;
+        this.encodedCache = codec != null ? builder.build() : null;
+        this.codec = codec;
     }
 
     @Override
     public QueryResult get(Object key) {
-        return cache.getIfPresent(key);
+        if (codec == null) {
+            return cache.getIfPresent(key);
+        }
+        byte[] value = encodedCache.getIfPresent(key);
+        return value != null ? codec.decode(value) : null;
     }
 
     @Override
     public void put(Object key, QueryResult result) {
-        cache.put(key, result);
+        if (codec == null) {
+            cache.put(key, result);
+        } else {
+            encodedCache.put(key, codec.encode(result));
+        }
     }
 
+    /**
+     * Returns the underlying cache of results.
+     * @return the cache, or null if the results are stored encoded
+     * @see #getEncodedImplementation()
+     */
     public com.github.benmanes.caffeine.cache.Cache<Object, QueryResult> getImplementation() {
         return cache;
     }
+
+    /**
+     * Returns the underlying cache of results encoded by the {@link QueryResultCodec}.
+     * @return the cache, or null if the results are stored as is
+     */
+    public com.github.benmanes.caffeine.cache.Cache<Object, byte[]> getEncodedImplementation() {
+        return encodedCache;
+    }
 }
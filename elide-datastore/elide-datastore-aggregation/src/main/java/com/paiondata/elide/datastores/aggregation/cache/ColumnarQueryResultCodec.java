@@ -0,0 +1,340 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.aggregation.cache;
+
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.request.Attribute;
+import com.paiondata.elide.core.type.ParameterizedModel;
+import com.paiondata.elide.core.type.Type;
+import com.paiondata.elide.datastores.aggregation.query.QueryResult;
+import org.springframework.util.SerializationUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A compact {@link QueryResultCodec} storing the rows of a result column by column.
+ * <p>
+ * Rows of the aggregation store are {@link ParameterizedModel}s of a single model with the same attributes. The
+ * model and the attributes are written once. Integral and floating point columns are written as primitive arrays,
+ * strings are dictionary encoded and other values are serialized per column. Results of any other shape fall back
+ * to Java serialization. The encoded bytes can optionally be deflated.
+ */
+public class ColumnarQueryResultCodec implements QueryResultCodec {
+    private static final int MAGIC = 0x45515231;
+
+    private static final byte UNCOMPRESSED = 0;
+    private static final byte DEFLATED = 1;
+
+    private static final byte SERIALIZED = 0;
+    private static final byte COLUMNAR = 1;
+
+    private static final byte LONG = 0;
+    private static final byte INTEGER = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte FLOAT = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte STRING = 5;
+    private static final byte OBJECT = 6;
+
+    /**
+     * Compression applied to the encoded bytes.
+     */
+    public enum Compression {
+        NONE,
+        DEFLATE
+    }
+
+    private final EntityDictionary dictionary;
+    private final Compression compression;
+
+    /**
+     * Constructor.
+     * @param dictionary The dictionary of the aggregation store models, used to create and identify rows.
+     * @param compression The compression of the encoded bytes.
+     */
+    public ColumnarQueryResultCodec(EntityDictionary dictionary, Compression compression) {
+        this.dictionary = dictionary;
+        this.compression = compression;
+    }
+
+    @Override
+    public byte[] encode(QueryResult result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(MAGIC >>> 24);
+        bytes.write(MAGIC >>> 16);
+        bytes.write(MAGIC >>> 8);
+        bytes.write(MAGIC);
+        bytes.write(compression == Compression.DEFLATE ? DEFLATED : UNCOMPRESSED);
+
+        Deflater deflater = compression == Compression.DEFLATE ? new Deflater(Deflater.BEST_SPEED) : null;
+        OutputStream body = deflater != null ? new DeflaterOutputStream(bytes, deflater) : bytes;
+        try (DataOutputStream out = new DataOutputStream(body)) {
+            List<Object> rows = new ArrayList<>();
+            result.getData().forEach(rows::add);
+            if (isColumnar(rows)) {
+                out.writeByte(COLUMNAR);
+                writeColumnar(out, result, rows);
+            } else {
+                out.writeByte(SERIALIZED);
+                writeBytes(out, SerializationUtils.serialize(result));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (deflater != null) {
+                deflater.end();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public QueryResult decode(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteArrayInputStream header = new ByteArrayInputStream(bytes);
+        int magic = (header.read() << 24) | (header.read() << 16) | (header.read() << 8) | header.read();
+        if (magic != MAGIC) {
+            throw new IllegalArgumentException("Not an encoded query result");
+        }
+        InputStream body = header.read() == DEFLATED ? new InflaterInputStream(header) : header;
+        try (DataInputStream in = new DataInputStream(body)) {
+            if (in.readByte() == SERIALIZED) {
+                return (QueryResult) SerializationUtils.deserialize(readBytes(in));
+            }
+            return readColumnar(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isColumnar(List<Object> rows) {
+        if (rows.isEmpty() || !(rows.get(0) instanceof ParameterizedModel first)) {
+            return false;
+        }
+        Type<?> type = EntityDictionary.getType(first);
+        return rows.stream().allMatch(row -> row instanceof ParameterizedModel model
+                && type.equals(EntityDictionary.getType(model))
+                && first.attributes().equals(model.attributes()));
+    }
+
+    private void writeColumnar(DataOutputStream out, QueryResult result, List<Object> rows) throws IOException {
+        out.writeBoolean(result.getPageTotals() != null);
+        if (result.getPageTotals() != null) {
+            out.writeLong(result.getPageTotals());
+        }
+        out.writeInt(rows.size());
+
+        Type<?> type = EntityDictionary.getType(rows.get(0));
+        writeString(out, dictionary.getJsonAliasFor(type));
+        writeString(out, EntityDictionary.getModelVersion(type));
+
+        String[] ids = new String[rows.size()];
+        boolean sequential = true;
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = dictionary.getId(rows.get(i));
+            sequential = sequential && String.valueOf(i).equals(ids[i]);
+        }
+        out.writeBoolean(sequential);
+        if (!sequential) {
+            writeStrings(out, ids);
+        }
+
+        ArrayList<Attribute> attributes = new ArrayList<>(((ParameterizedModel) rows.get(0)).attributes());
+        writeBytes(out, SerializationUtils.serialize(attributes));
+        for (Attribute attribute : attributes) {
+            Object[] values = new Object[rows.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ((ParameterizedModel) rows.get(i)).invoke(attribute);
+            }
+            writeColumn(out, values);
+        }
+    }
+
+    private QueryResult readColumnar(DataInputStream in) throws IOException {
+        Long pageTotals = in.readBoolean() ? in.readLong() : null;
+        int rowCount = in.readInt();
+
+        Type<?> type = dictionary.getEntityClass(readString(in), readString(in));
+        List<Object> rows = new ArrayList<>(rowCount);
+        boolean sequential = in.readBoolean();
+        String[] ids = sequential ? null : (String[]) readStrings(in, rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Object row;
+            try {
+                row = type.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+            dictionary.setId(row, sequential ? String.valueOf(i) : ids[i]);
+            rows.add(row);
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Attribute> attributes = (List<Attribute>) SerializationUtils.deserialize(readBytes(in));
+        for (Attribute attribute : attributes) {
+            Object[] values = readColumn(in, rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                ((ParameterizedModel) rows.get(i)).addAttributeValue(attribute, values[i]);
+            }
+        }
+
+        return QueryResult.builder().data(rows).pageTotals(pageTotals).build();
+    }
+
+    private static byte kindOf(Object[] values) {
+        Class<?> valueClass = null;
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            if (valueClass != null && valueClass != value.getClass()) {
+                return OBJECT;
+            }
+            valueClass = value.getClass();
+        }
+        if (valueClass == Long.class) {
+            return LONG;
+        } else if (valueClass == Integer.class) {
+            return INTEGER;
+        } else if (valueClass == Double.class) {
+            return DOUBLE;
+        } else if (valueClass == Float.class) {
+            return FLOAT;
+        } else if (valueClass == Boolean.class) {
+            return BOOLEAN;
+        } else if (valueClass == String.class) {
+            return STRING;
+        }
+        return OBJECT;
+    }
+
+    private static void writeColumn(DataOutputStream out, Object[] values) throws IOException {
+        byte kind = kindOf(values);
+        out.writeByte(kind);
+        if (kind == STRING) {
+            writeStrings(out, values);
+            return;
+        }
+        if (kind == OBJECT) {
+            writeBytes(out, SerializationUtils.serialize(values));
+            return;
+        }
+
+        BitSet nulls = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            nulls.set(i, values[i] == null);
+        }
+        writeBytes(out, nulls.toByteArray());
+        for (Object value : values) {
+            switch (kind) {
+                case LONG -> out.writeLong(value == null ? 0L : (Long) value);
+                case INTEGER -> out.writeInt(value == null ? 0 : (Integer) value);
+                case DOUBLE -> out.writeDouble(value == null ? 0D : (Double) value);
+                case FLOAT -> out.writeFloat(value == null ? 0F : (Float) value);
+                default -> out.writeBoolean(value != null && (Boolean) value);
+            }
+        }
+    }
+
+    private static Object[] readColumn(DataInputStream in, int rowCount) throws IOException {
+        byte kind = in.readByte();
+        if (kind == STRING) {
+            return readStrings(in, rowCount);
+        }
+        if (kind == OBJECT) {
+            return (Object[]) SerializationUtils.deserialize(readBytes(in));
+        }
+
+        BitSet nulls = BitSet.valueOf(readBytes(in));
+        Object[] values = new Object[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            Object value = switch (kind) {
+                case LONG -> in.readLong();
+                case INTEGER -> in.readInt();
+                case DOUBLE -> in.readDouble();
+                case FLOAT -> in.readFloat();
+                default -> in.readBoolean();
+            };
+            values[i] = nulls.get(i) ? null : value;
+        }
+        return values;
+    }
+
+    private static void writeStrings(DataOutputStream out, Object[] values) throws IOException {
+        Map<Object, Integer> codes = new HashMap<>();
+        List<Object> distinct = new ArrayList<>();
+        int[] indexes = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                indexes[i] = -1;
+                continue;
+            }
+            indexes[i] = codes.computeIfAbsent(values[i], value -> {
+                distinct.add(value);
+                return distinct.size() - 1;
+            });
+        }
+
+        out.writeInt(distinct.size());
+        for (Object value : distinct) {
+            writeString(out, Objects.toString(value));
+        }
+        for (int index : indexes) {
+            out.writeInt(index);
+        }
+    }
+
+    private static Object[] readStrings(DataInputStream in, int rowCount) throws IOException {
+        String[] distinct = new String[in.readInt()];
+        for (int i = 0; i < distinct.length; i++) {
+            distinct[i] = readString(in);
+        }
+        String[] values = new String[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            int index = in.readInt();
+            values[i] = index < 0 ? null : distinct[index];
+        }
+        return values;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.aggregation.cache;
+
+import com.paiondata.elide.datastores.aggregation.QueryEngine;
+import com.paiondata.elide.datastores.aggregation.query.QueryResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent executions of the same query within a JVM.
+ * <p>
+ * The first caller for a cache key checks the cache again, as the previous caller may have just stored the result,
+ * and then executes the query. Callers for the same key arriving while it runs wait for
+ * its {@link QueryResult} instead of executing the query again. A waiting caller executes the query itself if the
+ * result is not available within the timeout or if the executing caller was cancelled.
+ * Cancelling the {@link QueryEngine.Transaction} of a waiting caller through {@link #cancel(QueryEngine.Transaction)}
+ * stops its wait.
+ */
+@Slf4j
+public class QueryCoalescer {
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
+
+    private final ConcurrentMap<Object, Flight> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<QueryEngine.Transaction, Flight> executing = new ConcurrentHashMap<>();
+    private final ConcurrentMap<QueryEngine.Transaction, CompletableFuture<QueryResult>> waiting =
+            new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public QueryCoalescer() {
+        this(DEFAULT_TIMEOUT);
+    }
+
+    public QueryCoalescer(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the result of the query for the cache key, sharing a single execution with concurrent callers.
+     *
+     * @param key the cache key of the query
+     * @param transaction the transaction of the caller
+     * @param query executes the query, the returned result must be safe to share across requests
+     * @return the query result
+     */
+    public QueryResult execute(Object key, QueryEngine.Transaction transaction, Supplier<QueryResult> query) {
+        return execute(key, transaction, () -> null, query);
+    }
+
+    /**
+     * Returns the result of the query for the cache key, sharing a single execution with concurrent callers.
+     *
+     * @param key the cache key of the query
+     * @param transaction the transaction of the caller
+     * @param cached looks up the result in the cache, returning null if it is not cached
+     * @param query executes the query, the returned result must be safe to share across requests
+     * @return the query result
+     */
+    public QueryResult execute(Object key, QueryEngine.Transaction transaction, Supplier<QueryResult> cached,
+            Supplier<QueryResult> query) {
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            return lead(key, flight, transaction, cached, query);
+        }
+
+        CompletableFuture<QueryResult> result = existing.result.copy();
+        waiting.put(transaction, result);
+        try {
+            QueryResult queryResult = result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            coalesced.increment();
+            return queryResult;
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            log.debug("Timed out waiting for an identical query, executing it");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted waiting for an identical query");
+        } catch (ExecutionException e) {
+            if (!existing.cancelled) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(cause);
+            }
+            log.debug("Identical query was cancelled, executing it");
+        } finally {
+            waiting.remove(transaction);
+        }
+
+        QueryResult cachedResult = cached.get();
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        executions.increment();
+        return query.get();
+    }
+
+    /**
+     * Stops the caller using the transaction from waiting for a query executed by another caller. If the caller is
+     * executing a query the callers waiting for it execute the query themselves.
+     *
+     * @param transaction the transaction of the caller
+     */
+    public void cancel(QueryEngine.Transaction transaction) {
+        Flight flight = executing.get(transaction);
+        if (flight != null) {
+            flight.cancelled = true;
+        }
+        CompletableFuture<QueryResult> result = waiting.get(transaction);
+        if (result != null) {
+            result.cancel(true);
+        }
+    }
+
+    /**
+     * Returns the number of queries executed through this coalescer.
+     *
+     * @return the number of executions
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * Returns the number of callers that received the result of a query executed by another caller.
+     *
+     * @return the number of coalesced callers
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns the number of callers that timed out waiting for a query executed by another caller.
+     *
+     * @return the number of timeouts
+     */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Returns the number of distinct queries currently executing.
+     *
+     * @return the number of queries in flight
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private QueryResult lead(Object key, Flight flight, QueryEngine.Transaction transaction,
+            Supplier<QueryResult> cached, Supplier<QueryResult> query) {
+        executing.put(transaction, flight);
+        try {
+            QueryResult result = cached.get();
+            if (result == null) {
+                executions.increment();
+                result = query.get();
+            }
+            flight.result.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+            executing.remove(transaction, flight);
+        }
+    }
+
+    private static class Flight {
+        private final CompletableFuture<QueryResult> result = new CompletableFuture<>();
+        private volatile boolean cancelled = false;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.aggregation.cache;
+
+import com.paiondata.elide.datastores.aggregation.query.QueryResult;
+
+/**
+ * Converts {@link QueryResult}s to and from the bytes stored by a {@link Cache}.
+ */
+public interface QueryResultCodec {
+    /**
+     * Encode a query result.
+     *
+     * @param result the result to encode
+     * @return the encoded result
+     */
+    byte[] encode(QueryResult result);
+
+    /**
+     * Decode a query result.
+     *
+     * @param bytes the bytes returned by {@link #encode(QueryResult)}, or null
+     * @return the decoded result, or null if bytes is null
+     */
+    QueryResult decode(byte[] bytes);
+}
@@ -18,26 +18,38 @@ import redis.clients.jedis.UnifiedJedis;
 public class RedisCache implements Cache {
     @Setter private UnifiedJedis jedis;
     @Setter private long defaultExpirationMinutes;
+    @Setter private QueryResultCodec codec;
 
     /**
      * Constructor.
-     * @param jedis Jedis Connection Pool to Redis clusteer.
+     * @param jedis Jedis Connection Pool to Redis cluster.
      * @param defaultExpirationMinutes Expiration Time for results on Redis.
      */
     public RedisCache(UnifiedJedis jedis, long defaultExpirationMinutes) {
+        this(jedis, defaultExpirationMinutes, SerializationQueryResultCodec.INSTANCE);
+    }
+
+    /**
+     * Constructor.
+     * @param jedis Jedis Connection Pool to Redis cluster.
+     * @param defaultExpirationMinutes Expiration Time for results on Redis.
+     * @param codec Encodes the results stored on Redis.
+     */
+    public RedisCache(UnifiedJedis jedis, long defaultExpirationMinutes, QueryResultCodec codec) {
         this.jedis = jedis;
         this.defaultExpirationMinutes = defaultExpirationMinutes;
+        this.codec = codec;
     }
 
     @Override
     public QueryResult get(Object key) {
-        return (QueryResult) SerializationUtils.deserialize(jedis.get(SerializationUtils.serialize(key)));
+        return codec.decode(jedis.get(SerializationUtils.serialize(key)));
     }
 
     @Override
     public void put(Object key, QueryResult result) {
         byte[] keyBytes = SerializationUtils.serialize(key);
-        jedis.set(keyBytes, SerializationUtils.serialize(result));
+        jedis.set(keyBytes, codec.encode(result));
         jedis.expire(keyBytes, defaultExpirationMinutes * 60);
     }
 }
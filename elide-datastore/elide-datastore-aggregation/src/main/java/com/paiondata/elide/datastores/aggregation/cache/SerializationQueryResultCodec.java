@@ -0,0 +1,26 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.aggregation.cache;
+
+import com.paiondata.elide.datastores.aggregation.query.QueryResult;
+import org.springframework.util.SerializationUtils;
+
+/**
+ * A {@link QueryResultCodec} using Java serialization.
+ */
+public class SerializationQueryResultCodec implements QueryResultCodec {
+    public static final SerializationQueryResultCodec INSTANCE = new SerializationQueryResultCodec();
+
+    @Override
+    public byte[] encode(QueryResult result) {
+        return SerializationUtils.serialize(result);
+    }
+
+    @Override
+    public QueryResult decode(byte[] bytes) {
+        return (QueryResult) SerializationUtils.deserialize(bytes);
+    }
+}
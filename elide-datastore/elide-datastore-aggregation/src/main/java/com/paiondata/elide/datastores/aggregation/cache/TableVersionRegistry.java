@@ -0,0 +1,196 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.aggregation.cache;
+
+import com.paiondata.elide.datastores.aggregation.QueryEngine;
+import com.paiondata.elide.datastores.aggregation.metadata.models.Table;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves table versions for query cache keys from memory.
+ * <p>
+ * Tables are registered the first time their version is requested. The version of every registered table is then
+ * polled through {@link QueryEngine#getTableVersion(Table, QueryEngine.Transaction)} on a background thread at a
+ * fixed interval. Callers never wait for a poll: a version is only returned if it was polled within the staleness
+ * bound. Otherwise the table is polled again in the background and the caller must do without a version.
+ */
+@Slf4j
+public class TableVersionRegistry implements Closeable {
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService poller;
+    private final long maxStalenessNanos;
+
+    private final LongAdder polls = new LongAdder();
+    private final LongAdder pollNanos = new LongAdder();
+    private final LongAdder pollFailures = new LongAdder();
+    private final LongAdder versionChanges = new LongAdder();
+
+    /**
+     * Constructor.
+     * @param pollInterval The delay between polls of the registered tables.
+     * @param maxStaleness How long a polled version is served before it is polled again on demand.
+     */
+    public TableVersionRegistry(Duration pollInterval, Duration maxStaleness) {
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "elide-table-version-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller.scheduleWithFixedDelay(this::pollAll, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the last polled version of the table if it is within the staleness bound. If it is not, the table is
+     * polled in the background without waiting for it.
+     *
+     * @param queryEngine the query engine of the table
+     * @param table the table
+     * @return the version, empty if the table is not versioned, or null if no recent version is available
+     */
+    public String getTableVersion(QueryEngine queryEngine, Table table) {
+        Entry entry = entries.get(table.getId());
+        if (entry == null) {
+            Entry created = new Entry(queryEngine, table);
+            entry = entries.putIfAbsent(table.getId(), created);
+            if (entry == null) {
+                refresh(created);
+                return null;
+            }
+        }
+
+        String version = entry.version;
+        if (version == null || System.nanoTime() - entry.polledAt > maxStalenessNanos) {
+            refresh(entry);
+            return null;
+        }
+        return version;
+    }
+
+    /**
+     * Polls the table in the background unless a poll requested by a caller is already pending.
+     */
+    private void refresh(Entry entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            poller.execute(() -> {
+                try {
+                    poll(entry);
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+            log.debug("Table version registry is closed");
+        }
+    }
+
+    /**
+     * Returns the number of table version polls.
+     *
+     * @return the number of polls
+     */
+    public long getPolls() {
+        return polls.sum();
+    }
+
+    /**
+     * Returns the total time spent polling table versions.
+     *
+     * @param unit the time unit of the result
+     * @return the total poll time
+     */
+    public double getPollTime(TimeUnit unit) {
+        return (double) pollNanos.sum() / unit.toNanos(1);
+    }
+
+    /**
+     * Returns the number of table version polls that failed.
+     *
+     * @return the number of failed polls
+     */
+    public long getPollFailures() {
+        return pollFailures.sum();
+    }
+
+    /**
+     * Returns the number of times a polled table version differed from the previously polled version.
+     *
+     * @return the number of version changes
+     */
+    public long getVersionChanges() {
+        return versionChanges.sum();
+    }
+
+    /**
+     * Returns the number of tables being polled.
+     *
+     * @return the number of tables
+     */
+    public int getTables() {
+        return entries.size();
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    private void pollAll() {
+        entries.values().forEach(this::poll);
+    }
+
+    private void poll(Entry entry) {
+        long start = System.nanoTime();
+        try (QueryEngine.Transaction transaction = entry.queryEngine.beginTransaction()) {
+            String polled = entry.queryEngine.getTableVersion(entry.table, transaction);
+            String version = polled == null ? "" : polled;
+
+            if (entry.version != null && !entry.version.equals(version)) {
+                versionChanges.increment();
+                log.debug("Version of table {} changed from {} to {}", entry.table.getName(), entry.version,
+                        version);
+            }
+            entry.version = version;
+            entry.polledAt = System.nanoTime();
+        } catch (Exception e) {
+            pollFailures.increment();
+            log.warn("Failed to poll the version of table {}: {}", entry.table.getName(), e.getMessage());
+        } finally {
+            polls.increment();
+            pollNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private static class Entry {
+        private final QueryEngine queryEngine;
+        private final Table table;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile String version;
+        private volatile long polledAt;
+
+        Entry(QueryEngine queryEngine, Table table) {
+            this.queryEngine = queryEngine;
+            this.table = table;
+        }
+    }
+}
@@ -5,18 +5,29 @@
  */
 package com.paiondata.elide.datastores.aggregation.dynamic;
 
+import com.paiondata.elide.core.request.Attribute;
 import com.paiondata.elide.core.type.Dynamic;
 import com.paiondata.elide.core.type.ParameterizedModel;
 import com.paiondata.elide.core.type.Type;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * Base model instance returned by AggregationStore for dynamic types.
+ * <p>
+ * Attributes whose alias is a field of the table are stored in slots indexed by the table type.  Other attributes,
+ * such as the same column requested twice with different arguments, fall back to the storage of
+ * {@link ParameterizedModel}.
  */
 public class DynamicModelInstance extends ParameterizedModel implements Dynamic {
     private static final long serialVersionUID = -374837200186480683L;
 
     protected TableType tableType;
 
+    private Attribute[] slotAttributes;
+    private Object[] slotValues;
+
     public DynamicModelInstance(TableType type) {
         this.tableType = type;
     }
@@ -25,4 +36,63 @@ public class DynamicModelInstance extends ParameterizedModel implements Dynamic
     public Type getType() {
         return tableType;
     }
+
+    @Override
+    public <T> void addAttributeValue(Attribute attribute, T value) {
+        int slot = tableType.getSlot(attribute.getAlias());
+        if (slot < 0) {
+            super.addAttributeValue(attribute, value);
+            return;
+        }
+        if (slotAttributes == null) {
+            slotAttributes = new Attribute[tableType.getSlotCount()];
+            slotValues = new Object[slotAttributes.length];
+        }
+        slotAttributes[slot] = attribute;
+        slotValues[slot] = value;
+    }
+
+    @Override
+    public Set<Attribute> attributes() {
+        if (slotAttributes == null) {
+            return super.attributes();
+        }
+        Set<Attribute> attributes = new LinkedHashSet<>();
+        for (Attribute attribute : slotAttributes) {
+            if (attribute != null) {
+                attributes.add(attribute);
+            }
+        }
+        attributes.addAll(super.attributes());
+        return attributes;
+    }
+
+    @Override
+    public <T> T invoke(Attribute attribute) {
+        int slot = slotOf(attribute.getAlias());
+        if (slot >= 0) {
+            return (T) slotValues[slot];
+        }
+        return super.invoke(attribute);
+    }
+
+    @Override
+    public <T> T fetch(String alias, T defaultValue) {
+        int slot = slotOf(alias);
+        if (slot >= 0) {
+            return (T) slotValues[slot];
+        }
+        return super.fetch(alias, defaultValue);
+    }
+
+    /**
+     * Returns the slot holding the value of an alias or -1 if the alias has no value in a slot.
+     */
+    private int slotOf(String alias) {
+        if (slotAttributes == null) {
+            return -1;
+        }
+        int slot = tableType.getSlot(alias);
+        return slot >= 0 && slotAttributes[slot] != null ? slot : -1;
+    }
 }
@@ -7,7 +7,6 @@ package com.paiondata.elide.datastores.aggregation.dynamic;
 
 import static java.lang.reflect.Modifier.PUBLIC;
 
-import com.paiondata.elide.core.exceptions.InvalidParameterizedAttributeException;
 import com.paiondata.elide.core.request.Attribute;
 import com.paiondata.elide.core.type.Field;
 import com.paiondata.elide.core.type.ParameterizedModel;
@@ -40,17 +39,8 @@ public class FieldType implements Field {
 
         ParameterizedModel model = (ParameterizedModel) obj;
 
-        try {
-            return model.invoke(Attribute.builder()
-                    .name(name)
-                    .type(type)
-                    .alias(name)
-                    .build());
-        } catch (InvalidParameterizedAttributeException e) {
-
-            //Return default value if the field has not been set.
-            return null;
-        }
+        //Return default value if the field has not been set.
+        return model.fetch(name, null);
     }
 
     @Override
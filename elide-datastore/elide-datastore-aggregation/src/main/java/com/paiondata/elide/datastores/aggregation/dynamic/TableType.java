@@ -90,6 +90,7 @@ public class TableType implements Type<DynamicModelInstance> {
     protected Table table;
     private transient Map<Class<? extends Annotation>, Annotation> annotations;
     private Map<String, Field> fields;
+    private Map<String, Integer> slots;
     private Package namespace;
 
     public TableType(Table table) {
@@ -101,6 +102,7 @@ public class TableType implements Type<DynamicModelInstance> {
         this.table = table;
         this.annotations = buildAnnotations(table);
         this.fields = buildFields(table);
+        this.slots = buildSlots(fields);
     }
 
     @Override
@@ -161,6 +163,25 @@ public class TableType implements Type<DynamicModelInstance> {
         return null;
     }
 
+    /**
+     * Returns the position of the value of a field in the storage of a model instance.  Fields added after
+     * construction, such as joins, have no slot.
+     * @param name The field name.
+     * @return The slot or -1 if the field has no slot.
+     */
+    public int getSlot(String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the number of slots of a model instance.
+     * @return The number of slots.
+     */
+    public int getSlotCount() {
+        return slots.size();
+    }
+
     @Override
     public Method[] getConstructors() {
         return new Method[0];
@@ -825,6 +846,12 @@ public class TableType implements Type<DynamicModelInstance> {
         return fields;
     }
 
+    private static Map<String, Integer> buildSlots(Map<String, Field> fields) {
+        Map<String, Integer> slots = new HashMap<>();
+        fields.keySet().forEach(name -> slots.put(name, slots.size()));
+        return slots;
+    }
+
     private static Field buildIdField() {
         Map<Class<? extends Annotation>, Annotation> annotations = new HashMap<>();
         annotations.put(Id.class, new Id() {
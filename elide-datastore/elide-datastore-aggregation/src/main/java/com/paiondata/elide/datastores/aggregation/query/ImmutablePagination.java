@@ -6,6 +6,7 @@
 
 package com.paiondata.elide.datastores.aggregation.query;
 
+import com.paiondata.elide.core.exceptions.InvalidValueException;
 import com.paiondata.elide.core.request.Pagination;
 
 import lombok.Value;
@@ -26,6 +27,9 @@ public class ImmutablePagination implements Pagination {
             return (ImmutablePagination) src;
         }
         if (src != null) {
+            if (src.isKeyset()) {
+                throw new InvalidValueException("Keyset pagination is not supported for analytic models.");
+            }
             return new ImmutablePagination(
                     src.getOffset(), src.getLimit(), src.isDefaultInstance(), src.returnPageTotals());
         }
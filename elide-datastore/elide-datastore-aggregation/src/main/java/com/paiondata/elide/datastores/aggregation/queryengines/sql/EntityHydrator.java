@@ -40,9 +40,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
@@ -64,6 +66,19 @@ public class EntityHydrator implements Iterable<Object> {
 
     private Map<String, String> projections;
 
+    private final Table table;
+
+    private final Type<?> entityClass;
+
+    private final String idFieldName;
+
+    /**
+     * Resolved once per query and reused for every row, in the order of {@link #projections}.
+     */
+    private final List<ColumnHydrator> columns;
+
+    private final Map<String, ColumnHydrator> columnsByAlias;
+
     public EntityHydrator(ResultSet resultSet, Query query, EntityDictionary entityDictionary) {
         this.query = query;
         this.entityDictionary = entityDictionary;
@@ -80,6 +95,18 @@ public class EntityHydrator implements Iterable<Object> {
                 .map(SQLColumnProjection.class::cast)
                 .filter(SQLColumnProjection::isProjected)
                 .collect(Collectors.toMap(ColumnProjection::getAlias, ColumnProjection::getSafeAlias)));
+
+        table = getBaseTable(query);
+        entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+        idFieldName = entityDictionary.getIdFieldName(entityClass);
+
+        columns = new ArrayList<>(projections.size());
+        columnsByAlias = new HashMap<>();
+        projections.forEach((alias, safeAlias) -> {
+            ColumnHydrator column = new ColumnHydrator(alias, safeAlias);
+            columns.add(column);
+            columnsByAlias.put(alias, column);
+        });
     }
 
     /**
@@ -90,52 +117,107 @@ public class EntityHydrator implements Iterable<Object> {
      * @return A hydrated entity object.
      */
     protected Object coerceObjectToEntity(Map<String, Object> result, MutableInt counter) {
-        Table table = getBaseTable(query);
-        Type<?> entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+        Object entityInstance = newEntityInstance();
+
+        result.forEach((fieldName, value) -> setValue(entityInstance, columnsByAlias.get(fieldName), value));
+
+        setId(entityInstance, counter.getAndIncrement());
+        return entityInstance;
+    }
+
+    private Object coerceRowToEntity(Object[] row, int id) {
+        Object entityInstance = newEntityInstance();
+
+        for (int i = 0; i < row.length; i++) {
+            setValue(entityInstance, columns.get(i), row[i]);
+        }
 
-        //Construct the object.
-        Object entityInstance;
+        setId(entityInstance, id);
+        return entityInstance;
+    }
+
+    private Object newEntityInstance() {
         try {
-            entityInstance = entityClass.newInstance();
+            return entityClass.newInstance();
         } catch (InstantiationException | IllegalAccessException e) {
             throw new IllegalStateException(e);
         }
+    }
 
-        result.forEach((fieldName, value) -> {
-            ColumnProjection columnProjection = query.getColumnProjection(fieldName);
-            Column column = table.getColumn(Column.class, columnProjection.getName());
-
-            Type<?> fieldType = getType(entityClass, columnProjection);
-            Attribute attribute = projectionToAttribute(columnProjection, fieldType);
+    private void setValue(Object entityInstance, ColumnHydrator column, Object value) {
+        if (entityInstance instanceof ParameterizedModel parameterizedModel) {
+            parameterizedModel.addAttributeValue(column.attribute, column.coerce(value));
+        } else {
+            getEntityDictionary().setValue(entityInstance, column.alias, value);
+        }
+    }
 
-            ValueType valueType = column.getValueType();
+    private void setId(Object entityInstance, int id) {
+        //Set the ID (it must be coerced from an integer)
+        getEntityDictionary().setValue(entityInstance, idFieldName, id);
+    }
 
-            if (entityInstance instanceof ParameterizedModel) {
+    /**
+     * The attribute, type and conversions of a projected column.
+     */
+    private class ColumnHydrator {
+        private final String alias;
+        private final String safeAlias;
+        private final Attribute attribute;
+        private final Type<?> fieldType;
+
+        /**
+         * The values of an ENUM_TEXT or ENUM_ORDINAL column, null for other columns.
+         */
+        private final LinkedHashSet<String> enumValues;
+        private final String[] enumValuesByOrdinal;
+
+        ColumnHydrator(String alias, String safeAlias) {
+            this.alias = alias;
+            this.safeAlias = safeAlias;
+
+            ColumnProjection columnProjection = query.getColumnProjection(alias);
+            Column column = table.getColumn(Column.class, columnProjection.getName());
 
-                // This is an ENUM_TEXT or ENUM_ORDINAL type.
-                if (! fieldType.isEnum() //Java enums can be coerced directly via CoerceUtil - so skip them.
-                        && valueType == ValueType.TEXT
-                        && column.getValues() != null
-                        && !column.getValues().isEmpty()) {
-                    value = convertToEnumValue(value, column.getValues());
-                }
+            fieldType = getType(entityClass, columnProjection);
+            attribute = projectionToAttribute(columnProjection, fieldType);
 
-                ((ParameterizedModel) entityInstance).addAttributeValue(
-                    attribute,
-                    CoerceUtil.coerce(value, fieldType));
+            if (! fieldType.isEnum() //Java enums can be coerced directly via CoerceUtil - so skip them.
+                    && column.getValueType() == ValueType.TEXT
+                    && column.getValues() != null
+                    && !column.getValues().isEmpty()) {
+                enumValues = column.getValues();
+                enumValuesByOrdinal = enumValues.toArray(new String[0]);
             } else {
-                    getEntityDictionary().setValue(entityInstance, fieldName, value);
+                enumValues = null;
+                enumValuesByOrdinal = null;
             }
-        });
+        }
 
-        //Set the ID (it must be coerced from an integer)
-        getEntityDictionary().setValue(
-                entityInstance,
-                getEntityDictionary().getIdFieldName(entityClass),
-                counter.getAndIncrement()
-        );
+        Object coerce(Object value) {
+            if (enumValues != null) {
+                value = convertToEnumValue(value);
+            }
+            return CoerceUtil.coerce(value, fieldType);
+        }
 
-        return entityInstance;
+        private String convertToEnumValue(Object value) {
+            if (value == null) {
+                return null;
+            }
+
+            if (Integer.class.isAssignableFrom(value.getClass())) {
+                Integer valueIndex = (Integer) value;
+                if (valueIndex < enumValuesByOrdinal.length) {
+                    return enumValuesByOrdinal[valueIndex];
+                }
+            }
+            else if (enumValues.contains(value.toString())) {
+                return value.toString();
+            }
+
+            throw new InvalidValueException(value, "Value must map to a value in: " + enumValues);
+        }
     }
 
     private Table getBaseTable(Query query) {
@@ -185,71 +267,58 @@ public class EntityHydrator implements Iterable<Object> {
         }
     }
 
-    private String convertToEnumValue(Object value, LinkedHashSet<String> enumValues) {
-        if (value == null) {
-            return null;
-        }
+    @Override
+    public Iterator<Object> iterator() {
+        return new RowIterator();
+    }
 
-        if (Integer.class.isAssignableFrom(value.getClass())) {
-            Integer valueIndex = (Integer) value;
-            if (valueIndex < enumValues.size()) {
-                return enumValues.toArray(new String[0])[valueIndex];
-            }
-        }
-        else if (enumValues.contains(value.toString())) {
-            return value.toString();
-        }
+    /**
+     * Reads the projected columns of each row of the result set and hydrates them into an entity.
+     */
+    private class RowIterator implements Iterator<Object> {
 
-        throw new InvalidValueException(value, "Value must map to a value in: " + enumValues);
-    }
+        Object next = null;
 
-    @Override
-    public Iterator<Object> iterator() {
-        return new Iterator<>() {
-
-            Object next = null;
-            MutableInt counter = new MutableInt(0);
-
-            @Override
-            public boolean hasNext() {
-                if (next == null) {
-                    try {
-                        next = next();
-                    } catch (NoSuchElementException e) {
-                        return false;
-                    }
-                }
+        private int counter = 0;
 
-                return true;
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    next = next();
+                } catch (NoSuchElementException e) {
+                    return false;
+                }
             }
 
-            @Override
-            public Object next() {
+            return true;
+        }
+
+        @Override
+        public Object next() {
+
+            if (next != null) {
+                Object result = next;
+                next = null;
+                return result;
+            }
 
-                if (next != null) {
-                    Object result = next;
-                    next = null;
-                    return result;
+            try {
+                boolean hasNext = resultSet.next();
+                if (! hasNext) {
+                    throw new NoSuchElementException();
                 }
+                Object[] row = new Object[columns.size()];
 
-                try {
-                    boolean hasNext = resultSet.next();
-                    if (! hasNext) {
-                        throw new NoSuchElementException();
-                    }
-                    Map<String, Object> row = new LinkedHashMap<>();
-
-                    for (Map.Entry<String, String> entry : projections.entrySet()) {
-                        Object value = resultSet.getObject(entry.getValue());
-                        row.put(entry.getKey(), value);
-                    }
-
-                    return coerceObjectToEntity(row, counter);
-                } catch (SQLException e) {
-                    log.error("Error iterating over results {}", e.getMessage());
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = resultSet.getObject(columns.get(i).safeAlias);
                 }
-                throw new NoSuchElementException();
+
+                return coerceRowToEntity(row, counter++);
+            } catch (SQLException e) {
+                log.error("Error iterating over results {}", e.getMessage());
             }
-        };
+            throw new NoSuchElementException();
+        }
     }
 }
@@ -69,6 +69,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -86,6 +90,7 @@ public class SQLQueryEngine extends QueryEngine {
     private final FormulaValidator formulaValidator;
     private final Function<String, ConnectionDetails> connectionDetailsLookup;
     private final QueryPlanMerger merger;
+    private final Executor pageTotalExecutor;
 
     public SQLQueryEngine(MetaDataStore metaDataStore, Function<String, ConnectionDetails> connectionDetailsLookup) {
         this(metaDataStore, connectionDetailsLookup, new HashSet<>(), new DefaultQueryPlanMerger(metaDataStore),
@@ -107,6 +112,27 @@ public class SQLQueryEngine extends QueryEngine {
             QueryPlanMerger merger,
             QueryValidator validator
     ) {
+        this(metaDataStore, connectionDetailsLookup, optimizers, merger, validator, null);
+    }
+
+    /**
+     * Constructor.
+     * @param metaDataStore : MetaDataStore.
+     * @param connectionDetailsLookup : maps a connection name to meta info about the connection.
+     * @param optimizers The set of enabled optimizers.
+     * @param merger Merges multiple plans into a smaller set (one if possible)
+     * @param validator Validates each incoming client query.
+     * @param pageTotalExecutor Runs page total queries on their own connection concurrently with the data query.
+     *                          Page totals are queried before the data query when null.
+     */
+    public SQLQueryEngine(
+            MetaDataStore metaDataStore,
+            Function<String, ConnectionDetails> connectionDetailsLookup,
+            Set<Optimizer> optimizers,
+            QueryPlanMerger merger,
+            QueryValidator validator,
+            Executor pageTotalExecutor
+    ) {
 
         Preconditions.checkNotNull(connectionDetailsLookup);
 
@@ -118,6 +144,7 @@ public class SQLQueryEngine extends QueryEngine {
         populateMetaData(metaDataStore);
         this.optimizers = optimizers;
         this.merger = merger;
+        this.pageTotalExecutor = pageTotalExecutor;
     }
 
     private static final Function<ResultSet, Object> SINGLE_RESULT_MAPPER = rs -> {
@@ -203,7 +230,9 @@ public class SQLQueryEngine extends QueryEngine {
     static class SqlTransaction implements QueryEngine.Transaction {
 
         private Connection conn;
-        private final List<NamedParamPreparedStatement> stmts = new ArrayList<>();
+        private final List<Connection> concurrentConns = new CopyOnWriteArrayList<>();
+        private final List<NamedParamPreparedStatement> stmts = new CopyOnWriteArrayList<>();
+        private volatile boolean cancelled = false;
 
         private void initializeConnection(DataSource dataSource) {
             try {
@@ -227,14 +256,42 @@ public class SQLQueryEngine extends QueryEngine {
             return stmt;
         }
 
+        /**
+         * Prepares a statement on a new connection so that it can run concurrently with the statements of
+         * {@link #initializeStatement(String, DataSource)}.
+         * @param namedParamQuery The query.
+         * @param dataSource The data source to connect to.
+         * @return The prepared statement.
+         */
+        public NamedParamPreparedStatement initializeConcurrentStatement(String namedParamQuery,
+                DataSource dataSource) {
+            NamedParamPreparedStatement stmt;
+            try {
+                Connection concurrentConn = dataSource.getConnection();
+                concurrentConns.add(concurrentConn);
+                stmt = new NamedParamPreparedStatement(concurrentConn, namedParamQuery);
+                stmts.add(stmt);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+
+            // The transaction may have been cancelled before the statement was registered.
+            if (cancelled) {
+                throw new IllegalStateException("Query cancelled");
+            }
+            return stmt;
+        }
+
         @Override
         public void close() {
             stmts.forEach(SQLQueryEngine::cancelAndCloseSoftly);
             closeSoftly(conn);
+            concurrentConns.forEach(SQLQueryEngine::closeSoftly);
         }
 
         @Override
         public void cancel() {
+            cancelled = true;
             stmts.forEach(SQLQueryEngine::cancelSoftly);
         }
     }
@@ -260,25 +317,56 @@ public class SQLQueryEngine extends QueryEngine {
         QueryResult.QueryResultBuilder resultBuilder = QueryResult.builder();
         NamedParamPreparedStatement stmt;
 
+        CompletableFuture<Long> pageTotal = null;
         Pagination pagination = query.getPagination();
         if (returnPageTotals(pagination)) {
-            resultBuilder.pageTotals(getPageTotal(expandedQuery, sql, query, sqlTransaction));
+            if (pageTotalExecutor == null) {
+                resultBuilder.pageTotals(getPageTotal(expandedQuery, sql, query, sqlTransaction, false));
+            } else {
+                pageTotal = CompletableFuture.supplyAsync(
+                        () -> getPageTotal(expandedQuery, sql, query, sqlTransaction, true), pageTotalExecutor);
+            }
         }
 
-        log.debug("SQL Query: " + queryString);
-        stmt = sqlTransaction.initializeStatement(queryString, dataSource);
-
-        // Supply the query parameters to the query
-        supplyFilterQueryParameters(query, stmt, dialect);
+        ResultSet resultSet;
+        try {
+            log.debug("SQL Query: " + queryString);
+            stmt = sqlTransaction.initializeStatement(queryString, dataSource);
+
+            // Supply the query parameters to the query
+            supplyFilterQueryParameters(query, stmt, dialect);
+
+            // Run the primary query and log the time spent.
+            resultSet = runQuery(stmt, queryString, Function.identity());
+        } catch (RuntimeException e) {
+            if (pageTotal != null) {
+                // Don't leave the page total query running on the transaction once it is closed.
+                pageTotal.handle((total, error) -> total).join();
+            }
+            throw e;
+        }
 
-        // Run the primary query and log the time spent.
-        ResultSet resultSet = runQuery(stmt, queryString, Function.identity());
+        if (pageTotal != null) {
+            resultBuilder.pageTotals(joinPageTotal(pageTotal));
+        }
 
         resultBuilder.data(new EntityHydrator(resultSet, query, metadataDictionary));
         return resultBuilder.build();
     }
 
-    private long getPageTotal(Query expandedQuery, NativeQuery sql, Query clientQuery, SqlTransaction sqlTransaction) {
+    private static long joinPageTotal(CompletableFuture<Long> pageTotal) {
+        try {
+            return pageTotal.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private long getPageTotal(Query expandedQuery, NativeQuery sql, Query clientQuery, SqlTransaction sqlTransaction,
+            boolean concurrent) {
         ConnectionDetails details = expandedQuery.getConnectionDetails();
         DataSource dataSource = details.getDataSource();
         SQLDialect dialect = details.getDialect();
@@ -290,7 +378,9 @@ public class SQLQueryEngine extends QueryEngine {
             return 1;
         }
 
-        NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(paginationSQL.toString(), dataSource);
+        NamedParamPreparedStatement stmt = concurrent
+                ? sqlTransaction.initializeConcurrentStatement(paginationSQL.toString(), dataSource)
+                : sqlTransaction.initializeStatement(paginationSQL.toString(), dataSource);
 
         // Supply the query parameters to the query
         supplyFilterQueryParameters(clientQuery, stmt, dialect);
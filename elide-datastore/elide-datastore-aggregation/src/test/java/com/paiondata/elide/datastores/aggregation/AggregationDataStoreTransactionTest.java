@@ -17,6 +17,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -38,6 +39,7 @@ import com.paiondata.elide.core.utils.coerce.CoerceUtil;
 import com.paiondata.elide.core.utils.coerce.converters.ISO8601DateSerde;
 import com.paiondata.elide.datastores.aggregation.cache.Cache;
 import com.paiondata.elide.datastores.aggregation.cache.QueryKeyExtractor;
+import com.paiondata.elide.datastores.aggregation.cache.TableVersionRegistry;
 import com.paiondata.elide.datastores.aggregation.core.QueryLogger;
 import com.paiondata.elide.datastores.aggregation.core.QueryResponse;
 import com.paiondata.elide.datastores.aggregation.framework.SQLUnitTest;
@@ -86,6 +88,11 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
             super(queryEngine, cache, queryLogger);
         }
 
+        public MyAggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache, QueryLogger queryLogger,
+                TableVersionRegistry tableVersionRegistry) {
+            super(queryEngine, cache, queryLogger, null, tableVersionRegistry);
+        }
+
         @Override
         Query buildQuery(EntityProjection entityProjection, RequestScope scope) {
             return query;
@@ -195,6 +202,41 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         assertEquals(1, columnArguments.size());
     }
 
+    @Test
+    public void loadObjectsUsesPolledTableVersion() {
+        QueryResult queryResult = QueryResult.builder().data(DATA).build();
+        TableVersionRegistry tableVersionRegistry = mock(TableVersionRegistry.class);
+        when(tableVersionRegistry.getTableVersion(queryEngine, playerStatsTable)).thenReturn("bar");
+        when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
+        AggregationDataStoreTransaction transaction =
+                new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger, tableVersionRegistry);
+        EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
+
+        when(scope.getRoute()).thenReturn(Route.builder().build());
+        assertEquals(DATA, Lists.newArrayList(transaction.loadObjects(entityProjection, scope)));
+
+        Mockito.verify(cache).get("bar;" + queryKey);
+        Mockito.verify(queryEngine, never()).getTableVersion(any(), any());
+    }
+
+    @Test
+    public void loadObjectsBypassesCacheWithoutPolledVersion() {
+        QueryResult queryResult = QueryResult.builder().data(DATA).build();
+        TableVersionRegistry tableVersionRegistry = mock(TableVersionRegistry.class);
+        when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
+        AggregationDataStoreTransaction transaction =
+                new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger, tableVersionRegistry);
+        EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
+
+        when(scope.getRoute()).thenReturn(Route.builder().build());
+        assertEquals(DATA, Lists.newArrayList(transaction.loadObjects(entityProjection, scope)));
+
+        //The version is not looked up on the request thread and the result is not cached.
+        Mockito.verify(queryEngine, never()).getTableVersion(any(), any());
+        Mockito.verify(cache, never()).get(any());
+        Mockito.verify(cache, never()).put(any(), any());
+    }
+
     @Test
     public void loadObjectsPopulatesCache() {
         Mockito.reset(queryLogger);
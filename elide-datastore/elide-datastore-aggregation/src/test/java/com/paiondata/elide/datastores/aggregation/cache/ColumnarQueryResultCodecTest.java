@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.request.Attribute;
+import com.paiondata.elide.datastores.aggregation.cache.ColumnarQueryResultCodec.Compression;
+import com.paiondata.elide.datastores.aggregation.query.QueryResult;
+import com.google.common.collect.Lists;
+import example.PlayerStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test cases for ColumnarQueryResultCodec.
+ */
+public class ColumnarQueryResultCodecTest {
+    private static final Attribute HIGH_SCORE = Attribute.builder().type(long.class).name("highScore").build();
+    private static final Attribute COUNTRY = Attribute.builder().type(String.class).name("countryIsoCode").build();
+    private static final Attribute RATING = Attribute.builder().type(String.class).name("overallRating")
+            .alias("rating").build();
+
+    private final EntityDictionary dictionary;
+
+    public ColumnarQueryResultCodecTest() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(PlayerStats.class);
+    }
+
+    private QueryResult playerStats(int count) {
+        List<Object> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PlayerStats stats = new PlayerStats();
+            stats.setId(String.valueOf(i));
+            stats.addAttributeValue(HIGH_SCORE, (long) i * 100);
+            stats.addAttributeValue(COUNTRY, i % 2 == 0 ? "USA" : "HKG");
+            stats.addAttributeValue(RATING, i % 3 == 0 ? null : "Good");
+            rows.add(stats);
+        }
+        return QueryResult.builder().data(rows).pageTotals((long) count).build();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    public void testRoundTrip(Compression compression) {
+        ColumnarQueryResultCodec codec = new ColumnarQueryResultCodec(dictionary, compression);
+
+        QueryResult decoded = codec.decode(codec.encode(playerStats(10)));
+
+        assertEquals(10L, decoded.getPageTotals());
+        List<Object> rows = Lists.newArrayList(decoded.getData());
+        assertEquals(10, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            PlayerStats stats = (PlayerStats) rows.get(i);
+            assertEquals(String.valueOf(i), stats.getId());
+            assertEquals((long) i * 100, (Long) stats.invoke(HIGH_SCORE));
+            assertEquals(i % 2 == 0 ? "USA" : "HKG", stats.invoke(COUNTRY));
+            assertEquals(i % 3 == 0 ? null : "Good", stats.invoke(RATING));
+        }
+    }
+
+    @Test
+    public void testSmallerThanSerialization() {
+        QueryResult result = playerStats(1000);
+
+        int serialized = SerializationQueryResultCodec.INSTANCE.encode(result).length;
+        int columnar = new ColumnarQueryResultCodec(dictionary, Compression.NONE).encode(result).length;
+        int deflated = new ColumnarQueryResultCodec(dictionary, Compression.DEFLATE).encode(result).length;
+
+        assertTrue(columnar < serialized);
+        assertTrue(deflated < columnar);
+    }
+
+    @Test
+    public void testFallbackToSerialization() {
+        ColumnarQueryResultCodec codec = new ColumnarQueryResultCodec(dictionary, Compression.DEFLATE);
+        QueryResult result = QueryResult.builder().data(Arrays.asList("xyzzy", "plugh")).build();
+
+        QueryResult decoded = codec.decode(codec.encode(result));
+
+        assertEquals(Arrays.asList("xyzzy", "plugh"), decoded.getData());
+        assertNull(decoded.getPageTotals());
+    }
+
+    @Test
+    public void testDecodeNull() {
+        assertNull(new ColumnarQueryResultCodec(dictionary, Compression.NONE).decode(null));
+    }
+
+    @Test
+    public void testCaffeineCache() {
+        CaffeineCache cache = new CaffeineCache(10, Duration.ofMinutes(1),
+                new ColumnarQueryResultCodec(dictionary, Compression.NONE));
+
+        cache.put("key", playerStats(2));
+
+        assertNotNull(cache.getEncodedImplementation().getIfPresent("key"));
+        assertNull(cache.getImplementation());
+        assertEquals(2, Lists.newArrayList(cache.get("key").getData()).size());
+        assertNull(cache.get("missing"));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.paiondata.elide.datastores.aggregation.QueryEngine;
+import com.paiondata.elide.datastores.aggregation.query.QueryResult;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class QueryCoalescerTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final QueryEngine.Transaction leaderTransaction = mock(QueryEngine.Transaction.class);
+    private final QueryEngine.Transaction followerTransaction = mock(QueryEngine.Transaction.class);
+    private final QueryResult result = QueryResult.builder().data(Collections.singletonList("xyzzy")).build();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executed = new AtomicInteger();
+
+    @AfterEach
+    public void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private Supplier<QueryResult> blockingQuery(QueryResult queryResult) {
+        return () -> {
+            executed.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return queryResult;
+        };
+    }
+
+    private Supplier<QueryResult> query(QueryResult queryResult) {
+        return () -> {
+            executed.incrementAndGet();
+            return queryResult;
+        };
+    }
+
+    @Test
+    public void testConcurrentMissesShareExecution() throws Exception {
+        QueryCoalescer coalescer = new QueryCoalescer();
+
+        Future<QueryResult> leader = executor.submit(
+                () -> coalescer.execute("key", leaderTransaction, blockingQuery(result)));
+        started.await();
+        Future<QueryResult> follower = executor.submit(
+                () -> coalescer.execute("key", followerTransaction, query(null)));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertSame(result, leader.get(10, TimeUnit.SECONDS));
+        assertSame(result, follower.get(10, TimeUnit.SECONDS));
+        assertEquals(1, executed.get());
+        assertEquals(1, coalescer.getExecutions());
+        assertEquals(1, coalescer.getCoalesced());
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    public void testDifferentKeysExecuteSeparately() {
+        QueryCoalescer coalescer = new QueryCoalescer();
+
+        assertSame(result, coalescer.execute("key1", leaderTransaction, query(result)));
+        assertSame(result, coalescer.execute("key2", leaderTransaction, query(result)));
+        assertEquals(2, executed.get());
+        assertEquals(0, coalescer.getCoalesced());
+    }
+
+    @Test
+    public void testLeaderRechecksCache() {
+        QueryCoalescer coalescer = new QueryCoalescer();
+
+        assertSame(result, coalescer.execute("key", leaderTransaction, () -> result, query(null)));
+        assertEquals(0, executed.get());
+        assertEquals(0, coalescer.getExecutions());
+        assertEquals(0, coalescer.getInFlight());
+    }
+
+    @Test
+    public void testFollowerTimesOut() throws Exception {
+        QueryCoalescer coalescer = new QueryCoalescer(Duration.ofMillis(50));
+        QueryResult followerResult = QueryResult.builder().data(Collections.emptyList()).build();
+
+        executor.submit(() -> coalescer.execute("key", leaderTransaction, blockingQuery(result)));
+        started.await();
+
+        assertSame(followerResult, coalescer.execute("key", followerTransaction, query(followerResult)));
+        assertEquals(2, executed.get());
+        assertEquals(1, coalescer.getTimeouts());
+        assertEquals(0, coalescer.getCoalesced());
+    }
+
+    @Test
+    public void testLeaderFailureIsShared() throws Exception {
+        QueryCoalescer coalescer = new QueryCoalescer();
+        Supplier<QueryResult> failingQuery = () -> {
+            blockingQuery(result).get();
+            throw new IllegalArgumentException("bad query");
+        };
+
+        Future<QueryResult> leader = executor.submit(() -> coalescer.execute("key", leaderTransaction, failingQuery));
+        started.await();
+        Future<QueryResult> follower = executor.submit(
+                () -> coalescer.execute("key", followerTransaction, query(result)));
+        Thread.sleep(100);
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> follower.get(10, TimeUnit.SECONDS));
+        assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+        assertThrows(ExecutionException.class, () -> leader.get(10, TimeUnit.SECONDS));
+        assertEquals(1, executed.get());
+    }
+
+    @Test
+    public void testLeaderCancelled() throws Exception {
+        QueryCoalescer coalescer = new QueryCoalescer();
+        Supplier<QueryResult> cancelledQuery = () -> {
+            blockingQuery(result).get();
+            throw new IllegalStateException("cancelled");
+        };
+
+        executor.submit(() -> coalescer.execute("key", leaderTransaction, cancelledQuery));
+        started.await();
+        Future<QueryResult> follower = executor.submit(
+                () -> coalescer.execute("key", followerTransaction, query(result)));
+        Thread.sleep(100);
+        coalescer.cancel(leaderTransaction);
+        release.countDown();
+
+        assertSame(result, follower.get(10, TimeUnit.SECONDS));
+        assertEquals(2, executed.get());
+    }
+
+    @Test
+    public void testFollowerCancelled() throws Exception {
+        QueryCoalescer coalescer = new QueryCoalescer();
+
+        executor.submit(() -> coalescer.execute("key", leaderTransaction, blockingQuery(result)));
+        started.await();
+        Future<QueryResult> follower = executor.submit(
+                () -> coalescer.execute("key", followerTransaction, query(result)));
+        Thread.sleep(100);
+        coalescer.cancel(followerTransaction);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> follower.get(10, TimeUnit.SECONDS));
+        assertEquals(CancellationException.class, e.getCause().getClass());
+        assertEquals(1, executed.get());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.paiondata.elide.datastores.aggregation.QueryEngine;
+import com.paiondata.elide.datastores.aggregation.metadata.models.Table;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+public class TableVersionRegistryTest {
+    private final QueryEngine queryEngine = mock(QueryEngine.class);
+    private final Table table = mock(Table.class);
+    private TableVersionRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        when(table.getId()).thenReturn("playerStats");
+        when(table.getName()).thenReturn("playerStats");
+        when(queryEngine.beginTransaction()).thenReturn(mock(QueryEngine.Transaction.class));
+    }
+
+    @AfterEach
+    public void shutdown() {
+        registry.close();
+    }
+
+    private static <T> T await(Supplier<T> supplier) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            T value = supplier.get();
+            if (value != null) {
+                return value;
+            }
+            Thread.sleep(50);
+        }
+        return null;
+    }
+
+    @Test
+    public void testVersionPolledInBackground() throws Exception {
+        when(queryEngine.getTableVersion(eq(table), any())).thenReturn("1", "2");
+        registry = new TableVersionRegistry(Duration.ofMillis(100), Duration.ofMinutes(1));
+
+        //The first request registers the table without waiting for its version.
+        assertNull(registry.getTableVersion(queryEngine, table));
+        assertEquals("1", await(() -> registry.getTableVersion(queryEngine, table)));
+        assertEquals("2", await(() -> "2".equals(registry.getTableVersion(queryEngine, table)) ? "2" : null));
+        assertEquals(1, registry.getVersionChanges());
+        assertEquals(1, registry.getTables());
+    }
+
+    @Test
+    public void testUnversionedTable() throws Exception {
+        registry = new TableVersionRegistry(Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        registry.getTableVersion(queryEngine, table);
+        assertEquals("", await(() -> registry.getTableVersion(queryEngine, table)));
+    }
+
+    @Test
+    public void testStaleVersionIsNotServed() throws Exception {
+        when(queryEngine.getTableVersion(eq(table), any())).thenReturn("1");
+        registry = new TableVersionRegistry(Duration.ofMinutes(1), Duration.ZERO);
+
+        registry.getTableVersion(queryEngine, table);
+        await(() -> registry.getPolls() > 0 ? true : null);
+        assertNull(registry.getTableVersion(queryEngine, table));
+
+        //Asking for a stale version polls it again long before the poll interval.
+        assertEquals(true, await(() -> registry.getPolls() > 1 ? true : null));
+    }
+
+    @Test
+    public void testFailedPoll() throws Exception {
+        when(queryEngine.getTableVersion(eq(table), any())).thenThrow(new IllegalStateException("unavailable"));
+        registry = new TableVersionRegistry(Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        registry.getTableVersion(queryEngine, table);
+        await(() -> registry.getPollFailures() > 0 ? true : null);
+        assertNull(registry.getTableVersion(queryEngine, table));
+        assertEquals(1, registry.getPollFailures());
+    }
+}
@@ -10,11 +10,15 @@ import static com.paiondata.elide.datastores.aggregation.annotation.JoinType.INN
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.paiondata.elide.annotation.Include;
 import com.paiondata.elide.annotation.ReadPermission;
+import com.paiondata.elide.core.exceptions.InvalidParameterizedAttributeException;
+import com.paiondata.elide.core.request.Attribute;
+import com.paiondata.elide.core.type.ClassType;
 import com.paiondata.elide.core.type.Field;
 import com.paiondata.elide.datastores.aggregation.annotation.CardinalitySize;
 import com.paiondata.elide.datastores.aggregation.annotation.ColumnMeta;
@@ -66,6 +70,48 @@ public class TableTypeTest {
         assertFalse((Boolean) field.get(testTypeInstance));
     }
 
+    @Test
+    void testWideRowAttributes() throws Exception {
+        Table.TableBuilder builder = Table.builder();
+        for (int idx = 0; idx < 60; idx++) {
+            builder.measure(Measure.builder()
+                    .name("measure" + idx)
+                    .type(Type.INTEGER)
+                    .build());
+        }
+
+        TableType testType = new TableType(builder.build());
+        DynamicModelInstance testTypeInstance = testType.newInstance();
+
+        for (int idx = 0; idx < 60; idx++) {
+            testTypeInstance.addAttributeValue(Attribute.builder()
+                    .name("measure" + idx)
+                    .alias("measure" + idx)
+                    .type(ClassType.LONG_TYPE)
+                    .build(), (long) idx);
+        }
+
+        // The same column requested with a different alias has no slot.
+        Attribute aliased = Attribute.builder()
+                .name("measure0")
+                .alias("otherMeasure0")
+                .type(ClassType.LONG_TYPE)
+                .build();
+        testTypeInstance.addAttributeValue(aliased, 100L);
+
+        assertEquals(61, testTypeInstance.attributes().size());
+        for (int idx = 0; idx < 60; idx++) {
+            assertEquals((long) idx, (Long) testType.getDeclaredField("measure" + idx).get(testTypeInstance));
+        }
+        assertEquals(100L, (Long) testTypeInstance.invoke(aliased));
+        assertEquals(0L, (Long) testTypeInstance.fetch("measure0", null));
+        assertNull(testTypeInstance.fetch("missing", null));
+        assertThrows(InvalidParameterizedAttributeException.class, () -> testTypeInstance.invoke(Attribute.builder()
+                .name("missing")
+                .type(ClassType.LONG_TYPE)
+                .build()));
+    }
+
     @Test
     void testTableAnnotations() throws Exception {
         Set<String> tags = new HashSet<>(Arrays.asList("tag1", "tag2"));
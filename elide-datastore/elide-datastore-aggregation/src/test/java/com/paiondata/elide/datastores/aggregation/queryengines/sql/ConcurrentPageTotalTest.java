@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.aggregation.queryengines.sql;
+
+import static com.paiondata.elide.core.utils.TypeHelper.getClassType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.paiondata.elide.annotation.Include;
+import com.paiondata.elide.core.utils.DefaultClassScanner;
+import com.paiondata.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.paiondata.elide.datastores.aggregation.metadata.MetaDataStore;
+import com.paiondata.elide.datastores.aggregation.query.ImmutablePagination;
+import com.paiondata.elide.datastores.aggregation.query.Query;
+import com.paiondata.elide.datastores.aggregation.query.QueryResult;
+import com.paiondata.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
+import com.paiondata.elide.datastores.aggregation.timegrains.Day;
+import com.google.common.collect.ImmutableList;
+import example.PlayerStats;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs page total queries concurrently with the data query.
+ */
+public class ConcurrentPageTotalTest extends SQLUnitTest {
+    private static ExecutorService pageTotalExecutor;
+
+    @BeforeAll
+    public static void init() {
+        pageTotalExecutor = Executors.newFixedThreadPool(2);
+        MetaDataStore metaDataStore = new MetaDataStore(new DefaultClassScanner(),
+                getClassType(new DefaultClassScanner().getAnnotatedClasses("example", Include.class)),
+                false);
+        SQLUnitTest.init(SQLDialectFactory.getDefaultDialect(), new HashSet<>(), metaDataStore, pageTotalExecutor);
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        pageTotalExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testPagination() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate"))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        QueryResult result = engine.executeQuery(query, transaction);
+        List<Object> data = toList(result.getData());
+
+        PlayerStats stats1 = new PlayerStats();
+        stats1.setId("0");
+        stats1.setLowScore(35);
+        stats1.setOverallRating("Good");
+        stats1.setRecordedDate(new Day(Date.valueOf("2019-07-12")));
+
+        assertEquals(ImmutableList.of(stats1), data, "Returned record does not match");
+        assertEquals(3, result.getPageTotals(), "Page totals does not match");
+    }
+
+    @Test
+    public void testPaginationWithFilter() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .whereFilter(filterParser.parseFilterExpression("overallRating==Great", playerStatsType, false))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        QueryResult result = engine.executeQuery(query, transaction);
+
+        assertEquals(1, toList(result.getData()).size());
+        assertEquals(1, result.getPageTotals(), "Page totals does not match");
+    }
+}
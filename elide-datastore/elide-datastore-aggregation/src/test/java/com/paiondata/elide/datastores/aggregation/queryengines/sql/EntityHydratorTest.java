@@ -122,4 +122,28 @@ public class EntityHydratorTest extends SQLUnitTest {
         assertFalse(iterator.hasNext());
         assertThrows(NoSuchElementException.class, () -> hydrator.iterator().next());
     }
+
+    @Test
+    void testRowsHydratedWithSequentialIds() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject("highScore")).thenReturn(1234, 5678);
+
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .build();
+
+        EntityHydrator hydrator = new EntityHydrator(resultSet, query, dictionary);
+
+        Iterator<Object> iterator = hydrator.iterator();
+        PlayerStats first = (PlayerStats) iterator.next();
+        PlayerStats second = (PlayerStats) iterator.next();
+
+        assertEquals("0", first.getId());
+        assertEquals(1234L, first.getHighScore());
+        assertEquals("1", second.getId());
+        assertEquals(5678L, second.getHighScore());
+        assertFalse(iterator.hasNext());
+    }
 }
@@ -43,6 +43,9 @@ public class JMSDataStore implements DataStore {
     //For serializing Elide models to topics.
     protected ObjectMapper objectMapper;
 
+    //Shares topic consumers between subscriptions or null for a consumer per subscription.
+    protected TopicMultiplexer topicMultiplexer;
+
     /**
      * Constructor.
      * @param models The set of models to manage.
@@ -57,6 +60,26 @@ public class JMSDataStore implements DataStore {
             EntityDictionary dictionary,
             ObjectMapper objectMapper,
             Duration timeout
+    ) {
+        this(models, connectionFactory, dictionary, objectMapper, timeout, null);
+    }
+
+    /**
+     * Constructor.
+     * @param models The set of models to manage.
+     * @param connectionFactory The JMS connection factory.
+     * @param dictionary The entity dictionary.
+     * @param objectMapper Object mapper for serializing/deserializing elide models to JMS topics.
+     * @param timeout request timeout in milliseconds. 0 means immediate. null means no timeout.
+     * @param topicMultiplexer shares topic consumers between subscriptions. null means a consumer per subscription.
+     */
+    public JMSDataStore(
+            Set<Type<?>> models,
+            ConnectionFactory connectionFactory,
+            EntityDictionary dictionary,
+            ObjectMapper objectMapper,
+            Duration timeout,
+            TopicMultiplexer topicMultiplexer
     ) {
         this.models = models.stream().collect(Collectors.toMap(
                 model -> model,
@@ -72,6 +95,7 @@ public class JMSDataStore implements DataStore {
         this.dictionary = dictionary;
         this.objectMapper = objectMapper;
         this.timeoutInMs = timeout != null ? timeout.toMillis() : -1;
+        this.topicMultiplexer = topicMultiplexer;
     }
 
     /**
@@ -88,12 +112,32 @@ public class JMSDataStore implements DataStore {
             EntityDictionary dictionary,
             ObjectMapper objectMapper,
             Duration timeout
+    ) {
+        this(scanner, connectionFactory, dictionary, objectMapper, timeout, null);
+    }
+
+    /**
+     * Constructor.
+     * @param scanner to scan for subscription annotations.
+     * @param connectionFactory The JMS connection factory.
+     * @param dictionary The entity dictionary.
+     * @param objectMapper Object mapper for serializing/deserializing elide models to JMS topics.
+     * @param timeout request timeout in milliseconds. 0 means immediate. null means no timeout.
+     * @param topicMultiplexer shares topic consumers between subscriptions. null means a consumer per subscription.
+     */
+    public JMSDataStore(
+            ClassScanner scanner,
+            ConnectionFactory connectionFactory,
+            EntityDictionary dictionary,
+            ObjectMapper objectMapper,
+            Duration timeout,
+            TopicMultiplexer topicMultiplexer
     ) {
         this(
                 scanner.getAnnotatedClasses(Subscription.class, Include.class).stream()
                         .map(ClassType::of)
                         .collect(Collectors.toSet()),
-                connectionFactory, dictionary, objectMapper, timeout);
+                connectionFactory, dictionary, objectMapper, timeout, topicMultiplexer);
     }
 
     @Override
@@ -118,6 +162,9 @@ public class JMSDataStore implements DataStore {
 
     @Override
     public DataStoreTransaction beginTransaction() {
+        if (topicMultiplexer != null) {
+            return new JMSDataStoreTransaction(topicMultiplexer, dictionary, timeoutInMs);
+        }
         JMSContext context = connectionFactory.createContext();
         return new JMSDataStoreTransaction(context, dictionary, objectMapper, timeoutInMs);
     }
@@ -39,6 +39,8 @@ public class JMSDataStoreTransaction implements DataStoreTransaction {
     private ObjectMapper objectMapper;
     private long timeoutInMs;
     private List<JMSConsumer> consumers;
+    private TopicMultiplexer topicMultiplexer;
+    private List<TopicSubscription<?>> subscriptions;
 
     /**
      * Constructor.
@@ -54,6 +56,19 @@ public class JMSDataStoreTransaction implements DataStoreTransaction {
         this.objectMapper = objectMapper;
         this.timeoutInMs = timeoutInMs;
         this.consumers = new ArrayList<>();
+        this.subscriptions = new ArrayList<>();
+    }
+
+    /**
+     * Constructor.
+     * @param topicMultiplexer shares topic consumers between subscriptions.
+     * @param dictionary Elide Entity Dictionary
+     * @param timeoutInMs request timeout in milliseconds.  0 means immediate.  -1 means no timeout.
+     */
+    public JMSDataStoreTransaction(TopicMultiplexer topicMultiplexer, EntityDictionary dictionary,
+            long timeoutInMs) {
+        this(null, dictionary, null, timeoutInMs);
+        this.topicMultiplexer = topicMultiplexer;
     }
 
     @Override
@@ -87,6 +102,13 @@ public class JMSDataStoreTransaction implements DataStoreTransaction {
 
         String topicName = topicType.toTopicName(entityProjection.getType(), dictionary);
 
+        if (topicMultiplexer != null) {
+            TopicSubscription<T> subscription =
+                    topicMultiplexer.subscribe(topicName, entityProjection.getType(), timeoutInMs);
+            subscriptions.add(subscription);
+            return subscription;
+        }
+
         Destination destination = context.createTopic(topicName);
         JMSConsumer consumer = context.createConsumer(destination);
 
@@ -112,6 +134,10 @@ public class JMSDataStoreTransaction implements DataStoreTransaction {
     }
 
     private void shutdown() {
+        subscriptions.forEach(TopicSubscription::close);
+        if (context == null) {
+            return;
+        }
         try {
             consumers.forEach(JMSConsumer::close);
             context.stop();
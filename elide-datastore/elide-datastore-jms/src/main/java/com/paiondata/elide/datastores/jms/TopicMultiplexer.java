@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.paiondata.elide.datastores.jms;
+
+import com.paiondata.elide.core.type.Type;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.JMSRuntimeException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shares one JMS consumer per topic and model type between every subscription to it on this node.
+ * <p>
+ * Each message is deserialized once and handed to the buffer of every subscription. A subscription that does not
+ * keep up drops its oldest messages once its buffer is full rather than holding up the other subscriptions. The
+ * filters and permissions of each subscription are still evaluated in memory by Elide, so the deserialized models
+ * are shared by the subscriptions and must not be modified.
+ * <p>
+ * Messages are received by message listeners, which are not allowed in some Jakarta EE containers. If the connection
+ * fails every subscription ends, and the next subscription reconnects.
+ */
+@Slf4j
+public class TopicMultiplexer implements Closeable {
+    private final ConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Guarded by this
+    private final Map<Key, SharedConsumer> consumers = new HashMap<>();
+    private JMSContext context;
+
+    /**
+     * Constructor.
+     * @param connectionFactory The JMS connection factory.
+     * @param objectMapper Object mapper for deserializing elide models from JMS topics.
+     * @param bufferSize The most messages each subscription buffers before it drops the oldest.
+     */
+    public TopicMultiplexer(ConnectionFactory connectionFactory, ObjectMapper objectMapper, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("The buffer size must be positive");
+        }
+        this.connectionFactory = connectionFactory;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Subscribes to a topic, starting to share a consumer of it if there is none.
+     * @param topicName The topic name.
+     * @param type The model type of the messages.
+     * @param timeoutInMs How long the subscription waits for a message.  0 means immediate.  -1 means no timeout.
+     * @param <T> The model type.
+     * @return The subscription, which must be closed once done with.
+     */
+    public synchronized <T> TopicSubscription<T> subscribe(String topicName, Type<?> type, long timeoutInMs) {
+        if (context == null) {
+            JMSContext created = connectionFactory.createContext();
+            created.setExceptionListener(e -> disconnected(created, e));
+            context = created;
+        }
+
+        SharedConsumer consumer = consumers.get(new Key(topicName, type));
+        if (consumer == null) {
+            consumer = new SharedConsumer(new Key(topicName, type));
+            consumers.put(consumer.key, consumer);
+            context.start();
+        }
+
+        SharedConsumer sharedConsumer = consumer;
+        TopicSubscription<T> subscription = new TopicSubscription<>(this,
+                closed -> unsubscribe(sharedConsumer, closed), bufferSize, timeoutInMs);
+        consumer.subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Returns the number of topics consumed.
+     * @return The number of shared consumers.
+     */
+    public synchronized int getConsumerCount() {
+        return consumers.size();
+    }
+
+    /**
+     * Returns the number of messages subscriptions have dropped because they did not keep up.
+     * @return The number of messages dropped.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        consumers.values().forEach(SharedConsumer::close);
+        consumers.clear();
+        if (context != null) {
+            try {
+                context.close();
+            } catch (JMSRuntimeException e) {
+                log.debug("Exception throws while closing context: {}", e.getMessage());
+            }
+            context = null;
+        }
+    }
+
+    void dropped() {
+        dropped.incrementAndGet();
+    }
+
+    /**
+     * Ends every subscription of a failed connection so that none waits for messages that will never arrive.
+     */
+    private synchronized void disconnected(JMSContext failed, JMSException e) {
+        if (context != failed) {
+            // Already closed or reconnected
+            return;
+        }
+        log.error("Connection to the topics failed, ending {} shared consumers", consumers.size(), e);
+        close();
+    }
+
+    /**
+     * Stops sharing the consumer once its last subscription is closed.
+     */
+    private synchronized void unsubscribe(SharedConsumer sharedConsumer, TopicSubscription<?> subscription) {
+        sharedConsumer.subscriptions.remove(subscription);
+        if (sharedConsumer.subscriptions.isEmpty() && consumers.remove(sharedConsumer.key, sharedConsumer)) {
+            sharedConsumer.close();
+        }
+    }
+
+    private record Key(String topicName, Type<?> type) {
+    }
+
+    /**
+     * A consumer of a topic with its own session, which delivers its messages to the listener one at a time.
+     */
+    private final class SharedConsumer implements MessageListener {
+        private final Key key;
+        private final JMSContext session;
+        private final JMSConsumer consumer;
+        private final MessageDeserializer<Object> deserializer;
+        private final Set<TopicSubscription<?>> subscriptions = new CopyOnWriteArraySet<>();
+
+        SharedConsumer(Key key) {
+            this.key = key;
+            this.deserializer = new MessageDeserializer<>(key.type(), objectMapper);
+            this.session = context.createContext(JMSContext.AUTO_ACKNOWLEDGE);
+            this.consumer = session.createConsumer(session.createTopic(key.topicName()));
+            this.consumer.setMessageListener(this);
+        }
+
+        @Override
+        public void onMessage(Message message) {
+            Object model;
+            try {
+                model = deserializer.apply(message);
+            } catch (RuntimeException e) {
+                log.error("Unable to deserialize message from {}", key.topicName(), e);
+                return;
+            }
+            subscriptions.forEach(subscription -> subscription.offer(model));
+        }
+
+        void close() {
+            subscriptions.forEach(TopicSubscription::end);
+            try {
+                consumer.close();
+                session.close();
+            } catch (JMSRuntimeException e) {
+                log.debug("Exception throws while closing consumer: {}", e.getMessage());
+            }
+        }
+    }
+}
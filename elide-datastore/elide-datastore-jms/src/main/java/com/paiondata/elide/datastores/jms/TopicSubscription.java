@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.paiondata.elide.datastores.jms;
+
+import com.paiondata.elide.core.datastore.DataStoreIterable;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A subscription to a topic consumed by a {@link TopicMultiplexer}, which iterates over the models it receives.
+ * @param <T> The model type.
+ */
+public class TopicSubscription<T> implements DataStoreIterable<T>, Closeable {
+    private static final Object END = new Object();
+
+    private final TopicMultiplexer multiplexer;
+    private final Consumer<TopicSubscription<T>> unsubscribe;
+    private final BlockingQueue<Object> buffer;
+    private final long timeout;
+
+    TopicSubscription(TopicMultiplexer multiplexer, Consumer<TopicSubscription<T>> unsubscribe, int bufferSize,
+            long timeout) {
+        this.multiplexer = multiplexer;
+        this.unsubscribe = unsubscribe;
+        // Room for the end of the subscription
+        this.buffer = new ArrayBlockingQueue<>(bufferSize + 1);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Buffers a model, dropping the oldest buffered models if the buffer is full.  Called by one thread at a time.
+     */
+    void offer(Object model) {
+        while (buffer.remainingCapacity() <= 1) {
+            Object oldest = buffer.poll();
+            if (oldest == END) {
+                buffer.offer(END);
+                return;
+            } else if (oldest != null) {
+                multiplexer.dropped();
+            }
+        }
+        buffer.offer(model);
+    }
+
+    /**
+     * Ends the iteration once the buffered models have been read.
+     */
+    void end() {
+        buffer.offer(END);
+    }
+
+    @Override
+    public void close() {
+        unsubscribe.accept(this);
+        buffer.clear();
+        end();
+    }
+
+    @Override
+    public Iterable<T> getWrappedIterable() {
+        return this;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Object next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = receive();
+                }
+                return next != END;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T result = (T) next;
+                next = null;
+                return result;
+            }
+        };
+    }
+
+    private Object receive() {
+        try {
+            Object model;
+            if (timeout == 0) {
+                model = buffer.poll();
+            } else if (timeout > 0) {
+                model = buffer.poll(timeout, TimeUnit.MILLISECONDS);
+            } else {
+                model = buffer.take();
+            }
+
+            if (model == END) {
+                // Keep ending the iteration
+                buffer.offer(END);
+            }
+            return model == null ? END : model;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return END;
+        }
+    }
+
+    @Override
+    public boolean needsInMemoryFilter() {
+        return true;
+    }
+
+    @Override
+    public boolean needsInMemorySort() {
+        return true;
+    }
+
+    @Override
+    public boolean needsInMemoryPagination() {
+        return true;
+    }
+}
@@ -16,6 +16,7 @@ import com.paiondata.elide.core.dictionary.EntityDictionary;
 import com.paiondata.elide.core.dictionary.Injector;
 import com.paiondata.elide.core.request.route.RouteResolver;
 import com.paiondata.elide.datastores.jms.JMSDataStore;
+import com.paiondata.elide.datastores.jms.TopicMultiplexer;
 import com.paiondata.elide.graphql.GraphQLSettings;
 import com.paiondata.elide.graphql.GraphQLSettings.GraphQLSettingsBuilder;
 import com.paiondata.elide.graphql.serialization.GraphQLModule;
@@ -33,19 +34,24 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 
+import java.io.Closeable;
 import java.net.URI;
 import java.security.Principal;
 import java.time.Duration;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Initializes and configures the subscription web socket.
+ * <p>
+ * When the topic buffer size is positive, the web sockets of this configurator share one JMS consumer per topic
+ * through a {@link TopicMultiplexer}, which is closed with the configurator.
  */
 @Builder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-public class SubscriptionWebSocketConfigurator extends ServerEndpointConfig.Configurator {
+public class SubscriptionWebSocketConfigurator extends ServerEndpointConfig.Configurator implements Closeable {
     protected ConnectionFactory connectionFactory;
 
     @Builder.Default
@@ -81,6 +87,15 @@ public class SubscriptionWebSocketConfigurator extends ServerEndpointConfig.Conf
     @Builder.Default
     protected Injector injector = null;
 
+    /**
+     * The most messages each subscription buffers when the web sockets share topic consumers. 0 means a consumer per
+     * subscription.
+     */
+    @Builder.Default
+    protected int topicBufferSize = 0;
+
+    private final AtomicReference<TopicMultiplexer> topicMultiplexer = new AtomicReference<>();
+
     @Override
     public <T> T getEndpointInstance(Class<T> endpointClass) throws InstantiationException {
         if (endpointClass.equals(SubscriptionWebSocket.class)) {
@@ -166,7 +181,29 @@ public class SubscriptionWebSocketConfigurator extends ServerEndpointConfig.Conf
     protected DataStore buildDataStore(EntityDictionary dictionary, ObjectMapper objectMapper) {
         return new JMSDataStore(
                 dictionary.getScanner(),
-                connectionFactory, dictionary, objectMapper, null);
+                connectionFactory, dictionary, objectMapper, null, getTopicMultiplexer(objectMapper));
+    }
+
+    /**
+     * Returns the topic multiplexer shared by the web sockets of this configurator.
+     * @param objectMapper Object mapper for deserializing elide models from JMS topics.
+     * @return The topic multiplexer or null for a consumer per subscription.
+     */
+    protected TopicMultiplexer getTopicMultiplexer(ObjectMapper objectMapper) {
+        if (topicBufferSize <= 0) {
+            return null;
+        }
+        return topicMultiplexer.updateAndGet(existing -> existing != null
+                ? existing
+                : new TopicMultiplexer(connectionFactory, objectMapper, topicBufferSize));
+    }
+
+    @Override
+    public void close() {
+        TopicMultiplexer multiplexer = topicMultiplexer.getAndSet(null);
+        if (multiplexer != null) {
+            multiplexer.close();
+        }
     }
 
     protected SubscriptionWebSocket buildWebSocket(Elide elide) {
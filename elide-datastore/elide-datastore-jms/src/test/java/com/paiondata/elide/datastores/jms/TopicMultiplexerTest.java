@@ -0,0 +1,146 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.jms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.paiondata.elide.core.type.ClassType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.ExceptionListener;
+import jakarta.jms.JMSConsumer;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageListener;
+import jakarta.jms.TextMessage;
+import jakarta.jms.Topic;
+
+import java.util.Iterator;
+
+public class TopicMultiplexerTest {
+
+    private ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    private JMSContext context = mock(JMSContext.class);
+    private JMSContext session = mock(JMSContext.class);
+    private JMSConsumer consumer = mock(JMSConsumer.class);
+    private TopicMultiplexer multiplexer;
+
+    @BeforeEach
+    public void setup() {
+        when(connectionFactory.createContext()).thenReturn(context);
+        when(context.createContext(JMSContext.AUTO_ACKNOWLEDGE)).thenReturn(session);
+        when(session.createTopic(any())).thenReturn(mock(Topic.class));
+        when(session.createConsumer(any())).thenReturn(consumer);
+        multiplexer = new TopicMultiplexer(connectionFactory, new ObjectMapper(), 2);
+    }
+
+    @Test
+    public void testSharedConsumer() throws Exception {
+        TopicSubscription<Integer> subscription1 = multiplexer.subscribe("bookAdded", ClassType.of(Integer.class), 0);
+        TopicSubscription<Integer> subscription2 = multiplexer.subscribe("bookAdded", ClassType.of(Integer.class), 0);
+
+        // One consumer for both subscriptions
+        verify(session, times(1)).createConsumer(any());
+        assertEquals(1, multiplexer.getConsumerCount());
+
+        listener().onMessage(message("1"));
+
+        Iterator<Integer> iterator1 = subscription1.iterator();
+        assertTrue(iterator1.hasNext());
+        assertEquals(1, iterator1.next());
+        assertFalse(iterator1.hasNext());
+
+        Iterator<Integer> iterator2 = subscription2.iterator();
+        assertTrue(iterator2.hasNext());
+        assertEquals(1, iterator2.next());
+        assertFalse(iterator2.hasNext());
+
+        // The consumer is closed with its last subscription
+        subscription1.close();
+        verify(consumer, times(0)).close();
+        subscription2.close();
+        verify(consumer).close();
+        verify(session).close();
+        assertEquals(0, multiplexer.getConsumerCount());
+    }
+
+    @Test
+    public void testSlowSubscriptionDropsOldest() throws Exception {
+        TopicSubscription<Integer> subscription = multiplexer.subscribe("bookAdded", ClassType.of(Integer.class), 0);
+
+        MessageListener listener = listener();
+        listener.onMessage(message("1"));
+        listener.onMessage(message("2"));
+        listener.onMessage(message("3"));
+
+        Iterator<Integer> iterator = subscription.iterator();
+        assertEquals(2, iterator.next());
+        assertEquals(3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(1, multiplexer.getDropped());
+    }
+
+    @Test
+    public void testCloseEndsSubscription() throws Exception {
+        TopicSubscription<Integer> subscription = multiplexer.subscribe("bookAdded", ClassType.of(Integer.class), -1);
+        listener().onMessage(message("1"));
+
+        multiplexer.close();
+
+        // Buffered models are still read before the subscription ends
+        Iterator<Integer> iterator = subscription.iterator();
+        assertEquals(1, iterator.next());
+        assertFalse(iterator.hasNext());
+        verify(context).close();
+    }
+
+    @Test
+    public void testConnectionFailureEndsSubscriptions() throws Exception {
+        TopicSubscription<Integer> subscription = multiplexer.subscribe("bookAdded", ClassType.of(Integer.class), -1);
+        listener().onMessage(message("1"));
+
+        ArgumentCaptor<ExceptionListener> exceptionListener = ArgumentCaptor.forClass(ExceptionListener.class);
+        verify(context).setExceptionListener(exceptionListener.capture());
+        exceptionListener.getValue().onException(new JMSException("Connection lost"));
+
+        // The subscription ends rather than waiting forever
+        Iterator<Integer> iterator = subscription.iterator();
+        assertEquals(1, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(0, multiplexer.getConsumerCount());
+        verify(consumer).close();
+        verify(context).close();
+
+        // The next subscription reconnects
+        multiplexer.subscribe("bookAdded", ClassType.of(Integer.class), -1);
+        verify(connectionFactory, times(2)).createContext();
+        verify(session, times(2)).createConsumer(any());
+        assertEquals(1, multiplexer.getConsumerCount());
+    }
+
+    private MessageListener listener() {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(consumer).setMessageListener(listener.capture());
+        return listener.getValue();
+    }
+
+    private static TextMessage message(String text) throws Exception {
+        TextMessage message = mock(TextMessage.class);
+        when(message.getText()).thenReturn(text);
+        return message;
+    }
+}
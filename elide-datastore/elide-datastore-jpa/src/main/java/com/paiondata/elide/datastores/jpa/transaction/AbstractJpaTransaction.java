@@ -8,10 +8,12 @@ package com.paiondata.elide.datastores.jpa.transaction;
 import com.paiondata.elide.core.RequestScope;
 import com.paiondata.elide.core.exceptions.TransactionException;
 import com.paiondata.elide.core.request.EntityProjection;
+import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.datastores.jpa.porting.EntityManagerWrapper;
 import com.paiondata.elide.datastores.jpa.transaction.checker.PersistentCollectionChecker;
 import com.paiondata.elide.datastores.jpql.JPQLTransaction;
 import com.paiondata.elide.datastores.jpql.porting.QueryLogger;
+import com.paiondata.elide.datastores.jpql.totals.PageTotalsStrategy;
 import org.apache.commons.collections4.CollectionUtils;
 
 import jakarta.persistence.EntityManager;
@@ -23,7 +25,9 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -57,7 +61,25 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
      */
     protected AbstractJpaTransaction(EntityManager em, Consumer<EntityManager> jpaTransactionCancel, QueryLogger logger,
             boolean delegateToInMemoryStore, boolean isScrollEnabled) {
-        super(new EntityManagerWrapper(em, logger), delegateToInMemoryStore, isScrollEnabled);
+        this(em, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new JPA transaction.
+     *
+     * @param em The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param isScrollEnabled Whether or not scrolling is enabled
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param pageTotalsStrategies How page totals are computed for each totals mode.
+     */
+    protected AbstractJpaTransaction(EntityManager em, Consumer<EntityManager> jpaTransactionCancel, QueryLogger logger,
+            boolean delegateToInMemoryStore, boolean isScrollEnabled,
+            Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies) {
+        super(new EntityManagerWrapper(em, logger), delegateToInMemoryStore, isScrollEnabled, pageTotalsStrategies);
         this.em = em;
         this.jpaTransactionCancel = jpaTransactionCancel;
     }
@@ -141,6 +163,33 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
         });
     }
 
+    @Override
+    public <T> void createObjects(Collection<T> entities, RequestScope scope) {
+        deferredTasks.add(() -> writeBatch(entities, em::persist));
+    }
+
+    @Override
+    public <T> void saveObjects(Collection<T> entities, RequestScope scope) {
+        deferredTasks.add(() -> writeBatch(entities, em::merge));
+    }
+
+    @Override
+    public boolean supportsBatchWrites() {
+        return true;
+    }
+
+    /**
+     * Writes a batch without flushing, as the batch may reference entities of later deferred tasks. The single
+     * flush after all deferred tasks lets the persistence provider send the statements as JDBC batches.
+     */
+    private <T> void writeBatch(Collection<T> entities, Consumer<T> write) {
+        for (T entity : entities) {
+            if (!em.contains(entity)) {
+                write.accept(entity);
+            }
+        }
+    }
+
     /**
      * load a single record with id and filter.
      *
@@ -7,13 +7,16 @@ package com.paiondata.elide.datastores.jpa.transaction;
 
 import com.paiondata.elide.core.RequestScope;
 import com.paiondata.elide.core.exceptions.TransactionException;
+import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.datastores.jpql.porting.QueryLogger;
+import com.paiondata.elide.datastores.jpql.totals.PageTotalsStrategy;
 
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Status;
 import jakarta.transaction.UserTransaction;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Map;
 import java.util.function.Consumer;
 
 import javax.naming.InitialContext;
@@ -41,6 +44,24 @@ public class JtaTransaction extends AbstractJpaTransaction {
         this.transaction = transaction;
     }
 
+    /**
+     * Creates a new JPA transaction.
+     * @param entityManager The entity manager / session.
+     * @param txCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param pageTotalsStrategies How page totals are computed for each totals mode.  The strategies are shared
+     *                             by the transactions of the data store.
+     */
+    public JtaTransaction(EntityManager entityManager, UserTransaction transaction, Consumer<EntityManager> txCancel,
+                          QueryLogger logger, boolean delegateToInMemoryStore,
+                          Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies) {
+        super(entityManager, txCancel, logger, delegateToInMemoryStore, true, pageTotalsStrategies);
+        this.transaction = transaction;
+    }
+
     private static UserTransaction lookupUserTransaction() {
         try {
             return (UserTransaction) new InitialContext().lookup("java:comp/UserTransaction");
@@ -8,13 +8,17 @@ package com.paiondata.elide.datastores.jpa.transaction;
 import static com.paiondata.elide.datastores.jpa.JpaDataStore.DEFAULT_LOGGER;
 
 import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.datastores.jpql.porting.QueryLogger;
+import com.paiondata.elide.datastores.jpql.totals.PageTotalsStrategy;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -47,7 +51,29 @@ public class NonJtaTransaction extends AbstractJpaTransaction {
                              QueryLogger logger,
                              boolean delegateToInMemoryStore,
                              boolean isScrollEnabled) {
-        super(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled);
+        this(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled,
+                Collections.emptyMap());
+    }
+
+    /**
+     * Creates a new Non-JTA, JPA transaction.
+     * @param entityManager The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param isScrollEnabled Enables/disables scrollable iterators.
+     * @param pageTotalsStrategies How page totals are computed for each totals mode.  The strategies are shared
+     *                             by the transactions of the data store.
+     */
+    public NonJtaTransaction(EntityManager entityManager, Consumer<EntityManager> jpaTransactionCancel,
+                             QueryLogger logger,
+                             boolean delegateToInMemoryStore,
+                             boolean isScrollEnabled,
+                             Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies) {
+        super(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled,
+                pageTotalsStrategies);
         this.transaction = entityManager.getTransaction();
         entityManager.clear();
     }
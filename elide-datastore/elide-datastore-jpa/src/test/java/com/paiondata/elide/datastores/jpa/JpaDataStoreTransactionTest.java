@@ -9,37 +9,52 @@ import static com.paiondata.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static com.paiondata.elide.datastores.jpa.JpaDataStore.DEFAULT_LOGGER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.paiondata.elide.core.RequestScope;
 import com.paiondata.elide.core.datastore.DataStoreIterable;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.exceptions.InvalidValueException;
 import com.paiondata.elide.core.filter.dialect.RSQLFilterDialect;
 import com.paiondata.elide.core.filter.expression.FilterExpression;
+import com.paiondata.elide.core.pagination.PaginationImpl;
 import com.paiondata.elide.core.request.EntityProjection;
+import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.core.request.Relationship;
 import com.paiondata.elide.core.type.ClassType;
 import com.paiondata.elide.datastores.jpa.transaction.AbstractJpaTransaction;
+import com.paiondata.elide.datastores.jpql.totals.CachedPageTotalsStrategy;
+import com.paiondata.elide.datastores.jpql.totals.PageTotalsStrategy;
 import example.Author;
 import example.Book;
 import org.hibernate.collection.spi.PersistentSet;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
 import jakarta.persistence.Query;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -164,6 +179,124 @@ public class JpaDataStoreTransactionTest {
         assertEquals(usesInMemory, loadedBooks.needsInMemoryPagination());
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testCreateObjectsFlushesOnce(boolean autoFlush) {
+        EntityManager batchEntityManager = mock(EntityManager.class);
+        when(batchEntityManager.getFlushMode()).thenReturn(autoFlush ? FlushModeType.AUTO : FlushModeType.COMMIT);
+
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(batchEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false) {
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+
+        int count = 101;
+        List<Book> books = new ArrayList<>();
+        for (int idx = 0; idx < count; idx++) {
+            books.add(new Book());
+        }
+
+        tx.createObjects(books, scope);
+        tx.flush(scope);
+
+        verify(batchEntityManager, times(count)).persist(any(Book.class));
+        // Only flushed once every deferred task has run
+        verify(batchEntityManager, times(autoFlush ? 1 : 0)).flush();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4})
+    public void testPageTotalsFetchOneMoreRecord(int fetched) {
+        EntityManager pagedEntityManager = mock(EntityManager.class);
+        Query pagedQuery = mockPagedQuery(pagedEntityManager);
+        List<Book> books = new ArrayList<>();
+        for (int idx = 0; idx < fetched; idx++) {
+            books.add(new Book());
+        }
+        when(pagedQuery.getResultList()).thenReturn(books);
+
+        AbstractJpaTransaction tx = newPagedTransaction(pagedEntityManager, Collections.emptyMap());
+        Pagination pagination = new PaginationImpl(ClassType.of(Book.class), 6, 3, 10, 10, true, false, null, null,
+                Pagination.TotalsMode.more);
+
+        List<Book> loaded = new ArrayList<>();
+        tx.<Book>loadObjects(EntityProjection.builder().type(Book.class).pagination(pagination).build(), scope)
+                .forEach(loaded::add);
+
+        assertEquals(3, loaded.size());
+        assertEquals(fetched == 4 ? 10L : 9L, pagination.getPageTotals());
+        verify(pagedQuery).setMaxResults(4);
+        verify(pagedEntityManager, times(1)).createQuery(any(String.class));
+    }
+
+    @Test
+    public void testCachedPageTotals() {
+        EntityManager pagedEntityManager = mock(EntityManager.class);
+        Query pagedQuery = mockPagedQuery(pagedEntityManager);
+        when(pagedQuery.getResultList()).thenReturn(List.of(new Book()));
+        when(pagedQuery.getSingleResult()).thenReturn(42L);
+
+        AbstractJpaTransaction tx = newPagedTransaction(pagedEntityManager, Map.of(Pagination.TotalsMode.cached,
+                new CachedPageTotalsStrategy(Duration.ofMinutes(1), 100)));
+
+        for (int idx = 0; idx < 2; idx++) {
+            Pagination pagination = new PaginationImpl(ClassType.of(Book.class), null, 1, 10, 10, true, false, null,
+                    null, Pagination.TotalsMode.cached);
+            tx.loadObjects(EntityProjection.builder().type(Book.class).pagination(pagination).build(), scope);
+            assertEquals(42L, pagination.getPageTotals());
+        }
+
+        verify(pagedQuery, times(1)).getSingleResult();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Pagination.TotalsMode.class, names = {"cached", "estimated"})
+    public void testPageTotalsModeWithoutStrategyRejected(Pagination.TotalsMode totalsMode) {
+        EntityManager pagedEntityManager = mock(EntityManager.class);
+        Query pagedQuery = mockPagedQuery(pagedEntityManager);
+        when(pagedQuery.getResultList()).thenReturn(List.of(new Book()));
+
+        AbstractJpaTransaction tx = newPagedTransaction(pagedEntityManager, Collections.emptyMap());
+        Pagination pagination = new PaginationImpl(ClassType.of(Book.class), null, 1, 10, 10, true, false, null,
+                null, totalsMode);
+
+        assertThrows(InvalidValueException.class, () -> tx.loadObjects(
+                EntityProjection.builder().type(Book.class).pagination(pagination).build(), scope));
+        verify(pagedQuery, never()).getSingleResult();
+    }
+
+    private static Query mockPagedQuery(EntityManager pagedEntityManager) {
+        Query pagedQuery = mock(Query.class);
+        when(pagedEntityManager.createQuery(any(String.class))).thenReturn(pagedQuery);
+        when(pagedQuery.setFirstResult(anyInt())).thenReturn(pagedQuery);
+        when(pagedQuery.setMaxResults(anyInt())).thenReturn(pagedQuery);
+        return pagedQuery;
+    }
+
+    private static AbstractJpaTransaction newPagedTransaction(EntityManager pagedEntityManager,
+            Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies) {
+        return new AbstractJpaTransaction(pagedEntityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false, false, pageTotalsStrategies) {
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+        };
+    }
+
     private Stream<Arguments> getTestArguments() throws Exception {
         RSQLFilterDialect parser = RSQLFilterDialect.builder().dictionary(dictionary).build();
 
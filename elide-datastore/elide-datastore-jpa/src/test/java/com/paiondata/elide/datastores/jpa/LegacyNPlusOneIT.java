@@ -7,6 +7,7 @@
 package com.paiondata.elide.datastores.jpa;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
 import static org.mockito.Mockito.reset;
 
 import com.paiondata.elide.core.datastore.DataStoreTransaction;
@@ -17,6 +18,8 @@ import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import jakarta.ws.rs.core.MediaType;
+
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -216,4 +219,28 @@ public class LegacyNPlusOneIT extends JPQLIntegrationTest {
                 "SELECT example_Book FROM example.Author example_Author__fetch JOIN example_Author__fetch.books example_Book LEFT JOIN FETCH example_Book.publisher WHERE example_Book.title IN (:XXX) AND example_Author__fetch=:XXX"
         );
     }
+
+    @Test
+    public void testGraphQLMultiElementSubcollectionWithFilterAndSort() {
+        String query = "{\"query\": \"{ book(sort: \\\"title\\\") { edges { node { title "
+                + "authors(filter: \\\"name==\'Bob*\'\\\", sort: \\\"-name\\\") "
+                + "{ edges { node { name } } } } } } }\"}";
+
+        given()
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(query)
+                .post("/graphQL")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("data.book.edges.node.title", contains("Test Book1", "Test Book2", "Test Book3"))
+                .body("data.book.edges[0].node.authors.edges.node.name", contains("Bob2", "Bob1"))
+                .body("data.book.edges[1].node.authors.edges.node.name", contains("Bob2", "Bob1"))
+                .body("data.book.edges[2].node.authors.edges.node.name", contains("Bob3"));
+
+        verifyLoggingStatements(
+                "SELECT example_Book FROM example.Book AS example_Book order by example_Book.title asc",
+                "SELECT example_Book__fetch, example_Author FROM example.Book example_Book__fetch JOIN example_Book__fetch.authors example_Author WHERE example_Author.name LIKE CONCAT(:XXX, '%') AND example_Book__fetch IN (:XXX) order by example_Author.name desc"
+        );
+    }
 }
@@ -11,6 +11,7 @@ import com.paiondata.elide.core.datastore.DataStoreIterable;
 import com.paiondata.elide.core.datastore.DataStoreIterableBuilder;
 import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.exceptions.InvalidValueException;
 import com.paiondata.elide.core.filter.expression.AndFilterExpression;
 import com.paiondata.elide.core.filter.expression.FilterExpression;
 import com.paiondata.elide.core.filter.predicates.FalsePredicate;
@@ -29,14 +30,22 @@ import com.paiondata.elide.datastores.jpql.query.AbstractHQLQueryBuilder;
 import com.paiondata.elide.datastores.jpql.query.RelationshipImpl;
 import com.paiondata.elide.datastores.jpql.query.RootCollectionFetchQueryBuilder;
 import com.paiondata.elide.datastores.jpql.query.RootCollectionPageTotalsQueryBuilder;
+import com.paiondata.elide.datastores.jpql.query.SubCollectionBatchFetchQueryBuilder;
 import com.paiondata.elide.datastores.jpql.query.SubCollectionFetchQueryBuilder;
 import com.paiondata.elide.datastores.jpql.query.SubCollectionPageTotalsQueryBuilder;
+import com.paiondata.elide.datastores.jpql.totals.PageTotalsKey;
+import com.paiondata.elide.datastores.jpql.totals.PageTotalsStrategy;
+import com.google.common.collect.Lists;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -49,6 +58,7 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
     private final boolean isScrollEnabled;
     private final Set<Object> singleElementLoads;
     private final boolean delegateToInMemoryStore;
+    private final Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies;
 
 
     /**
@@ -58,7 +68,21 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
      * @param isScrollEnabled Whether or not scrolling is enabled
      */
     protected JPQLTransaction(Session session, boolean delegateToInMemoryStore, boolean isScrollEnabled) {
+        this(session, delegateToInMemoryStore, isScrollEnabled, Collections.emptyMap());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param session Hibernate session
+     * @param isScrollEnabled Whether or not scrolling is enabled
+     * @param pageTotalsStrategies How page totals are computed for each totals mode.  Exact totals without a
+     *                             strategy run the COUNT query, other modes without a strategy are rejected.
+     */
+    protected JPQLTransaction(Session session, boolean delegateToInMemoryStore, boolean isScrollEnabled,
+            Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies) {
         this.sessionWrapper = session;
+        this.pageTotalsStrategies = pageTotalsStrategies;
         this.isScrollEnabled = isScrollEnabled;
 
         // We need to verify objects by reference equality (a == b) rather than equals equality in case the
@@ -126,9 +150,18 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
                 new RootCollectionFetchQueryBuilder(projection, scope.getDictionary(), sessionWrapper)
                         .build();
 
+        // A page that ends before its cursor is read in reverse and must be fully read to put it back in order.
+        boolean backward = pagination != null && pagination.getBefore() != null;
+        boolean countingMore = AbstractHQLQueryBuilder.isCountingMore(pagination);
         Iterable<T> results = new TimedFunction<Iterable<T>>(() -> {
-            return isScrollEnabled ? query.scroll() : query.list();
+            return isScrollEnabled && !backward && !countingMore ? query.scroll() : query.list();
         }, "Query Hash: " + query.hashCode()).get();
+        if (countingMore) {
+            results = trimToPage(results, pagination);
+        }
+        if (backward) {
+            results = Lists.reverse(Lists.newArrayList(results));
+        }
 
         final boolean hasResults;
         if (results instanceof Collection) {
@@ -141,7 +174,7 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
 
         if (pagination != null) {
             // Issue #1429
-            if (pagination.returnPageTotals() && (hasResults || pagination.getLimit() == 0)) {
+            if (pagination.returnPageTotals() && (hasResults || pagination.getLimit() == 0) && !countingMore) {
                 pagination.setPageTotals(getTotalRecords(projection, scope.getDictionary()));
             }
         }
@@ -181,7 +214,8 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
                     entity,
                     relation);
 
-            if (pagination != null && pagination.returnPageTotals()) {
+            boolean countingMore = AbstractHQLQueryBuilder.isCountingMore(pagination);
+            if (pagination != null && pagination.returnPageTotals() && !countingMore) {
                 pagination.setPageTotals(getTotalRecords(
                         relationship,
                         scope.getDictionary()));
@@ -192,12 +226,115 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
                             .build();
 
             if (query != null) {
-                return new DataStoreIterableBuilder(addSingleElement(query.list())).build();
+                Iterable<R> results = query.list();
+                if (countingMore) {
+                    results = trimToPage(results, pagination);
+                }
+                if (pagination != null && pagination.getBefore() != null) {
+                    results = Lists.reverse(Lists.newArrayList(results));
+                }
+                return new DataStoreIterableBuilder(addSingleElement(results)).build();
             }
         }
         return new DataStoreIterableBuilder<R>(addSingleElement(val)).allInMemory().build();
     }
 
+    /**
+     * Fetches the relationship of every parent whose value is an ORM managed, persistent collection with a single
+     * query per parent type.  The remaining parents are fetched one at a time.
+     */
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(
+            DataStoreTransaction relationTx,
+            Collection<T> entities,
+            Relationship relation,
+            RequestScope scope) {
+
+        FilterExpression filterExpression = relation.getProjection().getFilterExpression();
+        Sorting sorting = relation.getProjection().getSorting();
+        Pagination pagination = relation.getProjection().getPagination();
+
+        // Page totals are counted and keyset pages are sought per parent.
+        if (pagination != null && (pagination.returnPageTotals() || pagination.isKeyset())) {
+            return DataStoreTransaction.super.getToManyRelations(relationTx, entities, relation, scope);
+        }
+
+        boolean proxyOnly = filterExpression == null && sorting == null
+                && (pagination == null || pagination.isDefaultInstance());
+
+        EntityDictionary dictionary = scope.getDictionary();
+        Map<T, DataStoreIterable<R>> relations = new IdentityHashMap<>();
+        Map<Type<?>, List<T>> proxyBatches = new LinkedHashMap<>();
+        Map<Type<?>, List<T>> queryBatches = new LinkedHashMap<>();
+
+        for (T entity : entities) {
+            Object val = com.paiondata.elide.core.PersistentResource.getValue(entity, relation.getName(), scope);
+
+            if (val instanceof Collection && isPersistentCollection().test((Collection<?>) val)) {
+                Type<?> parentType = dictionary.lookupEntityClass(EntityDictionary.getType(entity));
+
+                // Proxies initialized together are safe for N+1 and are filtered, sorted and paginated in memory.
+                Map<Type<?>, List<T>> batches = proxyOnly || !doInDatabase(entity) ? proxyBatches : queryBatches;
+                batches.computeIfAbsent(parentType, key -> new ArrayList<>()).add(entity);
+            } else {
+                relations.put(entity, getToManyRelation(relationTx, entity, relation, scope));
+            }
+        }
+
+        Relationship proxyRelation = relation.copyOf()
+                .projection(relation.getProjection().copyOf()
+                        .filterExpression(null)
+                        .sorting(null)
+                        .pagination(null)
+                        .build())
+                .build();
+
+        proxyBatches.forEach((parentType, parents) -> {
+            if (parents.size() > 1) {
+                Query query = new SubCollectionBatchFetchQueryBuilder(parentType, parents, proxyRelation,
+                        dictionary, sessionWrapper).build();
+
+                new TimedFunction<Iterable<Object>>(() -> query.list(), "Query Hash: " + query.hashCode()).get();
+            }
+
+            parents.forEach(parent -> {
+                Iterable<R> val = (Iterable<R>) com.paiondata.elide.core.PersistentResource.getValue(parent,
+                        relation.getName(), scope);
+                relations.put(parent, new DataStoreIterableBuilder<R>(addSingleElement(val)).allInMemory().build());
+            });
+        });
+
+        queryBatches.forEach((parentType, parents) -> {
+            if (parents.size() == 1) {
+                relations.put(parents.get(0), getToManyRelation(relationTx, parents.get(0), relation, scope));
+                return;
+            }
+
+            Query query = new SubCollectionBatchFetchQueryBuilder(parentType, parents, relation,
+                    dictionary, sessionWrapper).build();
+
+            Iterable<Object[]> results = new TimedFunction<Iterable<Object[]>>(() -> query.list(),
+                    "Query Hash: " + query.hashCode()).get();
+
+            Map<Object, List<R>> children = new IdentityHashMap<>();
+            parents.forEach(parent -> children.put(parent, new ArrayList<>()));
+            // The session returns the same parent instances that were passed to the query.
+            results.forEach(pair -> children.get(pair[0]).add((R) pair[1]));
+
+            parents.forEach(parent -> {
+                List<R> page = children.get(parent);
+                if (pagination != null) {
+                    int fromIndex = Math.min(pagination.getOffset(), page.size());
+                    int toIndex = Math.min(fromIndex + pagination.getLimit(), page.size());
+                    page = page.subList(fromIndex, toIndex);
+                }
+                relations.put(parent, new DataStoreIterableBuilder<R>(addSingleElement(page)).build());
+            });
+        });
+
+        return relations;
+    }
+
     @Override
     public <T, R> R getToOneRelation(
             DataStoreTransaction relationTx,
@@ -222,13 +359,15 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
      * @return The total row count.
      */
     private Long getTotalRecords(EntityProjection entityProjection, EntityDictionary dictionary) {
+        PageTotalsKey key = PageTotalsKey.of(entityProjection.getType(), entityProjection.getFilterExpression());
 
+        return getPageTotalsStrategy(entityProjection.getPagination()).getTotalRecords(key, () -> {
+            Query query =
+                    new RootCollectionPageTotalsQueryBuilder(entityProjection, dictionary, sessionWrapper)
+                            .build();
 
-        Query query =
-                new RootCollectionPageTotalsQueryBuilder(entityProjection, dictionary, sessionWrapper)
-                        .build();
-
-        return new TimedFunction<Long>(() -> query.uniqueResult(), "Query Hash: " + query.hashCode()).get();
+            return new TimedFunction<Long>(() -> query.uniqueResult(), "Query Hash: " + query.hashCode()).get();
+        });
     }
 
     /**
@@ -240,12 +379,46 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
      */
     private Long getTotalRecords(AbstractHQLQueryBuilder.Relationship relationship,
                                  EntityDictionary dictionary) {
+        EntityProjection projection = relationship.getRelationship().getProjection();
+        PageTotalsKey key = new PageTotalsKey(relationship.getChildType(), projection.getFilterExpression(),
+                relationship.getParentType(), dictionary.getId(relationship.getParent()),
+                relationship.getRelationshipName());
+
+        return getPageTotalsStrategy(projection.getPagination()).getTotalRecords(key, () -> {
+            Query query =
+                    new SubCollectionPageTotalsQueryBuilder(relationship, dictionary, sessionWrapper)
+                            .build();
 
-        Query query =
-                new SubCollectionPageTotalsQueryBuilder(relationship, dictionary, sessionWrapper)
-                        .build();
+            return new TimedFunction<Long>(() -> query.uniqueResult(), "Query Hash: " + query.hashCode()).get();
+        });
+    }
+
+    private PageTotalsStrategy getPageTotalsStrategy(Pagination pagination) {
+        Pagination.TotalsMode totalsMode = pagination.getTotalsMode();
+        PageTotalsStrategy strategy = pageTotalsStrategies.get(totalsMode);
+        if (strategy != null) {
+            return strategy;
+        }
+        if (totalsMode != Pagination.TotalsMode.exact && totalsMode != Pagination.TotalsMode.more) {
+            throw new InvalidValueException("Page totals mode " + totalsMode + " is not supported by this data store");
+        }
+        return PageTotalsStrategy.EXACT;
+    }
 
-        return new TimedFunction<Long>(() -> query.uniqueResult(), "Query Hash: " + query.hashCode()).get();
+    /**
+     * Drops the extra record fetched past the limit and reports the records up to the end of the page, plus one
+     * if there are more records, as the page totals.
+     */
+    private static <R> List<R> trimToPage(Iterable<R> results, Pagination pagination) {
+        List<R> page = Lists.newArrayList(results);
+        boolean hasMore = page.size() > pagination.getLimit();
+        if (hasMore) {
+            page = page.subList(0, pagination.getLimit());
+        }
+        if (!page.isEmpty() || pagination.getOffset() == 0) {
+            pagination.setPageTotals((long) pagination.getOffset() + page.size() + (hasMore ? 1 : 0));
+        }
+        return page;
     }
 
     private <R> Iterable<R> addSingleElement(Iterable<R> results) {
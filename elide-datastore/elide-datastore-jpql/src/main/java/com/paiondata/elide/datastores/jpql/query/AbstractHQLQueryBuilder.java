@@ -11,9 +11,11 @@ import static com.paiondata.elide.core.utils.TypeHelper.getTypeAlias;
 import com.paiondata.elide.core.Path;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
 import com.paiondata.elide.core.dictionary.RelationshipType;
+import com.paiondata.elide.core.filter.expression.AndFilterExpression;
 import com.paiondata.elide.core.filter.expression.FilterExpression;
 import com.paiondata.elide.core.filter.expression.PredicateExtractionVisitor;
 import com.paiondata.elide.core.filter.predicates.FilterPredicate;
+import com.paiondata.elide.core.pagination.Keyset;
 import com.paiondata.elide.core.request.EntityProjection;
 import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.core.request.Sorting;
@@ -27,6 +29,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -53,6 +56,7 @@ public abstract class AbstractHQLQueryBuilder {
     protected static final boolean USE_ALIAS = true;
     protected static final boolean NO_ALIAS = false;
     protected Set<String> alreadyJoined = new HashSet<>();
+    private Optional<Keyset> keyset;
 
     /**
      * Represents a relationship between two entities.
@@ -152,17 +156,62 @@ public abstract class AbstractHQLQueryBuilder {
 
 
     /**
-     * Modifies the HQL query to add OFFSET and LIMIT.
+     * Returns the filter expression of the projection together with the predicate that seeks past the cursor of
+     * keyset pagination.
+     * @return the filter expression or null
+     */
+    protected FilterExpression getFilterExpression() {
+        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        FilterExpression seek = getKeyset().map(Keyset::getFilterExpression).orElse(null);
+        if (seek == null) {
+            return filterExpression;
+        }
+        return filterExpression == null ? seek : new AndFilterExpression(filterExpression, seek);
+    }
+
+    /**
+     * Returns the sorting of the projection, which keyset pagination extends by the id and reverses for a page
+     * that ends before its cursor.
+     * @return the sorting or null
+     */
+    protected Sorting getSorting() {
+        return getKeyset().map(Keyset::getSorting).orElse(entityProjection.getSorting());
+    }
+
+    private Optional<Keyset> getKeyset() {
+        if (keyset == null) {
+            Pagination pagination = entityProjection.getPagination();
+            keyset = pagination != null && pagination.isKeyset()
+                    ? Optional.of(new Keyset(entityProjection.getType(), entityProjection.getSorting(), pagination,
+                            dictionary))
+                    : Optional.empty();
+        }
+        return keyset;
+    }
+
+    /**
+     * Modifies the HQL query to add OFFSET and LIMIT.  One more record than the limit is fetched when the page
+     * totals only need to tell whether there are more records.
      * @param query The HQL query object
      */
     protected void addPaginationToQuery(Query query) {
         Pagination pagination = entityProjection.getPagination();
         if (pagination != null) {
             query.setFirstResult(pagination.getOffset());
-            query.setMaxResults(pagination.getLimit());
+            query.setMaxResults(isCountingMore(pagination) ? pagination.getLimit() + 1 : pagination.getLimit());
         }
     }
 
+    /**
+     * Whether the page totals are computed by fetching one more record than the limit.
+     * @param pagination The pagination or null
+     * @return true if fetching one more record than the limit
+     */
+    public static boolean isCountingMore(Pagination pagination) {
+        return pagination != null && pagination.returnPageTotals()
+                && pagination.getTotalsMode() == Pagination.TotalsMode.more;
+    }
+
     /**
      * Extracts a join clause from a path (if it exists).
      * @param path The path to examine
@@ -46,18 +46,18 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         String entityAlias = getTypeAlias(entityClass);
 
         Query query;
-        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        FilterExpression filterExpression = getFilterExpression();
         if (filterExpression != null) {
             //Build the JOIN clause
             String joinClause = getJoinClauseFromFilters(filterExpression)
-                    + getJoinClauseFromSort(entityProjection.getSorting())
+                    + getJoinClauseFromSort(getSorting())
                     + extractToOneMergeJoins(entityClass, entityAlias);
 
             //Build the WHERE clause
             String filterClause = WHERE + new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS);
 
             if (joinClause.isEmpty() && filterExpression instanceof InPredicate inPredicate
-                    && entityProjection.getSorting() == null
+                    && getSorting() == null
                     && inPredicate.getField().equals(dictionary.getIdFieldName(entityClass))
                     && inPredicate.getValues().size() == 1) {
                 // This is used to utilize the second-level cache
@@ -78,8 +78,8 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
 
             boolean requiresDistinct = containsOneToMany(filterExpression);
 
-            boolean sortOverRelationship = entityProjection.getSorting() != null
-                    && entityProjection.getSorting().getSortingPaths().keySet()
+            boolean sortOverRelationship = getSorting() != null
+                    && getSorting().getSortingPaths().keySet()
                     .stream().anyMatch(path ->
                             path.getPathElements()
                                     .stream()
@@ -104,7 +104,7 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                             + SPACE
                             + filterClause
                             + SPACE
-                            + getSortClause(entityProjection.getSorting())
+                            + getSortClause(getSorting())
             );
 
             //Fill in the query parameters
@@ -117,10 +117,10 @@ public class RootCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                     + AS
                     + entityAlias
                     + SPACE
-                    + getJoinClauseFromSort(entityProjection.getSorting())
+                    + getJoinClauseFromSort(getSorting())
                     + extractToOneMergeJoins(entityClass, entityAlias)
                     + SPACE
-                    + getSortClause(entityProjection.getSorting()));
+                    + getSortClause(getSorting()));
         }
 
         addPaginationToQuery(query);
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.jpql.query;
+
+import static com.paiondata.elide.core.utils.TypeHelper.getTypeAlias;
+
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.exceptions.InvalidValueException;
+import com.paiondata.elide.core.filter.expression.FilterExpression;
+import com.paiondata.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.paiondata.elide.core.filter.predicates.FilterPredicate;
+import com.paiondata.elide.core.type.Type;
+import com.paiondata.elide.datastores.jpql.filter.FilterTranslator;
+import com.paiondata.elide.datastores.jpql.porting.Query;
+import com.paiondata.elide.datastores.jpql.porting.Session;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Constructs a HQL query to fetch the same relationship of several parents at once.
+ * <p>
+ * If the relationship requires no filtering or sorting, the query fetch joins the relationship so that the
+ * collection proxies of every parent are initialized together. Otherwise the query returns (parent, child) pairs
+ * which have to be grouped by parent. Pagination is never added to the query as it applies to each parent.
+ */
+public class SubCollectionBatchFetchQueryBuilder extends AbstractHQLQueryBuilder {
+
+    private final Type<?> parentType;
+    private final Collection<?> parents;
+    private final com.paiondata.elide.core.request.Relationship relationship;
+
+    public SubCollectionBatchFetchQueryBuilder(Type<?> parentType,
+                                               Collection<?> parents,
+                                               com.paiondata.elide.core.request.Relationship relationship,
+                                               EntityDictionary dictionary,
+                                               Session session) {
+        super(relationship.getProjection(), dictionary, session);
+        this.parentType = parentType;
+        this.parents = parents;
+        this.relationship = relationship;
+    }
+
+    /**
+     * Whether the query returns (parent, child) pairs rather than parents with initialized collections.
+     *
+     * @return true if the relationship requires filtering or sorting.
+     */
+    protected boolean isPairQuery() {
+        return entityProjection.getFilterExpression() != null
+                || (entityProjection.getSorting() != null && !entityProjection.getSorting().isDefaultInstance());
+    }
+
+    @Override
+    protected String extractToOneMergeJoins(Type<?> entityClass, String alias) {
+        Predicate<String> shouldSkip = (relationshipName) -> {
+            String inverseRelationName = dictionary.getRelationInverse(entityClass, relationshipName);
+            if (inverseRelationName.isEmpty()) {
+                return false;
+            }
+
+            Type<?> relationshipClass = dictionary.getParameterizedType(entityClass, relationshipName);
+
+            //We don't need (or want) to fetch join the parent object.
+            return relationshipClass.equals(parentType)
+                    && inverseRelationName.equals(relationship.getName());
+        };
+
+        return extractToOneMergeJoins(entityClass, alias, shouldSkip);
+    }
+
+    /**
+     * Constructs a query that returns the members of the relationship of every parent.
+     *
+     * @return the constructed query
+     */
+    @Override
+    public Query build() {
+        Type<?> childType = entityProjection.getType();
+        String childAlias = getTypeAlias(childType);
+        String parentAlias = getTypeAlias(parentType) + "__fetch";
+        String parentName = parentType.getCanonicalName();
+        String relationshipName = relationship.getName();
+
+        Query query;
+        if (!isPairQuery()) {
+            //SELECT DISTINCT parent from Parent parent LEFT JOIN FETCH parent.children WHERE parent IN (:parent)
+            query = session.createQuery(SELECT
+                    + DISTINCT
+                    + parentAlias
+                    + FROM
+                    + parentName + SPACE + parentAlias
+                    + LEFT + JOIN + FETCH
+                    + parentAlias + PERIOD + relationshipName
+                    + WHERE
+                    + parentAlias + " IN (:" + parentAlias + ")"
+            );
+        } else {
+            FilterExpression filterExpression = entityProjection.getFilterExpression();
+            Collection<FilterPredicate> predicates = null;
+            String filterClause = "";
+            String joinClause = "";
+            boolean requiresDistinct = false;
+
+            if (filterExpression != null) {
+                PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
+                predicates = filterExpression.accept(extractor);
+                filterClause = new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS) + " AND ";
+                joinClause = getJoinClauseFromFilters(filterExpression);
+                requiresDistinct = containsOneToMany(filterExpression);
+            }
+
+            boolean sortOverRelationship = entityProjection.getSorting() != null
+                    && entityProjection.getSorting().getSortingPaths().keySet()
+                    .stream().anyMatch(path ->
+                            path.getPathElements()
+                                    .stream()
+                                    .anyMatch(element ->
+                                            dictionary.isRelation(element.getType(), element.getFieldName())));
+
+            if (requiresDistinct && sortOverRelationship) {
+                //SQL does not support distinct and order by on columns which are not selected
+                throw new InvalidValueException("Combination of sorting over relationship and"
+                        + " filtering over toMany relationships unsupported");
+            }
+
+            //SELECT parent, parent_children from Parent parent JOIN parent.children parent_children
+            query = session.createQuery(SELECT
+                    + (requiresDistinct ? DISTINCT : "")
+                    + parentAlias + COMMA + SPACE + childAlias
+                    + FROM
+                    + parentName + SPACE + parentAlias
+                    + JOIN
+                    + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                    + joinClause
+                    + getJoinClauseFromSort(entityProjection.getSorting())
+                    + extractToOneMergeJoins(childType, childAlias)
+                    + WHERE
+                    + filterClause
+                    + parentAlias + " IN (:" + parentAlias + ")"
+                    + SPACE
+                    + getSortClause(entityProjection.getSorting())
+            );
+
+            if (predicates != null) {
+                supplyFilterQueryParameters(query, predicates);
+            }
+        }
+
+        query.setParameterList(parentAlias, parents);
+        return query;
+    }
+}
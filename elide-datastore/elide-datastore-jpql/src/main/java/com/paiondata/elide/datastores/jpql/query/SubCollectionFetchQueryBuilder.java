@@ -62,7 +62,7 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
     public Query build() {
 
         if (entityProjection.getFilterExpression() == null && entityProjection.getPagination() == null
-                && (entityProjection.getSorting() == null || entityProjection.getSorting().isDefaultInstance())) {
+                && (getSorting() == null || getSorting().isDefaultInstance())) {
             return null;
         }
 
@@ -71,7 +71,7 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
         String parentName = relationship.getParentType().getCanonicalName();
         String relationshipName = relationship.getRelationshipName();
 
-        FilterExpression filterExpression = entityProjection.getFilterExpression();
+        FilterExpression filterExpression = getFilterExpression();
         Query query;
         if (filterExpression != null) {
             PredicateExtractionVisitor extractor = new PredicateExtractionVisitor();
@@ -79,13 +79,13 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
             String filterClause = new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS);
 
             String joinClause =  getJoinClauseFromFilters(filterExpression)
-                    + getJoinClauseFromSort(entityProjection.getSorting())
+                    + getJoinClauseFromSort(getSorting())
                     + extractToOneMergeJoins(relationship.getChildType(), childAlias);
 
             boolean requiresDistinct = containsOneToMany(filterExpression);
 
-            boolean sortOverRelationship = entityProjection.getSorting() != null
-                    && entityProjection.getSorting().getSortingPaths().keySet()
+            boolean sortOverRelationship = getSorting() != null
+                    && getSorting().getSortingPaths().keySet()
                     .stream().anyMatch(path ->
                             path.getPathElements()
                                     .stream()
@@ -110,7 +110,7 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                     + filterClause
                     + " AND " + parentAlias + "=:" + parentAlias
                     + SPACE
-                    + getSortClause(entityProjection.getSorting())
+                    + getSortClause(getSorting())
             );
 
             supplyFilterQueryParameters(query, predicates);
@@ -121,10 +121,10 @@ public class SubCollectionFetchQueryBuilder extends AbstractHQLQueryBuilder {
                     + parentName + SPACE + parentAlias
                     + JOIN
                     + parentAlias + PERIOD + relationshipName + SPACE + childAlias
-                    + getJoinClauseFromSort(entityProjection.getSorting())
+                    + getJoinClauseFromSort(getSorting())
                     + extractToOneMergeJoins(relationship.getChildType(), childAlias)
                     + " WHERE " + parentAlias + "=:" + parentAlias
-                    + getSortClause(entityProjection.getSorting())
+                    + getSortClause(getSorting())
             );
         }
 
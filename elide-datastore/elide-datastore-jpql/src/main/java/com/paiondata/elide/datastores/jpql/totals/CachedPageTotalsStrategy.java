@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.jpql.totals;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Reuses the count of a collection with the same filter for a short time.  Totals may be stale by up to the time to
+ * live.
+ */
+public class CachedPageTotalsStrategy implements PageTotalsStrategy {
+    private final Cache<PageTotalsKey, Long> totals;
+
+    /**
+     * Constructor.
+     *
+     * @param timeToLive how long a count is reused
+     * @param maximumSize the maximum number of counts kept
+     */
+    public CachedPageTotalsStrategy(Duration timeToLive, long maximumSize) {
+        this.totals = CacheBuilder.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public Long getTotalRecords(PageTotalsKey key, Supplier<Long> count) {
+        Long total = totals.getIfPresent(key);
+        if (total == null) {
+            total = count.get();
+            if (total != null) {
+                totals.put(key, total);
+            }
+        }
+        return total;
+    }
+}
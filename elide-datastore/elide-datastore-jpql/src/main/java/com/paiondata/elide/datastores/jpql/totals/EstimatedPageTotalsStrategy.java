@@ -0,0 +1,30 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.jpql.totals;
+
+import java.util.function.Supplier;
+
+/**
+ * Reports the estimate of a {@link RowCountEstimator} and only counts the collection when there is no estimate.
+ */
+public class EstimatedPageTotalsStrategy implements PageTotalsStrategy {
+    private final RowCountEstimator estimator;
+
+    /**
+     * Constructor.
+     *
+     * @param estimator the dialect specific estimator
+     */
+    public EstimatedPageTotalsStrategy(RowCountEstimator estimator) {
+        this.estimator = estimator;
+    }
+
+    @Override
+    public Long getTotalRecords(PageTotalsKey key, Supplier<Long> count) {
+        Long estimate = estimator.estimate(key);
+        return estimate != null ? estimate : count.get();
+    }
+}
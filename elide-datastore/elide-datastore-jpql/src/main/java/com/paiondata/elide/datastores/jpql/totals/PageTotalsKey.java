@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.jpql.totals;
+
+import com.paiondata.elide.core.filter.expression.FilterExpression;
+import com.paiondata.elide.core.type.Type;
+
+import lombok.Value;
+
+/**
+ * Identifies a collection whose records are counted for page totals.
+ */
+@Value
+public class PageTotalsKey {
+    /**
+     * The type of the records.
+     */
+    Type<?> type;
+
+    /**
+     * The filter the records are counted with or null.
+     */
+    FilterExpression filterExpression;
+
+    /**
+     * The type of the owner of a relationship or null for a root collection.
+     */
+    Type<?> parentType;
+
+    /**
+     * The id of the owner of a relationship or null for a root collection.
+     */
+    String parentId;
+
+    /**
+     * The name of the relationship or null for a root collection.
+     */
+    String relationship;
+
+    /**
+     * Creates the key of a root collection.
+     *
+     * @param type the type of the records
+     * @param filterExpression the filter the records are counted with or null
+     * @return the key
+     */
+    public static PageTotalsKey of(Type<?> type, FilterExpression filterExpression) {
+        return new PageTotalsKey(type, filterExpression, null, null, null);
+    }
+}
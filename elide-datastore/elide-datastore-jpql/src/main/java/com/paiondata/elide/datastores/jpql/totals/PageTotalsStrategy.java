@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.jpql.totals;
+
+import java.util.function.Supplier;
+
+/**
+ * Computes the total number of records of a collection when a client requests page totals.
+ * <p>
+ * A strategy is chosen by the {@link com.paiondata.elide.core.request.Pagination.TotalsMode} of the request and is
+ * shared by every transaction of the data store, so implementations must be thread safe.
+ */
+@FunctionalInterface
+public interface PageTotalsStrategy {
+    /**
+     * Runs the COUNT query for every request.
+     */
+    PageTotalsStrategy EXACT = (key, count) -> count.get();
+
+    /**
+     * Returns the total number of records of a collection.
+     *
+     * @param key the collection
+     * @param count runs the COUNT query of the collection
+     * @return the total number of records
+     */
+    Long getTotalRecords(PageTotalsKey key, Supplier<Long> count);
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.jpql.totals;
+
+/**
+ * Dialect specific hook that estimates the number of records of a collection, for example from the query planner
+ * or the table statistics of the database.
+ */
+@FunctionalInterface
+public interface RowCountEstimator {
+    /**
+     * Estimates the number of records of a collection.
+     *
+     * @param key the collection
+     * @return the estimate or null if the collection cannot be estimated
+     */
+    Long estimate(PageTotalsKey key);
+}
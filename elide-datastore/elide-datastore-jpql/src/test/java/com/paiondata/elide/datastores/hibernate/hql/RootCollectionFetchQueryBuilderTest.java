@@ -38,6 +38,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -138,6 +140,54 @@ public class RootCollectionFetchQueryBuilderTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testRootFetchWithKeysetPagination() {
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.asc);
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("[\"A\",\"5\"]".getBytes(StandardCharsets.UTF_8));
+
+        PaginationImpl after = new PaginationImpl(ClassType.of(Book.class), null, 10, 10, 10, false, false,
+                cursor, null);
+        String actual = buildKeysetQuery(sorting, after);
+
+        assertTrue(actual.contains("example_Book.title >= :title_"), actual);
+        assertTrue(actual.contains("example_Book.title > :title_"), actual);
+        assertTrue(actual.contains("example_Book.id > :id_"), actual);
+        assertTrue(actual.endsWith("order by example_Book.title asc,example_Book.id asc"), actual);
+
+        PaginationImpl before = new PaginationImpl(ClassType.of(Book.class), null, 10, 10, 10, false, false,
+                null, cursor);
+        actual = buildKeysetQuery(sorting, before);
+
+        assertTrue(actual.contains("example_Book.title <= :title_"), actual);
+        assertTrue(actual.contains("example_Book.id < :id_"), actual);
+        assertTrue(actual.endsWith("order by example_Book.title desc,example_Book.id desc"), actual);
+
+        PaginationImpl first = new PaginationImpl(ClassType.of(Book.class), null, 10, 10, 10, false, false,
+                "", null);
+        assertEquals("SELECT example_Book FROM example.Book AS example_Book "
+                + "order by example_Book.title asc,example_Book.id asc", buildKeysetQuery(sorting, first));
+    }
+
+    private String buildKeysetQuery(Map<String, Sorting.SortOrder> sorting, Pagination pagination) {
+        EntityProjection entityProjection = EntityProjection
+                .builder()
+                .type(Book.class)
+                .sorting(new SortingImpl(sorting, Book.class, dictionary))
+                .pagination(pagination)
+                .build();
+
+        RootCollectionFetchQueryBuilder builder = new RootCollectionFetchQueryBuilder(
+                entityProjection,
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+        return query.getQueryText().trim().replaceAll(" +", " ");
+    }
+
     @Test
     public void testRootFetchWithJoinFilter() throws ParseException {
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.paiondata.elide.core.Path;
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.filter.predicates.FilterPredicate;
+import com.paiondata.elide.core.filter.predicates.InPredicate;
+import com.paiondata.elide.core.request.EntityProjection;
+import com.paiondata.elide.core.request.Relationship;
+import com.paiondata.elide.core.request.Sorting;
+import com.paiondata.elide.core.sort.SortingImpl;
+import com.paiondata.elide.core.type.ClassType;
+import com.paiondata.elide.datastores.jpql.query.SubCollectionBatchFetchQueryBuilder;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Editor;
+import example.Publisher;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SubCollectionBatchFetchQueryBuilderTest {
+
+    private EntityDictionary dictionary;
+
+    private static final String TITLE = "title";
+    private static final String BOOKS = "books";
+    private static final String PUBLISHER = "publisher";
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+        dictionary.bindEntity(Editor.class);
+    }
+
+    @Test
+    public void testSubCollectionBatchFetch() {
+        Author author1 = new Author();
+        author1.setId(1L);
+
+        Author author2 = new Author();
+        author2.setId(2L);
+
+        EntityProjection entityProjection = EntityProjection.builder().type(Book.class).build();
+        Relationship relationship = Relationship.builder().name(BOOKS).projection(entityProjection).build();
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(
+                ClassType.of(Author.class),
+                List.of(author1, author2),
+                relationship,
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT DISTINCT example_Author__fetch FROM example.Author example_Author__fetch "
+                + "LEFT JOIN FETCH example_Author__fetch.books "
+                + "WHERE example_Author__fetch IN (:example_Author__fetch)";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testSubCollectionBatchFetchWithFilterAndSorting() {
+        Author author1 = new Author();
+        author1.setId(1L);
+
+        Author author2 = new Author();
+        author2.setId(2L);
+
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.asc);
+
+        FilterPredicate titlePredicate = new InPredicate(
+                new Path(Book.class, dictionary, TITLE),
+                "Foo");
+
+        EntityProjection entityProjection = EntityProjection.builder().type(Book.class)
+                .relationship(
+                        Relationship.builder().name(PUBLISHER).projection(
+                                EntityProjection.builder().type(Publisher.class).build()
+                        ).build()
+                )
+                .filterExpression(titlePredicate)
+                .sorting(new SortingImpl(sorting, Book.class, dictionary))
+                .build();
+
+        Relationship relationship = Relationship.builder().name(BOOKS).projection(entityProjection).build();
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(
+                ClassType.of(Author.class),
+                List.of(author1, author2),
+                relationship,
+                dictionary,
+                new TestSessionWrapper()
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book LEFT JOIN FETCH example_Book.publisher "
+                + "WHERE example_Book.title IN (:title_XXX) "
+                + "AND example_Author__fetch IN (:example_Author__fetch) order by example_Book.title asc";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+        actual = actual.replaceFirst(":title_\\w+", ":title_XXX");
+
+        assertEquals(expected, actual);
+    }
+}
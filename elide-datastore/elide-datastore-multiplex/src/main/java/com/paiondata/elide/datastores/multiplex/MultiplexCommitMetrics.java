@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.multiplex;
+
+import com.paiondata.elide.core.datastore.DataStore;
+
+/**
+ * Records the latency of the sub-store transactions of a multiplex write transaction that is committed in
+ * parallel. Implementations must be thread safe.
+ */
+@FunctionalInterface
+public interface MultiplexCommitMetrics {
+    /**
+     * Records nothing.
+     */
+    MultiplexCommitMetrics NONE = (dataStore, step, nanos, succeeded) -> { };
+
+    /**
+     * The steps of committing a sub-store transaction.
+     */
+    enum Step {
+        PRE_COMMIT,
+        FLUSH,
+        COMMIT
+    }
+
+    /**
+     * Records a step of a sub-store transaction, called on the thread that processed it once it completes even if
+     * it has timed out.
+     *
+     * @param dataStore the sub-store
+     * @param step the step
+     * @param nanos the elapsed time in nanoseconds
+     * @param succeeded whether the step completed without throwing
+     */
+    void record(DataStore dataStore, Step step, long nanos, boolean succeeded);
+}
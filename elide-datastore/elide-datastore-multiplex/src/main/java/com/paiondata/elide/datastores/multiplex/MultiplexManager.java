@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -46,6 +47,8 @@ public final class MultiplexManager implements DataStore {
     protected final ConcurrentHashMap<Type<?>, DataStore> dataStoreMap = new ConcurrentHashMap<>();
     protected final Predicate<DataStore> applyCompensatingTransactions;
     protected final ObjectCloner objectCloner;
+    protected final ParallelCommit parallelCommit;
+    protected final Executor readExecutor;
 
     @Setter(AccessLevel.PROTECTED)
     private EntityDictionary dictionary;
@@ -83,9 +86,54 @@ public final class MultiplexManager implements DataStore {
      */
     public MultiplexManager(ObjectCloner objectCloner, Predicate<DataStore> applyCompensatingTransactions,
             DataStore... dataStores) {
+        this(objectCloner, applyCompensatingTransactions, (ParallelCommit) null, dataStores);
+    }
+
+    /**
+     * Create a single DataStore to handle provided managers within a single
+     * transaction.
+     *
+     * @param objectCloner                  to use for cloning objects to apply to
+     *                                      compensating transaction
+     * @param applyCompensatingTransactions apply compensating transactions on
+     *                                      rollback to previously committed
+     *                                      datastores
+     * @param parallelCommit                settings to commit the sub-store transactions
+     *                                      of a write transaction concurrently, or null
+     *                                      to commit them one at a time
+     * @param dataStores                    list of sub-managers
+     */
+    public MultiplexManager(ObjectCloner objectCloner, Predicate<DataStore> applyCompensatingTransactions,
+            ParallelCommit parallelCommit, DataStore... dataStores) {
+        this(objectCloner, applyCompensatingTransactions, parallelCommit, null, dataStores);
+    }
+
+    /**
+     * Create a single DataStore to handle provided managers within a single
+     * transaction.
+     *
+     * @param objectCloner                  to use for cloning objects to apply to
+     *                                      compensating transaction
+     * @param applyCompensatingTransactions apply compensating transactions on
+     *                                      rollback to previously committed
+     *                                      datastores
+     * @param parallelCommit                settings to commit the sub-store transactions
+     *                                      of a write transaction concurrently, or null
+     *                                      to commit them one at a time
+     * @param readExecutor                  bounded executor on which the sub-store
+     *                                      transactions of a read transaction load
+     *                                      objects concurrently, or null to load them
+     *                                      on the calling thread. The sub-store
+     *                                      transactions must not be bound to a thread.
+     * @param dataStores                    list of sub-managers
+     */
+    public MultiplexManager(ObjectCloner objectCloner, Predicate<DataStore> applyCompensatingTransactions,
+            ParallelCommit parallelCommit, Executor readExecutor, DataStore... dataStores) {
         this.objectCloner = objectCloner;
         this.dataStores = Arrays.asList(dataStores);
         this.applyCompensatingTransactions = applyCompensatingTransactions;
+        this.parallelCommit = parallelCommit;
+        this.readExecutor = readExecutor;
     }
 
     protected boolean isApplyCompensatingTransactions(DataStore dataStore) {
@@ -7,12 +7,36 @@ package com.paiondata.elide.datastores.multiplex;
 
 import com.paiondata.elide.core.RequestScope;
 import com.paiondata.elide.core.datastore.DataStore;
+import com.paiondata.elide.core.datastore.DataStoreIterable;
+import com.paiondata.elide.core.datastore.DataStoreIterableBuilder;
 import com.paiondata.elide.core.datastore.DataStoreTransaction;
+import com.paiondata.elide.core.exceptions.TransactionException;
+import com.paiondata.elide.core.request.EntityProjection;
+import com.paiondata.elide.core.type.Type;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Multiplex transaction handler.
+ * <p>
+ * When the manager has a read executor, {@link #loadObjects(EntityProjection, RequestScope)} hands the load to the
+ * executor and returns at once, so that loads from different stores run concurrently. The caller only waits for a
+ * load once it reads its result. The loads of one sub-store transaction run one at a time in the order they were
+ * issued, and any other use of that transaction waits for them.
  */
 public class MultiplexReadTransaction extends MultiplexTransaction {
+    // Last load issued to each sub-store transaction, only used by the calling thread
+    private final Map<DataStoreTransaction, CompletableFuture<?>> loads = new IdentityHashMap<>();
+
     public MultiplexReadTransaction(MultiplexManager multiplexManager) {
         super(multiplexManager);
     }
@@ -28,8 +52,128 @@ public class MultiplexReadTransaction extends MultiplexTransaction {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public <T> void saveObjects(Collection<T> entities, RequestScope scope) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public <T> void delete(T entity, RequestScope scope) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public <T> DataStoreIterable<T> loadObjects(EntityProjection projection, RequestScope scope) {
+        Executor executor = multiplexManager.readExecutor;
+        if (executor == null) {
+            return super.loadObjects(projection, scope);
+        }
+
+        DataStoreTransaction transaction = super.getTransaction(projection.getType());
+        CompletableFuture<?> previous = loads.getOrDefault(transaction, CompletableFuture.completedFuture(null));
+        CompletableFuture<DataStoreIterable<T>> load = previous
+                .handle((result, failure) -> null)
+                .thenApplyAsync(unused -> read(transaction.loadObjects(projection, scope)), executor);
+        loads.put(transaction, load);
+        return new PendingIterable<>(load);
+    }
+
+    @Override
+    protected DataStoreTransaction getTransaction(Type<?> cls) {
+        DataStoreTransaction transaction = super.getTransaction(cls);
+        awaitLoads(transaction);
+        return transaction;
+    }
+
+    @Override
+    protected void processTransactions(Consumer<DataStoreTransaction> processor) {
+        awaitLoads();
+        super.processTransactions(processor);
+    }
+
+    @Override
+    public <T> T getProperty(String propertyName) {
+        awaitLoads();
+        return super.getProperty(propertyName);
+    }
+
+    @Override
+    public void close() throws IOException {
+        awaitLoads();
+        super.close();
+    }
+
+    /**
+     * Reads the loaded objects on the executor, as the iterable may be bound to the sub-store transaction.
+     */
+    private static <T> DataStoreIterable<T> read(DataStoreIterable<T> loaded) {
+        if (loaded == null) {
+            return new DataStoreIterableBuilder<T>().build();
+        }
+        List<T> objects = new ArrayList<>();
+        loaded.forEach(objects::add);
+        return new DataStoreIterableBuilder<T>(objects)
+                .filterInMemory(loaded.needsInMemoryFilter())
+                .sortInMemory(loaded.needsInMemorySort())
+                .paginateInMemory(loaded.needsInMemoryPagination())
+                .build();
+    }
+
+    /**
+     * Waits for the loads of a sub-store transaction. Their failures are reported when their results are read.
+     */
+    private void awaitLoads(DataStoreTransaction transaction) {
+        CompletableFuture<?> load = loads.remove(transaction);
+        if (load != null) {
+            load.handle((result, failure) -> null).join();
+        }
+    }
+
+    private void awaitLoads() {
+        new ArrayList<>(loads.keySet()).forEach(this::awaitLoads);
+    }
+
+    /**
+     * The result of a load that waits for the load to finish once it is read.
+     */
+    private static final class PendingIterable<T> implements DataStoreIterable<T> {
+        private final CompletableFuture<DataStoreIterable<T>> load;
+
+        PendingIterable(CompletableFuture<DataStoreIterable<T>> load) {
+            this.load = load;
+        }
+
+        @Override
+        public Iterable<T> getWrappedIterable() {
+            return get().getWrappedIterable();
+        }
+
+        @Override
+        public boolean needsInMemoryFilter() {
+            return get().needsInMemoryFilter();
+        }
+
+        @Override
+        public boolean needsInMemorySort() {
+            return get().needsInMemorySort();
+        }
+
+        @Override
+        public boolean needsInMemoryPagination() {
+            return get().needsInMemoryPagination();
+        }
+
+        private DataStoreIterable<T> get() {
+            try {
+                return load.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                } else if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new TransactionException(e.getCause());
+            }
+        }
+    }
 }
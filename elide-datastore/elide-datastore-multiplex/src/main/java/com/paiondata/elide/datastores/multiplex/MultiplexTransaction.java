@@ -25,8 +25,10 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -54,6 +56,29 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         getTransaction(EntityDictionary.getType(entity)).createObject(entity, scope);
     }
 
+    @Override
+    public <T> void createObjects(Collection<T> entities, RequestScope scope) {
+        if (!entities.isEmpty()) {
+            getTransaction(EntityDictionary.getType(entities.iterator().next())).createObjects(entities, scope);
+        }
+    }
+
+    @Override
+    public <T> void saveObjects(Collection<T> entities, RequestScope scope) {
+        if (!entities.isEmpty()) {
+            getTransaction(EntityDictionary.getType(entities.iterator().next())).saveObjects(entities, scope);
+        }
+    }
+
+    /**
+     * A batch holds objects of one type, so it is handed to the transaction of their store, which writes them one at
+     * a time if it does not support batch writes.
+     */
+    @Override
+    public boolean supportsBatchWrites() {
+        return true;
+    }
+
     @Override
     public <T> T loadObject(EntityProjection projection,
                              Serializable id,
@@ -175,6 +200,24 @@ public abstract class MultiplexTransaction implements DataStoreTransaction {
         return entityTransaction.getToManyRelation(relationTx, entity, relation, scope);
     }
 
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(
+            DataStoreTransaction tx,
+            Collection<T> entities,
+            Relationship relation,
+            RequestScope scope
+    ) {
+        if (entities.isEmpty()) {
+            return new IdentityHashMap<>();
+        }
+        T entity = entities.iterator().next();
+        DataStoreTransaction relationTx = getRelationTransaction(entity, relation.getName());
+        Type<Object> entityType = EntityDictionary.getType(entity);
+        DataStoreTransaction entityTransaction = getTransaction(entityType);
+
+        return entityTransaction.getToManyRelations(relationTx, entities, relation, scope);
+    }
+
     @Override
     public <T, R> R getToOneRelation(
             DataStoreTransaction tx,
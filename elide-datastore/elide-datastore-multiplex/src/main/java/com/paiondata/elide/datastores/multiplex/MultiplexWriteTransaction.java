@@ -16,25 +16,41 @@ import com.paiondata.elide.core.exceptions.TransactionException;
 import com.paiondata.elide.core.request.EntityProjection;
 import com.paiondata.elide.core.request.Relationship;
 import com.paiondata.elide.core.type.Type;
+import com.paiondata.elide.datastores.multiplex.MultiplexCommitMetrics.Step;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
  * Multiplex transaction handler.
+ * <p>
+ * When the manager has parallel commit settings, the sub-store transactions are pre-committed and flushed
+ * concurrently and are only committed, concurrently, once every one of them has flushed. A sub-store transaction
+ * is never used by two threads: one whose pre-commit or flush timed out is left to finish and is waited for before
+ * the sub-store transactions are closed.
  */
 public class MultiplexWriteTransaction extends MultiplexTransaction {
     private static final Object NEWLY_CREATED_OBJECT = new Object();
     private final IdentityHashMap<Object, Object> clonedObjects = new IdentityHashMap<>();
     private final Map<DataStore, List<Object>> dirtyObjects = new HashMap<>();
+    private final List<CompletableFuture<Void>> running = new ArrayList<>();
 
     public MultiplexWriteTransaction(MultiplexManager multiplexManager) {
         super(multiplexManager);
@@ -60,12 +76,45 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         add(this.multiplexManager.getSubManager(entityType), entity);
     }
 
+    @Override
+    public <T> void saveObjects(Collection<T> entities, RequestScope requestScope) {
+        super.saveObjects(entities, requestScope);
+        for (T entity : entities) {
+            add(this.multiplexManager.getSubManager(EntityDictionary.getType(entity)), entity);
+        }
+    }
+
     protected void add(DataStore dataStore, Object entity) {
         dirtyObjects.computeIfAbsent(dataStore, key -> new ArrayList<>()).add(entity);
     }
 
+    @Override
+    public void preCommit(RequestScope scope) {
+        if (multiplexManager.parallelCommit == null) {
+            super.preCommit(scope);
+            return;
+        }
+        throwFailures(processConcurrently(Step.PRE_COMMIT, transaction -> transaction.preCommit(scope),
+                multiplexManager.parallelCommit.getTimeout()));
+    }
+
+    @Override
+    public void flush(RequestScope scope) {
+        if (multiplexManager.parallelCommit == null) {
+            super.flush(scope);
+            return;
+        }
+        throwFailures(processConcurrently(Step.FLUSH, transaction -> transaction.flush(scope),
+                multiplexManager.parallelCommit.getTimeout()));
+    }
+
     @Override
     public void commit(RequestScope scope) {
+        if (multiplexManager.parallelCommit != null) {
+            commitConcurrently(scope);
+            return;
+        }
+
         // flush all before commits
         flush(scope);
 
@@ -96,6 +145,141 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         }
     }
 
+    /**
+     * Commits in two phases. Every transaction is flushed first so that nothing is committed if any of them fails to
+     * flush. The transactions are then committed concurrently and the ones that committed are reversed if any of
+     * them fails. Commits are not timed out, every commit is waited for so that one that succeeds after another
+     * failed is reversed too.
+     */
+    private void commitConcurrently(RequestScope scope) {
+        // flush all before commits
+        flush(scope);
+
+        Map<DataStore, Throwable> failures = processConcurrently(Step.COMMIT,
+                transaction -> transaction.commit(scope), null);
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        // Reverse in the order the transactions would have been committed one at a time
+        List<DataStore> commitList = new ArrayList<>();
+        ListIterator<DataStore> iterator = new ArrayList<>(transactions.keySet()).listIterator(transactions.size());
+        while (iterator.hasPrevious()) {
+            DataStore dataStore = iterator.previous();
+            if (transactions.get(dataStore) != null && !failures.containsKey(dataStore)
+                    && this.multiplexManager.isApplyCompensatingTransactions(dataStore)) {
+                commitList.add(dataStore);
+            }
+        }
+
+        Throwable cause = failures.values().iterator().next();
+        RuntimeException exception;
+        if (cause instanceof HttpStatusException httpStatusException) {
+            exception = httpStatusException;
+        } else if (cause instanceof RuntimeException runtimeException
+                && "jakarta.ws.rs.WebApplicationException".equals(cause.getClass().getCanonicalName())) {
+            exception = runtimeException;
+        } else {
+            exception = new TransactionException(cause);
+        }
+        failures.values().stream()
+                .filter(failure -> failure != cause)
+                .forEach(exception::addSuppressed);
+
+        reverseTransactions(commitList, exception, scope);
+        throw exception;
+    }
+
+    /**
+     * Processes a step of every transaction concurrently, recording how long each took. A transaction that takes
+     * longer than the timeout fails the step but keeps running, it is waited for when this transaction is closed.
+     *
+     * @param timeout how long each transaction may take or null to wait for as long as it takes
+     * @return the failure of each data store that failed in the order the transactions are processed
+     */
+    private Map<DataStore, Throwable> processConcurrently(Step step, Consumer<DataStoreTransaction> processor,
+            Duration timeout) {
+        ParallelCommit parallelCommit = multiplexManager.parallelCommit;
+        Map<DataStore, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+
+        // Transactions must be processed in reverse order
+        ListIterator<Entry<DataStore, DataStoreTransaction>> iterator = new ArrayList<>(transactions.entrySet())
+                .listIterator(transactions.size());
+        while (iterator.hasPrevious()) {
+            Entry<DataStore, DataStoreTransaction> entry = iterator.previous();
+            DataStore dataStore = entry.getKey();
+            DataStoreTransaction transaction = entry.getValue();
+            if (transaction == null) {
+                continue;
+            }
+            CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+                long start = System.nanoTime();
+                boolean succeeded = false;
+                try {
+                    processor.accept(transaction);
+                    succeeded = true;
+                } finally {
+                    parallelCommit.getMetrics().record(dataStore, step, System.nanoTime() - start, succeeded);
+                }
+            }, parallelCommit.getExecutor());
+            running.add(future);
+
+            // Only the wait times out, the step itself runs to completion
+            futures.put(dataStore,
+                    timeout == null ? future : future.copy().orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS));
+        }
+
+        Map<DataStore, Throwable> failures = new LinkedHashMap<>();
+        futures.forEach((dataStore, future) -> {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                Throwable failure = e.getCause();
+                if (failure instanceof TimeoutException) {
+                    failure = new TimeoutException(String.format("%s of %s timed out after %s",
+                            step, dataStore.getClass().getSimpleName(), timeout));
+                }
+                failures.put(dataStore, failure);
+            }
+        });
+        running.removeIf(CompletableFuture::isDone);
+        return failures;
+    }
+
+    /**
+     * Throws the first failure with the other failures suppressed.
+     *
+     * @param failures the failures in the order the transactions are processed
+     */
+    private static void throwFailures(Map<DataStore, Throwable> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        Iterator<Throwable> iterator = failures.values().iterator();
+        Throwable cause = iterator.next();
+        iterator.forEachRemaining(failure -> {
+            if (failure != cause) {
+                cause.addSuppressed(failure);
+            }
+        });
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new TransactionException(cause);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Steps that timed out may still be using their sub-store transaction
+        CompletableFuture.allOf(running.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(failure -> null)
+                .join();
+        running.clear();
+        super.close();
+    }
+
     /**
      * Attempt to reverse changes of last commit since not all transactions successfully committed.
      * @param restoreList List of database managers to reverse the last commit
@@ -132,6 +316,15 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         clonedObjects.put(entity, NEWLY_CREATED_OBJECT);
     }
 
+    @Override
+    public <T> void createObjects(Collection<T> entities, RequestScope scope) {
+        super.createObjects(entities, scope);
+        // mark these objects as newly created to be deleted on reverse transaction
+        for (T entity : entities) {
+            clonedObjects.put(entity, NEWLY_CREATED_OBJECT);
+        }
+    }
+
     private <T> DataStoreIterable<T> hold(DataStoreTransaction transaction, DataStoreIterable<T> list) {
         ArrayList<T> newList = new ArrayList<>();
         list.forEach(newList::add);
@@ -193,6 +386,21 @@ public class MultiplexWriteTransaction extends MultiplexTransaction {
         return hold(transaction, relation);
     }
 
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(DataStoreTransaction relationTx,
+                                                                 Collection<T> entities,
+                                                                 Relationship relationship,
+                                                                 RequestScope scope) {
+        Map<T, DataStoreIterable<R>> relations = super.getToManyRelations(relationTx, entities, relationship, scope);
+        if (relations.isEmpty()) {
+            return relations;
+        }
+
+        DataStoreTransaction transaction = getTransaction(EntityDictionary.getType(entities.iterator().next()));
+        relations.replaceAll((entity, relation) -> relation == null ? null : hold(transaction, relation));
+        return relations;
+    }
+
     @Override
     public <T, R> R getToOneRelation(DataStoreTransaction relationTx,
                                      T entity,
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.datastores.multiplex;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Settings to commit the sub-store transactions of a multiplex write transaction concurrently in two phases.
+ * <p>
+ * Every sub-store transaction is first flushed concurrently. Only once all of them have flushed are they committed
+ * concurrently. If a flush fails nothing is committed. If a commit fails the sub-store transactions that committed
+ * are reversed with compensating transactions as they are when committing one at a time.
+ */
+@Value
+@Builder
+public class ParallelCommit {
+    /**
+     * The bounded executor the sub-store transactions are processed on. The sub-store transactions must not be
+     * bound to a thread, for example through a JTA UserTransaction.
+     */
+    @NonNull
+    Executor executor;
+
+    /**
+     * How long each sub-store transaction may take to pre-commit or flush before the commit is abandoned. The
+     * sub-store transaction is not interrupted and is waited for before it is closed. Commits are not timed out.
+     */
+    @NonNull
+    @Builder.Default
+    Duration timeout = Duration.ofSeconds(30);
+
+    /**
+     * Records how long each sub-store transaction took to pre-commit, flush and commit.
+     */
+    @NonNull
+    @Builder.Default
+    MultiplexCommitMetrics metrics = MultiplexCommitMetrics.NONE;
+}
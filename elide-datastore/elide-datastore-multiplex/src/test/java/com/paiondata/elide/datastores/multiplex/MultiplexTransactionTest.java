@@ -6,20 +6,50 @@
 package com.paiondata.elide.datastores.multiplex;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.paiondata.elide.core.RequestScope;
 import com.paiondata.elide.core.datastore.DataStore;
+import com.paiondata.elide.core.datastore.DataStoreIterable;
+import com.paiondata.elide.core.datastore.DataStoreIterableBuilder;
 import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.datastore.inmemory.HashMapDataStore;
 import com.paiondata.elide.core.datastore.inmemory.HashMapStoreTransaction;
+import com.paiondata.elide.core.dictionary.EntityDictionary;
+import com.paiondata.elide.core.exceptions.TransactionException;
+import com.paiondata.elide.core.request.EntityProjection;
+import com.paiondata.elide.core.request.Relationship;
+import com.paiondata.elide.core.type.ClassType;
+import com.paiondata.elide.core.utils.ObjectCloners;
+import com.paiondata.elide.example.beans.FirstBean;
+import com.paiondata.elide.example.other.OtherBean;
+import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Tests MultiplexTransaction.
  */
@@ -79,4 +109,299 @@ public class MultiplexTransactionTest {
 
         assertEquals("Foo", result);
     }
+
+    @Test
+    public void testParallelCommit() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        // The second transaction is committed first and only completes once the first one has been committed.
+        CountDownLatch committed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            committed.countDown();
+            return null;
+        }).when(tx1).commit(scope);
+        doAnswer(invocation -> {
+            assertTrue(committed.await(10, TimeUnit.SECONDS));
+            return null;
+        }).when(tx2).commit(scope);
+
+        List<String> recorded = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ParallelCommit parallelCommit = ParallelCommit.builder()
+                    .executor(executor)
+                    .metrics((dataStore, step, nanos, succeeded) ->
+                            recorded.add((dataStore == store1 ? "store1 " : "store2 ") + step + " " + succeeded))
+                    .build();
+            MultiplexManager store = new MultiplexManager(ObjectCloners::clone, dataStore -> true,
+                    parallelCommit, store1, store2);
+            MultiplexWriteTransaction multiplexTx = (MultiplexWriteTransaction) store.beginTransaction();
+            multiplexTx.transactions.put(store1, tx1);
+            multiplexTx.transactions.put(store2, tx2);
+
+            multiplexTx.commit(scope);
+
+            verify(tx1).flush(scope);
+            verify(tx2).flush(scope);
+            verify(tx1).commit(scope);
+            verify(tx2).commit(scope);
+            assertEquals(Set.of("store1 FLUSH true", "store2 FLUSH true", "store1 COMMIT true", "store2 COMMIT true"),
+                    Set.copyOf(recorded));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testParallelCommitFlushFailure() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        IllegalStateException failure = new IllegalStateException("tx1");
+        doThrow(failure).when(tx1).flush(scope);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiplexManager store = new MultiplexManager(ObjectCloners::clone, dataStore -> true,
+                    ParallelCommit.builder().executor(executor).build(), store1, store2);
+            MultiplexWriteTransaction multiplexTx = (MultiplexWriteTransaction) store.beginTransaction();
+            multiplexTx.transactions.put(store1, tx1);
+            multiplexTx.transactions.put(store2, tx2);
+
+            assertSame(failure, assertThrows(IllegalStateException.class, () -> multiplexTx.commit(scope)));
+
+            // Nothing is committed unless every transaction has flushed.
+            verify(tx2).flush(scope);
+            verify(tx1, never()).commit(any());
+            verify(tx2, never()).commit(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testParallelCommitFlushTimeout() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch flushed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            flushed.countDown();
+            return null;
+        }).when(tx2).flush(scope);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ParallelCommit parallelCommit = ParallelCommit.builder()
+                    .executor(executor)
+                    .timeout(Duration.ofMillis(100))
+                    .build();
+            MultiplexManager store = new MultiplexManager(ObjectCloners::clone, dataStore -> false,
+                    parallelCommit, store1, store2);
+            MultiplexWriteTransaction multiplexTx = (MultiplexWriteTransaction) store.beginTransaction();
+            multiplexTx.transactions.put(store1, tx1);
+            multiplexTx.transactions.put(store2, tx2);
+
+            TransactionException thrown = assertThrows(TransactionException.class, () -> multiplexTx.commit(scope));
+            assertTrue(thrown.getCause() instanceof TimeoutException);
+
+            // Nothing is committed and the flush that timed out is not cancelled while it runs.
+            verify(tx1, never()).commit(any());
+            verify(tx2, never()).commit(any());
+            verify(tx2, never()).cancel(any());
+
+            // The sub-store transactions are only closed once the flush has finished.
+            release.countDown();
+            multiplexTx.close();
+            assertEquals(0, flushed.getCount());
+            verify(tx2).close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testParallelCommitLateSuccessReversed() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        DataStoreTransaction reverseTx = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        when(store2.beginTransaction()).thenReturn(reverseTx);
+        doThrow(new IllegalStateException("tx1")).when(tx1).commit(scope);
+
+        // The second transaction commits well after the timeout and after the first one failed.
+        doAnswer(invocation -> {
+            Thread.sleep(300);
+            return null;
+        }).when(tx2).commit(scope);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ParallelCommit parallelCommit = ParallelCommit.builder()
+                    .executor(executor)
+                    .timeout(Duration.ofMillis(100))
+                    .build();
+            MultiplexManager store = new MultiplexManager(ObjectCloners::clone, dataStore -> true,
+                    parallelCommit, store1, store2);
+            MultiplexWriteTransaction multiplexTx = (MultiplexWriteTransaction) store.beginTransaction();
+            multiplexTx.transactions.put(store1, tx1);
+            multiplexTx.transactions.put(store2, tx2);
+
+            assertThrows(TransactionException.class, () -> multiplexTx.commit(scope));
+
+            verify(tx2).commit(scope);
+            verify(reverseTx).commit(scope);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentLoads() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+        FirstBean first1 = new FirstBean();
+        FirstBean first2 = new FirstBean();
+        OtherBean other = new OtherBean();
+
+        when(store1.beginReadTransaction()).thenReturn(tx1);
+        when(store2.beginReadTransaction()).thenReturn(tx2);
+
+        // The first load only completes once the second one, issued after it, has run.
+        CountDownLatch loaded = new CountDownLatch(1);
+        when(tx1.loadObjects(any(), eq(scope))).thenAnswer(invocation -> {
+            assertTrue(loaded.await(10, TimeUnit.SECONDS));
+            return new DataStoreIterableBuilder<>(List.of(first1, first2)).sortInMemory(true).build();
+        });
+        when(tx2.loadObjects(any(), eq(scope))).thenAnswer(invocation -> {
+            loaded.countDown();
+            return new DataStoreIterableBuilder<>(List.of(other)).build();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiplexReadTransaction multiplexTx = (MultiplexReadTransaction) multiplexManager(executor, store1,
+                    store2).beginReadTransaction();
+
+            DataStoreIterable<Object> firstBeans = multiplexTx.loadObjects(
+                    EntityProjection.builder().type(FirstBean.class).build(), scope);
+            DataStoreIterable<Object> otherBeans = multiplexTx.loadObjects(
+                    EntityProjection.builder().type(OtherBean.class).build(), scope);
+
+            assertEquals(List.of(first1, first2), Lists.newArrayList(firstBeans));
+            assertTrue(firstBeans.needsInMemorySort());
+            assertEquals(List.of(other), Lists.newArrayList(otherBeans));
+
+            multiplexTx.close();
+            verify(tx1).close();
+            verify(tx2).close();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentLoadFailure() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+
+        IllegalStateException failure = new IllegalStateException("tx1");
+        when(store1.beginReadTransaction()).thenReturn(tx1);
+        when(tx1.loadObjects(any(), eq(scope))).thenThrow(failure);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MultiplexReadTransaction multiplexTx = (MultiplexReadTransaction) multiplexManager(executor, store1,
+                    mock(DataStore.class)).beginReadTransaction();
+
+            DataStoreIterable<Object> firstBeans = multiplexTx.loadObjects(
+                    EntityProjection.builder().type(FirstBean.class).build(), scope);
+
+            // The failure is thrown once the result is read.
+            assertSame(failure, assertThrows(IllegalStateException.class, firstBeans::iterator));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBatchWrites() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+        List<FirstBean> created = List.of(new FirstBean(), new FirstBean());
+        List<FirstBean> saved = List.of(new FirstBean());
+
+        when(store1.beginTransaction()).thenReturn(tx1);
+
+        DataStoreTransaction multiplexTx = multiplexManager(null, store1, store2).beginTransaction();
+        assertTrue(multiplexTx.supportsBatchWrites());
+
+        // Each batch is handed to the transaction of its store
+        multiplexTx.createObjects(created, scope);
+        multiplexTx.saveObjects(saved, scope);
+
+        verify(tx1).createObjects(created, scope);
+        verify(tx1).saveObjects(saved, scope);
+        verify(store2, never()).beginTransaction();
+    }
+
+    @Test
+    public void testBatchedToManyRelations() throws Exception {
+        DataStore store1 = mock(DataStore.class);
+        DataStore store2 = mock(DataStore.class);
+        DataStoreTransaction tx1 = mock(DataStoreTransaction.class);
+        DataStoreTransaction tx2 = mock(DataStoreTransaction.class);
+        RequestScope scope = mock(RequestScope.class);
+        List<FirstBean> owners = List.of(new FirstBean(), new FirstBean());
+        Relationship relationship = Relationship.builder()
+                .name("others")
+                .projection(EntityProjection.builder().type(OtherBean.class).build())
+                .build();
+        Map<FirstBean, DataStoreIterable<Object>> relations = new IdentityHashMap<>();
+
+        when(store1.beginReadTransaction()).thenReturn(tx1);
+        when(store2.beginReadTransaction()).thenReturn(tx2);
+        when(tx1.getToManyRelations(tx2, owners, relationship, scope)).thenReturn(relations);
+
+        DataStoreTransaction multiplexTx = multiplexManager(null, store1, store2).beginReadTransaction();
+
+        // Every owner is fetched by one call to the transaction of the owners with the one of the relationship
+        assertSame(relations, multiplexTx.getToManyRelations(multiplexTx, owners, relationship, scope));
+        verify(tx1, never()).getToManyRelation(any(), any(), any(), any());
+    }
+
+    private static MultiplexManager multiplexManager(ExecutorService executor, DataStore store1, DataStore store2) {
+        EntityDictionary dictionary = mock(EntityDictionary.class);
+        when(dictionary.lookupBoundClass(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        doReturn(ClassType.of(OtherBean.class)).when(dictionary)
+                .getParameterizedType(ClassType.of(FirstBean.class), "others");
+
+        MultiplexManager store = new MultiplexManager(ObjectCloners::clone, dataStore -> true, null, executor,
+                store1, store2);
+        store.setDictionary(dictionary);
+        store.dataStoreMap.put(ClassType.of(FirstBean.class), store1);
+        store.dataStoreMap.put(ClassType.of(OtherBean.class), store2);
+        return store;
+    }
 }
@@ -87,6 +87,11 @@ public class SearchDataTransaction extends TransactionWrapper {
             canSearch = canSearch && canSort(projection.getSorting(), projection.getType());
         }
 
+        // Keyset pages are sought by the wrapped store.
+        if (projection.getPagination() != null && projection.getPagination().isKeyset()) {
+            canSearch = false;
+        }
+
         if (canSearch) {
             Iterable<T> result = search(projection.getType(), projection.getFilterExpression(),
                     Optional.ofNullable(projection.getSorting()),
@@ -12,6 +12,7 @@ import com.paiondata.elide.graphql.containers.PersistentResourceContainer;
 import com.paiondata.elide.graphql.containers.RootContainer;
 
 import graphql.language.Field;
+import graphql.language.OperationDefinition;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.GraphQLType;
 
@@ -40,6 +41,8 @@ public class Environment {
     public final Field field;
     public final NonEntityDictionary nonEntityDictionary;
 
+    private final boolean mutation;
+
     public Environment(DataFetchingEnvironment environment, NonEntityDictionary nonEntityDictionary) {
         this.nonEntityDictionary = nonEntityDictionary;
 
@@ -73,6 +76,10 @@ public class Environment {
 
         field = environment.getMergedField().getFields().get(0);
 
+        OperationDefinition operationDefinition = environment.getOperationDefinition();
+        mutation = operationDefinition != null
+                && operationDefinition.getOperation() == OperationDefinition.Operation.MUTATION;
+
         this.ids = Optional.ofNullable((List<String>) args.get(ModelBuilder.ARGUMENT_IDS));
 
         List<Map<String, Object>> data;
@@ -87,4 +94,8 @@ public class Environment {
     public boolean isRoot() {
         return !(rawSource instanceof GraphQLContainer);
     }
+
+    public boolean isMutation() {
+        return mutation;
+    }
 }
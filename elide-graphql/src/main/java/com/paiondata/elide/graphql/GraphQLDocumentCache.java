@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.graphql;
+
+import com.paiondata.elide.core.exceptions.InvalidEntityBodyException;
+import com.paiondata.elide.graphql.parser.GraphQLEntityProjectionMaker;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed GraphQL documents keyed by document text, operation name and API version.
+ * <p>
+ * The parsed {@link Document} is shared by the entity projection maker and, through the
+ * {@link PreparsedDocumentProvider} returned by {@link #getPreparsedDocumentProvider(String)}, by graphql-java
+ * which also stores the validation result. Projections are not cached as they depend on the variables of the
+ * request.
+ */
+public class GraphQLDocumentCache {
+    public static final int DEFAULT_MAXIMUM_ENTRIES = 1024;
+
+    private final Cache<Key, Entry> cache;
+
+    public GraphQLDocumentCache() {
+        this(DEFAULT_MAXIMUM_ENTRIES);
+    }
+
+    public GraphQLDocumentCache(int maximumSize) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the parsed document, parsing and caching it on a miss.
+     *
+     * @param apiVersion the API version
+     * @param query the GraphQL document text
+     * @param operationName the operation name
+     * @return the parsed document
+     * @throws InvalidEntityBodyException if the document cannot be parsed
+     */
+    public Document getDocument(String apiVersion, String query, String operationName) {
+        return cache.get(new Key(apiVersion, query, operationName),
+                key -> new Entry(GraphQLEntityProjectionMaker.parse(key.query()))).document;
+    }
+
+    /**
+     * Returns the {@link PreparsedDocumentProvider} to register with the {@link graphql.GraphQL} instance of an API
+     * version.
+     *
+     * @param apiVersion the API version
+     * @return the provider
+     */
+    public PreparsedDocumentProvider getPreparsedDocumentProvider(String apiVersion) {
+        return new Provider(apiVersion);
+    }
+
+    public Cache<?, ?> getImplementation() {
+        return cache;
+    }
+
+    private record Key(String apiVersion, String query, String operationName) {
+    }
+
+    private static class Entry {
+        private final Document document;
+        private volatile PreparsedDocumentEntry validated;
+
+        Entry(Document document) {
+            this.document = document;
+        }
+    }
+
+    private class Provider implements PreparsedDocumentProvider {
+        private final String apiVersion;
+
+        Provider(String apiVersion) {
+            this.apiVersion = apiVersion;
+        }
+
+        @Override
+        public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+                Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+            Key key = new Key(apiVersion, executionInput.getQuery(), executionInput.getOperationName());
+
+            // The lookup of the projection maker already recorded the hit or miss of this request.
+            Entry entry = cache.asMap().get(key);
+            if (entry != null && entry.validated != null) {
+                return CompletableFuture.completedFuture(entry.validated);
+            }
+
+            PreparsedDocumentEntry validated = parseAndValidateFunction.apply(executionInput);
+            if (entry == null) {
+                if (validated.hasErrors()) {
+                    return CompletableFuture.completedFuture(validated);
+                }
+                entry = cache.asMap().computeIfAbsent(key, unused -> new Entry(validated.getDocument()));
+            }
+            entry.validated = validated;
+            return CompletableFuture.completedFuture(validated);
+        }
+    }
+}
@@ -8,6 +8,8 @@ package com.paiondata.elide.graphql;
 import com.paiondata.elide.ElideSettings;
 import com.paiondata.elide.core.RequestScope;
 import com.paiondata.elide.core.datastore.DataStoreTransaction;
+import com.paiondata.elide.core.instrumentation.InstrumentedTransaction;
+import com.paiondata.elide.core.instrumentation.RequestInstrumentation;
 import com.paiondata.elide.core.request.EntityProjection;
 import com.paiondata.elide.core.request.route.Route;
 import com.paiondata.elide.core.security.User;
@@ -15,7 +17,10 @@ import com.paiondata.elide.graphql.parser.GraphQLProjectionInfo;
 
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
@@ -29,6 +34,12 @@ public class GraphQLRequestScope extends RequestScope {
     @Getter
     private final GraphQLProjectionInfo projectionInfo;
 
+    /**
+     * Scopes forked from this scope to execute root fields concurrently.
+     */
+    @Getter
+    private final List<GraphQLRequestScope> forks = Collections.synchronizedList(new ArrayList<>());
+
     public GraphQLRequestScope(
             Route route,
             DataStoreTransaction transaction,
@@ -47,6 +58,38 @@ public class GraphQLRequestScope extends RequestScope {
         this.projectionInfo = projectionInfo;
     }
 
+    private GraphQLRequestScope(
+            Route route,
+            DataStoreTransaction transaction,
+            User user,
+            UUID requestId,
+            ElideSettings elideSettings,
+            Function<RequestScope, EntityProjection> entityProjection,
+            GraphQLProjectionInfo projectionInfo,
+            RequestInstrumentation instrumentation
+    ) {
+        super(route, transaction, user, requestId, elideSettings, entityProjection, instrumentation);
+        this.projectionInfo = projectionInfo;
+    }
+
+    /**
+     * Forks a scope for the same request that is backed by its own transaction. The fork shares no mutable
+     * state with this scope so that it can be used by another thread. The fork records into the instrumentation
+     * of this scope.
+     *
+     * @param transaction the transaction of the fork
+     * @return the forked scope
+     */
+    public GraphQLRequestScope fork(DataStoreTransaction transaction) {
+        DataStoreTransaction forkTransaction = getTransaction() instanceof InstrumentedTransaction
+                ? new InstrumentedTransaction(transaction)
+                : transaction;
+        GraphQLRequestScope fork = new GraphQLRequestScope(getRoute(), forkTransaction, getUser(), getRequestId(),
+                getElideSettings(), entityProjectionResolver, projectionInfo, getInstrumentation());
+        forks.add(fork);
+        return fork;
+    }
+
     public static GraphQLRequestScopeBuilder builder() {
         return new GraphQLRequestScopeBuilder();
     }
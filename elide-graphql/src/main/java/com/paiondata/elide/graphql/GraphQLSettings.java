@@ -15,6 +15,7 @@ import com.paiondata.elide.graphql.federation.FederationVersion;
 
 import lombok.Getter;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -68,16 +69,35 @@ public class GraphQLSettings implements Settings {
     private final FilterDialect filterDialect;
     private final GraphQLExceptionHandler graphqlExceptionHandler;
     private final GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer;
+    private final Executor queryExecutor;
+    private final GraphQLDocumentCache documentCache;
 
     public GraphQLSettings(boolean enabled, String path, Federation federation, FilterDialect filterDialect,
             GraphQLExceptionHandler graphqlExceptionHandler,
             GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer) {
+        this(enabled, path, federation, filterDialect, graphqlExceptionHandler, graphqlFieldDefinitionCustomizer,
+                null);
+    }
+
+    public GraphQLSettings(boolean enabled, String path, Federation federation, FilterDialect filterDialect,
+            GraphQLExceptionHandler graphqlExceptionHandler,
+            GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer, Executor queryExecutor) {
+        this(enabled, path, federation, filterDialect, graphqlExceptionHandler, graphqlFieldDefinitionCustomizer,
+                queryExecutor, null);
+    }
+
+    public GraphQLSettings(boolean enabled, String path, Federation federation, FilterDialect filterDialect,
+            GraphQLExceptionHandler graphqlExceptionHandler,
+            GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer, Executor queryExecutor,
+            GraphQLDocumentCache documentCache) {
         this.enabled = enabled;
         this.path = path;
         this.federation = federation;
         this.filterDialect = filterDialect;
         this.graphqlExceptionHandler = graphqlExceptionHandler;
         this.graphqlFieldDefinitionCustomizer = graphqlFieldDefinitionCustomizer;
+        this.queryExecutor = queryExecutor;
+        this.documentCache = documentCache;
     }
 
     /**
@@ -92,7 +112,9 @@ public class GraphQLSettings implements Settings {
                 .filterDialect(this.filterDialect)
                 .federation(newFederation -> newFederation.enabled(this.getFederation().isEnabled())
                         .version(this.getFederation().getVersion()))
-                .graphqlExceptionHandler(this.graphqlExceptionHandler);
+                .graphqlExceptionHandler(this.graphqlExceptionHandler)
+                .queryExecutor(this.queryExecutor)
+                .documentCache(this.documentCache);
     }
 
     /**
@@ -121,7 +143,8 @@ public class GraphQLSettings implements Settings {
                 this.processor.accept(this);
             }
             return new GraphQLSettings(this.enabled, this.path, this.federation.build(), this.filterDialect,
-                    this.graphqlExceptionHandler, this.graphqlFieldDefinitionCustomizer);
+                    this.graphqlExceptionHandler, this.graphqlFieldDefinitionCustomizer, this.queryExecutor,
+                    this.documentCache);
         }
 
         @Override
@@ -138,7 +161,8 @@ public class GraphQLSettings implements Settings {
         public static GraphQLSettingsBuilder withDefaults(EntityDictionary entityDictionary) {
             return new GraphQLSettingsBuilder().processor(builder -> {
                 if (builder.filterDialect == null) {
-                    builder.filterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary).build());
+                    builder.filterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary)
+                            .parseCacheSize(RSQLFilterDialect.DEFAULT_PARSE_CACHE_SIZE).build());
                 }
             });
         }
@@ -153,6 +177,8 @@ public class GraphQLSettings implements Settings {
                 new Slf4jExceptionLogger(), BasicExceptionMappers.builder().build(), new DefaultGraphQLErrorMapper());
         protected GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer =
                 DefaultGraphQLFieldDefinitionCustomizer.INSTANCE;
+        protected Executor queryExecutor = null;
+        protected GraphQLDocumentCache documentCache = null;
 
         protected abstract S self();
 
@@ -221,5 +247,30 @@ public class GraphQLSettings implements Settings {
             this.graphqlFieldDefinitionCustomizer = graphqlFieldDefinitionCustomizer;
             return self();
         }
+
+        /**
+         * Sets the {@link Executor} used to execute the root fields of read-only queries concurrently, each in its
+         * own read transaction. Mutations are always executed serially. If not set the root fields of queries are
+         * also executed serially.
+         *
+         * @param queryExecutor the executor, which should be bounded
+         * @return the builder
+         */
+        public S queryExecutor(Executor queryExecutor) {
+            this.queryExecutor = queryExecutor;
+            return self();
+        }
+
+        /**
+         * Sets the {@link GraphQLDocumentCache} used to reuse the parsed and validated documents of repeated queries.
+         * If not set every query is parsed and validated on each request.
+         *
+         * @param documentCache the document cache
+         * @return the builder
+         */
+        public S documentCache(GraphQLDocumentCache documentCache) {
+            this.documentCache = documentCache;
+            return self();
+        }
     }
 }
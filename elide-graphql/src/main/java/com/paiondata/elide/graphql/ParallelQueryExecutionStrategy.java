@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.graphql;
+
+import com.paiondata.elide.core.TransactionRegistry;
+import com.paiondata.elide.core.datastore.DataStore;
+import com.paiondata.elide.core.datastore.DataStoreTransaction;
+
+import graphql.execution.AsyncExecutionStrategy;
+import graphql.execution.DataFetcherExceptionHandler;
+import graphql.execution.ExecutionContext;
+import graphql.execution.ExecutionStrategyParameters;
+import graphql.language.OperationDefinition;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Query execution strategy that executes the root fields of a read-only request concurrently.
+ * <p>
+ * Every root field is executed on the supplied executor with a {@link GraphQLRequestScope} forked from the request
+ * scope and backed by its own read transaction, which is registered under the request ID so that cancelling the
+ * request cancels it too. The forked scopes are committed, closed and unregistered by the {@link QueryRunner}.
+ * Requests with a single root field are executed on the calling thread.
+ */
+public class ParallelQueryExecutionStrategy extends AsyncExecutionStrategy {
+    private final Executor executor;
+    private final DataStore dataStore;
+    private final TransactionRegistry transactionRegistry;
+
+    /**
+     * Constructor.
+     *
+     * @param exceptionHandler the exception handler
+     * @param executor the executor used to execute the root fields, which should be bounded
+     * @param dataStore the data store used to begin the transactions of the root fields
+     * @param transactionRegistry the registry of the running transactions
+     */
+    public ParallelQueryExecutionStrategy(DataFetcherExceptionHandler exceptionHandler, Executor executor,
+            DataStore dataStore, TransactionRegistry transactionRegistry) {
+        super(exceptionHandler);
+        this.executor = executor;
+        this.dataStore = dataStore;
+        this.transactionRegistry = transactionRegistry;
+    }
+
+    @Override
+    protected Object resolveFieldWithInfo(ExecutionContext executionContext, ExecutionStrategyParameters parameters) {
+        if (!isConcurrentRootField(executionContext, parameters)) {
+            return super.resolveFieldWithInfo(executionContext, parameters);
+        }
+
+        GraphQLRequestScope requestScope = (GraphQLRequestScope) parameters.getLocalContext();
+
+        // Forked on the calling thread so that the query runner tracks the fork even if the executor rejects it.
+        DataStoreTransaction transaction = dataStore.beginReadTransaction();
+        GraphQLRequestScope fork = requestScope.fork(transaction);
+        transactionRegistry.addForkedTransaction(fork.getRequestId(), fork.getTransaction());
+        ExecutionStrategyParameters forkParameters = parameters.transform(builder -> builder.localContext(fork));
+
+        return CompletableFuture
+                .supplyAsync(() -> super.resolveFieldWithInfo(executionContext, forkParameters), executor)
+                .thenCompose(ParallelQueryExecutionStrategy::toFuture);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> toFuture(Object result) {
+        return result instanceof CompletableFuture
+                ? (CompletableFuture<Object>) result
+                : CompletableFuture.completedFuture(result);
+    }
+
+    private static boolean isConcurrentRootField(ExecutionContext executionContext,
+            ExecutionStrategyParameters parameters) {
+        OperationDefinition operationDefinition = executionContext.getOperationDefinition();
+        return operationDefinition != null
+                && operationDefinition.getOperation() == OperationDefinition.Operation.QUERY
+                && parameters.getParent() != null
+                && parameters.getParent().getPath().isRootPath()
+                && parameters.getParent().getFields().size() > 1
+                && parameters.getLocalContext() instanceof GraphQLRequestScope;
+    }
+}
@@ -176,7 +176,8 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
         }).orElseGet(() -> PersistentResource.loadRecords(projection, Collections.emptyList(), requestScope));
 
         return new ConnectionContainer(records.collect(Collectors.toCollection(LinkedHashSet::new)).block(),
-                Optional.ofNullable(projection.getPagination()), typeName);
+                Optional.ofNullable(projection.getPagination()), typeName,
+                Optional.ofNullable(projection.getSorting()));
     }
 
     /**
@@ -192,23 +193,38 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
             @NotNull Relationship relationship,
             Optional<List<String>> ids
     ) {
-        EntityDictionary dictionary = parentResource.getRequestScope().getDictionary();
-        Type relationshipClass = dictionary.getParameterizedType(parentResource.getObject(), relationship.getName());
-        String relationshipType = dictionary.getJsonAliasFor(relationshipClass);
-
-        Set<PersistentResource> relationResources;
+        Flux<PersistentResource> relationResources;
         if (ids.isPresent()) {
-            relationResources = parentResource.getRelation(ids.get(), relationship)
-                    .collect(Collectors.toCollection(LinkedHashSet::new)).block();
+            relationResources = parentResource.getRelation(ids.get(), relationship);
         } else {
-            relationResources = parentResource.getRelationCheckedFiltered(relationship)
-                    .collect(Collectors.toCollection(LinkedHashSet::new)).block();
+            relationResources = parentResource.getRelationCheckedFiltered(relationship);
         }
 
+        return fetchRelationship(parentResource, relationship, relationResources);
+    }
+
+    /**
+     * Collects a relationship already loaded for a top-level entity.
+     *
+     * @param parentResource Parent object
+     * @param relationship constructed relationship object with entityProjection
+     * @param relationResources the loaded relationship
+     * @return persistence resource object(s)
+     */
+    public static ConnectionContainer fetchRelationship(
+            PersistentResource<?> parentResource,
+            @NotNull Relationship relationship,
+            Flux<PersistentResource> relationResources
+    ) {
+        EntityDictionary dictionary = parentResource.getRequestScope().getDictionary();
+        Type relationshipClass = dictionary.getParameterizedType(parentResource.getObject(), relationship.getName());
+        String relationshipType = dictionary.getJsonAliasFor(relationshipClass);
+
         return new ConnectionContainer(
-                relationResources,
+                relationResources.collect(Collectors.toCollection(LinkedHashSet::new)).block(),
                 Optional.ofNullable(relationship.getProjection().getPagination()),
-                relationshipType);
+                relationshipType,
+                Optional.ofNullable(relationship.getProjection().getSorting()));
     }
 
     private ConnectionContainer upsertObjects(Environment context) {
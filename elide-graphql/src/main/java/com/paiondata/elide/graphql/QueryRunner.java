@@ -7,9 +7,13 @@ package com.paiondata.elide.graphql;
 
 import com.paiondata.elide.Elide;
 import com.paiondata.elide.ElideResponse;
+import com.paiondata.elide.core.ObjectEntityCache;
 import com.paiondata.elide.core.datastore.DataStoreTransaction;
 import com.paiondata.elide.core.dictionary.EntityDictionary;
 import com.paiondata.elide.core.exceptions.InvalidEntityBodyException;
+import com.paiondata.elide.core.instrumentation.Instrumentation;
+import com.paiondata.elide.core.instrumentation.InstrumentedTransaction;
+import com.paiondata.elide.core.instrumentation.Phase;
 import com.paiondata.elide.core.request.route.Route;
 import com.paiondata.elide.core.security.User;
 import com.paiondata.elide.graphql.parser.GraphQLEntityProjectionMaker;
@@ -29,7 +33,9 @@ import graphql.GraphQLError;
 import graphql.GraphQLException;
 import graphql.execution.AsyncSerialExecutionStrategy;
 import graphql.execution.DataFetcherExceptionHandler;
+import graphql.execution.ExecutionStrategy;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
+import graphql.language.Document;
 import graphql.validation.ValidationError;
 import graphql.validation.ValidationErrorType;
 import lombok.Getter;
@@ -43,6 +49,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -55,6 +62,7 @@ public class QueryRunner {
     @Getter
     private final Elide elide;
     private GraphQL api;
+    private final GraphQLDocumentCache documentCache;
 
     @Getter
     private String apiVersion;
@@ -95,10 +103,21 @@ public class QueryRunner {
         ModelBuilder builder = new ModelBuilder(elide.getElideSettings().getEntityDictionary(),
                 nonEntityDictionary, elide.getElideSettings(), fetcher, apiVersion);
 
-        this.api = GraphQL.newGraphQL(builder.build())
+        GraphQLSettings graphqlSettings = elide.getSettings(GraphQLSettings.class);
+        Executor queryExecutor = graphqlSettings != null ? graphqlSettings.getQueryExecutor() : null;
+        ExecutionStrategy queryExecutionStrategy = queryExecutor != null
+                ? new ParallelQueryExecutionStrategy(exceptionHandler, queryExecutor, elide.getDataStore(),
+                        elide.getTransactionRegistry())
+                : new AsyncSerialExecutionStrategy(exceptionHandler);
+        this.documentCache = graphqlSettings != null ? graphqlSettings.getDocumentCache() : null;
+
+        GraphQL.Builder api = GraphQL.newGraphQL(builder.build())
                 .defaultDataFetcherExceptionHandler(exceptionHandler)
-                .queryExecutionStrategy(new AsyncSerialExecutionStrategy(exceptionHandler))
-                .build();
+                .queryExecutionStrategy(queryExecutionStrategy);
+        if (documentCache != null) {
+            api.preparsedDocumentProvider(documentCache.getPreparsedDocumentProvider(apiVersion));
+        }
+        this.api = api.build();
 
         elide.getElideSettings().getObjectMapper().registerModule(new GraphQLModule());
     }
@@ -201,8 +220,17 @@ public class QueryRunner {
                     graphQLDocument, query, requestId, requestHeaders));
         }
 
+        long serializationStart = System.nanoTime();
+        try {
+            return serialize(responses, mapper);
+        } finally {
+            getInstrumentation().record(Phase.SERIALIZATION, System.nanoTime() - serializationStart);
+        }
+    }
+
+    private static ElideResponse<String> serialize(List<ElideResponse<?>> responses, ObjectMapper mapper) {
         if (responses.size() == 1) {
-            return map(responses.get(0), elide.getObjectMapper());
+            return map(responses.get(0), mapper);
         }
 
         //Convert the list of responses into a single JSON Array.
@@ -221,7 +249,7 @@ public class QueryRunner {
                         (left, right) -> left.addAll(right));
 
         // Build and elide response from the array of responses.
-        return map(ElideResponse.ok(result), elide.getObjectMapper());
+        return map(ElideResponse.ok(result), mapper);
     }
 
     private static ElideResponse<String> map(ElideResponse<?> response, ObjectMapper objectMapper) {
@@ -281,10 +309,9 @@ public class QueryRunner {
                                                 Map<String, List<String>> requestHeaders) {
         String queryText = query.getQuery();
         boolean isMutation = isMutation(queryText);
+        GraphQLRequestScope requestScope = null;
 
-        try (DataStoreTransaction tx = isMutation
-                ? elide.getDataStore().beginTransaction()
-                : elide.getDataStore().beginReadTransaction()) {
+        try (DataStoreTransaction tx = beginTransaction(isMutation)) {
 
             elide.getTransactionRegistry().addRunningTransaction(requestId, tx);
             if (query.getQuery() == null || query.getQuery().isEmpty()) {
@@ -294,14 +321,24 @@ public class QueryRunner {
             // get variables from request for constructing entityProjections
             Map<String, Object> variables = query.getVariables();
 
-            GraphQLProjectionInfo projectionInfo = new GraphQLEntityProjectionMaker(elide.getElideSettings(), variables,
-                    apiVersion).make(queryText);
+            GraphQLEntityProjectionMaker projectionMaker = new GraphQLEntityProjectionMaker(elide.getElideSettings(),
+                    variables, apiVersion);
+            GraphQLProjectionInfo projectionInfo;
+            Instrumentation instrumentation = getInstrumentation();
+            long parseStart = System.nanoTime();
+            Document document = documentCache != null
+                    ? documentCache.getDocument(apiVersion, queryText, query.getOperationName())
+                    : GraphQLEntityProjectionMaker.parse(queryText);
+            long projectionStart = System.nanoTime();
+            instrumentation.record(Phase.PARSE, projectionStart - parseStart);
+            projectionInfo = projectionMaker.make(document);
+            instrumentation.record(Phase.PROJECTION, System.nanoTime() - projectionStart);
             Route route = Route.builder()
                     .baseUrl(baseUrlEndPoint)
                     .apiVersion(apiVersion)
                     .headers(requestHeaders)
                     .build();
-            GraphQLRequestScope requestScope = GraphQLRequestScope.builder()
+            requestScope = GraphQLRequestScope.builder()
                     .route(route)
                     .dataStoreTransaction(tx)
                     .user(principal)
@@ -325,6 +362,17 @@ public class QueryRunner {
 
             ExecutionResult result = api.execute(executionInput);
 
+            // Root fields executed concurrently have their own read transactions.
+            for (GraphQLRequestScope fork : requestScope.getForks()) {
+                DataStoreTransaction forkTx = fork.getTransaction();
+                forkTx.preCommit(fork);
+                fork.getPermissionExecutor().executeCommitChecks();
+                fork.getInstrumentation().time(Phase.COMMIT, () -> forkTx.flush(fork));
+                fork.runQueuedPreCommitTriggers();
+                fork.getInstrumentation().time(Phase.COMMIT, () -> forkTx.commit(fork));
+                fork.runQueuedPostCommitTriggers();
+            }
+
             tx.preCommit(requestScope);
             requestScope.getPermissionExecutor().executeCommitChecks();
             if (isMutation) {
@@ -338,11 +386,12 @@ public class QueryRunner {
                 requestScope.saveOrCreateObjects();
             }
 
-            tx.flush(requestScope);
+            GraphQLRequestScope scope = requestScope;
+            scope.getInstrumentation().time(Phase.COMMIT, () -> tx.flush(scope));
 
             requestScope.runQueuedPreCommitTriggers();
             elide.getAuditLogger().commit();
-            tx.commit(requestScope);
+            scope.getInstrumentation().time(Phase.COMMIT, () -> tx.commit(scope));
             requestScope.runQueuedPostCommitTriggers();
 
             if (log.isTraceEnabled()) {
@@ -355,11 +404,44 @@ public class QueryRunner {
         } catch (RuntimeException e) {
             return handleRuntimeException(elide, e);
         } finally {
+            if (requestScope != null) {
+                closeForks(requestScope);
+                ObjectEntityCache objectEntityCache = requestScope.getObjectEntityCache();
+                requestScope.getInstrumentation().recordEntityCache(objectEntityCache.size(),
+                        objectEntityCache.getHits(), objectEntityCache.getMisses());
+                requestScope.getInstrumentation().end();
+            }
             elide.getTransactionRegistry().removeRunningTransaction(requestId);
             elide.getAuditLogger().clear();
         }
     }
 
+    private DataStoreTransaction beginTransaction(boolean isMutation) {
+        DataStoreTransaction tx = isMutation
+                ? elide.getDataStore().beginTransaction()
+                : elide.getDataStore().beginReadTransaction();
+        return getInstrumentation() == Instrumentation.NONE
+                ? tx
+                : new InstrumentedTransaction(tx);
+    }
+
+    private Instrumentation getInstrumentation() {
+        Instrumentation instrumentation = elide.getElideSettings().getInstrumentation();
+        return instrumentation != null ? instrumentation : Instrumentation.NONE;
+    }
+
+    private void closeForks(GraphQLRequestScope requestScope) {
+        for (GraphQLRequestScope fork : requestScope.getForks()) {
+            try {
+                fork.getTransaction().close();
+            } catch (IOException | RuntimeException e) {
+                log.debug("Caught an exception while closing the transaction of a root field", e);
+            } finally {
+                elide.getTransactionRegistry().removeForkedTransaction(fork.getRequestId(), fork.getTransaction());
+            }
+        }
+    }
+
     /**
      * Generate more user friendly error messages.
      *
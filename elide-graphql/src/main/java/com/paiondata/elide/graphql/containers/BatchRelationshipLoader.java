@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.graphql.containers;
+
+import com.paiondata.elide.core.PersistentResource;
+import com.paiondata.elide.core.request.Relationship;
+import com.paiondata.elide.graphql.PersistentResourceFetcher;
+
+import reactor.core.publisher.Flux;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Loads relationships for the nodes of a single connection.
+ * <p>
+ * The first node that asks for a relationship triggers a single batched fetch of that relationship for every
+ * node in the connection. The remaining nodes are then served from the batch instead of going back to the data
+ * store one at a time.
+ */
+public class BatchRelationshipLoader {
+    private final Set<PersistentResource> persistentResources;
+
+    // Relationship projections are shared by every node of the connection so they can be compared by identity.
+    private final Map<Relationship, Map<PersistentResource, Flux<PersistentResource>>> loaded =
+            new IdentityHashMap<>();
+
+    public BatchRelationshipLoader(Set<PersistentResource> persistentResources) {
+        this.persistentResources = persistentResources;
+    }
+
+    /**
+     * Fetches a relationship of one of the nodes of the connection.
+     *
+     * @param parentResource the node owning the relationship
+     * @param relationship constructed relationship object with entityProjection
+     * @return persistence resource object(s)
+     */
+    public ConnectionContainer load(PersistentResource<?> parentResource, Relationship relationship) {
+        Flux<PersistentResource> relationResources;
+        synchronized (loaded) {
+            relationResources = loaded.computeIfAbsent(relationship,
+                    key -> PersistentResource.getRelationsCheckedFiltered(persistentResources, key))
+                    .remove(parentResource);
+        }
+
+        if (relationResources == null) {
+            return PersistentResourceFetcher.fetchRelationship(parentResource, relationship, Optional.empty());
+        }
+
+        return PersistentResourceFetcher.fetchRelationship(parentResource, relationship, relationResources);
+    }
+}
@@ -8,6 +8,7 @@ package com.paiondata.elide.graphql.containers;
 import com.paiondata.elide.core.PersistentResource;
 import com.paiondata.elide.core.exceptions.BadRequestException;
 import com.paiondata.elide.core.request.Pagination;
+import com.paiondata.elide.core.request.Sorting;
 import com.paiondata.elide.graphql.Environment;
 import com.paiondata.elide.graphql.KeyWord;
 
@@ -27,6 +28,13 @@ public class ConnectionContainer implements GraphQLContainer {
     @Getter private final Optional<Pagination> pagination;
     // Refers to the type of persistentResources
     @Getter private final String typeName;
+    // The requested sorting, which orders the cursors of keyset pagination
+    @Getter private final Optional<Sorting> sorting;
+
+    public ConnectionContainer(Set<PersistentResource> persistentResources, Optional<Pagination> pagination,
+            String typeName) {
+        this(persistentResources, pagination, typeName, Optional.empty());
+    }
 
     @Override
     public Object processFetch(Environment context) {
@@ -34,8 +42,12 @@ public class ConnectionContainer implements GraphQLContainer {
 
         switch (KeyWord.byName(fieldName)) {
             case EDGES:
+                // Relationships of the nodes are loaded in batches unless they could be affected by a mutation.
+                BatchRelationshipLoader relationshipLoader = context.isMutation()
+                        ? null
+                        : new BatchRelationshipLoader(getPersistentResources());
                 return getPersistentResources().stream()
-                        .map(EdgesContainer::new)
+                        .map(resource -> new EdgesContainer(resource, relationshipLoader))
                         .collect(Collectors.toList());
             case PAGE_INFO:
                 return new PageInfoContainer(this);
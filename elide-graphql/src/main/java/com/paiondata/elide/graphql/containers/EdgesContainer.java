@@ -11,15 +11,23 @@ import com.paiondata.elide.core.PersistentResource;
 import com.paiondata.elide.core.exceptions.BadRequestException;
 import com.paiondata.elide.graphql.Environment;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 /**
  * Container for edges.
  */
-@AllArgsConstructor
 public class EdgesContainer implements PersistentResourceContainer, GraphQLContainer<NodeContainer> {
     @Getter private final PersistentResource persistentResource;
+    private final BatchRelationshipLoader relationshipLoader;
+
+    public EdgesContainer(PersistentResource persistentResource) {
+        this(persistentResource, null);
+    }
+
+    public EdgesContainer(PersistentResource persistentResource, BatchRelationshipLoader relationshipLoader) {
+        this.persistentResource = persistentResource;
+        this.relationshipLoader = relationshipLoader;
+    }
 
     @Override
     public NodeContainer processFetch(Environment context) {
@@ -27,7 +35,7 @@ public class EdgesContainer implements PersistentResourceContainer, GraphQLConta
 
         // TODO: Cursor
         if (NODE.hasName(fieldName)) {
-            return new NodeContainer(context.parentResource);
+            return new NodeContainer(context.parentResource, relationshipLoader);
         }
 
         throw new BadRequestException("Invalid request. Looking for field: " + fieldName + " in an edges object.");
@@ -16,7 +16,6 @@ import com.paiondata.elide.graphql.Environment;
 import com.paiondata.elide.graphql.NonEntityDictionary;
 import com.paiondata.elide.graphql.PersistentResourceFetcher;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.util.Collection;
@@ -27,9 +26,18 @@ import java.util.stream.Collectors;
 /**
  * Container for nodes.
  */
-@AllArgsConstructor
 public class NodeContainer implements PersistentResourceContainer, GraphQLContainer {
     @Getter protected final PersistentResource persistentResource;
+    protected final BatchRelationshipLoader relationshipLoader;
+
+    public NodeContainer(PersistentResource persistentResource) {
+        this(persistentResource, null);
+    }
+
+    public NodeContainer(PersistentResource persistentResource, BatchRelationshipLoader relationshipLoader) {
+        this.persistentResource = persistentResource;
+        this.relationshipLoader = relationshipLoader;
+    }
 
     @Override
     public Object processFetch(Environment context) {
@@ -89,6 +97,9 @@ public class NodeContainer implements PersistentResourceContainer, GraphQLContai
     }
 
     protected Object fetchRelationship(Environment context, Relationship relationship) {
+        if (relationshipLoader != null && context.ids.isEmpty()) {
+            return relationshipLoader.load(context.parentResource, relationship);
+        }
         return PersistentResourceFetcher.fetchRelationship(context.parentResource, relationship, context.ids);
     }
 }
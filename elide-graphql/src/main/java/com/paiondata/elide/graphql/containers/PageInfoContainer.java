@@ -7,12 +7,14 @@ package com.paiondata.elide.graphql.containers;
 
 import com.paiondata.elide.core.PersistentResource;
 import com.paiondata.elide.core.exceptions.BadRequestException;
+import com.paiondata.elide.core.pagination.Keyset;
 import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.graphql.Environment;
 import com.paiondata.elide.graphql.KeyWord;
 
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -39,6 +41,9 @@ public class PageInfoContainer implements GraphQLContainer {
                 .collect(Collectors.toList());
 
         return pagination.map(pageValue -> {
+            if (pageValue.isKeyset()) {
+                return processKeysetFetch(fieldName, pageValue, context);
+            }
             switch (KeyWord.byName(fieldName)) {
                 case PAGE_INFO_HAS_NEXT_PAGE: {
                     int numResults = ids.size();
@@ -59,4 +64,34 @@ public class PageInfoContainer implements GraphQLContainer {
         }).orElseThrow(() -> new BadRequestException("Could not generate pagination information for type: "
                 + connectionContainer.getTypeName()));
     }
+
+    /**
+     * Cursors of a keyset page are the sort keys of its first and last records.  Whether there is a next page is
+     * only known from whether the page is full.
+     */
+    private Object processKeysetFetch(String fieldName, Pagination pagination, Environment context) {
+        List<PersistentResource> resources = new ArrayList<>(connectionContainer.getPersistentResources());
+        switch (KeyWord.byName(fieldName)) {
+            case PAGE_INFO_HAS_NEXT_PAGE:
+                return resources.size() >= pagination.getLimit();
+            case PAGE_INFO_START_CURSOR:
+                return resources.isEmpty() ? null : getCursor(resources.get(0), pagination, context);
+            case PAGE_INFO_END_CURSOR:
+                return resources.isEmpty() ? null : getCursor(resources.get(resources.size() - 1), pagination,
+                        context);
+            case PAGE_INFO_TOTAL_RECORDS:
+                return pagination.getPageTotals();
+            default:
+                break;
+        }
+        throw new BadRequestException("Invalid request. Looking for field: "
+                + fieldName + " in an pageInfo object.");
+    }
+
+    private String getCursor(PersistentResource resource, Pagination pagination, Environment context) {
+        Keyset keyset = new Keyset(resource.getResourceType(),
+                connectionContainer.getSorting().orElse(null), pagination,
+                context.requestScope.getDictionary());
+        return keyset.getCursor(resource.getObject(), context.requestScope);
+    }
 }
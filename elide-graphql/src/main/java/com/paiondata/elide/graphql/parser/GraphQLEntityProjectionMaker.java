@@ -123,14 +123,31 @@ public class GraphQLEntityProjectionMaker {
      * @return all projections in the query
      */
     public GraphQLProjectionInfo make(String query) {
+        return make(parse(query));
+    }
+
+    /**
+     * Parses a GraphQL query.
+     *
+     * @param query the query text
+     * @return the parsed document
+     */
+    public static Document parse(String query) {
         Parser parser = new Parser();
-        Document parsedDocument;
         try {
-            parsedDocument = parser.parseDocument(query);
+            return parser.parseDocument(query);
         } catch (Exception e) {
             throw new InvalidEntityBodyException("Can't parse query: " + query);
         }
+    }
 
+    /**
+     * Convert a parsed GraphQL document into a collection of Elide {@link EntityProjection}s.
+     *
+     * @param parsedDocument parsed GraphQL document
+     * @return all projections in the query
+     */
+    public GraphQLProjectionInfo make(Document parsedDocument) {
         // resolve fragment definitions
         fragmentResolver.addFragments(parsedDocument);
 
@@ -464,18 +481,36 @@ public class GraphQLEntityProjectionMaker {
                 : projectionBuilder.getPagination();
 
         Object argumentValue = variableResolver.resolveValue(argument.getValue());
+        if (ModelBuilder.ARGUMENT_AFTER.equals(argument.getName()) && isCursor(argumentValue)) {
+            // A cursor that is not an offset pages by keyset.  An empty cursor requests the first page.
+            pagination = new PaginationImpl(
+                    projectionBuilder.getType(),
+                    null,
+                    pagination.getLimit(),
+                    elideSettings.getDefaultPageSize(),
+                    elideSettings.getMaxPageSize(),
+                    pagination.returnPageTotals(),
+                    false,
+                    (String) argumentValue,
+                    null);
+            projectionBuilder.pagination(pagination);
+            return;
+        }
+
         int value = argumentValue instanceof BigInteger
                 ? ((BigInteger) argumentValue).intValue()
                 : Integer.parseInt((String) argumentValue);
         if (ModelBuilder.ARGUMENT_FIRST.equals(argument.getName())) {
             pagination = new PaginationImpl(
                     projectionBuilder.getType(),
-                    pagination.getOffset(),
+                    pagination.isKeyset() ? null : pagination.getOffset(),
                     value,
                     elideSettings.getDefaultPageSize(),
                     elideSettings.getMaxPageSize(),
                     pagination.returnPageTotals(),
-                    false);
+                    false,
+                    pagination.getAfter(),
+                    null);
         } else if (ModelBuilder.ARGUMENT_AFTER.equals(argument.getName())) {
             pagination = new PaginationImpl(
                     projectionBuilder.getType(),
@@ -510,18 +545,39 @@ public class GraphQLEntityProjectionMaker {
                     false);
 
         } else {
+            Pagination existing = projectionBuilder.getPagination();
             pagination = new PaginationImpl(
                     projectionBuilder.getType(),
-                    projectionBuilder.getPagination().getOffset(),
-                    projectionBuilder.getPagination().getLimit(),
+                    existing.isKeyset() ? null : existing.getOffset(),
+                    existing.getLimit(),
                     elideSettings.getDefaultPageSize(),
                     elideSettings.getMaxPageSize(),
                     true,
-                    false);
+                    false,
+                    existing.getAfter(),
+                    null);
         }
         projectionBuilder.pagination(pagination);
     }
 
+    /**
+     * Returns whether an after argument holds a keyset cursor rather than an offset.
+     *
+     * @param argumentValue the resolved argument value
+     * @return {@code true} if the value is a string that is not a number
+     */
+    private static boolean isCursor(Object argumentValue) {
+        if (!(argumentValue instanceof String cursor)) {
+            return false;
+        }
+        try {
+            Integer.parseInt(cursor);
+            return false;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
     /**
      * Returns whether or not a GraphQL argument name corresponding to a sorting argument.
      *
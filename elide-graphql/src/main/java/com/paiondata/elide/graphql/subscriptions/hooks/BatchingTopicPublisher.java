@@ -0,0 +1,324 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.paiondata.elide.graphql.subscriptions.hooks;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSProducer;
+import jakarta.jms.JMSRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Publishes messages to JMS topics asynchronously in batches.
+ * <p>
+ * Messages are queued by the thread that publishes them and are serialized and sent by a single worker thread.
+ * The worker keeps one transacted JMS context open and commits a batch once it holds the maximum number of messages
+ * or the first message in it has waited for the maximum delay. Messages to the same topic are sent in the order they
+ * were published. When the queue is full the publishing thread waits for space, which slows the publisher down to
+ * the rate the broker accepts messages at without sending messages out of order. Messages published once the
+ * publisher is closed are still queued, and are sent on the publishing thread after the worker has sent the messages
+ * queued before them.
+ * <p>
+ * Models are serialized after the request that published them has completed, so they must not need the request or
+ * its transaction to be serialized, for example to load lazy relationships.
+ */
+@Slf4j
+public class BatchingTopicPublisher implements Closeable {
+    private static final long POLL_MILLIS = 100;
+
+    private final ConnectionFactory connectionFactory;
+    private final Function<JMSContext, JMSProducer> createProducer;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<Event> queue;
+    private final Thread worker;
+    private final Object drainLock = new Object();
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+
+    private volatile boolean closed;
+
+    // Only used by the worker thread
+    private JMSContext context;
+    private JMSProducer producer;
+    private final Map<String, Destination> destinations = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param connectionFactory the connection factory
+     * @param createProducer creates the producer of a context
+     * @param maxBatchSize the most messages to commit at once
+     * @param maxDelay the longest a message waits for the batch it is in to fill up
+     * @param capacity the most messages that can wait to be sent
+     */
+    public BatchingTopicPublisher(
+            ConnectionFactory connectionFactory,
+            Function<JMSContext, JMSProducer> createProducer,
+            int maxBatchSize,
+            Duration maxDelay,
+            int capacity
+    ) {
+        if (maxBatchSize < 1 || capacity < 1) {
+            throw new IllegalArgumentException("The batch size and capacity must be positive");
+        }
+        this.connectionFactory = connectionFactory;
+        this.createProducer = createProducer;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.worker = new Thread(this::run, "elide-topic-publisher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Publishes a message to a topic, waiting for space in the queue if it is full.
+     *
+     * @param topicName the topic name to publish to
+     * @param message serializes the message, called on the thread that sends it
+     * @throws JMSRuntimeException if the message cannot be queued because the worker stopped or the publishing thread
+     * was interrupted
+     */
+    public void publish(String topicName, Callable<String> message) {
+        Event event = new Event(topicName, message);
+        try {
+            if (!queue.offer(event)) {
+                blocked.incrementAndGet();
+                while (!queue.offer(event, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (!worker.isAlive()) {
+                        if (!closed) {
+                            failed.incrementAndGet();
+                            throw new JMSRuntimeException("The publisher of topic " + topicName + " has stopped");
+                        }
+                        drain();
+                    }
+                }
+            }
+            if (closed) {
+                // The worker may have stopped before it took the event
+                worker.join();
+                drain();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.incrementAndGet();
+            throw new JMSRuntimeException("Interrupted while publishing to topic " + topicName);
+        }
+    }
+
+    /**
+     * Returns whether the worker thread is sending messages. The worker only stops once the publisher is closed,
+     * or if it hit an unrecoverable error.
+     *
+     * @return true if the worker is running
+     */
+    public boolean isRunning() {
+        return worker.isAlive();
+    }
+
+    /**
+     * Returns the number of messages waiting to be sent.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of messages sent.
+     *
+     * @return the number of messages sent
+     */
+    public long getPublished() {
+        return published.get();
+    }
+
+    /**
+     * Returns the number of messages that could not be serialized or sent.
+     *
+     * @return the number of messages that failed
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Returns the number of messages whose publishing thread had to wait because the queue was full.
+     *
+     * @return the number of messages that waited for space in the queue
+     */
+    public long getBlocked() {
+        return blocked.get();
+    }
+
+    /**
+     * Stops the worker once it has sent the queued messages, and sends the messages it did not take.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Messages queued while the worker was stopping
+        drain();
+    }
+
+    /**
+     * Sends the queued messages on the calling thread once the worker has stopped. Only one thread drains the queue
+     * at a time, so messages to the same topic are still sent in the order they were queued.
+     */
+    private void drain() {
+        synchronized (drainLock) {
+            Event event;
+            while ((event = queue.poll()) != null) {
+                try {
+                    publishNow(event);
+                } catch (JMSRuntimeException e) {
+                    log.error("Unable to publish message for {}", event.topicName, e);
+                }
+            }
+        }
+    }
+
+    private void run() {
+        List<Event> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Event first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Event next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                send(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Error e) {
+            log.error("The topic publisher stopped with {} messages queued", queue.size(), e);
+            throw e;
+        } finally {
+            closeContext();
+        }
+    }
+
+    private void send(List<Event> batch) {
+        // Group by topic, keeping the order of the messages to each topic
+        Map<String, List<Event>> topics = new LinkedHashMap<>();
+        batch.forEach(event -> topics.computeIfAbsent(event.topicName, key -> new ArrayList<>()).add(event));
+
+        int sent = 0;
+        int skipped = 0;
+        try {
+            if (context == null) {
+                context = connectionFactory.createContext(JMSContext.SESSION_TRANSACTED);
+                producer = createProducer.apply(context);
+            }
+            for (Map.Entry<String, List<Event>> topic : topics.entrySet()) {
+                Destination destination = destinations.computeIfAbsent(topic.getKey(), context::createTopic);
+                for (Event event : topic.getValue()) {
+                    String message = serialize(event);
+                    if (message == null) {
+                        skipped++;
+                    } else {
+                        producer.send(destination, message);
+                        sent++;
+                    }
+                }
+            }
+            context.commit();
+            published.addAndGet(sent);
+        } catch (RuntimeException e) {
+            // Nothing in the batch was committed
+            log.error("Unable to publish {} messages", batch.size() - skipped, e);
+            failed.addAndGet(batch.size() - skipped);
+            closeContext();
+        }
+    }
+
+    private void publishNow(Event event) {
+        try (JMSContext publisherContext = connectionFactory.createContext()) {
+            String message = serialize(event);
+            if (message != null) {
+                createProducer.apply(publisherContext).send(publisherContext.createTopic(event.topicName), message);
+                published.incrementAndGet();
+            }
+        } catch (JMSRuntimeException e) {
+            failed.incrementAndGet();
+            throw e;
+        }
+    }
+
+    private String serialize(Event event) {
+        try {
+            String message = event.message.call();
+            log.debug("Serializing {}", message);
+            return message;
+        } catch (Exception e) {
+            log.error("Unable to serialize message for {}", event.topicName, e);
+            failed.incrementAndGet();
+            return null;
+        }
+    }
+
+    private void closeContext() {
+        destinations.clear();
+        producer = null;
+        if (context != null) {
+            try {
+                context.close();
+            } catch (RuntimeException e) {
+                log.debug("Unable to close context", e);
+            }
+            context = null;
+        }
+    }
+
+    private static final class Event {
+        private final String topicName;
+        private final Callable<String> message;
+
+        Event(String topicName, Callable<String> message) {
+            this.topicName = topicName;
+            this.message = message;
+        }
+    }
+}
@@ -46,14 +46,34 @@ public class NotifyTopicLifeCycleHook<T> implements LifeCycleHook<T> {
     @Inject
     private Function<JMSContext, JMSProducer> createProducer;
 
+    private BatchingTopicPublisher publisher;
+
     public NotifyTopicLifeCycleHook(
             ConnectionFactory connectionFactory,
             ObjectMapper objectMapper,
             Function<JMSContext, JMSProducer> createProducer
+    ) {
+        this(connectionFactory, objectMapper, createProducer, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param connectionFactory the connection factory
+     * @param objectMapper serializes the models
+     * @param createProducer creates the producer of a context
+     * @param publisher publishes the models asynchronously in batches or null to send them on the request thread
+     */
+    public NotifyTopicLifeCycleHook(
+            ConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            Function<JMSContext, JMSProducer> createProducer,
+            BatchingTopicPublisher publisher
     ) {
         this.connectionFactory = connectionFactory;
         this.createProducer = createProducer;
         this.objectMapper = objectMapper;
+        this.publisher = publisher;
     }
 
     @Override
@@ -87,6 +107,11 @@ public class NotifyTopicLifeCycleHook<T> implements LifeCycleHook<T> {
      * @param topicName The topic name to publish to.
      */
     public void publish(T object, String topicName) {
+        if (publisher != null) {
+            publisher.publish(topicName, () -> objectMapper.writeValueAsString(object));
+            return;
+        }
+
         try (JMSContext context = connectionFactory.createContext()) {
 
             JMSProducer producer = createProducer.apply(context);
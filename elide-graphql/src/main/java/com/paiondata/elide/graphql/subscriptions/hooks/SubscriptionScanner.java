@@ -22,14 +22,20 @@ import jakarta.jms.JMSContext;
 import jakarta.jms.JMSProducer;
 import jakarta.jms.Message;
 import lombok.Builder;
+import lombok.Getter;
 
+import java.io.Closeable;
+import java.time.Duration;
 import java.util.function.Function;
 
 /**
  * Scans for subscription annotations and registers lifecycle hooks to update JMS topics.
+ * <p>
+ * When messages are published in batches the scanner must be closed on shutdown, so that the messages that are
+ * still queued are sent.
  */
 @Builder
-public class SubscriptionScanner {
+public class SubscriptionScanner implements Closeable {
     private ConnectionFactory connectionFactory;
     private ObjectMapper objectMapper;
     private EntityDictionary entityDictionary;
@@ -44,6 +50,23 @@ public class SubscriptionScanner {
     @Builder.Default
     private int messagePriority = Message.DEFAULT_PRIORITY;
 
+    /**
+     * The most messages to publish at once. Messages are sent on the request thread when this is not positive.
+     */
+    @Builder.Default
+    private int publishBatchSize = 0;
+    @Builder.Default
+    private Duration publishMaxDelay = Duration.ofMillis(50);
+    @Builder.Default
+    private int publishQueueCapacity = 10_000;
+
+    /**
+     * Publishes messages in batches, created by {@link #bindLifecycleHooks} when the batch size is positive unless
+     * one is given, for example to share it between scanners.
+     */
+    @Getter
+    private BatchingTopicPublisher publisher;
+
     public void bindLifecycleHooks() {
 
         ObjectMapper objectMapper = this.objectMapper.copy().registerModule(new GraphQLSubscriptionModule());
@@ -57,6 +80,11 @@ public class SubscriptionScanner {
             return producer;
         };
 
+        if (publisher == null && publishBatchSize > 0) {
+            publisher = new BatchingTopicPublisher(connectionFactory, producerFactory, publishBatchSize,
+                    publishMaxDelay, publishQueueCapacity);
+        }
+
         scanner.getAnnotatedClasses(Subscription.class).forEach(modelType -> {
             Subscription subscription = modelType.getAnnotation(Subscription.class);
             Preconditions.checkNotNull(subscription);
@@ -74,7 +102,8 @@ public class SubscriptionScanner {
                                 modelType,
                                 LifeCycleHookBinding.Operation.DELETE,
                                 LifeCycleHookBinding.TransactionPhase.POSTCOMMIT,
-                                new NotifyTopicLifeCycleHook(connectionFactory, objectMapper, producerFactory),
+                                new NotifyTopicLifeCycleHook(connectionFactory, objectMapper, producerFactory,
+                                        publisher),
                                 false
                         );
                         break;
@@ -84,7 +113,8 @@ public class SubscriptionScanner {
                                 modelType,
                                 LifeCycleHookBinding.Operation.CREATE,
                                 LifeCycleHookBinding.TransactionPhase.POSTCOMMIT,
-                                new NotifyTopicLifeCycleHook(connectionFactory, objectMapper, producerFactory),
+                                new NotifyTopicLifeCycleHook(connectionFactory, objectMapper, producerFactory,
+                                        publisher),
                                 false
                         );
                         break;
@@ -110,9 +140,19 @@ public class SubscriptionScanner {
                         fieldName,
                         LifeCycleHookBinding.Operation.UPDATE,
                         LifeCycleHookBinding.TransactionPhase.POSTCOMMIT,
-                        new NotifyTopicLifeCycleHook(connectionFactory, objectMapper, producerFactory)
+                        new NotifyTopicLifeCycleHook(connectionFactory, objectMapper, producerFactory, publisher)
                 );
             }
         });
     }
+
+    /**
+     * Closes the publisher, waiting for the messages it has queued to be sent.
+     */
+    @Override
+    public void close() {
+        if (publisher != null) {
+            publisher.close();
+        }
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.paiondata.elide.core.exceptions.InvalidEntityBodyException;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+/**
+ * Test the reuse of parsed documents across requests.
+ */
+public class GraphQLDocumentCacheTest extends PersistentResourceFetcherTest {
+    private final GraphQLDocumentCache documentCache = new GraphQLDocumentCache(2);
+
+    @Override
+    protected void initializeGraphQLSettings(GraphQLSettings.GraphQLSettingsBuilder graphqlSettings) {
+        graphqlSettings.documentCache(documentCache);
+    }
+
+    @BeforeEach
+    public void invalidateCache() {
+        documentCache.getImplementation().invalidateAll();
+    }
+
+    @Test
+    public void testRepeatedQuery() throws Exception {
+        CacheStats before = documentCache.getImplementation().stats();
+
+        runComparisonTest("fetch/rootCollection");
+        runComparisonTest("fetch/rootCollection");
+
+        CacheStats stats = documentCache.getImplementation().stats().minus(before);
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.hitCount());
+    }
+
+    @Test
+    public void testRepeatedQueryWithDifferentVariables() throws Exception {
+        String query = "query ($filter: String) { book(filter: $filter) { edges { node { id title } } } }";
+
+        assertQueryEquals(query, "{\"book\":{\"edges\":[{\"node\":{\"id\":\"1\",\"title\":\"Libro Uno\"}}]}}",
+                Map.of("filter", "title==\"Libro Uno\""));
+        assertQueryEquals(query, "{\"book\":{\"edges\":[{\"node\":{\"id\":\"2\",\"title\":\"Libro Dos\"}}]}}",
+                Map.of("filter", "title==\"Libro Dos\""));
+
+        assertEquals(1, documentCache.getImplementation().estimatedSize());
+    }
+
+    @Test
+    public void testDocumentKeyedByApiVersion() {
+        String query = "{ book { edges { node { id } } } }";
+
+        assertSame(documentCache.getDocument("1.0", query, null), documentCache.getDocument("1.0", query, null));
+        assertNotSame(documentCache.getDocument("1.0", query, null), documentCache.getDocument("2.0", query, null));
+    }
+
+    @Test
+    public void testInvalidDocumentIsNotCached() {
+        assertThrows(InvalidEntityBodyException.class, () -> documentCache.getDocument("", "{ book { ", null));
+        assertEquals(0, documentCache.getImplementation().estimatedSize());
+    }
+}
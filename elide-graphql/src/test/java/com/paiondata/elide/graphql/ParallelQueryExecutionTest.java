@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the concurrent execution of the root fields of queries.
+ */
+public class ParallelQueryExecutionTest extends PersistentResourceFetcherTest {
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private final AtomicInteger executed = new AtomicInteger();
+    private final AtomicInteger registered = new AtomicInteger();
+
+    @Override
+    protected void initializeGraphQLSettings(GraphQLSettings.GraphQLSettingsBuilder graphqlSettings) {
+        graphqlSettings.queryExecutor(command -> {
+            executed.incrementAndGet();
+            registered.set(runner.getElide().getTransactionRegistry().getForkedTransactionMap().values().stream()
+                    .mapToInt(Set::size)
+                    .sum());
+            executorService.execute(command);
+        });
+    }
+
+    @BeforeEach
+    public void resetExecuted() {
+        executed.set(0);
+        registered.set(0);
+    }
+
+    @AfterAll
+    public void shutdownExecutor() {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testRootMultiple() throws Exception {
+        runComparisonTest("fetch/rootMultiple");
+        assertEquals(2, executed.get());
+
+        // The forked transactions are registered while they run so that cancelling the request reaches them
+        assertTrue(registered.get() > 0);
+        assertTrue(runner.getElide().getTransactionRegistry().getForkedTransactionMap().isEmpty());
+    }
+
+    @Test
+    public void testRootCollection() throws Exception {
+        runComparisonTest("fetch/rootCollection");
+        assertEquals(0, executed.get());
+    }
+
+    @Test
+    public void testMutationIsSerial() throws Exception {
+        String query = "mutation {\n"
+                + "  book(op: UPSERT, data: {id: \"1\", title: \"abc\"}) {\n"
+                + "    edges {\n"
+                + "      node {\n"
+                + "        id\n"
+                + "        title\n"
+                + "      }\n"
+                + "    }\n"
+                + "  }\n"
+                + "  author(ids: [\"1\"]) {\n"
+                + "    edges {\n"
+                + "      node {\n"
+                + "        id\n"
+                + "      }\n"
+                + "    }\n"
+                + "  }\n"
+                + "}";
+
+        String expected = "{\"book\":{\"edges\":[{\"node\":{\"id\":\"1\",\"title\":\"abc\"}}]},"
+                + "\"author\":{\"edges\":[{\"node\":{\"id\":\"1\"}}]}}";
+
+        assertQueryEquals(query, expected);
+        assertEquals(0, executed.get());
+    }
+}
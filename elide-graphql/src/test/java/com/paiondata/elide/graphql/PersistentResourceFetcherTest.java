@@ -87,16 +87,18 @@ public abstract class PersistentResourceFetcherTest extends GraphQLTest {
 
         GraphQLSettings.GraphQLSettingsBuilder graphqlSettings = GraphQLSettings.builder()
                 .federation(federation -> federation.enabled(true));
+        initializeGraphQLSettings(graphqlSettings);
 
         JsonApiSettings.JsonApiSettingsBuilder jsonApiSettings = JsonApiSettings.builder().joinFilterDialect(filterDialect)
                 .subqueryFilterDialect(filterDialect);
 
-        settings = ElideSettings.builder().dataStore(hashMapDataStore)
+        ElideSettings.ElideSettingsBuilder elideSettings = ElideSettings.builder().dataStore(hashMapDataStore)
                 .entityDictionary(dictionary)
                 .serdes(serdes -> serdes.withISO8601Dates("yyyy-MM-dd'T'HH:mm'Z'", TimeZone.getTimeZone("UTC")))
                 .settings(graphqlSettings)
-                .settings(jsonApiSettings)
-                .build();
+                .settings(jsonApiSettings);
+        initializeElideSettings(elideSettings);
+        settings = elideSettings.build();
 
         settings.getSerdes().forEach(CoerceUtil::register);
 
@@ -112,6 +114,14 @@ public abstract class PersistentResourceFetcherTest extends GraphQLTest {
         //NOOP;
     }
 
+    protected void initializeGraphQLSettings(GraphQLSettings.GraphQLSettingsBuilder graphqlSettings) {
+        //NOOP;
+    }
+
+    protected void initializeElideSettings(ElideSettings.ElideSettingsBuilder elideSettings) {
+        //NOOP;
+    }
+
     @AfterEach
     public void clearTestData() {
         hashMapDataStore.cleanseTestData();
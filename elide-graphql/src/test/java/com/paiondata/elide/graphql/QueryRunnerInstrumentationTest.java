@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.paiondata.elide.ElideResponse;
+import com.paiondata.elide.ElideSettings;
+import com.paiondata.elide.core.instrumentation.Instrumentation;
+import com.paiondata.elide.core.instrumentation.Phase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the phases recorded by the instrumentation of GraphQL requests.
+ */
+public class QueryRunnerInstrumentationTest extends PersistentResourceFetcherTest {
+    private final Map<Phase, AtomicInteger> recorded = new ConcurrentHashMap<>();
+
+    @Override
+    protected void initializeElideSettings(ElideSettings.ElideSettingsBuilder elideSettings) {
+        elideSettings.instrumentation(new Instrumentation() {
+            @Override
+            public void record(Phase phase, long nanos) {
+                recorded.computeIfAbsent(phase, key -> new AtomicInteger()).incrementAndGet();
+            }
+        });
+    }
+
+    @BeforeEach
+    public void resetRecorded() {
+        recorded.clear();
+    }
+
+    @Test
+    public void testParseProjectionAndSerializationRecorded() throws Exception {
+        ElideResponse<String> response = runGraphQLRequest("{ book { edges { node { id } } } }", null);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(1, recorded.get(Phase.PARSE).get());
+        assertEquals(1, recorded.get(Phase.PROJECTION).get());
+        assertEquals(1, recorded.get(Phase.SERIALIZATION).get());
+    }
+}
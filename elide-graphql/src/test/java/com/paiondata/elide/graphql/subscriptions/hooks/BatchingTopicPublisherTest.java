@@ -0,0 +1,202 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.paiondata.elide.graphql.subscriptions.hooks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.JMSContext;
+import jakarta.jms.JMSProducer;
+import jakarta.jms.Topic;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchingTopicPublisherTest {
+
+    private ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    private JMSContext batchContext = mock(JMSContext.class);
+    private JMSContext context = mock(JMSContext.class);
+    private JMSProducer producer = mock(JMSProducer.class);
+    private Topic bookAdded = mock(Topic.class);
+    private Topic authorAdded = mock(Topic.class);
+
+    @BeforeEach
+    public void setup() {
+        when(connectionFactory.createContext(JMSContext.SESSION_TRANSACTED)).thenReturn(batchContext);
+        when(connectionFactory.createContext()).thenReturn(context);
+        for (JMSContext jmsContext : new JMSContext[] { batchContext, context }) {
+            when(jmsContext.createProducer()).thenReturn(producer);
+            when(jmsContext.createTopic("bookAdded")).thenReturn(bookAdded);
+            when(jmsContext.createTopic("authorAdded")).thenReturn(authorAdded);
+        }
+    }
+
+    @Test
+    public void testPublishBatch() {
+        BatchingTopicPublisher publisher = new BatchingTopicPublisher(connectionFactory,
+                JMSContext::createProducer, 4, Duration.ofSeconds(10), 10);
+
+        publisher.publish("bookAdded", () -> "book1");
+        publisher.publish("authorAdded", () -> "author1");
+        publisher.publish("bookAdded", () -> "book2");
+        publisher.publish("authorAdded", () -> "author2");
+        publisher.close();
+
+        // Messages to each topic are sent in order and committed at once
+        InOrder inOrder = inOrder(producer, batchContext);
+        inOrder.verify(producer).send(bookAdded, "book1");
+        inOrder.verify(producer).send(bookAdded, "book2");
+        inOrder.verify(producer).send(authorAdded, "author1");
+        inOrder.verify(producer).send(authorAdded, "author2");
+        inOrder.verify(batchContext).commit();
+
+        verify(connectionFactory, times(1)).createContext(JMSContext.SESSION_TRANSACTED);
+        verify(batchContext).close();
+        assertEquals(4, publisher.getPublished());
+        assertEquals(0, publisher.getFailed());
+        assertEquals(0, publisher.getQueueDepth());
+    }
+
+    @Test
+    public void testSerializationFailure() {
+        BatchingTopicPublisher publisher = new BatchingTopicPublisher(connectionFactory,
+                JMSContext::createProducer, 2, Duration.ofSeconds(10), 10);
+
+        publisher.publish("bookAdded", () -> {
+            throw new IllegalStateException();
+        });
+        publisher.publish("bookAdded", () -> "book2");
+        publisher.close();
+
+        verify(producer, times(1)).send(any(Topic.class), anyString());
+        verify(producer).send(bookAdded, "book2");
+        assertEquals(1, publisher.getPublished());
+        assertEquals(1, publisher.getFailed());
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return null;
+        }).when(batchContext).commit();
+
+        BatchingTopicPublisher publisher = new BatchingTopicPublisher(connectionFactory,
+                JMSContext::createProducer, 1, Duration.ZERO, 1);
+
+        // The worker is stuck committing the first message so the second one fills the queue
+        publisher.publish("bookAdded", () -> "book1");
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+        publisher.publish("bookAdded", () -> "book2");
+        assertEquals(1, publisher.getQueueDepth());
+
+        // and the third one waits for space instead of overtaking the second one
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> publisher.publish("bookAdded", () -> "book3"));
+        while (publisher.getBlocked() == 0) {
+            Thread.sleep(10);
+        }
+        assertFalse(third.isDone());
+
+        release.countDown();
+        third.get(10, TimeUnit.SECONDS);
+        publisher.close();
+
+        InOrder inOrder = inOrder(producer);
+        inOrder.verify(producer).send(bookAdded, "book1");
+        inOrder.verify(producer).send(bookAdded, "book2");
+        inOrder.verify(producer).send(bookAdded, "book3");
+        verify(connectionFactory, never()).createContext();
+        assertEquals(3, publisher.getPublished());
+        assertEquals(1, publisher.getBlocked());
+    }
+
+    @Test
+    public void testCloseWhileBlocked() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return null;
+        }).when(batchContext).commit();
+
+        BatchingTopicPublisher publisher = new BatchingTopicPublisher(connectionFactory,
+                JMSContext::createProducer, 1, Duration.ZERO, 1);
+
+        publisher.publish("bookAdded", () -> "book1");
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+        publisher.publish("bookAdded", () -> "book2");
+        CompletableFuture<Void> third = CompletableFuture.runAsync(() -> publisher.publish("bookAdded", () -> "book3"));
+        while (publisher.getBlocked() == 0) {
+            Thread.sleep(10);
+        }
+
+        // Closing does not let the blocked message overtake the queued one
+        CompletableFuture<Void> closed = CompletableFuture.runAsync(publisher::close);
+        Thread.sleep(300);
+        assertFalse(third.isDone());
+
+        release.countDown();
+        third.get(10, TimeUnit.SECONDS);
+        closed.get(10, TimeUnit.SECONDS);
+
+        InOrder inOrder = inOrder(producer);
+        inOrder.verify(producer).send(bookAdded, "book1");
+        inOrder.verify(producer).send(bookAdded, "book2");
+        inOrder.verify(producer).send(bookAdded, "book3");
+        assertEquals(3, publisher.getPublished());
+        assertEquals(0, publisher.getQueueDepth());
+    }
+
+    @Test
+    public void testWorkerSurvivesFailure() throws Exception {
+        AtomicInteger producers = new AtomicInteger();
+        BatchingTopicPublisher publisher = new BatchingTopicPublisher(connectionFactory, jmsContext -> {
+            if (producers.getAndIncrement() == 0) {
+                throw new IllegalStateException();
+            }
+            return jmsContext.createProducer();
+        }, 1, Duration.ZERO, 10);
+
+        publisher.publish("bookAdded", () -> "book1");
+        while (publisher.getFailed() == 0) {
+            Thread.sleep(10);
+        }
+        assertTrue(publisher.isRunning());
+
+        publisher.publish("bookAdded", () -> "book2");
+        publisher.close();
+
+        verify(producer, times(1)).send(any(Topic.class), anyString());
+        verify(producer).send(bookAdded, "book2");
+        assertEquals(1, publisher.getPublished());
+        assertEquals(1, publisher.getFailed());
+        assertFalse(publisher.isRunning());
+    }
+}
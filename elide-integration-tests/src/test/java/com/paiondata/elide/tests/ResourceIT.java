@@ -3016,6 +3016,32 @@ public class ResourceIT extends IntegrationTest {
                 .body(equalTo(expected));
     }
 
+    @Test
+    public void atomicOpCreateBatchRelatedToLaterCreate() {
+        // Over a hundred new parents reference a child that is only created after them, so nothing is flushed
+        // until the child has been persisted as well.
+        String childId = "12345678-1234-1234-1234-000000000000";
+        int parents = 101;
+        StringBuilder request = new StringBuilder("{\"atomic:operations\":[");
+        for (int idx = 1; idx <= parents; idx++) {
+            request.append(String.format("{\"op\":\"add\",\"href\":\"/parent\",\"data\":{\"type\":\"parent\","
+                    + "\"id\":\"12345678-1234-1234-1234-%012d\",\"attributes\":{\"firstName\":\"parent %d\"},"
+                    + "\"relationships\":{\"children\":{\"data\":[{\"type\":\"child\",\"id\":\"%s\"}]}}}},",
+                    idx, idx, childId));
+        }
+        request.append(String.format("{\"op\":\"add\",\"href\":\"/parent/12345678-1234-1234-1234-%012d/children\","
+                + "\"data\":{\"type\":\"child\",\"id\":\"%s\"}}]}", parents, childId));
+
+        given()
+                .contentType(JsonApi.AtomicOperations.MEDIA_TYPE)
+                .accept(JsonApi.AtomicOperations.MEDIA_TYPE)
+                .body(request.toString())
+                .post("/operations")
+                .then()
+                .statusCode(HttpStatus.SC_OK)
+                .body("'atomic:results'.size()", equalTo(parents + 1));
+    }
+
     @Test
     public void atomicOpCreateChildRelateExisting() {
         String request = jsonParser.getJson("/ResourceIT/atomicOpCreateChildRelateExisting.req.json");
@@ -7,6 +7,7 @@ package com.paiondata.elide.spring.config;
 
 import static com.paiondata.elide.datastores.aggregation.cache.CaffeineCache.DEFAULT_MAXIMUM_ENTRIES;
 
+import com.paiondata.elide.datastores.aggregation.cache.ColumnarQueryResultCodec.Compression;
 import com.paiondata.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
 
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
@@ -32,6 +33,21 @@ public class AggregationStoreProperties {
      */
     private String defaultDialect = "Hive";
 
+    /**
+     * The number of threads used to run page total queries concurrently with the data query, each on its own
+     * connection. Page totals are queried before the data query when zero.
+     * <p>
+     * A request then holds two connections at once, so the DataSource pool must allow two connections per
+     * concurrent request, or requests wait on each other for connections until the pool times out.
+     */
+    private int pageTotalThreadPoolSize = 0;
+
+    /**
+     * The maximum number of page total queries waiting for a thread. Once it is full, page totals are queried on
+     * the request thread before the data query.
+     */
+    private int pageTotalQueueCapacity = 100;
+
     /**
      * Settings for the Dynamic Configuration.
      */
@@ -65,6 +81,41 @@ public class AggregationStoreProperties {
          */
         @DurationUnit(ChronoUnit.MINUTES)
         private Duration expiration = Duration.ofMinutes(10L);
+
+        /**
+         * Whether or not concurrent cache misses for the same query share a single execution.
+         */
+        private boolean coalesce = false;
+
+        /**
+         * How long a cache miss waits for an identical query before executing it.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration coalesceTimeout = Duration.ofMinutes(1L);
+
+        /**
+         * Whether or not cached results are stored in a compact columnar encoding instead of as objects.
+         */
+        private boolean columnar = false;
+
+        /**
+         * Compression of cached results stored in the columnar encoding.
+         */
+        private Compression compression = Compression.NONE;
+
+        /**
+         * How often table versions used in cache keys are polled in the background. Versions are looked up on
+         * every cacheable request when not set.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration versionPollInterval;
+
+        /**
+         * How long a polled table version is used. Requests bypass the query cache while the version is polled
+         * again in the background.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration versionMaxStaleness = Duration.ofMinutes(1L);
     }
 
     private QueryCache queryCache = new QueryCache();
@@ -40,10 +40,12 @@ import com.paiondata.elide.core.exceptions.ExceptionMappers.ExceptionMappersBuil
 import com.paiondata.elide.core.exceptions.ExceptionMappersBuilderCustomizer;
 import com.paiondata.elide.core.exceptions.Slf4jExceptionLogger;
 import com.paiondata.elide.core.filter.dialect.RSQLFilterDialect;
+import com.paiondata.elide.core.instrumentation.Instrumentation;
 import com.paiondata.elide.core.request.route.ApiVersionValidator;
 import com.paiondata.elide.core.request.route.BasicApiVersionValidator;
 import com.paiondata.elide.core.request.route.DelegatingRouteResolver;
 import com.paiondata.elide.core.request.route.HeaderRouteResolver;
+import com.paiondata.elide.core.request.route.InstrumentedRouteResolver;
 import com.paiondata.elide.core.request.route.MediaTypeProfileRouteResolver;
 import com.paiondata.elide.core.request.route.NullRouteResolver;
 import com.paiondata.elide.core.request.route.ParameterRouteResolver;
@@ -51,6 +53,8 @@ import com.paiondata.elide.core.request.route.PathRouteResolver;
 import com.paiondata.elide.core.request.route.RouteResolver;
 import com.paiondata.elide.core.security.checks.Check;
 import com.paiondata.elide.core.security.checks.prefab.Role;
+import com.paiondata.elide.core.security.executors.ActivePermissionExecutor;
+import com.paiondata.elide.core.security.permissions.UserCheckResultCache;
 import com.paiondata.elide.core.type.ClassType;
 import com.paiondata.elide.core.type.Type;
 import com.paiondata.elide.core.utils.ClassScanner;
@@ -61,6 +65,10 @@ import com.paiondata.elide.datastores.aggregation.DefaultQueryValidator;
 import com.paiondata.elide.datastores.aggregation.QueryEngine;
 import com.paiondata.elide.datastores.aggregation.cache.Cache;
 import com.paiondata.elide.datastores.aggregation.cache.CaffeineCache;
+import com.paiondata.elide.datastores.aggregation.cache.ColumnarQueryResultCodec;
+import com.paiondata.elide.datastores.aggregation.cache.QueryCoalescer;
+import com.paiondata.elide.datastores.aggregation.cache.QueryResultCodec;
+import com.paiondata.elide.datastores.aggregation.cache.TableVersionRegistry;
 import com.paiondata.elide.datastores.aggregation.core.QueryLogger;
 import com.paiondata.elide.datastores.aggregation.core.Slf4jQueryLogger;
 import com.paiondata.elide.datastores.aggregation.metadata.MetaDataStore;
@@ -74,6 +82,7 @@ import com.paiondata.elide.datastores.aggregation.validator.TemplateConfigValida
 import com.paiondata.elide.datastores.jpa.JpaDataStore;
 import com.paiondata.elide.graphql.DefaultGraphQLErrorMapper;
 import com.paiondata.elide.graphql.DefaultGraphQLExceptionHandler;
+import com.paiondata.elide.graphql.GraphQLDocumentCache;
 import com.paiondata.elide.graphql.GraphQLErrorMapper;
 import com.paiondata.elide.graphql.GraphQLExceptionHandler;
 import com.paiondata.elide.graphql.GraphQLSettings.GraphQLSettingsBuilder;
@@ -106,8 +115,10 @@ import com.paiondata.elide.spring.controllers.ApiDocsController.ApiDocsRegistrat
 import com.paiondata.elide.spring.controllers.ExportController;
 import com.paiondata.elide.spring.controllers.GraphqlController;
 import com.paiondata.elide.spring.controllers.JsonApiController;
+import com.paiondata.elide.spring.controllers.JsonApiStreamingBodyHttpMessageConverter;
 import com.paiondata.elide.spring.datastore.config.DataStoreBuilder;
 import com.paiondata.elide.spring.datastore.config.DataStoreBuilderCustomizer;
+import com.paiondata.elide.spring.instrumentation.MicrometerInstrumentation;
 import com.paiondata.elide.spring.jackson.ObjectMapperBuilder;
 import com.paiondata.elide.spring.orm.jpa.config.EnableJpaDataStore;
 import com.paiondata.elide.spring.orm.jpa.config.EnableJpaDataStores;
@@ -115,6 +126,7 @@ import com.paiondata.elide.spring.orm.jpa.config.JpaDataStoreRegistration;
 import com.paiondata.elide.spring.orm.jpa.config.JpaDataStoreRegistrations;
 import com.paiondata.elide.spring.orm.jpa.config.JpaDataStoreRegistrationsBuilder;
 import com.paiondata.elide.spring.orm.jpa.config.JpaDataStoreRegistrationsBuilderCustomizer;
+import com.paiondata.elide.spring.security.AuthenticationIdentity;
 import com.paiondata.elide.swagger.OpenApiBuilder;
 import com.paiondata.elide.utils.HeaderProcessor;
 import com.paiondata.elide.utils.Headers;
@@ -127,6 +139,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
@@ -141,11 +154,15 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.function.SingletonSupplier;
 
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import graphql.execution.DataFetcherExceptionHandler;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -167,6 +184,10 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -184,6 +205,7 @@ public class ElideAutoConfiguration {
     public static final int AGGREGATION_DATASTORE_CUSTOMIZER_ORDER = 1;
     public static final int REFRESHABLE_CONFIGURATION_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
     public static final int NON_REFRESHABLE_CONFIGURATION_ORDER = Ordered.LOWEST_PRECEDENCE;
+    private static final String AUTHENTICATION_CLASS_NAME = "org.springframework.security.core.Authentication";
     /**
      * Creates the {@link AuditLogger}.
      *
@@ -207,6 +229,8 @@ public class ElideAutoConfiguration {
      * @param elideMapper the elide mapper
      * @param settingsProvider the settings
      * @param customizerProvider the customizer
+     * @param instrumentation the instrumentation
+     * @param optionalUserCheckResultCache the cache of user check results shared across requests
      * @return the ElideSettingsBuilder
      */
     @Bean
@@ -215,7 +239,8 @@ public class ElideAutoConfiguration {
     public ElideSettingsBuilder elideSettingsBuilder(ElideConfigProperties settings, EntityDictionary entityDictionary,
             DataStore dataStore, HeaderProcessor headerProcessor, ElideMapper elideMapper, AuditLogger auditLogger,
             SerdesBuilder serdesBuilder, ObjectProvider<SettingsBuilder> settingsProvider,
-            ObjectProvider<ElideSettingsBuilderCustomizer> customizerProvider) {
+            ObjectProvider<ElideSettingsBuilderCustomizer> customizerProvider, Instrumentation instrumentation,
+            Optional<UserCheckResultCache> optionalUserCheckResultCache) {
         return ElideSettingsBuilderCustomizers.buildElideSettingsBuilder(builder -> {
             builder.dataStore(dataStore).entityDictionary(entityDictionary).objectMapper(elideMapper.getObjectMapper())
                     .maxPageSize(settings.getMaxPageSize())
@@ -227,7 +252,10 @@ public class ElideAutoConfiguration {
                             entries.put(entry.getKey(), entry.getValue());
                         });
                     }))
-                    .headerProcessor(headerProcessor);
+                    .headerProcessor(headerProcessor)
+                    .instrumentation(instrumentation);
+            optionalUserCheckResultCache.ifPresent(cache -> builder
+                    .permissionExecutor(requestScope -> new ActivePermissionExecutor(requestScope, cache)));
             if (settings.isVerboseErrors()) {
                 builder.verboseErrors(true);
             }
@@ -236,6 +264,58 @@ public class ElideAutoConfiguration {
         });
     }
 
+    /**
+     * Creates the {@link Instrumentation} receiving the time spent in the phases of requests.
+     *
+     * @param settings the settings
+     * @param optionalMeterRegistry Meter Registry.
+     * @return the instrumentation
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public Instrumentation instrumentation(ElideConfigProperties settings,
+            Optional<MeterRegistry> optionalMeterRegistry) {
+        if (settings.isRequestMetrics()) {
+            return optionalMeterRegistry.<Instrumentation>map(MicrometerInstrumentation::new)
+                    .orElse(Instrumentation.NONE);
+        }
+        return Instrumentation.NONE;
+    }
+
+    /**
+     * Creates the cache of user check results shared across requests, or null if user check results are only cached
+     * per request.
+     * <p>
+     * Users authenticated by Spring Security are identified by their name and granted authorities. User checks that
+     * look at other details of the principal require defining a {@link UserCheckResultCache} with an identity that
+     * covers them.
+     *
+     * @param settings the settings
+     * @param optionalMeterRegistry Meter Registry.
+     * @return the cache, or null
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public UserCheckResultCache userCheckResultCache(ElideConfigProperties settings,
+            Optional<MeterRegistry> optionalMeterRegistry) {
+        UserCheckCacheProperties userCheckCache = settings.getUserCheckCache();
+        if (userCheckCache.isEnabled() && ClassUtils.isPresent(AUTHENTICATION_CLASS_NAME,
+                ElideAutoConfiguration.class.getClassLoader())) {
+            final UserCheckResultCache cache = new UserCheckResultCache(userCheckCache.getMaxSize(),
+                    userCheckCache.getExpiration(), new AuthenticationIdentity());
+            optionalMeterRegistry.ifPresent(meterRegistry -> {
+                FunctionCounter.builder("elide.user.check.cache.hits", cache, UserCheckResultCache::getHits)
+                        .register(meterRegistry);
+                FunctionCounter.builder("elide.user.check.cache.misses", cache, UserCheckResultCache::getMisses)
+                        .register(meterRegistry);
+                Gauge.builder("elide.user.check.cache.size", cache, UserCheckResultCache::size)
+                        .register(meterRegistry);
+            });
+            return cache;
+        }
+        return null;
+    }
+
     /**
      * Creates the {@link SerdesBuilder}.
      * <p>
@@ -311,6 +391,16 @@ public class ElideAutoConfiguration {
     @ConditionalOnMissingBean
     public RouteResolver routeResolver(RefreshableElide refreshableElide, ElideConfigProperties settings,
             ApiVersionValidator apiVersionValidator) {
+        RouteResolver routeResolver = buildRouteResolver(refreshableElide, settings, apiVersionValidator);
+        Instrumentation instrumentation = refreshableElide.getElide().getElideSettings().getInstrumentation();
+        if (instrumentation != Instrumentation.NONE) {
+            return new InstrumentedRouteResolver(routeResolver, instrumentation);
+        }
+        return routeResolver;
+    }
+
+    private static RouteResolver buildRouteResolver(RefreshableElide refreshableElide,
+            ElideConfigProperties settings, ApiVersionValidator apiVersionValidator) {
         Set<String> apiVersions = refreshableElide.getElide().getElideSettings().getEntityDictionary().getApiVersions();
         if (apiVersions.size() == 1 && apiVersions.contains(EntityDictionary.NO_VERSION)) {
             return new NullRouteResolver();
@@ -672,6 +762,12 @@ public class ElideAutoConfiguration {
                 return new JsonApiController(jsonApi, settings, routeResolver);
             }
 
+            @Bean
+            @ConditionalOnMissingBean
+            public JsonApiStreamingBodyHttpMessageConverter jsonApiStreamingBodyHttpMessageConverter() {
+                return new JsonApiStreamingBodyHttpMessageConverter();
+            }
+
             @Bean
             @RefreshScope
             @ConditionalOnMissingBean
@@ -781,6 +877,12 @@ public class ElideAutoConfiguration {
                 return new JsonApiController(jsonApi, settings, routeResolver);
             }
 
+            @Bean
+            @ConditionalOnMissingBean
+            public JsonApiStreamingBodyHttpMessageConverter jsonApiStreamingBodyHttpMessageConverter() {
+                return new JsonApiStreamingBodyHttpMessageConverter();
+            }
+
             @Bean
             @ConditionalOnMissingBean
             public JsonApi jsonApi(RefreshableElide refreshableElide) {
@@ -868,12 +970,48 @@ public class ElideAutoConfiguration {
             return new DefaultGraphQLExceptionHandler(exceptionLogger, exceptionMappers, graphqlErrorMapper);
         }
 
+        /**
+         * Creates the bounded executor used to execute the root fields of read-only queries concurrently.
+         *
+         * @param settings Elide configuration properties
+         * @return the executor
+         */
+        @Bean(name = "graphqlQueryExecutor", destroyMethod = "shutdown")
+        @ConditionalOnMissingBean(name = "graphqlQueryExecutor")
+        @ConditionalOnExpression("${elide.graphql.query-thread-pool-size:0} > 0")
+        public ExecutorService graphqlQueryExecutor(ElideConfigProperties settings) {
+            int threads = settings.getGraphql().getQueryThreadPoolSize();
+            return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(settings.getGraphql().getQueryQueueCapacity()),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+
+        /**
+         * Creates the cache of parsed GraphQL documents.
+         *
+         * @param settings Elide configuration properties
+         * @param optionalMeterRegistry Meter Registry.
+         * @return the document cache
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnExpression("${elide.graphql.document-cache-size:0} > 0")
+        public GraphQLDocumentCache graphqlDocumentCache(ElideConfigProperties settings,
+                Optional<MeterRegistry> optionalMeterRegistry) {
+            GraphQLDocumentCache cache = new GraphQLDocumentCache(settings.getGraphql().getDocumentCacheSize());
+            optionalMeterRegistry.ifPresent(meterRegistry -> CaffeineCacheMetrics.monitor(meterRegistry,
+                    cache.getImplementation(), "elideGraphqlDocumentCache"));
+            return cache;
+        }
+
         @Bean
         @ConditionalOnMissingBean
         @Scope(SCOPE_PROTOTYPE)
         public GraphQLSettingsBuilder graphqlSettingsBuilder(ElideConfigProperties settings,
                 EntityDictionary entityDictionary,
                 GraphQLExceptionHandler graphqlExceptionHandler,
+                @Qualifier("graphqlQueryExecutor") ObjectProvider<ExecutorService> graphqlQueryExecutor,
+                ObjectProvider<GraphQLDocumentCache> graphqlDocumentCache,
                 ObjectProvider<GraphQLSettingsBuilderCustomizer> customizerProviders) {
             return GraphQLSettingsBuilderCustomizers.buildGraphQLSettingsBuilder(entityDictionary,
                     builder -> {
@@ -882,6 +1020,8 @@ public class ElideAutoConfiguration {
                                         .enabled(settings.getGraphql().getFederation().isEnabled())
                                         .version(settings.getGraphql().getFederation().getVersion().getValue()))
                                 .graphqlExceptionHandler(graphqlExceptionHandler);
+                        graphqlQueryExecutor.ifAvailable(builder::queryExecutor);
+                        graphqlDocumentCache.ifAvailable(builder::documentCache);
                         customizerProviders.orderedStream().forEach(customizer -> customizer.customize(builder));
                     });
         }
@@ -912,10 +1052,13 @@ public class ElideAutoConfiguration {
                 JsonApiExceptionHandler jsonApiExceptionHandler,
                 ObjectProvider<JsonApiSettingsBuilderCustomizer> customizerProviders) {
             return JsonApiSettingsBuilderCustomizers.buildJsonApiSettingsBuilder(entityDictionary, builder -> {
+                RSQLFilterDialect rsqlFilterDialect = RSQLFilterDialect.builder().dictionary(entityDictionary)
+                        .parseCacheSize(RSQLFilterDialect.DEFAULT_PARSE_CACHE_SIZE).build();
                 builder.path(settings.getJsonApi().getPath())
-                        .joinFilterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary).build())
-                        .subqueryFilterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary).build())
-                        .jsonApiMapper(jsonApiMapper).jsonApiExceptionHandler(jsonApiExceptionHandler);
+                        .joinFilterDialect(rsqlFilterDialect)
+                        .subqueryFilterDialect(rsqlFilterDialect)
+                        .jsonApiMapper(jsonApiMapper).jsonApiExceptionHandler(jsonApiExceptionHandler)
+                        .streaming(settings.getJsonApi().isStreaming());
                 if (settings.getJsonApi().getLinks().isEnabled()) {
                     String baseUrl = settings.getBaseUrl();
                     builder.links(links -> links.enabled(true));
@@ -1005,6 +1148,23 @@ public class ElideAutoConfiguration {
             };
         }
 
+        /**
+         * Creates the bounded executor used to run page total queries concurrently with the data query. Each page
+         * total query takes its own connection from the DataSource while the request holds another.
+         *
+         * @param settings Elide configuration properties
+         * @return the executor
+         */
+        @Bean(name = "aggregationPageTotalExecutor", destroyMethod = "shutdown")
+        @ConditionalOnMissingBean(name = "aggregationPageTotalExecutor")
+        @ConditionalOnExpression("${elide.aggregation-store.page-total-thread-pool-size:0} > 0")
+        public ExecutorService aggregationPageTotalExecutor(ElideConfigProperties settings) {
+            int threads = settings.getAggregationStore().getPageTotalThreadPoolSize();
+            return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(settings.getAggregationStore().getPageTotalQueueCapacity()),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+
         /**
          * Create a QueryEngine instance for aggregation data store to use.
          * @param defaultDataSource DataSource for JPA.
@@ -1012,6 +1172,7 @@ public class ElideAutoConfiguration {
          * @param settings Elide configuration settings.
          * @param dataSourceConfiguration DataSource Configuration
          * @param dbPasswordExtractor Password Extractor Implementation
+         * @param pageTotalExecutor Runs page total queries concurrently, if available.
          * @return An instance of a QueryEngine
          */
         @Bean
@@ -1023,7 +1184,9 @@ public class ElideAutoConfiguration {
                                             ClassScanner scanner,
                                             Injector injector,
                                             DataSourceConfiguration dataSourceConfiguration,
-                                            DBPasswordExtractor dbPasswordExtractor) {
+                                            DBPasswordExtractor dbPasswordExtractor,
+                                            @Qualifier("aggregationPageTotalExecutor")
+                                            ObjectProvider<ExecutorService> pageTotalExecutor) {
 
             boolean enableMetaDataStore = settings.getAggregationStore().getMetadataStore().isEnabled();
             ConnectionDetails defaultConnectionDetails = new ConnectionDetails(defaultDataSource,
@@ -1054,32 +1217,102 @@ public class ElideAutoConfiguration {
                 return new SQLQueryEngine(metaDataStore, connectionDetailsLookup,
                         new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))),
                         new DefaultQueryPlanMerger(metaDataStore),
-                        new DefaultQueryValidator(metaDataStore.getMetadataDictionary()));
+                        new DefaultQueryValidator(metaDataStore.getMetadataDictionary()),
+                        pageTotalExecutor.getIfAvailable());
             }
             MetaDataStore metaDataStore = new MetaDataStore(scanner, injector, enableMetaDataStore);
-            return new SQLQueryEngine(metaDataStore, unused -> defaultConnectionDetails);
+            return new SQLQueryEngine(metaDataStore, unused -> defaultConnectionDetails, new HashSet<>(),
+                    new DefaultQueryPlanMerger(metaDataStore),
+                    new DefaultQueryValidator(metaDataStore.getMetadataDictionary()),
+                    pageTotalExecutor.getIfAvailable());
         }
 
         /**
          * Creates a query result cache to be used by {@link #dataStore}, or null if cache is to be disabled.
          * @param settings Elide configuration settings.
+         * @param entityDictionary Entity dictionary, used to encode the cached results.
          * @param optionalMeterRegistry Meter Registry.
          * @return An instance of a query cache, or null.
          */
         @Bean
         @ConditionalOnMissingBean
-        public Cache queryCache(ElideConfigProperties settings, Optional<MeterRegistry> optionalMeterRegistry) {
-            int maxCacheItems = settings.getAggregationStore().getQueryCache().getMaxSize();
-            if (settings.getAggregationStore().getQueryCache().isEnabled() && maxCacheItems > 0) {
-                final CaffeineCache cache = new CaffeineCache(maxCacheItems,
-                        settings.getAggregationStore().getQueryCache().getExpiration());
+        public Cache queryCache(ElideConfigProperties settings, EntityDictionary entityDictionary,
+                Optional<MeterRegistry> optionalMeterRegistry) {
+            AggregationStoreProperties.QueryCache queryCache = settings.getAggregationStore().getQueryCache();
+            int maxCacheItems = queryCache.getMaxSize();
+            if (queryCache.isEnabled() && maxCacheItems > 0) {
+                QueryResultCodec codec = queryCache.isColumnar()
+                        ? new ColumnarQueryResultCodec(entityDictionary, queryCache.getCompression())
+                        : null;
+                final CaffeineCache cache = new CaffeineCache(maxCacheItems, queryCache.getExpiration(), codec);
                 optionalMeterRegistry.ifPresent(meterRegistry -> CaffeineCacheMetrics.monitor(meterRegistry,
-                        cache.getImplementation(), "elideQueryCache"));
+                        codec != null ? cache.getEncodedImplementation() : cache.getImplementation(),
+                        "elideQueryCache"));
                 return cache;
             }
             return null;
         }
 
+        /**
+         * Creates the coalescer of concurrent query cache misses to be used by {@link #dataStore}, or null if
+         * coalescing is disabled.
+         * @param settings Elide configuration settings.
+         * @param optionalMeterRegistry Meter Registry.
+         * @return An instance of a query coalescer, or null.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public QueryCoalescer queryCoalescer(ElideConfigProperties settings,
+                Optional<MeterRegistry> optionalMeterRegistry) {
+            AggregationStoreProperties.QueryCache queryCache = settings.getAggregationStore().getQueryCache();
+            if (queryCache.isEnabled() && queryCache.isCoalesce()) {
+                final QueryCoalescer coalescer = new QueryCoalescer(queryCache.getCoalesceTimeout());
+                optionalMeterRegistry.ifPresent(meterRegistry -> {
+                    FunctionCounter.builder("elide.aggregation.query.coalescer.executions", coalescer,
+                            QueryCoalescer::getExecutions).register(meterRegistry);
+                    FunctionCounter.builder("elide.aggregation.query.coalescer.coalesced", coalescer,
+                            QueryCoalescer::getCoalesced).register(meterRegistry);
+                    FunctionCounter.builder("elide.aggregation.query.coalescer.timeouts", coalescer,
+                            QueryCoalescer::getTimeouts).register(meterRegistry);
+                    Gauge.builder("elide.aggregation.query.coalescer.in.flight", coalescer,
+                            QueryCoalescer::getInFlight).register(meterRegistry);
+                });
+                return coalescer;
+            }
+            return null;
+        }
+
+        /**
+         * Creates the registry of polled table versions to be used by {@link #dataStore}, or null if table
+         * versions are looked up on each request.
+         * @param settings Elide configuration settings.
+         * @param optionalMeterRegistry Meter Registry.
+         * @return An instance of a table version registry, or null.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public TableVersionRegistry tableVersionRegistry(ElideConfigProperties settings,
+                Optional<MeterRegistry> optionalMeterRegistry) {
+            AggregationStoreProperties.QueryCache queryCache = settings.getAggregationStore().getQueryCache();
+            if (queryCache.isEnabled() && queryCache.getVersionPollInterval() != null) {
+                final TableVersionRegistry registry = new TableVersionRegistry(queryCache.getVersionPollInterval(),
+                        queryCache.getVersionMaxStaleness());
+                optionalMeterRegistry.ifPresent(meterRegistry -> {
+                    FunctionTimer.builder("elide.aggregation.table.version.polls", registry,
+                            TableVersionRegistry::getPolls, r -> r.getPollTime(TimeUnit.NANOSECONDS),
+                            TimeUnit.NANOSECONDS).register(meterRegistry);
+                    FunctionCounter.builder("elide.aggregation.table.version.poll.failures", registry,
+                            TableVersionRegistry::getPollFailures).register(meterRegistry);
+                    FunctionCounter.builder("elide.aggregation.table.version.changes", registry,
+                            TableVersionRegistry::getVersionChanges).register(meterRegistry);
+                    Gauge.builder("elide.aggregation.table.version.tables", registry,
+                            TableVersionRegistry::getTables).register(meterRegistry);
+                });
+                return registry;
+            }
+            return null;
+        }
+
         /**
          * Creates a querylogger to be used by {@link #dataStore} for aggregation.
          * @return The default Noop QueryLogger.
@@ -1098,13 +1331,17 @@ public class ElideAutoConfiguration {
          * @param optionalQueryEngine QueryEngine instance for aggregation data store.
          * @param optionalCache       Analytics query cache
          * @param optionalQueryLogger Analytics query logger
+         * @param optionalQueryCoalescer Analytics query coalescer
+         * @param optionalTableVersionRegistry Analytics table version registry
          * @return the customizer
          */
         @Bean
         @Order(AGGREGATION_DATASTORE_CUSTOMIZER_ORDER)
         public DataStoreBuilderCustomizer aggregationDataStoreBuilderCustomizer(ElideConfigProperties settings,
                 ClassScanner scanner, Injector injector, Optional<QueryEngine> optionalQueryEngine,
-                Optional<Cache> optionalCache, Optional<QueryLogger> optionalQueryLogger) {
+                Optional<Cache> optionalCache, Optional<QueryLogger> optionalQueryLogger,
+                Optional<QueryCoalescer> optionalQueryCoalescer,
+                Optional<TableVersionRegistry> optionalTableVersionRegistry) {
             return dataStoreBuilder -> {
                 if (isAggregationStoreEnabled(settings)) {
                     AggregationDataStore.AggregationDataStoreBuilder aggregationDataStoreBuilder = AggregationDataStore
@@ -1124,6 +1361,8 @@ public class ElideAutoConfiguration {
                     }
                     optionalCache.ifPresent(aggregationDataStoreBuilder::cache);
                     optionalQueryLogger.ifPresent(aggregationDataStoreBuilder::queryLogger);
+                    optionalQueryCoalescer.ifPresent(aggregationDataStoreBuilder::queryCoalescer);
+                    optionalTableVersionRegistry.ifPresent(aggregationDataStoreBuilder::tableVersionRegistry);
                     AggregationDataStore aggregationDataStore = aggregationDataStoreBuilder.build();
 
                     // meta data store needs to be put at first to populate meta data models
@@ -61,6 +61,12 @@ public class ElideConfigProperties {
     @NestedConfigurationProperty
     private ApiVersioningStrategyProperties apiVersioningStrategy = new ApiVersioningStrategyProperties();
 
+    /**
+     * Settings for sharing user check results across requests.
+     */
+    @NestedConfigurationProperty
+    private UserCheckCacheProperties userCheckCache = new UserCheckCacheProperties();
+
     /**
      * Default pagination size for collections if the client doesn't paginate.
      * <p>
@@ -92,4 +98,9 @@ public class ElideConfigProperties {
      * Remove Authorization headers from RequestScope to prevent accidental logging of security credentials.
      */
     private boolean stripAuthorizationHeaders = true;
+
+    /**
+     * Whether or not the time spent in the phases of requests is recorded to the meter registry.
+     */
+    private boolean requestMetrics = false;
 }
@@ -54,18 +54,18 @@ public class ElideSubscriptionConfiguration {
          * Exposes a subscription {@link ServerEndpointConfig} that doesn't accept a
          * path parameter for api versioning.
          *
-         * @param config  the config
-         * @param builder the builder
+         * @param config       the config
+         * @param configurator the configurator
          * @return the config
          */
         @Bean
         ServerEndpointConfig serverEndpointConfig(ElideConfigProperties config,
-                SubscriptionWebSocketConfiguratorBuilder builder) {
+                SubscriptionWebSocketConfigurator configurator) {
             String path = config.getGraphql().getSubscription().getPath();
             return ServerEndpointConfig.Builder
                     .create(SubscriptionWebSocket.class, path)
                     .subprotocols(SubscriptionWebSocket.SUPPORTED_WEBSOCKET_SUBPROTOCOLS)
-                    .configurator(builder.build())
+                    .configurator(configurator)
                     .build();
         }
 
@@ -73,13 +73,13 @@ public class ElideSubscriptionConfiguration {
          * Exposes a subscription {@link ServerEndpointConfig} that accepts a path
          * parameter for api versioning.
          *
-         * @param config  the config
-         * @param builder the builder
+         * @param config       the config
+         * @param configurator the configurator
          * @return the config
          */
         @Bean
         ServerEndpointConfig serverEndpointConfigPath(ElideConfigProperties config,
-                SubscriptionWebSocketConfiguratorBuilder builder) {
+                SubscriptionWebSocketConfigurator configurator) {
             String path = config.getGraphql().getSubscription().getPath();
             if (!path.endsWith("/")) {
                 path = path + "/";
@@ -88,10 +88,24 @@ public class ElideSubscriptionConfiguration {
             return ServerEndpointConfig.Builder
                     .create(SubscriptionWebSocket.class, path)
                     .subprotocols(SubscriptionWebSocket.SUPPORTED_WEBSOCKET_SUBPROTOCOLS)
-                    .configurator(builder.build())
+                    .configurator(configurator)
                     .build();
         }
 
+        /**
+         * Exposes the configurator shared by the subscription endpoints, which is closed on shutdown to close the
+         * topic consumers it shares between websockets.
+         *
+         * @param builder the builder
+         * @return the configurator
+         */
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean
+        SubscriptionWebSocketConfigurator subscriptionWebSocketConfigurator(
+                SubscriptionWebSocketConfiguratorBuilder builder) {
+            return builder.build();
+        }
+
         @Bean
         @ConditionalOnMissingBean
         @Scope(SCOPE_PROTOTYPE)
@@ -116,6 +130,7 @@ public class ElideSubscriptionConfiguration {
                     .maxSubscriptions(config.getGraphql().getSubscription().maxSubscriptions)
                     .maxMessageSize(config.getGraphql().getSubscription().maxMessageSize)
                     .maxIdleTimeout(config.getGraphql().getSubscription().getIdleTimeout())
+                    .topicBufferSize(config.getGraphql().getSubscription().getTopicBufferSize())
                     .connectionFactory(connectionFactory)
                     .userFactory(userFactory)
                     .elideSettingsBuilderCustomizer(elideSettingsBuilder -> {
@@ -8,6 +8,7 @@ package com.paiondata.elide.spring.config;
 import com.paiondata.elide.Elide;
 import com.paiondata.elide.RefreshableElide;
 import com.paiondata.elide.graphql.GraphQLSettings;
+import com.paiondata.elide.graphql.subscriptions.hooks.BatchingTopicPublisher;
 import com.paiondata.elide.graphql.subscriptions.hooks.SubscriptionScanner;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -19,33 +20,50 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Message;
 
+import java.io.Closeable;
+import java.util.Optional;
+
 /**
  * Scans for GraphQL subscriptions and registers lifecycle hooks.
+ * <p>
+ * When notifications are published in batches, one publisher is shared by the scans of every refresh and is closed
+ * when the context is closed, sending the notifications that are still queued.
  */
 @Configuration
 @ConditionalOnClass({ GraphQLSettings.class, ConnectionFactory.class })
 @ConditionalOnProperty(name = "elide.graphql.enabled", havingValue = "true")
 @ConditionalOnExpression(
     "${elide.graphql.subscription.enabled:false} && ${elide.graphql.subscription.publishing.enabled:true}")
-public class ElideSubscriptionScanningConfiguration {
+public class ElideSubscriptionScanningConfiguration implements Closeable {
     private RefreshableElide refreshableElide;
     private ConnectionFactory connectionFactory;
+    private ElideConfigProperties settings;
+    private Optional<MeterRegistry> optionalMeterRegistry;
+    private BatchingTopicPublisher publisher;
 
     public ElideSubscriptionScanningConfiguration(
             RefreshableElide refreshableElide,
-            ConnectionFactory connectionFactory
+            ConnectionFactory connectionFactory,
+            ElideConfigProperties settings,
+            Optional<MeterRegistry> optionalMeterRegistry
     ) {
         this.refreshableElide = refreshableElide;
         this.connectionFactory = connectionFactory;
+        this.settings = settings;
+        this.optionalMeterRegistry = optionalMeterRegistry;
     }
 
     @EventListener(value = { ContextRefreshedEvent.class, RefreshScopeRefreshedEvent.class })
     public void onStartOrRefresh(ApplicationEvent event) {
 
         Elide elide = refreshableElide.getElide();
+        SubscriptionProperties.Publishing publishing = settings.getGraphql().getSubscription().getPublishing();
 
         SubscriptionScanner scanner = SubscriptionScanner.builder()
                 // Things you may want to override...
@@ -53,6 +71,10 @@ public class ElideSubscriptionScanningConfiguration {
                 .messagePriority(Message.DEFAULT_PRIORITY)
                 .timeToLive(Message.DEFAULT_TIME_TO_LIVE)
                 .deliveryMode(Message.DEFAULT_DELIVERY_MODE)
+                .publishBatchSize(publishing.getBatchSize())
+                .publishMaxDelay(publishing.getMaxDelay())
+                .publishQueueCapacity(publishing.getQueueCapacity())
+                .publisher(publisher)
 
                 // Things you probably don't care about...
                 .scanner(elide.getScanner())
@@ -62,5 +84,29 @@ public class ElideSubscriptionScanningConfiguration {
                 .build();
 
         scanner.bindLifecycleHooks();
+
+        if (publisher == null && scanner.getPublisher() != null) {
+            publisher = scanner.getPublisher();
+            optionalMeterRegistry.ifPresent(meterRegistry -> {
+                FunctionCounter.builder("elide.subscription.publisher.published", publisher,
+                        BatchingTopicPublisher::getPublished).register(meterRegistry);
+                FunctionCounter.builder("elide.subscription.publisher.failed", publisher,
+                        BatchingTopicPublisher::getFailed).register(meterRegistry);
+                FunctionCounter.builder("elide.subscription.publisher.blocked", publisher,
+                        BatchingTopicPublisher::getBlocked).register(meterRegistry);
+                Gauge.builder("elide.subscription.publisher.queue.depth", publisher,
+                        BatchingTopicPublisher::getQueueDepth).register(meterRegistry);
+            });
+        }
+    }
+
+    /**
+     * Closes the publisher, waiting for the notifications it has queued to be sent.
+     */
+    @Override
+    public void close() {
+        if (publisher != null) {
+            publisher.close();
+        }
     }
 }
@@ -71,4 +71,22 @@ public class GraphQLControllerProperties extends ControllerProperties {
     private SubscriptionProperties subscription = new SubscriptionProperties();
 
     private Federation federation = new Federation();
+
+    /**
+     * The number of threads used to execute the root fields of read-only queries concurrently. Root fields are
+     * executed serially when zero.
+     */
+    private int queryThreadPoolSize = 0;
+
+    /**
+     * The maximum number of root fields waiting for a query thread. Once it is full, root fields are executed on the
+     * request thread.
+     */
+    private int queryQueueCapacity = 100;
+
+    /**
+     * The maximum number of parsed documents to cache, keyed by query text, operation name and API version. Documents
+     * are not cached when zero.
+     */
+    private int documentCacheSize = 0;
 }
@@ -5,8 +5,13 @@
  */
 package com.paiondata.elide.spring.config;
 
+import org.springframework.boot.convert.DurationUnit;
+
 import lombok.Data;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
 /**
  * Extra properties for setting up aggregation data store.
  */
@@ -18,4 +23,26 @@ public class JpaStoreProperties {
      * and pagination in memory - or do N+1 queries.
      */
     private boolean delegateToInMemoryStore = true;
+
+    @Data
+    public static class PageTotalsCache {
+        /**
+         * Whether or not page[totals]=cached reuses recent counts. Requests for cached page totals are rejected
+         * when disabled.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Limit on number of cached counts.
+         */
+        private long maxSize = 1024;
+
+        /**
+         * How long a count is reused.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration expiration = Duration.ofMinutes(1L);
+    }
+
+    private PageTotalsCache pageTotalsCache = new PageTotalsCache();
 }
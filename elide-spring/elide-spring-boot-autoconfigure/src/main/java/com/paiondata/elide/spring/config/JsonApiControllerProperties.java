@@ -24,4 +24,9 @@ public class JsonApiControllerProperties extends ControllerProperties {
     }
 
     private Links links = new Links();
+
+    /**
+     * Whether GET responses are streamed to the client as they are serialized instead of being built as a string.
+     */
+    private boolean streaming = false;
 }
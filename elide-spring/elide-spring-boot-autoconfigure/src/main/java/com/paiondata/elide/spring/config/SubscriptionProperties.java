@@ -26,6 +26,23 @@ public class SubscriptionProperties extends ControllerProperties {
          * Whether Elide should publish subscription notifications to JMS on lifecycle events.
          */
         private boolean enabled = true;
+
+        /**
+         * The most notifications to send to JMS in one transaction. Notifications are sent on the request thread
+         * when this is 0.
+         */
+        private int batchSize = 0;
+
+        /**
+         * The longest a notification waits for the batch it is in to fill up.
+         */
+        @DurationUnit(ChronoUnit.MILLIS)
+        private Duration maxDelay = Duration.ofMillis(50L);
+
+        /**
+         * The most notifications that can wait to be sent before requests wait for space.
+         */
+        private int queueCapacity = 10000;
     }
 
     protected Publishing publishing = new Publishing();
@@ -57,4 +74,10 @@ public class SubscriptionProperties extends ControllerProperties {
      */
     @DurationUnit(ChronoUnit.MILLIS)
     protected Duration idleTimeout = Duration.ofMillis(300000L);
+
+    /**
+     * The most messages each subscription buffers when the websockets share one JMS consumer per topic. 0 means a
+     * consumer per subscription.
+     */
+    protected int topicBufferSize = 0;
 }
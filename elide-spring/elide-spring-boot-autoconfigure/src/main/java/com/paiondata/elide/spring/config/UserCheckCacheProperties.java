@@ -0,0 +1,35 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.spring.config;
+
+import org.springframework.boot.convert.DurationUnit;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Extra properties for sharing user check results across requests.
+ */
+@Data
+public class UserCheckCacheProperties {
+    /**
+     * Whether or not user check results are shared across requests of the same user.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Limit on number of cached user check results.
+     */
+    private long maxSize = 10000L;
+
+    /**
+     * Cached user check result expiration after write.
+     */
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration expiration = Duration.ofMinutes(1L);
+}
@@ -11,6 +11,8 @@ import com.paiondata.elide.core.request.route.Route;
 import com.paiondata.elide.core.request.route.RouteResolver;
 import com.paiondata.elide.core.security.User;
 import com.paiondata.elide.jsonapi.JsonApi;
+import com.paiondata.elide.jsonapi.JsonApiSettings;
+import com.paiondata.elide.jsonapi.JsonApiStreamingBody;
 import com.paiondata.elide.spring.config.ElideConfigProperties;
 import com.paiondata.elide.spring.security.HttpServletRequestUser;
 import com.paiondata.elide.utils.HeaderProcessor;
@@ -52,6 +54,7 @@ public class JsonApiController {
     private final ElideConfigProperties settings;
     private final HeaderProcessor headerProcessor;
     private final RouteResolver routeResolver;
+    private final boolean streaming;
 
     public JsonApiController(JsonApi jsonApi, ElideConfigProperties settings,
             RouteResolver routeResolver) {
@@ -61,12 +64,14 @@ public class JsonApiController {
         this.elide = jsonApi.getElide();
         this.headerProcessor = elide.getElideSettings().getHeaderProcessor();
         this.routeResolver = routeResolver;
+        JsonApiSettings jsonApiSettings = elide.getElideSettings().getSettings(JsonApiSettings.class);
+        this.streaming = jsonApiSettings != null && jsonApiSettings.isStreaming();
     }
 
     @GetMapping(value = "/**", produces = JsonApi.MEDIA_TYPE)
-    public Callable<ResponseEntity<String>> elideGet(@RequestHeader HttpHeaders requestHeaders,
-                                                     @RequestParam MultiValueMap<String, String> allRequestParams,
-                                                     HttpServletRequest request) {
+    public Callable<ResponseEntity<?>> elideGet(@RequestHeader HttpHeaders requestHeaders,
+                                                @RequestParam MultiValueMap<String, String> allRequestParams,
+                                                HttpServletRequest request) {
         final Map<String, List<String>> requestHeadersCleaned = headerProcessor.process(requestHeaders);
         final String prefix = settings.getJsonApi().getPath();
         final String baseUrl = getBaseUrl(prefix);
@@ -75,9 +80,21 @@ public class JsonApiController {
                 allRequestParams);
         final User user = new HttpServletRequestUser(request);
 
-        return new Callable<ResponseEntity<String>>() {
+        if (streaming) {
+            return new Callable<ResponseEntity<?>>() {
+                @Override
+                public ResponseEntity<?> call() throws Exception {
+                    // The body is written by JsonApiStreamingBodyHttpMessageConverter
+                    ElideResponse<JsonApiStreamingBody> response = jsonApi.getStreaming(route, user,
+                            UUID.randomUUID());
+                    return ResponseEntity.status(response.getStatus()).body(response.getBody());
+                }
+            };
+        }
+
+        return new Callable<ResponseEntity<?>>() {
             @Override
-            public ResponseEntity<String> call() throws Exception {
+            public ResponseEntity<?> call() throws Exception {
                 ElideResponse<String> response = jsonApi.get(route, user, UUID.randomUUID());
                 return ResponseEntity.status(response.getStatus()).body(response.getBody());
             }
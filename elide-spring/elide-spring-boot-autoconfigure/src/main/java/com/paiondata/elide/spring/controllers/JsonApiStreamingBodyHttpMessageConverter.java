@@ -0,0 +1,49 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.spring.controllers;
+
+import com.paiondata.elide.jsonapi.JsonApi;
+import com.paiondata.elide.jsonapi.JsonApiStreamingBody;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Writes streamed JSON:API response bodies, so that Spring sends the status and headers of the response before
+ * the document is serialized to it.
+ */
+public class JsonApiStreamingBodyHttpMessageConverter extends AbstractHttpMessageConverter<JsonApiStreamingBody> {
+
+    public JsonApiStreamingBodyHttpMessageConverter() {
+        super(MediaType.valueOf(JsonApi.MEDIA_TYPE));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonApiStreamingBody.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonApiStreamingBody readInternal(Class<? extends JsonApiStreamingBody> clazz,
+            HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Streamed responses cannot be read", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(JsonApiStreamingBody body, HttpOutputMessage outputMessage) throws IOException {
+        body.writeTo(outputMessage.getBody());
+    }
+}
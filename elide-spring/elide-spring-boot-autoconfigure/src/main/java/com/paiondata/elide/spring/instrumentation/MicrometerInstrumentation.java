@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.spring.instrumentation;
+
+import com.paiondata.elide.core.instrumentation.Instrumentation;
+import com.paiondata.elide.core.instrumentation.Phase;
+import com.paiondata.elide.core.instrumentation.RequestInstrumentation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the phases of requests to a {@link MeterRegistry}.
+ * <p>
+ * The time spent in each phase is recorded by the {@code elide.request.phase} timer tagged with the phase. The
+ * number of data store calls made by each request is recorded by the {@code elide.request.datastore.calls}
+ * distribution summary. The number of entities in the entity cache of each request and the lookups that found an
+ * entity or not are recorded by the {@code elide.request.entity.cache.size}, {@code elide.request.entity.cache.hits}
+ * and {@code elide.request.entity.cache.misses} distribution summaries.
+ */
+public class MicrometerInstrumentation implements Instrumentation {
+    private final Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+    private final DistributionSummary datastoreCalls;
+    private final DistributionSummary entityCacheSize;
+    private final DistributionSummary entityCacheHits;
+    private final DistributionSummary entityCacheMisses;
+
+    public MicrometerInstrumentation(MeterRegistry meterRegistry) {
+        for (Phase phase : Phase.values()) {
+            timers.put(phase, Timer.builder("elide.request.phase")
+                    .description("Time spent in a phase of Elide requests")
+                    .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.datastoreCalls = DistributionSummary.builder("elide.request.datastore.calls")
+                .description("Number of data store calls made by an Elide request")
+                .register(meterRegistry);
+        this.entityCacheSize = DistributionSummary.builder("elide.request.entity.cache.size")
+                .description("Number of entities cached by an Elide request")
+                .register(meterRegistry);
+        this.entityCacheHits = DistributionSummary.builder("elide.request.entity.cache.hits")
+                .description("Number of entity cache lookups by an Elide request that found an entity")
+                .register(meterRegistry);
+        this.entityCacheMisses = DistributionSummary.builder("elide.request.entity.cache.misses")
+                .description("Number of entity cache lookups by an Elide request that found no entity")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(Phase phase, long nanos) {
+        timers.get(phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public RequestInstrumentation beginRequest() {
+        return new MeteredRequest();
+    }
+
+    private class MeteredRequest implements RequestInstrumentation {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void record(Phase phase, long nanos) {
+            if (phase == Phase.DATASTORE) {
+                calls.incrementAndGet();
+            }
+            MicrometerInstrumentation.this.record(phase, nanos);
+        }
+
+        @Override
+        public void recordEntityCache(int size, long hits, long misses) {
+            entityCacheSize.record(size);
+            entityCacheHits.record(hits);
+            entityCacheMisses.record(misses);
+        }
+
+        @Override
+        public void end() {
+            datastoreCalls.record(calls.get());
+        }
+    }
+}
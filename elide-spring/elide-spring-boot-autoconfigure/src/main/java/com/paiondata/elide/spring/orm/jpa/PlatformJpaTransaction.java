@@ -6,9 +6,11 @@
 package com.paiondata.elide.spring.orm.jpa;
 
 import com.paiondata.elide.core.RequestScope;
+import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.datastores.jpa.SupplierEntityManager;
 import com.paiondata.elide.datastores.jpa.transaction.AbstractJpaTransaction;
 import com.paiondata.elide.datastores.jpql.porting.QueryLogger;
+import com.paiondata.elide.datastores.jpql.totals.PageTotalsStrategy;
 
 import org.springframework.orm.jpa.EntityManagerHolder;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -19,6 +21,8 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -40,7 +44,15 @@ public class PlatformJpaTransaction extends AbstractJpaTransaction {
     public PlatformJpaTransaction(PlatformTransactionManager transactionManager, TransactionDefinition definition,
             EntityManagerFactory entityManagerFactory, EntityManager em, Consumer<EntityManager> jpaTransactionCancel,
             QueryLogger logger, boolean delegateToInMemoryStore, boolean isScrollEnabled) {
-        super(em, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled);
+        this(transactionManager, definition, entityManagerFactory, em, jpaTransactionCancel, logger,
+                delegateToInMemoryStore, isScrollEnabled, Collections.emptyMap());
+    }
+
+    public PlatformJpaTransaction(PlatformTransactionManager transactionManager, TransactionDefinition definition,
+            EntityManagerFactory entityManagerFactory, EntityManager em, Consumer<EntityManager> jpaTransactionCancel,
+            QueryLogger logger, boolean delegateToInMemoryStore, boolean isScrollEnabled,
+            Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies) {
+        super(em, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled, pageTotalsStrategies);
         this.transactionManager = transactionManager;
         this.definition = definition;
         this.entityManagerFactory = entityManagerFactory;
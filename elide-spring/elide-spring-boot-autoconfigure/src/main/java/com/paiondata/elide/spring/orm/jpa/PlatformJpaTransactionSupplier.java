@@ -7,8 +7,10 @@ package com.paiondata.elide.spring.orm.jpa;
 
 import static com.paiondata.elide.datastores.jpa.JpaDataStore.DEFAULT_LOGGER;
 
+import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.datastores.jpa.JpaDataStore.JpaTransactionSupplier;
 import com.paiondata.elide.datastores.jpa.transaction.JpaTransaction;
+import com.paiondata.elide.datastores.jpql.totals.PageTotalsStrategy;
 import org.hibernate.Session;
 
 import org.springframework.transaction.PlatformTransactionManager;
@@ -17,6 +19,8 @@ import org.springframework.transaction.TransactionDefinition;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -34,22 +38,32 @@ public class PlatformJpaTransactionSupplier implements JpaTransactionSupplier {
 
     private final EntityManagerFactory entityManagerFactory;
 
+    private final Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies;
+
     private final Consumer<EntityManager> txCancel = em -> em.unwrap(Session.class).cancelQuery();
 
     public PlatformJpaTransactionSupplier(TransactionDefinition transactionDefinition,
             PlatformTransactionManager transactionManager,
             EntityManagerFactory entityManagerFactory, boolean delegateToInMemoryStore) {
+        this(transactionDefinition, transactionManager, entityManagerFactory, delegateToInMemoryStore,
+                Collections.emptyMap());
+    }
+
+    public PlatformJpaTransactionSupplier(TransactionDefinition transactionDefinition,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory, boolean delegateToInMemoryStore,
+            Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies) {
         this.transactionDefinition = transactionDefinition;
         this.delegateToInMemoryStore = delegateToInMemoryStore;
         this.transactionManager = transactionManager;
         this.entityManagerFactory = entityManagerFactory;
-
+        this.pageTotalsStrategies = pageTotalsStrategies;
     }
 
     @Override
     public JpaTransaction get(EntityManager entityManager) {
         return new PlatformJpaTransaction(this.transactionManager,
                 this.transactionDefinition, this.entityManagerFactory, entityManager, this.txCancel, DEFAULT_LOGGER,
-                this.delegateToInMemoryStore, true);
+                this.delegateToInMemoryStore, true, this.pageTotalsStrategies);
     }
 }
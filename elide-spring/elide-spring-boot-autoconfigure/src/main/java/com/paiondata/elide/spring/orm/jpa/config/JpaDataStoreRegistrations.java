@@ -6,12 +6,16 @@
 package com.paiondata.elide.spring.orm.jpa.config;
 
 
+import com.paiondata.elide.core.request.Pagination;
 import com.paiondata.elide.core.type.ClassType;
 import com.paiondata.elide.core.type.Type;
 import com.paiondata.elide.datastores.jpa.JpaDataStore;
 import com.paiondata.elide.datastores.jpa.JpaDataStore.EntityManagerSupplier;
 import com.paiondata.elide.datastores.jpa.JpaDataStore.JpaTransactionSupplier;
+import com.paiondata.elide.datastores.jpql.totals.CachedPageTotalsStrategy;
+import com.paiondata.elide.datastores.jpql.totals.PageTotalsStrategy;
 import com.paiondata.elide.spring.config.ElideConfigProperties;
+import com.paiondata.elide.spring.config.JpaStoreProperties;
 import com.paiondata.elide.spring.orm.jpa.EntityManagerProxySupplier;
 import com.paiondata.elide.spring.orm.jpa.PlatformJpaTransactionSupplier;
 import com.paiondata.elide.spring.orm.jpa.config.JpaDataStoreRegistration.JpaDataStoreRegistrationBuilder;
@@ -23,7 +27,9 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 import jakarta.persistence.EntityManagerFactory;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -48,12 +54,15 @@ public class JpaDataStoreRegistrations {
             PlatformTransactionManager platformTransactionManager, ElideConfigProperties settings,
             Optional<com.paiondata.elide.datastores.jpql.porting.QueryLogger> optionalQueryLogger,
             Class<?>[] managedClasses) {
+        // The read and write transactions of the data store share the page totals strategies.
+        Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies = buildPageTotalsStrategies(settings);
+
         DefaultTransactionDefinition writeJpaTransactionDefinition = new DefaultTransactionDefinition(
                 TransactionDefinition.PROPAGATION_REQUIRED);
         writeJpaTransactionDefinition.setName(
                 "Elide Write Transaction (" + entityManagerFactoryName + "," + platformTransactionManagerName + ")");
         JpaTransactionSupplier writeJpaTransactionSupplier = buildJpaTransactionSupplier(platformTransactionManager,
-                entityManagerFactory, writeJpaTransactionDefinition, settings);
+                entityManagerFactory, writeJpaTransactionDefinition, settings, pageTotalsStrategies);
 
         DefaultTransactionDefinition readJpaTransactionDefinition = new DefaultTransactionDefinition(
                 TransactionDefinition.PROPAGATION_REQUIRED);
@@ -61,7 +70,7 @@ public class JpaDataStoreRegistrations {
                 "Elide Read Transaction (" + entityManagerFactoryName + "," + platformTransactionManagerName + ")");
         readJpaTransactionDefinition.setReadOnly(true);
         JpaTransactionSupplier readJpaTransactionSupplier = buildJpaTransactionSupplier(platformTransactionManager,
-                entityManagerFactory, readJpaTransactionDefinition, settings);
+                entityManagerFactory, readJpaTransactionDefinition, settings, pageTotalsStrategies);
 
         JpaDataStoreRegistrationBuilder builder = JpaDataStoreRegistration.builder().name(entityManagerFactoryName)
                 .entityManagerSupplier(buildEntityManagerSupplier())
@@ -89,9 +98,39 @@ public class JpaDataStoreRegistrations {
     public static JpaTransactionSupplier buildJpaTransactionSupplier(PlatformTransactionManager transactionManager,
             EntityManagerFactory entityManagerFactory, TransactionDefinition transactionDefinition,
             ElideConfigProperties settings) {
+        return buildJpaTransactionSupplier(transactionManager, entityManagerFactory, transactionDefinition, settings,
+                buildPageTotalsStrategies(settings));
+    }
+
+    /**
+     * Create a JPA Transaction Supplier to use.
+     * @param transactionManager Spring Platform Transaction Manager
+     * @param entityManagerFactory An instance of EntityManagerFactory
+     * @param settings Elide configuration settings.
+     * @param pageTotalsStrategies How page totals are computed for each totals mode.
+     * @return the JpaTransactionSupplier.
+     */
+    public static JpaTransactionSupplier buildJpaTransactionSupplier(PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory, TransactionDefinition transactionDefinition,
+            ElideConfigProperties settings, Map<Pagination.TotalsMode, PageTotalsStrategy> pageTotalsStrategies) {
         return new PlatformJpaTransactionSupplier(
                 transactionDefinition, transactionManager,
-                entityManagerFactory, settings.getJpaStore().isDelegateToInMemoryStore());
+                entityManagerFactory, settings.getJpaStore().isDelegateToInMemoryStore(), pageTotalsStrategies);
+    }
+
+    /**
+     * Create the page totals strategies of a JpaDataStore.
+     * @param settings Elide configuration settings.
+     * @return the strategies for each configured totals mode.
+     */
+    public static Map<Pagination.TotalsMode, PageTotalsStrategy> buildPageTotalsStrategies(
+            ElideConfigProperties settings) {
+        JpaStoreProperties.PageTotalsCache pageTotalsCache = settings.getJpaStore().getPageTotalsCache();
+        if (!pageTotalsCache.isEnabled()) {
+            return Collections.emptyMap();
+        }
+        return Map.of(Pagination.TotalsMode.cached,
+                new CachedPageTotalsStrategy(pageTotalsCache.getExpiration(), pageTotalsCache.getMaxSize()));
     }
 
     /**
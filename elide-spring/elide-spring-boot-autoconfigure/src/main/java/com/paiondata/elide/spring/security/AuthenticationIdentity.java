@@ -0,0 +1,33 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.spring.security;
+
+import com.paiondata.elide.core.security.User;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Identifies a {@link User} authenticated by Spring Security by its name and granted authorities.
+ * <p>
+ * Users that are not authenticated by Spring Security have no identity.
+ */
+public class AuthenticationIdentity implements Function<User, Object> {
+    @Override
+    public Object apply(User user) {
+        if (user.getPrincipal() instanceof Authentication authentication && authentication.getName() != null) {
+            Set<String> authorities = authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .collect(Collectors.toSet());
+            return Pair.of(authentication.getName(), authorities);
+        }
+        return null;
+    }
+}
@@ -26,6 +26,7 @@ import com.paiondata.elide.core.request.route.RouteResolver;
 import com.paiondata.elide.core.security.checks.UserCheck;
 import com.paiondata.elide.datastores.aggregation.AggregationDataStore;
 import com.paiondata.elide.datastores.aggregation.metadata.MetaDataStore;
+import com.paiondata.elide.graphql.GraphQLDocumentCache;
 import com.paiondata.elide.graphql.GraphQLErrorContext;
 import com.paiondata.elide.graphql.GraphQLExceptionHandler;
 import com.paiondata.elide.graphql.GraphQLSettings;
@@ -376,6 +377,48 @@ class ElideAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void graphqlQueryExecutor() {
+        contextRunner.withPropertyValues("spring.cloud.refresh.enabled=false", "elide.graphql.enabled=true",
+                "elide.graphql.query-thread-pool-size=2").run(context -> {
+                    ElideSettings elideSettings = context.getBean(RefreshableElide.class).getElide().getElideSettings();
+                    GraphQLSettings graphqlSettings = elideSettings.getSettings(GraphQLSettings.class);
+                    assertThat(graphqlSettings.getQueryExecutor()).isSameAs(context.getBean("graphqlQueryExecutor"));
+                });
+    }
+
+    @Test
+    void graphqlQueryExecutorNotConfigured() {
+        contextRunner.withPropertyValues("spring.cloud.refresh.enabled=false", "elide.graphql.enabled=true")
+                .run(context -> {
+                    ElideSettings elideSettings = context.getBean(RefreshableElide.class).getElide().getElideSettings();
+                    GraphQLSettings graphqlSettings = elideSettings.getSettings(GraphQLSettings.class);
+                    assertThat(graphqlSettings.getQueryExecutor()).isNull();
+                    assertThat(context).doesNotHaveBean("graphqlQueryExecutor");
+                });
+    }
+
+    @Test
+    void graphqlDocumentCache() {
+        contextRunner.withPropertyValues("spring.cloud.refresh.enabled=false", "elide.graphql.enabled=true",
+                "elide.graphql.document-cache-size=100").run(context -> {
+                    ElideSettings elideSettings = context.getBean(RefreshableElide.class).getElide().getElideSettings();
+                    GraphQLSettings graphqlSettings = elideSettings.getSettings(GraphQLSettings.class);
+                    assertThat(graphqlSettings.getDocumentCache()).isSameAs(context.getBean(GraphQLDocumentCache.class));
+                });
+    }
+
+    @Test
+    void graphqlDocumentCacheNotConfigured() {
+        contextRunner.withPropertyValues("spring.cloud.refresh.enabled=false", "elide.graphql.enabled=true")
+                .run(context -> {
+                    ElideSettings elideSettings = context.getBean(RefreshableElide.class).getElide().getElideSettings();
+                    GraphQLSettings graphqlSettings = elideSettings.getSettings(GraphQLSettings.class);
+                    assertThat(graphqlSettings.getDocumentCache()).isNull();
+                    assertThat(context).doesNotHaveBean(GraphQLDocumentCache.class);
+                });
+    }
+
     @Test
     void asyncEnabledJsonApiEnabledGraphqlNotEnabled() {
         contextRunner.withPropertyValues("spring.cloud.refresh.enabled=false", "elide.async.enabled=true", "elide.graphql.enabled=false", "elide.json-api.enabled=true")
@@ -0,0 +1,19 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package example.tests;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Executes Controller tests with streaming JSON-API responses enabled.
+ */
+@TestPropertySource(
+        properties = {
+                "elide.json-api.streaming=true"
+        }
+)
+public class StreamingControllerTest extends ControllerTest {
+}
@@ -14,6 +14,7 @@ import com.paiondata.elide.core.security.checks.Check;
 import com.paiondata.elide.standalone.config.ElideResourceConfig;
 import com.paiondata.elide.standalone.config.ElideStandaloneSettings;
 import com.paiondata.elide.standalone.config.ElideStandaloneSubscriptionSettings;
+import com.paiondata.elide.standalone.resources.StreamingJsonApiEndpoint;
 import org.eclipse.jetty.ee10.servlet.FilterHolder;
 import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
 import org.eclipse.jetty.ee10.servlet.ServletHolder;
@@ -26,8 +27,14 @@ import io.dropwizard.metrics.servlets.AdminServlet;
 import io.dropwizard.metrics.servlets.HealthCheckServlet;
 import io.dropwizard.metrics.servlets.MetricsServlet;
 import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.websocket.server.ServerEndpointConfig;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.concurrent.Executors;
@@ -100,8 +107,13 @@ public class ElideStandalone {
             ServletHolder jerseyServlet = context.addServlet(ServletContainer.class,
                     elideStandaloneSettings.getJsonApiPathSpec());
             jerseyServlet.setInitOrder(0);
-            jerseyServlet.setInitParameter("jersey.config.server.provider.packages",
-                    "com.paiondata.elide.jsonapi.resources");
+            if (elideStandaloneSettings.enableJsonApiStreaming()) {
+                jerseyServlet.setInitParameter("jersey.config.server.provider.classnames",
+                        StreamingJsonApiEndpoint.class.getCanonicalName());
+            } else {
+                jerseyServlet.setInitParameter("jersey.config.server.provider.packages",
+                        "com.paiondata.elide.jsonapi.resources");
+            }
             jerseyServlet.setInitParameter("jakarta.ws.rs.Application", ElideResourceConfig.class.getCanonicalName());
         }
 
@@ -116,10 +128,12 @@ public class ElideStandalone {
         if (elideStandaloneSettings.enableGraphQL() && subscriptionSettings.enabled()) {
             // GraphQL subscription endpoint
             JakartaWebSocketServletContainerInitializer.configure(context, (servletContext, serverContainer) -> {
-                serverContainer.addEndpoint(subscriptionSettings.serverEndpointConfig(elideStandaloneSettings, false));
+                serverContainer.addEndpoint(closeOnShutdown(servletContext,
+                        subscriptionSettings.serverEndpointConfig(elideStandaloneSettings, false)));
             });
             JakartaWebSocketServletContainerInitializer.configure(context, (servletContext, serverContainer) -> {
-                serverContainer.addEndpoint(subscriptionSettings.serverEndpointConfig(elideStandaloneSettings, true));
+                serverContainer.addEndpoint(closeOnShutdown(servletContext,
+                        subscriptionSettings.serverEndpointConfig(elideStandaloneSettings, true)));
             });
         }
 
@@ -175,6 +189,30 @@ public class ElideStandalone {
         }
     }
 
+    /**
+     * Closes the configurator of a web socket endpoint, such as the topic consumers it shares, when the servlet
+     * context is destroyed.
+     *
+     * @param servletContext The servlet context.
+     * @param config The endpoint configuration.
+     * @return The endpoint configuration.
+     */
+    private static ServerEndpointConfig closeOnShutdown(ServletContext servletContext, ServerEndpointConfig config) {
+        if (config.getConfigurator() instanceof Closeable closeable) {
+            servletContext.addListener(new ServletContextListener() {
+                @Override
+                public void contextDestroyed(ServletContextEvent event) {
+                    try {
+                        closeable.close();
+                    } catch (IOException e) {
+                        log.error("Unable to close the web socket configurator", e);
+                    }
+                }
+            });
+        }
+        return config;
+    }
+
     /**
      * Stop the Elide service.
      *
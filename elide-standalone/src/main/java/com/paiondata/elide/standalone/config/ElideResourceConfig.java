@@ -38,6 +38,7 @@ import com.paiondata.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.paiondata.elide.datastores.aggregation.queryengines.sql.ConnectionDetails;
 import com.paiondata.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
 import com.paiondata.elide.graphql.QueryRunners;
+import com.paiondata.elide.graphql.subscriptions.hooks.SubscriptionScanner;
 import com.paiondata.elide.jsonapi.JsonApi;
 import com.paiondata.elide.modelconfig.DynamicConfiguration;
 import com.paiondata.elide.standalone.Util;
@@ -49,6 +50,8 @@ import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.api.TypeLiteral;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.spi.Container;
+import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import graphql.execution.DataFetcherExceptionHandler;
 
 import jakarta.inject.Inject;
@@ -75,6 +78,7 @@ import javax.sql.DataSource;
 public class ElideResourceConfig extends ResourceConfig {
     private final ElideStandaloneSettings settings;
     private final ServiceLocator injector;
+    private SubscriptionScanner subscriptionScanner;
 
     public static final String ELIDE_STANDALONE_SETTINGS_ATTR = "elideStandaloneSettings";
     public static final String ASYNC_EXECUTOR_ATTR = "asyncExecutor";
@@ -285,7 +289,7 @@ public class ElideResourceConfig extends ResourceConfig {
 
                 //Bind subscription hooks.
                 if (settings.getSubscriptionProperties().publishingEnabled()) {
-                    settings.getSubscriptionProperties().subscriptionScanner(elide,
+                    subscriptionScanner = settings.getSubscriptionProperties().subscriptionScanner(elide,
                             settings.getSubscriptionProperties().getConnectionFactory());
                 }
 
@@ -299,6 +303,24 @@ public class ElideResourceConfig extends ResourceConfig {
             }
         });
 
+        // Send the subscription notifications that are still queued on shutdown
+        register(new ContainerLifecycleListener() {
+            @Override
+            public void onStartup(Container container) {
+            }
+
+            @Override
+            public void onReload(Container container) {
+            }
+
+            @Override
+            public void onShutdown(Container container) {
+                if (subscriptionScanner != null) {
+                    subscriptionScanner.close();
+                }
+            }
+        });
+
         registerFilters(settings.getFilters());
 
         additionalConfiguration(settings.getApplicationConfigurator());
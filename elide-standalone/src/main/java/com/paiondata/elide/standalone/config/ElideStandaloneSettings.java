@@ -177,12 +177,15 @@ public interface ElideStandaloneSettings {
      * @return the JsonApiSettingsBuilder
      */
     default JsonApiSettingsBuilder getJsonApiSettingsBuilder(EntityDictionary dictionary, JsonApiMapper mapper) {
+        RSQLFilterDialect rsqlFilterDialect = RSQLFilterDialect.builder().dictionary(dictionary)
+                .parseCacheSize(RSQLFilterDialect.DEFAULT_PARSE_CACHE_SIZE).build();
         return JsonApiSettingsBuilder.withDefaults(dictionary)
                 .path(getJsonApiPathSpec().replace("/*", ""))
-                .joinFilterDialect(RSQLFilterDialect.builder().dictionary(dictionary).build())
-                .subqueryFilterDialect(RSQLFilterDialect.builder().dictionary(dictionary).build())
+                .joinFilterDialect(rsqlFilterDialect)
+                .subqueryFilterDialect(rsqlFilterDialect)
                 .jsonApiMapper(mapper)
-                .jsonApiExceptionHandler(getJsonApiExceptionHandler());
+                .jsonApiExceptionHandler(getJsonApiExceptionHandler())
+                .streaming(enableJsonApiStreaming());
     }
 
     /**
@@ -363,6 +366,15 @@ public interface ElideStandaloneSettings {
         return true;
     }
 
+    /**
+     * Stream JSONAPI GET responses directly to the servlet response instead of building them as a string.
+     *
+     * @return Default: False
+     */
+    default boolean enableJsonApiStreaming() {
+        return false;
+    }
+
     /**
      * Enable the GraphQL endpoint. If false, the endpoint will be disabled.
      *
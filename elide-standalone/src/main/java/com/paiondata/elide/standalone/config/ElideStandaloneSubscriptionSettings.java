@@ -98,6 +98,43 @@ public interface ElideStandaloneSubscriptionSettings {
         return Duration.ofMillis(300000L);
     }
 
+    /**
+     * The most messages each subscription buffers when the websockets of an endpoint share one JMS consumer per
+     * topic.
+     *
+     * @return Default 0, which means a consumer per subscription.
+     */
+    default Integer getTopicBufferSize() {
+        return 0;
+    }
+
+    /**
+     * The most notifications to send to JMS in one transaction.
+     *
+     * @return Default 0, which means notifications are sent on the request thread.
+     */
+    default Integer getPublishBatchSize() {
+        return 0;
+    }
+
+    /**
+     * The longest a notification waits for the batch it is in to fill up.
+     *
+     * @return Default 50ms.
+     */
+    default Duration getPublishMaxDelay() {
+        return Duration.ofMillis(50L);
+    }
+
+    /**
+     * The most notifications that can wait to be sent before requests wait for space.
+     *
+     * @return Default 10000.
+     */
+    default Integer getPublishQueueCapacity() {
+        return 10000;
+    }
+
     /**
      * Return JMS connection factory.
      *
@@ -118,6 +155,7 @@ public interface ElideStandaloneSubscriptionSettings {
 
     /**
      * Returns the scanner that searches for subscription annotations and binds life cycle hooks for them.
+     * The scanner is closed when the application shuts down.
      * @param elide The elide instance.
      * @param connectionFactory The JMS connection factory where subscription messages should be sent.
      * @return The scanner.
@@ -130,6 +168,9 @@ public interface ElideStandaloneSubscriptionSettings {
                 .messagePriority(Message.DEFAULT_PRIORITY)
                 .timeToLive(Message.DEFAULT_TIME_TO_LIVE)
                 .deliveryMode(Message.DEFAULT_DELIVERY_MODE)
+                .publishBatchSize(getPublishBatchSize())
+                .publishMaxDelay(getPublishMaxDelay())
+                .publishQueueCapacity(getPublishQueueCapacity())
 
                 //Things you probably don't care about...
                 .scanner(elide.getScanner())
@@ -168,6 +209,7 @@ public interface ElideStandaloneSubscriptionSettings {
                         .maxSubscriptions(getMaxSubscriptions())
                         .maxMessageSize(getMaxMessageSize())
                         .maxIdleTimeout(getIdleTimeout())
+                        .topicBufferSize(getTopicBufferSize())
                         .connectionFactory(getConnectionFactory())
                         .userFactory(getUserFactory())
                         .elideSettingsBuilderCustomizer(getElideSettingsBuilderCustomizer(settings))
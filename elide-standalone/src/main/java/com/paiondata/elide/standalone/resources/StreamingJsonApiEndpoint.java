@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.paiondata.elide.standalone.resources;
+
+import com.paiondata.elide.Elide;
+import com.paiondata.elide.ElideResponse;
+import com.paiondata.elide.core.request.route.Route;
+import com.paiondata.elide.core.request.route.RouteResolver;
+import com.paiondata.elide.core.security.User;
+import com.paiondata.elide.jsonapi.JsonApi;
+import com.paiondata.elide.jsonapi.JsonApiStreamingBody;
+import com.paiondata.elide.jsonapi.resources.JsonApiEndpoint;
+import com.paiondata.elide.jsonapi.resources.SecurityContextUser;
+import org.glassfish.jersey.server.CloseableService;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JSON-API endpoint that streams GET responses to the client as they are serialized.
+ */
+@Singleton
+@Produces(JsonApi.MEDIA_TYPE)
+@Path("/")
+public class StreamingJsonApiEndpoint extends JsonApiEndpoint {
+    @Context
+    private CloseableService closeableService;
+
+    @Inject
+    public StreamingJsonApiEndpoint(
+            @Named("elide") Elide elide, Optional<RouteResolver> optionalRouteResolver) {
+        super(elide, optionalRouteResolver);
+    }
+
+    @Override
+    public Response get(
+        String path,
+        UriInfo uriInfo,
+        HttpHeaders headers,
+        SecurityContext securityContext) {
+        Map<String, List<String>> requestHeaders = headerProcessor.process(headers.getRequestHeaders());
+        User user = new SecurityContextUser(securityContext);
+
+        String baseUrl = getBaseUrlEndpoint(uriInfo);
+        Route route = routeResolver.resolve(JsonApi.MEDIA_TYPE, baseUrl, path, requestHeaders,
+                uriInfo.getQueryParameters());
+
+        ElideResponse<JsonApiStreamingBody> response = jsonApi.getStreaming(route, user, UUID.randomUUID());
+        JsonApiStreamingBody body = response.getBody();
+
+        // Ends the request even if the body is never written, for example for a HEAD request
+        closeableService.add(body);
+        StreamingOutput output = body::writeTo;
+        return Response.status(response.getStatus()).entity(output).build();
+    }
+}
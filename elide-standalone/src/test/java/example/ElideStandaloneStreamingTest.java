@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024, the original author or authors.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package example;
+
+import com.paiondata.elide.standalone.ElideStandalone;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * Tests ElideStandalone starts and works with streaming JSON-API responses.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ElideStandaloneStreamingTest extends ElideStandaloneTest {
+
+    @BeforeAll
+    public void init() throws Exception {
+        settings = new ElideStandaloneTestSettings() {
+            @Override
+            public boolean enableJsonApiStreaming() {
+                return true;
+            }
+        };
+
+        elide = new ElideStandalone(settings);
+        elide.start(false);
+    }
+}